@@ -8,6 +8,8 @@ import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import com.recrutech.recrutechauth.metrics.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -56,6 +58,9 @@ public class SecurityConfig {
     @Value("${app.cors.allowed-origins:http://localhost:3000}")
     private String allowedOrigins;
 
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     /**
      * Constructor for SecurityConfig.
      *
@@ -85,6 +90,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**", "/test/public").permitAll()
                         .requestMatchers("/api/oauth2/jwks", "/api/.well-known/openid_configuration").permitAll()
+                        // Actuator endpoints are only served on the management port, which is not published
+                        .requestMatchers(request -> request.getLocalPort() == managementPort).permitAll()
                         .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/api-docs/**").permitAll()
                         .anyRequest().authenticated()
                 )
@@ -103,12 +110,15 @@ public class SecurityConfig {
 
     /**
      * Creates a password encoder bean.
+     * Hashing and verification are timed, since they dominate the cost of registration and login.
      *
+     * @param meterRegistry the registry the hashing timers are registered in
      * @return the password encoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12); // Increased strength factor for better security
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        // Increased strength factor for better security
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(12), meterRegistry);
     }
 
     /**
@@ -0,0 +1,117 @@
+package com.recrutech.recrutechauth.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Request wrapper that reads the beginning of the request body up front so a filter can
+ * inspect it, while still letting the downstream handler read the complete body.
+ * Only the first {@code maxCachedBytes} bytes are buffered; the rest is streamed from the
+ * original input stream.
+ */
+class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final byte[] cachedBody;
+    private final boolean complete;
+    private final InputStream remainder;
+
+    /**
+     * Constructor for CachedBodyHttpServletRequest.
+     *
+     * @param request the request to wrap
+     * @param maxCachedBytes the maximum number of body bytes to buffer
+     * @throws IOException if the body cannot be read
+     */
+    CachedBodyHttpServletRequest(HttpServletRequest request, int maxCachedBytes) throws IOException {
+        super(request);
+        InputStream original = request.getInputStream();
+        this.cachedBody = original.readNBytes(maxCachedBytes);
+        this.complete = cachedBody.length < maxCachedBytes;
+        this.remainder = original;
+    }
+
+    /**
+     * Gets the buffered part of the body.
+     *
+     * @return the buffered bytes
+     */
+    byte[] getCachedBody() {
+        return cachedBody;
+    }
+
+    /**
+     * Checks if the buffered bytes contain the complete body.
+     *
+     * @return true if the whole body was buffered, false otherwise
+     */
+    boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        InputStream source = complete
+                ? new ByteArrayInputStream(cachedBody)
+                : new SequenceInputStream(new ByteArrayInputStream(cachedBody), remainder);
+        return new DelegatingServletInputStream(source);
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+    /**
+     * Servlet input stream backed by a plain input stream.
+     */
+    private static final class DelegatingServletInputStream extends ServletInputStream {
+        private final InputStream source;
+        private boolean finished;
+
+        private DelegatingServletInputStream(InputStream source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = source.read();
+            finished = value == -1;
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = source.read(buffer, offset, length);
+            finished = count == -1;
+            return count;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException("Asynchronous reads are not supported");
+        }
+    }
+}
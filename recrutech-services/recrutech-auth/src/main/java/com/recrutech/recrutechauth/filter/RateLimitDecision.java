@@ -0,0 +1,12 @@
+package com.recrutech.recrutechauth.filter;
+
+/**
+ * The outcome of checking a single request against a single rate limit policy.
+ *
+ * @param policy the policy that was evaluated
+ * @param allowed whether the request is within the quota
+ * @param remaining the number of requests left in the current window
+ * @param resetSeconds the number of seconds until the quota resets or the block expires
+ */
+public record RateLimitDecision(RateLimitPolicy policy, boolean allowed, int remaining, long resetSeconds) {
+}
@@ -0,0 +1,24 @@
+package com.recrutech.recrutechauth.filter;
+
+/**
+ * Identifies which attribute of a request a rate limit policy is keyed by.
+ */
+public enum RateLimitKeyType {
+
+    /**
+     * The client IP address (first hop of X-Forwarded-For, or the remote address).
+     */
+    IP,
+
+    /**
+     * The username submitted in the JSON request body. Falls back to the client IP
+     * if the body does not contain a username.
+     */
+    USERNAME,
+
+    /**
+     * The subject of a verified bearer or refresh token. Falls back to the client IP
+     * if no token is present or the token cannot be verified.
+     */
+    TOKEN_SUBJECT
+}
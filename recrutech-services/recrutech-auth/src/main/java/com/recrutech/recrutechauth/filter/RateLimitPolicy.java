@@ -0,0 +1,53 @@
+package com.recrutech.recrutechauth.filter;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * A compiled rate limit policy.
+ * The path pattern is parsed once when the policy is created so that request matching
+ * does not re-parse the route on every request.
+ *
+ * @param name the policy name, used as part of the counter key and in the RateLimit-Policy header
+ * @param pattern the compiled path pattern this policy applies to
+ * @param keyType the request attribute the quota is keyed by
+ * @param limit the number of requests allowed per refresh period
+ * @param refreshPeriod the length of the counting window in seconds
+ * @param timeoutDuration how long a key stays blocked after exceeding the limit, in seconds
+ */
+public record RateLimitPolicy(
+        String name,
+        PathPattern pattern,
+        RateLimitKeyType keyType,
+        int limit,
+        int refreshPeriod,
+        int timeoutDuration) {
+
+    /**
+     * Creates a policy by compiling the given path pattern.
+     *
+     * @param name the policy name
+     * @param path the path pattern, e.g. {@code /api/auth/login}
+     * @param keyType the request attribute the quota is keyed by
+     * @param limit the number of requests allowed per refresh period
+     * @param refreshPeriod the length of the counting window in seconds
+     * @param timeoutDuration how long a key stays blocked after exceeding the limit, in seconds
+     * @return the compiled policy
+     */
+    public static RateLimitPolicy of(String name, String path, RateLimitKeyType keyType,
+                                     int limit, int refreshPeriod, int timeoutDuration) {
+        return new RateLimitPolicy(name, PathPatternParser.defaultInstance.parse(path),
+                keyType, limit, refreshPeriod, timeoutDuration);
+    }
+
+    /**
+     * Checks if this policy applies to the given request path.
+     *
+     * @param path the parsed request path (without context path)
+     * @return true if the policy applies, false otherwise
+     */
+    public boolean matches(PathContainer path) {
+        return pattern.matches(path);
+    }
+}
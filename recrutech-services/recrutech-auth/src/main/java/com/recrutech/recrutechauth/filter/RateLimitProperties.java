@@ -0,0 +1,82 @@
+package com.recrutech.recrutechauth.filter;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuration for rate limiting, bound from the {@code app.rate-limiting} prefix.
+ * The top-level limit, refresh period and timeout act as defaults for policies that
+ * do not override them. If no policies are configured, {@link #defaultPolicies()} is used.
+ */
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private int limit = 10;
+    private int refreshPeriod = 60;
+    private int timeoutDuration = 30;
+    private Map<String, PolicyProperties> policies = new LinkedHashMap<>();
+
+    /**
+     * Configuration for a single named policy.
+     */
+    @Getter
+    @Setter
+    public static class PolicyProperties {
+        private String path;
+        private RateLimitKeyType key = RateLimitKeyType.IP;
+        private Integer limit;
+        private Integer refreshPeriod;
+        private Integer timeoutDuration;
+    }
+
+    /**
+     * Compiles the configured policies, falling back to the defaults if none are configured.
+     *
+     * @return the compiled policies in declaration order
+     */
+    public RateLimitPolicy[] compilePolicies() {
+        Map<String, PolicyProperties> source = policies.isEmpty() ? defaultPolicies() : policies;
+        return source.entrySet().stream()
+                .map(entry -> compile(entry.getKey(), entry.getValue()))
+                .toArray(RateLimitPolicy[]::new);
+    }
+
+    /**
+     * Default policies: credential attempts are limited per username with a looser per-IP
+     * backstop, refreshes are limited per token subject so that clients sharing a NAT egress
+     * do not exhaust each other's quota, and registrations are limited per IP.
+     *
+     * @return the default policies
+     */
+    public Map<String, PolicyProperties> defaultPolicies() {
+        Map<String, PolicyProperties> defaults = new LinkedHashMap<>();
+        defaults.put("login", policy("/api/auth/login", RateLimitKeyType.USERNAME, limit));
+        defaults.put("login-ip", policy("/api/auth/login", RateLimitKeyType.IP, limit * 5));
+        defaults.put("refresh", policy("/api/auth/refresh", RateLimitKeyType.TOKEN_SUBJECT, limit * 3));
+        defaults.put("register", policy("/api/auth/register/**", RateLimitKeyType.IP, limit));
+        return defaults;
+    }
+
+    private RateLimitPolicy compile(String name, PolicyProperties properties) {
+        return RateLimitPolicy.of(
+                name,
+                properties.getPath(),
+                properties.getKey(),
+                properties.getLimit() != null ? properties.getLimit() : limit,
+                properties.getRefreshPeriod() != null ? properties.getRefreshPeriod() : refreshPeriod,
+                properties.getTimeoutDuration() != null ? properties.getTimeoutDuration() : timeoutDuration);
+    }
+
+    private static PolicyProperties policy(String path, RateLimitKeyType key, int limit) {
+        PolicyProperties properties = new PolicyProperties();
+        properties.setPath(path);
+        properties.setKey(key);
+        properties.setLimit(limit);
+        return properties;
+    }
+}
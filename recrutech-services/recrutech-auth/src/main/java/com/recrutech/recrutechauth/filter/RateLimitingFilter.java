@@ -1,79 +1,338 @@
 package com.recrutech.recrutechauth.filter;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Filter for rate limiting requests to authentication endpoints.
  * This helps prevent brute force attacks.
+ * <p>
+ * Requests are matched against a set of precompiled {@link RateLimitPolicy policies}. Each
+ * policy has its own quota and is keyed by client IP, submitted username or token subject,
+ * so that e.g. legitimate refresh traffic behind a shared NAT is not throttled together
+ * with credential stuffing against the login endpoint. The standard {@code RateLimit-*}
+ * headers are returned for every rate-limited endpoint.
  */
 @Component
 public class RateLimitingFilter extends OncePerRequestFilter {
 
+    static final String HEADER_LIMIT = "RateLimit-Limit";
+    static final String HEADER_REMAINING = "RateLimit-Remaining";
+    static final String HEADER_RESET = "RateLimit-Reset";
+    static final String HEADER_POLICY = "RateLimit-Policy";
+
+    private static final int MAX_CACHED_BODY_BYTES = 8 * 1024;
+    private static final int MAX_TRACKED_KEYS = 100_000;
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final Map<String, RequestCounter> requestCounts = new ConcurrentHashMap<>();
-    
-    @Value("${app.rate-limiting.enabled:true}")
-    private boolean enabled;
-    
-    @Value("${app.rate-limiting.limit:10}")
-    private int limit;
-    
-    @Value("${app.rate-limiting.refresh-period:60}")
-    private int refreshPeriod;
-    
-    @Value("${app.rate-limiting.timeout-duration:30}")
-    private int timeoutDuration;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<JwtDecoder> jwtDecoderProvider;
+    private final boolean enabled;
+    private final RateLimitPolicy[] policies;
+    private final Map<String, Counter> allowedCounters = new HashMap<>();
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+    private final boolean bodyInspectionRequired;
+    private volatile long lastSweep;
+
+    /**
+     * Constructor for RateLimitingFilter.
+     *
+     * @param environment the environment the {@code app.rate-limiting} properties are bound from
+     * @param objectMapper the object mapper used to read usernames and refresh tokens from request bodies
+     * @param jwtDecoderProvider provider of the decoder used to verify tokens for subject-keyed policies
+     * @param meterRegistryProvider provider of the registry the decisions are counted in;
+     *                              the global registry is used if none is available
+     */
+    @Autowired
+    public RateLimitingFilter(Environment environment, ObjectMapper objectMapper,
+                              ObjectProvider<JwtDecoder> jwtDecoderProvider,
+                              ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this(Binder.get(environment).bind("app.rate-limiting", RateLimitProperties.class)
+                        .orElseGet(RateLimitProperties::new), objectMapper, jwtDecoderProvider,
+                meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Constructor for RateLimitingFilter with already bound properties.
+     *
+     * @param properties the rate limiting configuration
+     * @param objectMapper the object mapper used to read usernames and refresh tokens from request bodies
+     * @param jwtDecoderProvider provider of the decoder used to verify tokens for subject-keyed policies
+     * @param meterRegistry the registry the decisions are counted in
+     */
+    RateLimitingFilter(RateLimitProperties properties, ObjectMapper objectMapper,
+                       ObjectProvider<JwtDecoder> jwtDecoderProvider, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.jwtDecoderProvider = jwtDecoderProvider;
+        this.enabled = properties.isEnabled();
+        this.policies = properties.compilePolicies();
+        boolean inspectBody = false;
+        for (RateLimitPolicy policy : policies) {
+            inspectBody |= policy.keyType() != RateLimitKeyType.IP;
+            allowedCounters.put(policy.name(), decisionCounter(meterRegistry, policy, "allowed"));
+            rejectedCounters.put(policy.name(), decisionCounter(meterRegistry, policy, "rejected"));
+        }
+        this.bodyInspectionRequired = inspectBody;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        
-        // Only apply rate limiting to authentication endpoints
-        if (!enabled || !isAuthEndpoint(request.getRequestURI())) {
+
+        // Only apply rate limiting to endpoints covered by a policy
+        RateLimitPolicy[] matched = enabled ? matchPolicies(request) : null;
+        if (matched == null) {
             filterChain.doFilter(request, response);
             return;
         }
-        
-        String clientIp = getClientIp(request);
-        RequestCounter counter = requestCounts.computeIfAbsent(clientIp, k -> new RequestCounter());
-        
-        if (counter.isBlocked()) {
-            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-            response.getWriter().write("Too many requests. Please try again later.");
-            return;
+
+        HttpServletRequest effectiveRequest = request;
+        CachedBodyHttpServletRequest cachedRequest = null;
+        if (bodyInspectionRequired && requiresBody(matched)) {
+            cachedRequest = new CachedBodyHttpServletRequest(request, MAX_CACHED_BODY_BYTES);
+            effectiveRequest = cachedRequest;
         }
-        
-        if (counter.incrementAndGet() > limit) {
-            counter.block();
-            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-            response.getWriter().write("Too many requests. Please try again later.");
-            return;
+
+        long now = System.currentTimeMillis();
+        sweepIfNecessary(now);
+
+        RateLimitDecision mostRestrictive = null;
+        RequestCounter[] acquired = new RequestCounter[matched.length];
+        for (int i = 0; i < matched.length; i++) {
+            RateLimitPolicy policy = matched[i];
+            String key = policy.name() + '|' + resolveKey(policy.keyType(), effectiveRequest, cachedRequest);
+            RequestCounter counter = requestCounts.computeIfAbsent(key, k -> new RequestCounter(policy));
+            RateLimitDecision decision = counter.acquire(now);
+
+            if (!decision.allowed()) {
+                // A rejected request must not use up the quotas of the policies that allowed it
+                for (int j = 0; j < i; j++) {
+                    acquired[j].release(now);
+                }
+                rejectedCounters.get(policy.name()).increment();
+                writeRateLimitHeaders(response, decision);
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(decision.resetSeconds()));
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.getWriter().write("Too many requests. Please try again later.");
+                return;
+            }
+            acquired[i] = counter;
+            allowedCounters.get(policy.name()).increment();
+
+            if (mostRestrictive == null || decision.remaining() < mostRestrictive.remaining()) {
+                mostRestrictive = decision;
+            }
+        }
+
+        writeRateLimitHeaders(response, mostRestrictive);
+        filterChain.doFilter(effectiveRequest, response);
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, RateLimitPolicy policy, String outcome) {
+        return Counter.builder("recrutech.ratelimit.decisions")
+                .description("Rate limiting decisions per policy")
+                .tag("policy", policy.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Finds the policies that apply to the request path.
+     *
+     * @param request the HTTP request
+     * @return the matching policies, or null if no policy applies
+     */
+    private RateLimitPolicy[] matchPolicies(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        PathContainer path = PathContainer.parsePath(
+                contextPath != null && !contextPath.isEmpty() ? uri.substring(contextPath.length()) : uri);
+
+        RateLimitPolicy[] matched = null;
+        int count = 0;
+        for (RateLimitPolicy policy : policies) {
+            if (policy.matches(path)) {
+                if (matched == null) {
+                    matched = new RateLimitPolicy[policies.length];
+                }
+                matched[count++] = policy;
+            }
         }
-        
-        filterChain.doFilter(request, response);
+        return matched == null || count == matched.length ? matched : Arrays.copyOf(matched, count);
     }
-    
+
     /**
-     * Checks if the request URI is for an authentication endpoint.
+     * Checks if any of the policies is keyed by an attribute read from the request body.
      *
-     * @param uri the request URI
-     * @return true if the URI is for an authentication endpoint, false otherwise
+     * @param matched the matching policies
+     * @return true if the body has to be inspected, false otherwise
      */
-    private boolean isAuthEndpoint(String uri) {
-        return uri.contains("/auth/login") || uri.contains("/auth/register") || uri.contains("/auth/refresh");
+    private boolean requiresBody(RateLimitPolicy[] matched) {
+        for (RateLimitPolicy policy : matched) {
+            if (policy.keyType() != RateLimitKeyType.IP) {
+                return true;
+            }
+        }
+        return false;
     }
-    
+
+    /**
+     * Resolves the rate limit key for a request.
+     * Keys are prefixed with their type so a fallback to the client IP never collides
+     * with a username or token subject.
+     *
+     * @param keyType the key type of the policy
+     * @param request the HTTP request
+     * @param cachedRequest the request with a buffered body, or null if the body was not buffered
+     * @return the key
+     */
+    private String resolveKey(RateLimitKeyType keyType, HttpServletRequest request,
+                              CachedBodyHttpServletRequest cachedRequest) {
+        switch (keyType) {
+            case USERNAME -> {
+                String username = readJsonField(cachedRequest, "username");
+                if (username != null && !username.isBlank()) {
+                    return "user:" + username.trim().toLowerCase(Locale.ROOT);
+                }
+            }
+            case TOKEN_SUBJECT -> {
+                String subject = resolveTokenSubject(request, cachedRequest);
+                if (subject != null) {
+                    return "sub:" + subject;
+                }
+            }
+            default -> {
+                // Keyed by IP
+            }
+        }
+        return "ip:" + getClientIp(request);
+    }
+
+    /**
+     * Resolves the verified subject of the bearer token or the refresh token in the request body.
+     *
+     * @param request the HTTP request
+     * @param cachedRequest the request with a buffered body, or null if the body was not buffered
+     * @return the token subject, or null if there is no verifiable token
+     */
+    private String resolveTokenSubject(HttpServletRequest request, CachedBodyHttpServletRequest cachedRequest) {
+        String token = null;
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            token = authorization.substring(BEARER_PREFIX.length()).trim();
+        }
+        if (token == null || token.isEmpty()) {
+            token = readJsonField(cachedRequest, "refreshToken");
+        }
+
+        JwtDecoder decoder = jwtDecoderProvider.getIfAvailable();
+        if (token == null || token.isEmpty() || decoder == null) {
+            return null;
+        }
+
+        // Only verified subjects are trusted as keys; otherwise forged tokens would get fresh quotas
+        try {
+            return decoder.decode(token).getSubject();
+        } catch (JwtException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a top-level string field from a buffered JSON request body.
+     *
+     * @param cachedRequest the request with a buffered body
+     * @param fieldName the name of the field to read
+     * @return the field value, or null if the body is missing, incomplete, not JSON or lacks the field
+     */
+    private String readJsonField(CachedBodyHttpServletRequest cachedRequest, String fieldName) {
+        if (cachedRequest == null || !cachedRequest.isComplete() || cachedRequest.getCachedBody().length == 0) {
+            return null;
+        }
+        String contentType = cachedRequest.getContentType();
+        if (contentType != null && !contentType.toLowerCase(Locale.ROOT).contains("json")) {
+            return null;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(cachedRequest.getCachedBody())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (fieldName.equals(name) && value == JsonToken.VALUE_STRING) {
+                    return parser.getText();
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            // Malformed bodies are rejected by the controller; fall back to the IP key here
+        }
+        return null;
+    }
+
+    /**
+     * Writes the RateLimit-* headers for a decision.
+     *
+     * @param response the HTTP response
+     * @param decision the decision to describe
+     */
+    private void writeRateLimitHeaders(HttpServletResponse response, RateLimitDecision decision) {
+        RateLimitPolicy policy = decision.policy();
+        response.setHeader(HEADER_LIMIT, Integer.toString(policy.limit()));
+        response.setHeader(HEADER_REMAINING, Integer.toString(decision.remaining()));
+        response.setHeader(HEADER_RESET, Long.toString(decision.resetSeconds()));
+        response.setHeader(HEADER_POLICY, policy.limit() + ";w=" + policy.refreshPeriod());
+        if (!decision.allowed()) {
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        }
+    }
+
+    /**
+     * Removes idle counters once the number of tracked keys exceeds the configured maximum,
+     * so that keys from one-off clients do not accumulate forever.
+     *
+     * @param now the current time in milliseconds
+     */
+    private void sweepIfNecessary(long now) {
+        if (requestCounts.size() <= MAX_TRACKED_KEYS || now - lastSweep < TimeUnit.SECONDS.toMillis(1)) {
+            return;
+        }
+        lastSweep = now;
+        requestCounts.values().removeIf(counter -> counter.isIdle(now));
+    }
+
     /**
      * Gets the client IP address from the request.
      *
@@ -83,53 +342,96 @@ public class RateLimitingFilter extends OncePerRequestFilter {
     private String getClientIp(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
+            int comma = xForwardedFor.indexOf(',');
+            return (comma >= 0 ? xForwardedFor.substring(0, comma) : xForwardedFor).trim();
         }
         return request.getRemoteAddr();
     }
-    
+
     /**
-     * Counter for tracking request counts and blocking status.
+     * Counter for tracking request counts and blocking status of one key under one policy.
+     * Guarded by a {@link ReentrantLock} rather than {@code synchronized}, so that a virtual thread
+     * waiting for a contended counter unmounts instead of pinning its carrier thread.
      */
-    private class RequestCounter {
+    private static class RequestCounter {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final RateLimitPolicy policy;
+        private final long windowMillis;
+        private final long timeoutMillis;
         private int count;
         private long lastResetTime;
         private long blockedUntil;
-        
-        public RequestCounter() {
+
+        RequestCounter(RateLimitPolicy policy) {
+            this.policy = policy;
+            this.windowMillis = TimeUnit.SECONDS.toMillis(policy.refreshPeriod());
+            this.timeoutMillis = TimeUnit.SECONDS.toMillis(policy.timeoutDuration());
             this.count = 0;
             this.lastResetTime = System.currentTimeMillis();
             this.blockedUntil = 0;
         }
-        
+
         /**
-         * Increments the request count and resets it if the refresh period has elapsed.
+         * Counts a request, resetting the window if the refresh period has elapsed and
+         * blocking the key for the configured timeout once the limit is exceeded.
          *
-         * @return the new count
+         * @param now the current time in milliseconds
+         * @return the decision for this request
          */
-        public synchronized int incrementAndGet() {
-            long now = System.currentTimeMillis();
-            if (now - lastResetTime > TimeUnit.SECONDS.toMillis(refreshPeriod)) {
-                count = 0;
-                lastResetTime = now;
+        RateLimitDecision acquire(long now) {
+            lock.lock();
+            try {
+                if (now < blockedUntil) {
+                    return new RateLimitDecision(policy, false, 0, secondsUntil(blockedUntil, now));
+                }
+                if (now - lastResetTime > windowMillis) {
+                    count = 0;
+                    lastResetTime = now;
+                }
+                if (++count > policy.limit()) {
+                    blockedUntil = now + timeoutMillis;
+                    return new RateLimitDecision(policy, false, 0, secondsUntil(blockedUntil, now));
+                }
+                return new RateLimitDecision(policy, true, policy.limit() - count,
+                        secondsUntil(lastResetTime + windowMillis, now));
+            } finally {
+                lock.unlock();
             }
-            return ++count;
         }
-        
+
         /**
-         * Blocks the client for the configured timeout duration.
+         * Gives back a request that was counted at the given time, unless its window has been reset since.
+         *
+         * @param now the time in milliseconds the request was counted at
          */
-        public synchronized void block() {
-            blockedUntil = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeoutDuration);
+        void release(long now) {
+            lock.lock();
+            try {
+                if (count > 0 && lastResetTime <= now && now - lastResetTime <= windowMillis) {
+                    count--;
+                }
+            } finally {
+                lock.unlock();
+            }
         }
-        
+
         /**
-         * Checks if the client is currently blocked.
+         * Checks if the counter can be discarded without changing any decision.
          *
-         * @return true if the client is blocked, false otherwise
+         * @param now the current time in milliseconds
+         * @return true if the window has elapsed and the key is not blocked, false otherwise
          */
-        public synchronized boolean isBlocked() {
-            return System.currentTimeMillis() < blockedUntil;
+        boolean isIdle(long now) {
+            lock.lock();
+            try {
+                return now >= blockedUntil && now - lastResetTime > windowMillis;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static long secondsUntil(long deadline, long now) {
+            return Math.max(0, TimeUnit.MILLISECONDS.toSeconds(deadline - now + 999));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.recrutech.recrutechauth.metrics;
+
+/**
+ * Names and descriptions of the timers shared by the auth service operations.
+ */
+public final class AuthMetrics {
+
+    /**
+     * Timer of the registration, login and token refresh operations.
+     */
+    public static final String OPERATIONS = "recrutech.auth.operations";
+
+    /**
+     * Description of the {@link #OPERATIONS} timer.
+     */
+    public static final String OPERATIONS_DESCRIPTION = "Time spent in authentication operations";
+
+    private AuthMetrics() {
+    }
+}
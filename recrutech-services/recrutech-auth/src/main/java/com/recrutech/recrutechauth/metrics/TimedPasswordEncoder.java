@@ -0,0 +1,65 @@
+package com.recrutech.recrutechauth.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password encoder that records the time spent hashing and verifying passwords.
+ * Publishes {@code recrutech.password.encode} and {@code recrutech.password.matches},
+ * the latter tagged with whether the password matched.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Timer mismatchTimer;
+
+    /**
+     * Constructor for TimedPasswordEncoder.
+     *
+     * @param delegate the encoder doing the actual hashing
+     * @param meterRegistry the registry the timers are registered in
+     */
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encodeTimer = Timer.builder("recrutech.password.encode")
+                .description("Time spent hashing passwords")
+                .register(meterRegistry);
+        this.matchTimer = matchesTimer(meterRegistry, "match");
+        this.mismatchTimer = matchesTimer(meterRegistry, "mismatch");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        boolean matches = delegate.matches(rawPassword, encodedPassword);
+        (matches ? matchTimer : mismatchTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private static Timer matchesTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("recrutech.password.matches")
+                .description("Time spent verifying passwords")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -22,7 +22,7 @@ public class RefreshToken {
     private String tokenId;
 
     @ManyToOne
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, columnDefinition = "binary(16)")
     private User user;
 
     @Column(nullable = false)
@@ -4,7 +4,9 @@ import com.recrutech.common.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -12,11 +14,15 @@ import java.util.Set;
 /**
  * Entity representing a role in the system.
  * This class extends BaseEntity to inherit common fields like ID and creation timestamp.
+ * Roles are reference data seeded by Liquibase and never updated, so the entity is immutable and kept in the
+ * read-only second-level cache.
  */
 @Entity
+@Immutable
 @Table(name = "roles")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "recrutech.auth.role")
 @Getter
-@Setter
 @NoArgsConstructor
 public class Role extends BaseEntity {
 
@@ -5,6 +5,10 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -47,11 +51,17 @@ public class User extends BaseEntity {
     @Column(nullable = false)
     private boolean credentialsNonExpired = true;
 
+    /*
+     * Loaded by a separate select rather than a join, so the role IDs come from the collection
+     * cache and the roles from the role cache instead of the database.
+     */
     @ManyToMany(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SELECT)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "recrutech.auth.user-roles")
     @JoinTable(
             name = "user_roles",
-            joinColumns = @JoinColumn(name = "user_id"),
-            inverseJoinColumns = @JoinColumn(name = "role_id")
+            joinColumns = @JoinColumn(name = "user_id", columnDefinition = "binary(16)"),
+            inverseJoinColumns = @JoinColumn(name = "role_id", columnDefinition = "binary(16)")
     )
     private Set<Role> roles = new HashSet<>();
 
@@ -1,7 +1,10 @@
 package com.recrutech.recrutechauth.repository;
 
 import com.recrutech.recrutechauth.model.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,10 +18,15 @@ public interface RoleRepository extends JpaRepository<Role, String> {
 
     /**
      * Find a role by name.
+     * The result is kept in the query cache, and the role itself in the role cache.
      *
      * @param name the name of the role to search for
      * @return an Optional containing the role if found, or empty if not found
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "recrutech.auth.role-by-name")
+    })
     Optional<Role> findByName(String name);
 
     /**
@@ -7,11 +7,13 @@ import com.recrutech.recrutechauth.dto.RegisterRequest;
 import com.recrutech.recrutechauth.exception.AuthenticationException;
 import com.recrutech.recrutechauth.exception.RegistrationException;
 import com.recrutech.recrutechauth.exception.TokenException;
+import com.recrutech.recrutechauth.metrics.AuthMetrics;
 import com.recrutech.recrutechauth.model.Role;
 import com.recrutech.recrutechauth.model.User;
 import com.recrutech.recrutechauth.repository.RoleRepository;
 import com.recrutech.recrutechauth.repository.UserRepository;
 import com.recrutech.recrutechauth.validator.PasswordValidator;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -76,6 +78,7 @@ public class AuthService {
      * @return the authentication response
      * @throws RegistrationException if registration fails
      */
+    @Timed(value = AuthMetrics.OPERATIONS, description = AuthMetrics.OPERATIONS_DESCRIPTION)
     @Transactional
     public AuthResponse register(RegisterRequest request) {
         try {
@@ -150,6 +153,7 @@ public class AuthService {
      * @return the authentication response
      * @throws RegistrationException if registration fails
      */
+    @Timed(value = AuthMetrics.OPERATIONS, description = AuthMetrics.OPERATIONS_DESCRIPTION)
     @Transactional
     public AuthResponse registerHR(HRRegisterRequest request) {
         try {
@@ -225,6 +229,7 @@ public class AuthService {
      * @return the authentication response
      * @throws AuthenticationException if authentication fails
      */
+    @Timed(value = AuthMetrics.OPERATIONS, description = AuthMetrics.OPERATIONS_DESCRIPTION)
     public AuthResponse login(LoginRequest request) {
         try {
             // Authenticate user
@@ -272,6 +277,7 @@ public class AuthService {
      * @return the authentication response
      * @throws TokenException if the refresh token is invalid
      */
+    @Timed(value = AuthMetrics.OPERATIONS, description = AuthMetrics.OPERATIONS_DESCRIPTION)
     public AuthResponse refreshToken(String refreshToken) {
         try {
             // Generate a new access token from the refresh token
@@ -5,6 +5,8 @@ import com.recrutech.recrutechauth.model.RefreshToken;
 import com.recrutech.recrutechauth.model.User;
 import com.recrutech.recrutechauth.repository.RefreshTokenRepository;
 import com.recrutech.recrutechauth.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -16,6 +18,7 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -29,6 +32,10 @@ public class JwtService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
     private final String jwtId;
+    private final Timer signAccessTimer;
+    private final Timer signRefreshTimer;
+    private final Timer verifyValidTimer;
+    private final Timer verifyInvalidTimer;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
@@ -47,18 +54,24 @@ public class JwtService {
      * @param refreshTokenRepository the refresh token repository
      * @param userRepository the user repository
      * @param jwtId the JWT ID for token identification
+     * @param meterRegistry the registry the signing and verification timers are registered in
      */
     public JwtService(
             JwtEncoder encoder, 
             JwtDecoder decoder, 
             RefreshTokenRepository refreshTokenRepository,
             UserRepository userRepository,
-            String jwtId) {
+            String jwtId,
+            MeterRegistry meterRegistry) {
         this.encoder = encoder;
         this.decoder = decoder;
         this.refreshTokenRepository = refreshTokenRepository;
         this.userRepository = userRepository;
         this.jwtId = jwtId;
+        this.signAccessTimer = signTimer(meterRegistry, "access");
+        this.signRefreshTimer = signTimer(meterRegistry, "refresh");
+        this.verifyValidTimer = verifyTimer(meterRegistry, "valid");
+        this.verifyInvalidTimer = verifyTimer(meterRegistry, "invalid");
     }
 
     /**
@@ -83,7 +96,7 @@ public class JwtService {
                 .id(UUID.randomUUID().toString())
                 .build();
 
-        return this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        return sign(claims, signAccessTimer);
     }
 
     /**
@@ -107,7 +120,7 @@ public class JwtService {
                 .id(tokenId)
                 .build();
 
-        String tokenValue = this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        String tokenValue = sign(claims, signRefreshTimer);
         
         // Store refresh token in database for revocation capability
         User user = userRepository.findByUsername(authentication.getName())
@@ -133,9 +146,13 @@ public class JwtService {
      * @throws TokenException if the token is invalid
      */
     public Jwt validateToken(String token) {
+        long start = System.nanoTime();
         try {
-            return decoder.decode(token);
+            Jwt jwt = decoder.decode(token);
+            verifyValidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return jwt;
         } catch (JwtException e) {
+            verifyInvalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             throw new TokenException("Invalid token: " + e.getMessage(), e);
         }
     }
@@ -261,7 +278,7 @@ public class JwtService {
             // Revoke the old refresh token
             revokeRefreshToken(refreshToken);
             
-            return this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+            return sign(claims, signAccessTimer);
         } catch (TokenException e) {
             throw e;
         } catch (Exception e) {
@@ -317,7 +334,7 @@ public class JwtService {
                     .id(tokenId)
                     .build();
             
-            String tokenValue = this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+            String tokenValue = sign(claims, signRefreshTimer);
             
             // Store new refresh token in database
             RefreshToken refreshToken = new RefreshToken();
@@ -339,4 +356,34 @@ public class JwtService {
             throw new TokenException("Error rotating refresh token: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Signs a claims set and records the time taken.
+     *
+     * @param claims the claims to sign
+     * @param timer the timer for the token type
+     * @return the signed token
+     */
+    private String sign(JwtClaimsSet claims, Timer timer) {
+        long start = System.nanoTime();
+        try {
+            return this.encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer signTimer(MeterRegistry meterRegistry, String type) {
+        return Timer.builder("recrutech.jwt.sign")
+                .description("Time spent signing tokens")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("recrutech.jwt.verify")
+                .description("Time spent verifying tokens")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
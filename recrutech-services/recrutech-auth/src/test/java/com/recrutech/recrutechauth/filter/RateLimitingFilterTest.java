@@ -0,0 +1,199 @@
+package com.recrutech.recrutechauth.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RateLimitingFilter.
+ * Tests policy matching, per-principal keys and the RateLimit-* headers.
+ */
+class RateLimitingFilterTest {
+
+    private JwtDecoder jwtDecoder;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setLimit(2);
+        jwtDecoder = mock(JwtDecoder.class);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitingFilter(properties, new ObjectMapper(), providerOf(jwtDecoder), meterRegistry);
+    }
+
+    @Test
+    void nonRateLimitedEndpoint_ShouldPassWithoutHeaders() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletResponse response = perform(request("/api/oauth2/jwks", null, "10.0.0.1"));
+
+            assertEquals(HttpStatus.OK.value(), response.getStatus());
+            assertNull(response.getHeader(RateLimitingFilter.HEADER_LIMIT));
+        }
+    }
+
+    @Test
+    void login_ShouldBeLimitedPerUsername() throws Exception {
+        String body = "{\"username\":\"john.doe\",\"password\":\"secret\"}";
+
+        MockHttpServletResponse first = perform(request("/api/auth/login", body, "10.0.0.1"));
+        assertEquals(HttpStatus.OK.value(), first.getStatus());
+        assertEquals("2", first.getHeader(RateLimitingFilter.HEADER_LIMIT));
+        assertEquals("1", first.getHeader(RateLimitingFilter.HEADER_REMAINING));
+        assertEquals("2;w=60", first.getHeader(RateLimitingFilter.HEADER_POLICY));
+
+        // Same username from a different IP shares the quota
+        assertEquals(HttpStatus.OK.value(), perform(request("/api/auth/login", body, "10.0.0.2")).getStatus());
+        MockHttpServletResponse blocked = perform(request("/api/auth/login", body, "10.0.0.3"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), blocked.getStatus());
+        assertEquals("0", blocked.getHeader(RateLimitingFilter.HEADER_REMAINING));
+        assertNotNull(blocked.getHeader("Retry-After"));
+
+        // Another username from the same IP is not affected
+        String otherBody = "{\"username\":\"jane.doe\",\"password\":\"secret\"}";
+        assertEquals(HttpStatus.OK.value(), perform(request("/api/auth/login", otherBody, "10.0.0.3")).getStatus());
+    }
+
+    @Test
+    void login_RejectedByIpBackstop_ShouldNotUseUpUsernameQuota() throws Exception {
+        // The per-IP backstop allows 10 logins (5x the base limit)
+        for (int i = 0; i < 10; i++) {
+            String body = "{\"username\":\"user" + i + "\",\"password\":\"secret\"}";
+            assertEquals(HttpStatus.OK.value(), perform(request("/api/auth/login", body, "10.0.0.1")).getStatus());
+        }
+        String body = "{\"username\":\"john.doe\",\"password\":\"secret\"}";
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(),
+                perform(request("/api/auth/login", body, "10.0.0.1")).getStatus());
+
+        // The username quota is still complete from another IP
+        MockHttpServletResponse first = perform(request("/api/auth/login", body, "10.0.0.2"));
+        assertEquals(HttpStatus.OK.value(), first.getStatus());
+        assertEquals("1", first.getHeader(RateLimitingFilter.HEADER_REMAINING));
+        assertEquals(HttpStatus.OK.value(), perform(request("/api/auth/login", body, "10.0.0.2")).getStatus());
+        assertEquals(0.0, meterRegistry.get("recrutech.ratelimit.decisions")
+                .tag("policy", "login").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void login_ShouldStillPassBodyToDownstreamHandler() throws Exception {
+        String body = "{\"username\":\"john.doe\",\"password\":\"secret\"}";
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("/api/auth/login", body, "10.0.0.1"), new MockHttpServletResponse(), chain);
+
+        byte[] forwarded = chain.getRequest().getInputStream().readAllBytes();
+        assertEquals(body, new String(forwarded, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void refresh_ShouldBeLimitedPerVerifiedTokenSubject() throws Exception {
+        when(jwtDecoder.decode("token-a")).thenReturn(jwt("alice"));
+        when(jwtDecoder.decode("token-b")).thenReturn(jwt("bob"));
+
+        // Six refreshes per subject are allowed (3x the base limit), even from a shared IP
+        for (int i = 0; i < 6; i++) {
+            assertEquals(HttpStatus.OK.value(),
+                    perform(request("/api/auth/refresh", "{\"refreshToken\":\"token-a\"}", "10.0.0.1")).getStatus());
+        }
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(),
+                perform(request("/api/auth/refresh", "{\"refreshToken\":\"token-a\"}", "10.0.0.1")).getStatus());
+        assertEquals(HttpStatus.OK.value(),
+                perform(request("/api/auth/refresh", "{\"refreshToken\":\"token-b\"}", "10.0.0.1")).getStatus());
+    }
+
+    @Test
+    void refresh_WithUnverifiableToken_ShouldFallBackToIp() throws Exception {
+        when(jwtDecoder.decode(anyString())).thenThrow(new BadJwtException("invalid"));
+
+        for (int i = 0; i < 6; i++) {
+            String body = "{\"refreshToken\":\"forged-" + i + "\"}";
+            assertEquals(HttpStatus.OK.value(), perform(request("/api/auth/refresh", body, "10.0.0.1")).getStatus());
+        }
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(),
+                perform(request("/api/auth/refresh", "{\"refreshToken\":\"forged-6\"}", "10.0.0.1")).getStatus());
+    }
+
+    @Test
+    void register_ShouldBeLimitedPerIp() throws Exception {
+        assertEquals(HttpStatus.OK.value(), perform(request("/api/auth/register", "{}", "10.0.0.1")).getStatus());
+        assertEquals(HttpStatus.OK.value(), perform(request("/api/auth/register/hr", "{}", "10.0.0.1")).getStatus());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(),
+                perform(request("/api/auth/register", "{}", "10.0.0.1")).getStatus());
+        assertEquals(HttpStatus.OK.value(), perform(request("/api/auth/register", "{}", "10.0.0.2")).getStatus());
+    }
+
+    @Test
+    void decisions_ShouldBeCountedPerPolicyAndOutcome() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            perform(request("/api/auth/register", "{}", "10.0.0.1"));
+        }
+
+        assertEquals(2.0, meterRegistry.get("recrutech.ratelimit.decisions")
+                .tag("policy", "register").tag("outcome", "allowed").counter().count());
+        assertEquals(1.0, meterRegistry.get("recrutech.ratelimit.decisions")
+                .tag("policy", "register").tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void disabled_ShouldNotLimit() throws Exception {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEnabled(false);
+        properties.setLimit(1);
+        filter = new RateLimitingFilter(properties, new ObjectMapper(), providerOf(jwtDecoder), meterRegistry);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(HttpStatus.OK.value(), perform(request("/api/auth/register", "{}", "10.0.0.1")).getStatus());
+        }
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String uri, String body, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr(remoteAddr);
+        if (body != null) {
+            request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return request;
+    }
+
+    private static Jwt jwt(String subject) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject(subject)
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(60))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<JwtDecoder> providerOf(JwtDecoder decoder) {
+        ObjectProvider<JwtDecoder> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(decoder);
+        return provider;
+    }
+}
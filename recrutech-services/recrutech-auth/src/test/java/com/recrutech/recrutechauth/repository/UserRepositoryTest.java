@@ -27,9 +27,9 @@ class UserRepositoryTest {
         // Clean up the database before each test
         userRepository.deleteAll();
 
-        // Create a test user with a custom ID that's very short
+        // Create a test user with a custom ID (IDs are stored as BINARY(16), so it must be a valid UUID)
         testUser = new User();
-        testUser.setId("1"); // Very short ID
+        testUser.setId("00000000-0000-0000-0000-000000000001");
         testUser.setUsername("testuser");
         testUser.setEmail("test@example.com");
         testUser.setPassword("password123");
@@ -0,0 +1,42 @@
+package com.recrutech.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of the benchmarks jar.
+ * Delegates to the JMH launcher, but writes the results as JSON unless another result format
+ * is requested, so that runs of different releases can be compared.
+ */
+public final class BenchmarkMain {
+
+    static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(withJsonResults(args));
+    }
+
+    /**
+     * Adds the JSON result format unless a result format is already given.
+     * The result file can still be chosen with {@code -rff}.
+     *
+     * @param args the command line arguments
+     * @return the arguments passed to JMH
+     */
+    static String[] withJsonResults(String[] args) {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        if (!arguments.contains("-rf")) {
+            arguments.addAll(0, List.of("-rf", "json"));
+            if (!arguments.contains("-rff")) {
+                arguments.addAll(2, List.of("-rff", DEFAULT_RESULT_FILE));
+            }
+        }
+        return arguments.toArray(String[]::new);
+    }
+}
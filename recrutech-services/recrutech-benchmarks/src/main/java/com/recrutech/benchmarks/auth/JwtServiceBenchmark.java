@@ -0,0 +1,78 @@
+package com.recrutech.benchmarks.auth;
+
+import com.recrutech.recrutechauth.config.SecurityConfig;
+import com.recrutech.recrutechauth.service.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures RS256 access token generation and validation through {@link JwtService}, using the
+ * encoder and decoder built by the auth service's {@link SecurityConfig} with a 2048-bit key.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        SecurityConfig securityConfig = new SecurityConfig(keyPair, "benchmark-key");
+
+        // Token generation and validation do not touch the repositories
+        jwtService = new JwtService(securityConfig.jwtEncoder(), securityConfig.jwtDecoder(), null, null, "benchmark-key",
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", TimeUnit.HOURS.toMillis(12));
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", TimeUnit.DAYS.toMillis(7));
+        ReflectionTestUtils.setField(jwtService, "audience", "recrutech-api");
+
+        authentication = new UsernamePasswordAuthenticationToken("john.doe", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_HR")));
+        token = jwtService.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(authentication);
+    }
+
+    @Benchmark
+    public Jwt validateToken() {
+        return jwtService.validateToken(token);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Jwt validateTokenContended() {
+        return jwtService.validateToken(token);
+    }
+}
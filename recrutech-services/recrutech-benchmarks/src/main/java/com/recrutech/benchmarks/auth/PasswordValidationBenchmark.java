@@ -0,0 +1,55 @@
+package com.recrutech.benchmarks.auth;
+
+import com.recrutech.recrutechauth.validator.PasswordValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures password strength validation as run on every registration, for a strong password,
+ * a password failing most rules, one containing a common pattern and one at the maximum length.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PasswordValidationBenchmark {
+
+    /**
+     * The kind of password under test.
+     */
+    public enum PasswordKind {
+        STRONG("Tr0ub4dor&Horse!"),
+        WEAK("aaa"),
+        COMMON_PATTERN("MyPassword1!"),
+        MAX_LENGTH("Xy7#".repeat(32));
+
+        private final String password;
+
+        PasswordKind(String password) {
+            this.password = password;
+        }
+    }
+
+    @Param({"STRONG", "WEAK", "COMMON_PATTERN", "MAX_LENGTH"})
+    public PasswordKind kind;
+
+    private final PasswordValidator validator = new PasswordValidator();
+
+    @Benchmark
+    public List<String> validate() {
+        return validator.validate(kind.password);
+    }
+}
@@ -0,0 +1,120 @@
+package com.recrutech.benchmarks.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recrutech.recrutechauth.filter.RateLimitingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.MediaType;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the auth rate limiting filter with 8 threads, for a login endpoint keyed by the
+ * username read from the request body, a registration endpoint keyed by client IP and an
+ * endpoint without a policy. With {@code SHARED} keys all threads hit the same counter,
+ * with {@code PER_THREAD} keys every thread has its own.
+ * The limits are raised so that requests are never rejected during a run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RateLimitingFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    /**
+     * How request keys are distributed over the benchmark threads.
+     */
+    public enum Keys {
+        SHARED,
+        PER_THREAD
+    }
+
+    @Param({"SHARED", "PER_THREAD"})
+    public Keys keys;
+
+    private RateLimitingFilter filter;
+    private final AtomicInteger threadIds = new AtomicInteger();
+
+    /**
+     * Request data of one benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Client {
+        String remoteAddr;
+        byte[] loginBody;
+
+        @Setup
+        public void setUp(RateLimitingFilterBenchmark benchmark) {
+            int id = benchmark.keys == Keys.SHARED ? 0 : benchmark.threadIds.incrementAndGet();
+            remoteAddr = "10.0." + (id / 256) + "." + (id % 256);
+            loginBody = ("{\"username\":\"user-" + id + "\",\"password\":\"Secret123!\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.rate-limiting.limit", "100000000")
+                .withProperty("app.rate-limiting.timeout-duration", "1");
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", new SimpleMeterRegistry());
+        filter = new RateLimitingFilter(environment, new ObjectMapper(),
+                beanFactory.getBeanProvider(JwtDecoder.class), beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse login(Client client) throws Exception {
+        MockHttpServletRequest request = request("/api/auth/login", client);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(client.loginBody);
+        return perform(request);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse register(Client client) throws Exception {
+        return perform(request("/api/auth/register", client));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse notRateLimited(Client client) throws Exception {
+        return perform(request("/api/oauth2/jwks", client));
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String uri, Client client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr(client.remoteAddr);
+        return request;
+    }
+}
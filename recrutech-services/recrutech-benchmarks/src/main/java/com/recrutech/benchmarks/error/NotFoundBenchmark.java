@@ -0,0 +1,107 @@
+package com.recrutech.benchmarks.error;
+
+import com.recrutech.common.exception.GlobalExceptionHandler;
+import com.recrutech.common.exception.NotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Measures 404 throughput through the full Spring MVC dispatch, comparing exceptions with a
+ * captured stack trace rendered from a map via the message converters (the previous error path)
+ * with stackless exceptions rendered by the streaming problem details writer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NotFoundBenchmark {
+
+    /**
+     * The error path under test.
+     */
+    public enum ErrorPath {
+        LEGACY,
+        STACKLESS_STREAMING
+    }
+
+    @Param({"LEGACY", "STACKLESS_STREAMING"})
+    public ErrorPath errorPath;
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        boolean stackless = errorPath == ErrorPath.STACKLESS_STREAMING;
+        mockMvc = MockMvcBuilders.standaloneSetup(new MissingJobController(stackless))
+                .setControllerAdvice(stackless ? new GlobalExceptionHandler() : new LegacyExceptionHandler())
+                .build();
+    }
+
+    @Benchmark
+    public MvcResult getMissingJob() throws Exception {
+        return mockMvc.perform(get("/api/v1/jobs/{id}", "0190b5a2-7c3e-7d2a-9f41-5a2b9c7e1d30")).andReturn();
+    }
+
+    /**
+     * Controller that always fails the lookup, like a job lookup for a missing ID.
+     */
+    @RestController
+    static class MissingJobController {
+        private final boolean stackless;
+
+        MissingJobController(boolean stackless) {
+            this.stackless = stackless;
+        }
+
+        @GetMapping("/api/v1/jobs/{id}")
+        public Object getJob(@PathVariable String id) {
+            String message = "Job not found with id: " + id;
+            throw stackless ? NotFoundException.stackless(message) : new NotFoundException(message);
+        }
+    }
+
+    /**
+     * The exception handler as it was before problem details were streamed.
+     */
+    @ControllerAdvice
+    static class LegacyExceptionHandler {
+        @ExceptionHandler(NotFoundException.class)
+        public ResponseEntity<Object> handleNotFoundException(NotFoundException ex) {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("timestamp", LocalDateTime.now());
+            body.put("status", HttpStatus.NOT_FOUND.value());
+            body.put("error", "Not Found");
+            body.put("message", ex.getMessage());
+
+            return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
+        }
+    }
+}
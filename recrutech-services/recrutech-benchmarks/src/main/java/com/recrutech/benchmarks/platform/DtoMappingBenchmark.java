@@ -0,0 +1,111 @@
+package com.recrutech.benchmarks.platform;
+
+import com.recrutech.common.util.UuidGenerator;
+import com.recrutech.recrutechplatform.dto.application.ApplicationResponse;
+import com.recrutech.recrutechplatform.dto.job.JobResponse;
+import com.recrutech.recrutechplatform.dto.job.JobSummaryResponse;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.model.Application;
+import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import com.recrutech.recrutechplatform.repository.JobRepository;
+import com.recrutech.recrutechplatform.service.ApplicationService;
+import com.recrutech.recrutechplatform.service.JobResponseCache;
+import com.recrutech.recrutechplatform.service.JobService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the entity to DTO mapping in {@link JobService} and {@link ApplicationService},
+ * for list endpoints of different sizes and single lookups. The repositories are in-memory
+ * stand-ins, so the results exclude database and transaction overhead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "1000"})
+    public int size;
+
+    private JobService jobService;
+    private ApplicationService applicationService;
+    private String jobId;
+    private String applicationId;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Job> jobs = new ArrayList<>(size);
+        List<Application> applications = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Job job = Job.builder()
+                    .id(UuidGenerator.generateTimeOrderedUuid())
+                    .title("Senior Java Developer " + i)
+                    .description("Build and operate the Recrutech backend services. ".repeat(10))
+                    .location("Berlin")
+                    .createdAt(now)
+                    .active(true)
+                    .build();
+            jobs.add(job);
+
+            Application application = new Application();
+            application.setId(UuidGenerator.generateTimeOrderedUuid());
+            application.setCreatedAt(now);
+            application.setCvFileId(UuidGenerator.generateTimeOrderedUuid());
+            application.setStatus(ApplicationStatus.RECEIVED);
+            application.setJob(job);
+            applications.add(application);
+        }
+        jobId = jobs.get(size / 2).getId();
+        applicationId = applications.get(size / 2).getId();
+
+        JobRepository jobRepository = InMemoryRepositories.of(JobRepository.class, jobs);
+        ApplicationRepository applicationRepository =
+                InMemoryRepositories.of(ApplicationRepository.class, applications);
+        // A zero TTL disables the job cache, so findJobById keeps measuring the mapping;
+        // the measured reads never write to the outbox, and every application is found before the archive
+        jobService = new JobService(jobRepository,
+                new JobResponseCache(Duration.ZERO, 0, new SimpleMeterRegistry()), null, null);
+        applicationService = new ApplicationService(applicationRepository, jobRepository, null, null, null);
+    }
+
+    @Benchmark
+    public List<JobSummaryResponse> findAllJobs() {
+        return jobService.findAllJobs();
+    }
+
+    @Benchmark
+    public JobResponse findJobById() {
+        return jobService.findJobById(jobId);
+    }
+
+    @Benchmark
+    public List<ApplicationResponse> getAllApplications() {
+        return applicationService.getAllApplications();
+    }
+
+    @Benchmark
+    public ApplicationResponse getApplicationById() {
+        return applicationService.getApplicationById(applicationId);
+    }
+}
@@ -0,0 +1,46 @@
+package com.recrutech.benchmarks.platform;
+
+import com.recrutech.common.entity.BaseEntity;
+
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-only in-memory stand-ins for Spring Data repositories, so that service methods can be
+ * benchmarked without a database. Only {@code findAll} and {@code findById} are supported.
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    /**
+     * Creates a repository proxy backed by the given entities.
+     *
+     * @param repositoryType the repository interface
+     * @param entities the entities returned by the repository
+     * @param <R> the repository type
+     * @return the repository
+     */
+    static <R> R of(Class<R> repositoryType, List<? extends BaseEntity> entities) {
+        List<? extends BaseEntity> all = List.copyOf(entities);
+        Map<Object, BaseEntity> byId = new LinkedHashMap<>();
+        for (BaseEntity entity : all) {
+            byId.put(entity.getId(), entity);
+        }
+
+        Object proxy = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (instance, method, args) -> switch (method.getName()) {
+                    case "findAll" -> all;
+                    case "findById" -> Optional.ofNullable(byId.get(args[0]));
+                    case "hashCode" -> System.identityHashCode(instance);
+                    case "equals" -> instance == args[0];
+                    case "toString" -> repositoryType.getSimpleName() + " (in memory)";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return repositoryType.cast(proxy);
+    }
+}
@@ -0,0 +1,118 @@
+package com.recrutech.benchmarks.platform;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recrutech.recrutechplatform.dto.job.JobImportResponse;
+import com.recrutech.recrutechplatform.dto.job.JobRequest;
+import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.model.OutboxEvent;
+import com.recrutech.recrutechplatform.outbox.OutboxWriter;
+import com.recrutech.recrutechplatform.repository.BatchWriter;
+import com.recrutech.recrutechplatform.service.JobImportService;
+import com.recrutech.recrutechplatform.service.JobSuggestionIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the rows per second of a 10,000-job import through {@link JobImportService}, unbatched
+ * ({@code batchSize=1}) and with the JDBC batch size the platform is configured with.
+ * Every imported job also writes its job created event to the outbox, in the same batches, and is added
+ * to the search suggestions. The job and outbox tables and the suggestions are emptied before every iteration.
+ * <p>
+ * By default an H2 in-memory database is used. To run against MySQL, pass
+ * {@code -Dbenchmark.jdbc.url=jdbc:mysql://localhost:3306/benchmark?rewriteBatchedStatements=true},
+ * {@code -Dbenchmark.jdbc.user} and {@code -Dbenchmark.jdbc.password}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobImportBenchmark {
+
+    static final int ROWS = 10_000;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private BatchWriter batchWriter;
+    private OutboxWriter outboxWriter;
+    private JobImportService jobImportService;
+    private List<JobRequest> jobRequests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Job.class)
+                .addAnnotatedClass(OutboxEvent.class)
+                .setProperty("hibernate.connection.url", System.getProperty("benchmark.jdbc.url",
+                        "jdbc:h2:mem:job-import-benchmark;DB_CLOSE_DELAY=-1;MODE=MySQL"))
+                .setProperty("hibernate.connection.username", System.getProperty("benchmark.jdbc.user", "sa"))
+                .setProperty("hibernate.connection.password", System.getProperty("benchmark.jdbc.password", ""))
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.jdbc.batch_size", Integer.toString(batchSize))
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("hibernate.order_updates", "true")
+                .buildSessionFactory();
+        entityManager = sessionFactory.createEntityManager();
+        batchWriter = new BatchWriter(entityManager, batchSize);
+        outboxWriter = new OutboxWriter(entityManager, batchWriter, new ObjectMapper());
+
+        jobRequests = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            jobRequests.add(new JobRequest("Software Engineer " + i, "Benchmark job description", "Berlin", true));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void clearJobs() {
+        entityManager.getTransaction().begin();
+        entityManager.createQuery("delete from OutboxEvent").executeUpdate();
+        entityManager.createQuery("delete from Job").executeUpdate();
+        entityManager.getTransaction().commit();
+        // Without a Spring transaction the suggestions are updated right away; the index is never started
+        JobSuggestionIndex jobSuggestionIndex = new JobSuggestionIndex(null, TransactionOperations.withoutTransaction(),
+                10, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        jobImportService = new JobImportService(batchWriter, outboxWriter, jobSuggestionIndex,
+                TransactionOperations.withoutTransaction(), ROWS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public JobImportResponse importJobs() {
+        entityManager.getTransaction().begin();
+        JobImportResponse response = jobImportService.importJobs(jobRequests);
+        entityManager.getTransaction().commit();
+        return response;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+}
@@ -0,0 +1,179 @@
+package com.recrutech.benchmarks.uuid;
+
+import com.recrutech.common.util.UuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares primary key insert throughput and resulting table/index size for random (v4)
+ * and time-ordered (v7) {@code char(36)} keys, using the same key layout as the {@code job} table.
+ * <p>
+ * By default an H2 file database in MySQL mode is used. To run against MySQL, pass
+ * {@code -Dbenchmark.jdbc.url=jdbc:mysql://localhost:3306/benchmark}, {@code -Dbenchmark.jdbc.user}
+ * and {@code -Dbenchmark.jdbc.password}. Table and index sizes are printed after each trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimaryKeyInsertBenchmark {
+
+    static final int BATCH_SIZE = 500;
+
+    /**
+     * The key generation strategy under test.
+     */
+    public enum KeyType {
+        RANDOM(UuidGenerator::generateUuid),
+        TIME_ORDERED(UuidGenerator::generateTimeOrderedUuid);
+
+        private final Supplier<String> generator;
+
+        KeyType(Supplier<String> generator) {
+            this.generator = generator;
+        }
+
+        String next() {
+            return generator.get();
+        }
+    }
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    public KeyType keyType;
+
+    /**
+     * Rows inserted before measuring, so that the index is larger than a handful of pages.
+     */
+    @Param({"100000"})
+    public int preloadRows;
+
+    private Path databaseDirectory;
+    private Connection connection;
+    private PreparedStatement insert;
+    private String table;
+    private long insertedRows;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        String url = System.getProperty("benchmark.jdbc.url");
+        if (url == null) {
+            databaseDirectory = Files.createTempDirectory("pk-insert-benchmark");
+            url = "jdbc:h2:file:" + databaseDirectory.resolve("benchmark") + ";MODE=MySQL";
+        }
+        connection = DriverManager.getConnection(url,
+                System.getProperty("benchmark.jdbc.user", "sa"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        connection.setAutoCommit(false);
+
+        table = "benchmark_job_" + keyType.name().toLowerCase();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " ("
+                    + "id CHAR(36) NOT NULL PRIMARY KEY, "
+                    + "title VARCHAR(255) NOT NULL, "
+                    + "description TEXT, "
+                    + "created_at TIMESTAMP NOT NULL)");
+        }
+        connection.commit();
+
+        insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, title, description, created_at) VALUES (?, ?, ?, ?)");
+        for (int i = 0; i < preloadRows; i += BATCH_SIZE) {
+            insertBatch();
+        }
+        insertedRows = preloadRows;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setString(1, keyType.next());
+            insert.setString(2, "Software Engineer");
+            insert.setString(3, "Benchmark job description");
+            insert.setTimestamp(4, now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+        insertedRows += BATCH_SIZE;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException, IOException {
+        try {
+            reportSize();
+        } finally {
+            insert.close();
+            connection.close();
+            if (databaseDirectory != null) {
+                try (var files = Files.walk(databaseDirectory)) {
+                    files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+                }
+            }
+        }
+    }
+
+    /**
+     * Prints the on-disk size of the table and its indexes.
+     */
+    private void reportSize() throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName();
+        if ("MySQL".equalsIgnoreCase(product)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE TABLE " + table);
+            }
+            try (PreparedStatement query = connection.prepareStatement(
+                    "SELECT data_length, index_length FROM information_schema.tables "
+                            + "WHERE table_schema = DATABASE() AND table_name = ?")) {
+                query.setString(1, table);
+                try (ResultSet resultSet = query.executeQuery()) {
+                    if (resultSet.next()) {
+                        System.out.printf("%n[%s] rows=%d clusteredIndexBytes=%d secondaryIndexBytes=%d bytesPerRow=%.1f%n",
+                                keyType, insertedRows, resultSet.getLong(1), resultSet.getLong(2),
+                                (double) (resultSet.getLong(1) + resultSet.getLong(2)) / insertedRows);
+                    }
+                }
+            }
+        } else {
+            try (PreparedStatement query = connection.prepareStatement("CALL DISK_SPACE_USED(?)")) {
+                query.setString(1, table.toUpperCase());
+                try (ResultSet resultSet = query.executeQuery()) {
+                    if (resultSet.next()) {
+                        System.out.printf("%n[%s] rows=%d diskSpaceUsedBytes=%d bytesPerRow=%.1f%n",
+                                keyType, insertedRows, resultSet.getLong(1),
+                                (double) resultSet.getLong(1) / insertedRows);
+                    }
+                }
+            }
+        }
+    }
+}
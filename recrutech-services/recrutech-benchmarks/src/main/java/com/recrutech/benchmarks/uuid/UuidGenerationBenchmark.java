@@ -0,0 +1,47 @@
+package com.recrutech.benchmarks.uuid;
+
+import com.recrutech.common.util.UuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of generating random (v4) and time-ordered (v7) UUID strings,
+ * single-threaded and under contention on the shared v7 counter.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidGenerationBenchmark {
+
+    @Benchmark
+    public String randomUuid() {
+        return UuidGenerator.generateUuid();
+    }
+
+    @Benchmark
+    public String timeOrderedUuid() {
+        return UuidGenerator.generateTimeOrderedUuid();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String randomUuidContended() {
+        return UuidGenerator.generateUuid();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String timeOrderedUuidContended() {
+        return UuidGenerator.generateTimeOrderedUuid();
+    }
+}
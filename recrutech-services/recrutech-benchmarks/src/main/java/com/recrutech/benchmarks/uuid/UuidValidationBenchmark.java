@@ -0,0 +1,94 @@
+package com.recrutech.benchmarks.uuid;
+
+import com.recrutech.common.exception.ValidationException;
+import com.recrutech.common.util.UuidParser;
+import com.recrutech.common.util.UuidValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the single-pass UUID validator and parser with the previous
+ * {@code UUID.fromString}/exception and regex based implementations, for valid and invalid input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UuidValidationBenchmark {
+
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    @Param({
+            "0190b5a2-7c3e-7d2a-9f41-5a2b9c7e1d30",
+            "0190b5a2-7c3e-7d2a-9f41-5a2b9c7e1d3z",
+            "admin' OR '1'='1' --xxxxxxxxxxxxxxxx"
+    })
+    public String input;
+
+    @Benchmark
+    public boolean singlePassValidation() {
+        return UuidValidator.isValidUuid(input);
+    }
+
+    @Benchmark
+    public void validateWithFieldName(Blackhole blackhole) {
+        try {
+            UuidValidator.validateUuid(input, "Job ID");
+        } catch (ValidationException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public boolean exceptionBasedValidation() {
+        if (input == null || input.length() != 36) {
+            return false;
+        }
+        try {
+            UUID.fromString(input);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean regexValidation() {
+        return UUID_PATTERN.matcher(input).matches();
+    }
+
+    @Benchmark
+    public void singlePassParse(Blackhole blackhole) {
+        if (UuidParser.isValid(input)) {
+            blackhole.consume(UuidParser.mostSignificantBits(input));
+            blackhole.consume(UuidParser.leastSignificantBits(input));
+        }
+    }
+
+    @Benchmark
+    public void exceptionBasedParse(Blackhole blackhole) {
+        try {
+            UUID uuid = UUID.fromString(input);
+            blackhole.consume(uuid.getMostSignificantBits());
+            blackhole.consume(uuid.getLeastSignificantBits());
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.recrutech.common.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * Auto-configuration for running requests on virtual threads, enabled with {@code spring.threads.virtual.enabled=true}.
+ * <p>
+ * Tomcat then runs every request on its own virtual thread, so the thread-local
+ * {@code SecurityContextHolder} strategy keeps working unchanged. Concurrency is no longer capped
+ * by {@code server.tomcat.threads.max}; the Hikari pool becomes the limit for database work, and
+ * requests wait at most {@code spring.datasource.hikari.connection-timeout} for a connection.
+ */
+@AutoConfiguration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadAutoConfiguration {
+
+    /**
+     * Creates the monitor reporting virtual threads that pin their carrier thread.
+     *
+     * @param meterRegistry the registry the pinning timer is registered in
+     * @param threshold the minimum pinning duration that is reported
+     * @return the pinning monitor
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${app.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+}
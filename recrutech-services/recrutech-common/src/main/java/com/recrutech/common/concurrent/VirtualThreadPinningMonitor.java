@@ -0,0 +1,123 @@
+package com.recrutech.common.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports virtual threads that pin their carrier thread, using the JDK Flight Recorder
+ * {@code jdk.VirtualThreadPinned} event. A virtual thread pins its carrier when it blocks inside
+ * a {@code synchronized} block or a native frame; while pinned, the carrier cannot run other
+ * virtual threads, so pinning on a hot path caps the concurrency virtual threads are meant to provide.
+ * <p>
+ * Every pinning longer than the threshold is recorded in the {@code recrutech.virtualthreads.pinned}
+ * timer. The first occurrence of each distinct stack trace is logged as a warning, so a pinning
+ * call site is reported once rather than on every request.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int MAX_FRAMES = 16;
+    private static final int MAX_REPORTED_SITES = 1_000;
+
+    private final Duration threshold;
+    private final Timer pinnedTimer;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private volatile RecordingStream stream;
+
+    /**
+     * Constructor for VirtualThreadPinningMonitor.
+     *
+     * @param meterRegistry the registry the pinning timer is registered in
+     * @param threshold the minimum pinning duration that is reported
+     */
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.threshold = threshold;
+        this.pinnedTimer = Timer.builder("recrutech.virtualthreads.pinned")
+                .description("Time virtual threads kept their carrier thread pinned")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        try {
+            RecordingStream recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+            recordingStream.startAsync();
+            stream = recordingStream;
+            log.info("Reporting virtual threads pinned for more than {} ms", threshold.toMillis());
+        } catch (IllegalStateException | SecurityException e) {
+            // Flight Recorder is unavailable or disabled; requests still run on virtual threads
+            log.warn("Virtual thread pinning cannot be monitored: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recordingStream = stream;
+        stream = null;
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        record(event.getDuration(), format(event.getStackTrace()));
+    }
+
+    /**
+     * Records a pinning and logs its stack trace if the call site has not been reported yet.
+     *
+     * @param duration how long the carrier thread was pinned
+     * @param stackTrace the formatted stack trace of the pinned virtual thread
+     * @return true if the call site was reported for the first time, false otherwise
+     */
+    boolean record(Duration duration, String stackTrace) {
+        pinnedTimer.record(duration);
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(stackTrace)) {
+            log.warn("Virtual thread pinned its carrier thread for {} ms at:{}", duration.toMillis(), stackTrace);
+            return true;
+        }
+        log.debug("Virtual thread pinned its carrier thread for {} ms", duration.toMillis());
+        return false;
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return " <no stack trace>";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < Math.min(frames.size(), MAX_FRAMES); i++) {
+            RecordedFrame frame = frames.get(i);
+            builder.append("\n\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber());
+        }
+        if (frames.size() > MAX_FRAMES || stackTrace.isTruncated()) {
+            builder.append("\n\t...");
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package com.recrutech.common.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers which sessions wrote recently, so their reads can be kept on the primary until the
+ * replica has caught up with the write.
+ * <p>
+ * A session is sticky for the window after its last committed write. The tracker is local to the
+ * instance; a session whose next request is routed to another instance is not sticky there.
+ */
+public class ReadYourWritesTracker {
+
+    static final int PURGE_THRESHOLD = 10_000;
+
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Constructor for ReadYourWritesTracker.
+     *
+     * @param window how long a session reads from the primary after a write
+     */
+    public ReadYourWritesTracker(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    /**
+     * Constructor for ReadYourWritesTracker with a given clock.
+     *
+     * @param window how long a session reads from the primary after a write
+     * @param nanoClock the monotonic clock the window is measured with, in nanoseconds
+     */
+    ReadYourWritesTracker(Duration window, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Records a committed write of a session.
+     *
+     * @param session the session key
+     */
+    public void recordWrite(String session) {
+        long now = nanoClock.getAsLong();
+        if (stickyUntil.size() >= PURGE_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until - now <= 0);
+        }
+        stickyUntil.put(session, now + windowNanos);
+    }
+
+    /**
+     * Checks whether a session wrote within the window.
+     *
+     * @param session the session key
+     * @return true if the session's reads must go to the primary
+     */
+    public boolean isSticky(String session) {
+        Long until = stickyUntil.get(session);
+        if (until == null) {
+            return false;
+        }
+        if (until - nanoClock.getAsLong() > 0) {
+            return true;
+        }
+        stickyUntil.remove(session, until);
+        return false;
+    }
+
+    /**
+     * Gets the number of tracked sessions, including expired ones not yet removed.
+     *
+     * @return the number of sessions
+     */
+    int size() {
+        return stickyUntil.size();
+    }
+}
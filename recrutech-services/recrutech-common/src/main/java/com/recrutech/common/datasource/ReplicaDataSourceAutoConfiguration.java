@@ -0,0 +1,145 @@
+package com.recrutech.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Auto-configuration for reading from a replica, enabled by setting {@code app.datasource.replica.url}.
+ * <p>
+ * Read-only transactions go to the replica pool, everything else to the primary pool configured with
+ * {@code spring.datasource.*}; see {@link ReplicaRoutingDataSource}. The replica pool is sized separately
+ * with {@code app.datasource.replica.hikari.*}, so read capacity scales independently of the primary.
+ * Entities read from the replica are not put into the second-level cache; see {@link ReplicaReadCacheGuard}.
+ * It runs before {@link DataSourceAutoConfiguration}, which then backs off.
+ */
+@AutoConfiguration(before = DataSourceAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReplicaDataSourceAutoConfiguration {
+
+    /**
+     * Creates the primary pool from the standard {@code spring.datasource.*} properties.
+     *
+     * @param properties the data source properties
+     * @return the primary pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Creates the replica pool. Credentials default to those of the primary.
+     *
+     * @param properties the data source properties, for the driver
+     * @param url the JDBC URL of the replica
+     * @param username the replica user
+     * @param password the replica password
+     * @return the replica pool
+     */
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${app.datasource.replica.url}") String url,
+            @Value("${app.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${app.datasource.replica.password:${spring.datasource.password}}") String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    /**
+     * Creates the monitor deciding whether the replica is caught up enough to be read from.
+     *
+     * @param replica the replica pool
+     * @param lagQuery the query reporting the replication status
+     * @param lagColumn the column of the query holding the lag in seconds
+     * @param maxLag the maximum lag at which the replica is still used
+     * @param interval the time between two lag checks
+     * @param meterRegistry the registry the lag gauges are registered in
+     * @return the lag monitor
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${app.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${app.datasource.replica.lag-column:Seconds_Behind_Source}") String lagColumn,
+            @Value("${app.datasource.replica.max-lag:2s}") Duration maxLag,
+            @Value("${app.datasource.replica.lag-check-interval:1s}") Duration interval,
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replica, lagQuery, lagColumn, maxLag, interval, meterRegistry);
+    }
+
+    /**
+     * Creates the guard keeping entities read from the replica out of the second-level cache.
+     *
+     * @param entityManagerFactory the factory whose sessions are guarded
+     * @return the cache guard
+     */
+    @Bean
+    public ReplicaReadCacheGuard replicaReadCacheGuard(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return new ReplicaReadCacheGuard(entityManagerFactory);
+    }
+
+    /**
+     * Creates the data source used by JPA and Liquibase, routing each transaction to the primary or the replica.
+     *
+     * @param primary the primary pool
+     * @param replica the replica pool
+     * @param lagMonitor decides whether the replica is caught up
+     * @param cacheGuard the guard called for every transaction routed to the replica
+     * @param readYourWritesWindow how long a user reads from the primary after a write
+     * @param meterRegistry the registry the routing counters are registered in
+     * @return the routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagMonitor lagMonitor,
+            ReplicaReadCacheGuard cacheGuard,
+            @Value("${app.datasource.replica.read-your-writes-window:5s}") Duration readYourWritesWindow,
+            MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, lagMonitor,
+                new ReadYourWritesTracker(readYourWritesWindow), cacheGuard, meterRegistry));
+    }
+
+    /**
+     * Returns the connection after every transaction instead of holding it for the whole entity manager,
+     * so each transaction of a request is routed on its own.
+     *
+     * @return the customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,150 @@
+package com.recrutech.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically measures the replication lag of the read replica and decides whether reads may use it.
+ * <p>
+ * The replica is usable while its lag is at most the maximum. It is not usable until the first check
+ * succeeded, while the lag query fails, and while it reports no lag, which means replication is stopped
+ * or the server is not a replica. The lag is exported as the {@code recrutech.datasource.replica.lag}
+ * gauge in seconds, and whether the replica is used as {@code recrutech.datasource.replica.usable}.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+    private final Duration interval;
+    private volatile boolean usable;
+    private volatile double lagSeconds = Double.NaN;
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor for ReplicaLagMonitor.
+     *
+     * @param replica the replica data source
+     * @param lagQuery the query reporting the replication status, e.g. {@code SHOW REPLICA STATUS}
+     * @param lagColumn the column of the query holding the lag in seconds
+     * @param maxLag the maximum lag at which the replica is still used
+     * @param interval the time between two checks
+     * @param meterRegistry the registry the lag gauges are registered in
+     */
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, String lagColumn, Duration maxLag,
+                             Duration interval, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.interval = interval;
+        Gauge.builder("recrutech.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag of the read replica, NaN if unknown")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("recrutech.datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .description("Whether read-only transactions are routed to the read replica")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks whether the replica was caught up at the last check.
+     *
+     * @return true if reads may use the replica
+     */
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::check, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        usable = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Measures the lag once and updates whether the replica is usable.
+     */
+    void check() {
+        Long lag;
+        try {
+            lag = queryLag();
+        } catch (SQLException | RuntimeException e) {
+            if (usable) {
+                log.warn("Replica lag check failed, reading from the primary: {}", e.getMessage());
+            }
+            update(false, Double.NaN);
+            return;
+        }
+
+        if (lag == null) {
+            if (usable) {
+                log.warn("Replica reports no replication lag, reading from the primary");
+            }
+            update(false, Double.NaN);
+        } else if (lag > maxLagSeconds) {
+            if (usable) {
+                log.warn("Replica lags {} s behind the primary, reading from the primary", lag);
+            }
+            update(false, lag);
+        } else {
+            if (!usable) {
+                log.info("Replica lags {} s behind the primary, reading from the replica", lag);
+            }
+            update(true, lag);
+        }
+    }
+
+    private Long queryLag() throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, interval.toSeconds()));
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                long lag = resultSet.getLong(lagColumn);
+                return resultSet.wasNull() ? null : lag;
+            }
+        }
+    }
+
+    private void update(boolean usable, double lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        this.usable = usable;
+    }
+}
@@ -0,0 +1,63 @@
+package com.recrutech.common.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps entities read from the replica out of the Hibernate second-level cache.
+ * <p>
+ * The replica may lag behind the primary, and a stale entity put into the cache would be served to
+ * every later transaction, including read-write ones on the primary, until it expires. When a transaction
+ * is routed to the replica, its session is switched to {@link CacheMode#GET}: it still reads the cache,
+ * but no longer puts into it. The previous cache mode is restored when the transaction completes, since
+ * with open-in-view the session outlives the transaction.
+ */
+public class ReplicaReadCacheGuard implements Runnable {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    /**
+     * Constructor for ReplicaReadCacheGuard.
+     *
+     * @param entityManagerFactory the factory whose transactional sessions are guarded, looked up lazily
+     *                             since it is created from the routing data source
+     */
+    public ReplicaReadCacheGuard(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Stops the session of the current transaction from putting into the second-level cache until the
+     * transaction completes. Does nothing outside a JPA transaction.
+     */
+    @Override
+    public void run() {
+        EntityManagerFactory factory = entityManagerFactory.getIfUnique();
+        if (factory == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        // Only the entity manager bound by the transaction manager; looking it up must not create one
+        if (!(TransactionSynchronizationManager.getResource(factory) instanceof EntityManagerHolder holder)) {
+            return;
+        }
+        Session session = holder.getEntityManager().unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        if (previous == CacheMode.GET || previous == CacheMode.IGNORE) {
+            return;
+        }
+        session.setCacheMode(CacheMode.GET);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (session.isOpen()) {
+                    session.setCacheMode(previous);
+                }
+            }
+        });
+    }
+}
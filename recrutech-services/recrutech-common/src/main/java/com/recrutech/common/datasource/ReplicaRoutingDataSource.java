@@ -0,0 +1,147 @@
+package com.recrutech.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Routes read-only transactions to the read replica and everything else to the primary.
+ * <p>
+ * A read-only transaction stays on the primary while the replica lags too far behind, and while the
+ * session (by default the authenticated user) is within the read-your-writes window of its last write.
+ * The route is decided when the connection is obtained, so this data source must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction manager then
+ * marks the transaction read-only before the first statement fetches the actual connection.
+ * Each transaction routed to the replica is reported to a hook, e.g. a {@link ReplicaReadCacheGuard}.
+ * <p>
+ * Routing decisions of read-only transactions are counted in {@code recrutech.datasource.reads},
+ * tagged with the {@code target} and the {@code reason} for it.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Supplier<String> sessionKey;
+    private final Runnable onReplicaRead;
+    private final Counter replicaReads;
+    private final Counter stickyReads;
+    private final Counter laggingReads;
+
+    /**
+     * Constructor for ReplicaRoutingDataSource, using the authenticated user as session.
+     *
+     * @param primary the primary data source
+     * @param replica the replica data source
+     * @param lagMonitor decides whether the replica is caught up
+     * @param readYourWrites remembers the sessions that wrote recently
+     * @param onReplicaRead called on the transaction's thread whenever it is routed to the replica
+     * @param meterRegistry the registry the routing counters are registered in
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    ReadYourWritesTracker readYourWrites, Runnable onReplicaRead,
+                                    MeterRegistry meterRegistry) {
+        this(primary, replica, lagMonitor, readYourWrites, ReplicaRoutingDataSource::authenticatedUser,
+                onReplicaRead, meterRegistry);
+    }
+
+    /**
+     * Constructor for ReplicaRoutingDataSource with a given session.
+     *
+     * @param primary the primary data source
+     * @param replica the replica data source
+     * @param lagMonitor decides whether the replica is caught up
+     * @param readYourWrites remembers the sessions that wrote recently
+     * @param sessionKey supplies the session of the current thread, or null if there is none
+     * @param onReplicaRead called on the transaction's thread whenever it is routed to the replica
+     * @param meterRegistry the registry the routing counters are registered in
+     */
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                             ReadYourWritesTracker readYourWrites, Supplier<String> sessionKey,
+                             Runnable onReplicaRead, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        this.sessionKey = sessionKey;
+        this.onReplicaRead = onReplicaRead;
+        this.replicaReads = readCounter(meterRegistry, Route.REPLICA, "replica");
+        this.stickyReads = readCounter(meterRegistry, Route.PRIMARY, "read-your-writes");
+        this.laggingReads = readCounter(meterRegistry, Route.PRIMARY, "replica-unavailable");
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return Route.PRIMARY;
+        }
+        String session = sessionKey.get();
+        if (session != null && readYourWrites.isSticky(session)) {
+            stickyReads.increment();
+            return Route.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            laggingReads.increment();
+            return Route.PRIMARY;
+        }
+        replicaReads.increment();
+        onReplicaRead.run();
+        return Route.REPLICA;
+    }
+
+    /**
+     * Makes the session sticky once the current read-write transaction commits.
+     */
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String session = sessionKey.get();
+        if (session != null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWrites.recordWrite(session);
+                }
+            });
+        }
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, Route target, String reason) {
+        return Counter.builder("recrutech.datasource.reads")
+                .description("Read-only transactions by the data source they were routed to")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gets the name of the authenticated user of the current thread.
+     *
+     * @return the user name, or null for anonymous requests
+     */
+    static String authenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Type;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -13,7 +14,7 @@ import java.util.Objects;
 /**
  * Base entity class that provides common fields and functionality for all entities.
  * This class includes:
- * - ID field with UUID generation
+ * - ID field with UUID generation, stored as BINARY(16)
  * - Creation timestamp
  * - Methods for entity lifecycle management
  * - Equals and hashCode implementations based on ID
@@ -24,7 +25,8 @@ import java.util.Objects;
 public abstract class BaseEntity {
 
     @Id
-    @Column(name = "ID", columnDefinition = "char", nullable = false, length = 36)
+    @Type(UuidBinaryType.class)
+    @Column(name = "ID", columnDefinition = "binary(16)", nullable = false)
     protected String id;
 
     @Column(nullable = false)
@@ -0,0 +1,136 @@
+package com.recrutech.common.entity;
+
+import com.recrutech.common.exception.ValidationException;
+import com.recrutech.common.util.UuidParser;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Hibernate type that stores UUID strings as 16-byte binary values.
+ * Entities and the REST API keep working with the canonical 36-character string form,
+ * while primary keys, foreign keys and their indexes store 16 bytes per key instead of 36.
+ * <p>
+ * A custom type is used instead of a JPA attribute converter because converters are not
+ * applied to {@code @Id} attributes.
+ */
+public class UuidBinaryType implements UserType<String> {
+
+    static final int UUID_BYTES = 16;
+
+    @Override
+    public int getSqlType() {
+        return Types.BINARY;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(String x, String y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(String x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public String nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner)
+            throws SQLException {
+        return fromBytes(rs.getBytes(position));
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, String value, int index, SharedSessionContractImplementor session)
+            throws SQLException {
+        if (value == null) {
+            st.setNull(index, Types.BINARY);
+        } else {
+            st.setBytes(index, toBytes(value));
+        }
+    }
+
+    @Override
+    public String deepCopy(String value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(String value) {
+        return value;
+    }
+
+    @Override
+    public String assemble(Serializable cached, Object owner) {
+        return (String) cached;
+    }
+
+    @Override
+    public long getDefaultSqlLength(Dialect dialect, JdbcType jdbcType) {
+        return UUID_BYTES;
+    }
+
+    /**
+     * Converts a UUID string to its 16-byte big-endian representation.
+     *
+     * @param uuid the UUID string
+     * @return the binary representation, or null if the UUID is null
+     * @throws ValidationException if the string is not a valid UUID
+     */
+    public static byte[] toBytes(String uuid) {
+        if (uuid == null) {
+            return null;
+        }
+
+        if (!UuidParser.isValid(uuid)) {
+            throw ValidationException.stackless("Invalid UUID: " + uuid);
+        }
+
+        byte[] bytes = new byte[UUID_BYTES];
+        UuidParser.writeBytes(uuid, bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * Converts a 16-byte binary value back to the canonical UUID string.
+     *
+     * @param bytes the binary representation
+     * @return the UUID string, or null if the value is null
+     * @throws IllegalStateException if the value does not have 16 bytes
+     */
+    public static String fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length != UUID_BYTES) {
+            throw new IllegalStateException("Expected " + UUID_BYTES + " bytes for a UUID but got " + bytes.length);
+        }
+        return new UUID(readLong(bytes, 0), readLong(bytes, 8)).toString();
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -1,59 +1,86 @@
 package com.recrutech.common.exception;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.security.access.AccessDeniedException;
 
-import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.io.IOException;
 
+/**
+ * Maps exceptions to RFC 7807 problem details responses.
+ * Bodies are streamed by {@link ProblemDetailsWriter} instead of being built as maps.
+ */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(AccessDeniedException.class)
-    public ResponseEntity<Object> handleSpringSecurityAccessDeniedException(AccessDeniedException ex) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.FORBIDDEN.value());
-        body.put("error", "Access Denied");
-        body.put("message", "Access denied: Insufficient permissions to perform this operation");
+    private final ProblemDetailsWriter problemDetailsWriter;
+
+    public GlobalExceptionHandler() {
+        this(new ProblemDetailsWriter());
+    }
+
+    public GlobalExceptionHandler(ProblemDetailsWriter problemDetailsWriter) {
+        this.problemDetailsWriter = problemDetailsWriter;
+    }
 
-        return new ResponseEntity<>(body, HttpStatus.FORBIDDEN);
+    @ExceptionHandler(AccessDeniedException.class)
+    public void handleSpringSecurityAccessDeniedException(AccessDeniedException ex, HttpServletRequest request,
+                                                          HttpServletResponse response) throws IOException {
+        problemDetailsWriter.write(request, response, HttpStatus.FORBIDDEN, "Access Denied",
+                "Access denied: Insufficient permissions to perform this operation");
     }
 
     @ExceptionHandler(NotFoundException.class)
-    public ResponseEntity<Object> handleNotFoundException(NotFoundException ex) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.NOT_FOUND.value());
-        body.put("error", "Not Found");
-        body.put("message", ex.getMessage());
+    public void handleNotFoundException(NotFoundException ex, HttpServletRequest request,
+                                        HttpServletResponse response) throws IOException {
+        problemDetailsWriter.write(request, response, HttpStatus.NOT_FOUND, "Not Found", ex.getMessage());
+    }
 
-        return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
+    @ExceptionHandler(ConflictException.class)
+    public void handleConflictException(ConflictException ex, HttpServletRequest request,
+                                        HttpServletResponse response) throws IOException {
+        problemDetailsWriter.write(request, response, HttpStatus.CONFLICT, "Conflict", ex.getMessage());
     }
 
-    @ExceptionHandler(ValidationException.class)
-    public ResponseEntity<Object> handleValidationException(ValidationException ex) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.BAD_REQUEST.value());
-        body.put("error", "Validation Error");
-        body.put("message", ex.getMessage());
+    @ExceptionHandler(PreconditionFailedException.class)
+    public void handlePreconditionFailedException(PreconditionFailedException ex, HttpServletRequest request,
+                                                  HttpServletResponse response) throws IOException {
+        problemDetailsWriter.write(request, response, HttpStatus.PRECONDITION_FAILED, "Precondition Failed",
+                ex.getMessage());
+    }
 
-        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    /**
+     * Handles a version check that passed but lost the race against a concurrent write at commit.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public void handleOptimisticLockingFailureException(OptimisticLockingFailureException ex,
+                                                        HttpServletRequest request,
+                                                        HttpServletResponse response) throws IOException {
+        problemDetailsWriter.write(request, response, HttpStatus.PRECONDITION_FAILED, "Precondition Failed",
+                "The resource was modified concurrently; fetch it again and retry");
     }
 
-    @ExceptionHandler(Exception.class)
-    public ResponseEntity<Object> handleGenericException(Exception ex) {
-        Map<String, Object> body = new LinkedHashMap<>();
-        body.put("timestamp", LocalDateTime.now());
-        body.put("status", HttpStatus.INTERNAL_SERVER_ERROR.value());
-        body.put("error", "Internal Server Error");
-        body.put("message", "An unexpected error occurred");
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public void handlePreconditionRequiredException(PreconditionRequiredException ex, HttpServletRequest request,
+                                                    HttpServletResponse response) throws IOException {
+        problemDetailsWriter.write(request, response, HttpStatus.PRECONDITION_REQUIRED, "Precondition Required",
+                ex.getMessage());
+    }
 
-        return new ResponseEntity<>(body, HttpStatus.INTERNAL_SERVER_ERROR);
+    @ExceptionHandler(ValidationException.class)
+    public void handleValidationException(ValidationException ex, HttpServletRequest request,
+                                          HttpServletResponse response) throws IOException {
+        problemDetailsWriter.write(request, response, HttpStatus.BAD_REQUEST, "Validation Error", ex.getMessage());
+    }
+
+    @ExceptionHandler(Exception.class)
+    public void handleGenericException(Exception ex, HttpServletRequest request,
+                                       HttpServletResponse response) throws IOException {
+        problemDetailsWriter.write(request, response, HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                "An unexpected error occurred");
     }
-}
\ No newline at end of file
+}
@@ -30,4 +30,31 @@ public class NotFoundException extends RuntimeException {
     public NotFoundException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Constructs a new not found exception with the specified detail message, cause,
+     * suppression and stack trace settings.
+     *
+     * @param message the detail message
+     * @param cause the cause of the exception
+     * @param enableSuppression whether suppression is enabled
+     * @param writableStackTrace whether the stack trace should be writable
+     */
+    protected NotFoundException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+
+    /**
+     * Creates a not found exception without a stack trace.
+     * Capturing the stack trace is the most expensive part of throwing an exception, and it carries
+     * no information for errors caused by client input. Because a stackless instance has no cause,
+     * no suppressed exceptions and no stack trace, it is immutable and can be preallocated for
+     * constant messages.
+     *
+     * @param message the detail message
+     * @return the exception
+     */
+    public static NotFoundException stackless(String message) {
+        return new NotFoundException(message, null, false, false);
+    }
 }
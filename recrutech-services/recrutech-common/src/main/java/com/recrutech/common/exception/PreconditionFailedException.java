@@ -0,0 +1,60 @@
+package com.recrutech.common.exception;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when a conditional request does not match the current state of a resource.
+ * This exception is used to indicate that the resource was modified since the client
+ * read it, e.g. when the {@code If-Match} header names an outdated version.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new precondition failed exception with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new precondition failed exception with the specified detail message and cause.
+     *
+     * @param message the detail message
+     * @param cause the cause of the exception
+     */
+    public PreconditionFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Constructs a new precondition failed exception with the specified detail message, cause,
+     * suppression and stack trace settings.
+     *
+     * @param message the detail message
+     * @param cause the cause of the exception
+     * @param enableSuppression whether suppression is enabled
+     * @param writableStackTrace whether the stack trace should be writable
+     */
+    protected PreconditionFailedException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+
+    /**
+     * Creates a precondition failed exception without a stack trace.
+     * Capturing the stack trace is the most expensive part of throwing an exception, and it carries
+     * no information for errors caused by client input. Because a stackless instance has no cause,
+     * no suppressed exceptions and no stack trace, it is immutable and can be preallocated for
+     * constant messages.
+     *
+     * @param message the detail message
+     * @return the exception
+     */
+    public static PreconditionFailedException stackless(String message) {
+        return new PreconditionFailedException(message, null, false, false);
+    }
+}
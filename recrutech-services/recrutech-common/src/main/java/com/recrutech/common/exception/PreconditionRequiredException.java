@@ -0,0 +1,60 @@
+package com.recrutech.common.exception;
+
+import java.io.Serial;
+
+/**
+ * Exception thrown when a request must be conditional but is not.
+ * This exception is used to indicate that a modifying request lacks the
+ * {@code If-Match} header required to detect concurrent modifications.
+ */
+public class PreconditionRequiredException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new precondition required exception with the specified detail message.
+     *
+     * @param message the detail message
+     */
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new precondition required exception with the specified detail message and cause.
+     *
+     * @param message the detail message
+     * @param cause the cause of the exception
+     */
+    public PreconditionRequiredException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Constructs a new precondition required exception with the specified detail message, cause,
+     * suppression and stack trace settings.
+     *
+     * @param message the detail message
+     * @param cause the cause of the exception
+     * @param enableSuppression whether suppression is enabled
+     * @param writableStackTrace whether the stack trace should be writable
+     */
+    protected PreconditionRequiredException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+
+    /**
+     * Creates a precondition required exception without a stack trace.
+     * Capturing the stack trace is the most expensive part of throwing an exception, and it carries
+     * no information for errors caused by client input. Because a stackless instance has no cause,
+     * no suppressed exceptions and no stack trace, it is immutable and can be preallocated for
+     * constant messages.
+     *
+     * @param message the detail message
+     * @return the exception
+     */
+    public static PreconditionRequiredException stackless(String message) {
+        return new PreconditionRequiredException(message, null, false, false);
+    }
+}
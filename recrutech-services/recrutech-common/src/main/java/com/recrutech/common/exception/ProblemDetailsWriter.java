@@ -0,0 +1,103 @@
+package com.recrutech.common.exception;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Writes RFC 7807 problem details directly to the response with a streaming JSON generator.
+ * No intermediate map or object mapper is involved, and the timestamp is formatted at most
+ * once per second, so error responses stay cheap even when clients probe for missing resources.
+ * <p>
+ * Besides the standard {@code type}, {@code title}, {@code status}, {@code detail} and
+ * {@code instance} members, the {@code timestamp}, {@code error} and {@code message} members
+ * of the previous error format are kept for existing clients.
+ */
+public class ProblemDetailsWriter {
+
+    private static final String ABOUT_BLANK = "about:blank";
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final JsonFactory jsonFactory = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+    private final Clock clock;
+    private volatile CachedTimestamp cachedTimestamp;
+
+    /**
+     * Constructor for ProblemDetailsWriter using the system clock.
+     */
+    public ProblemDetailsWriter() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructor for ProblemDetailsWriter.
+     *
+     * @param clock the clock used for the timestamp member
+     */
+    public ProblemDetailsWriter(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Writes a problem details response.
+     *
+     * @param request the request that failed
+     * @param response the response to write to
+     * @param status the HTTP status
+     * @param title a short summary of the problem type
+     * @param detail an explanation specific to this occurrence of the problem
+     * @throws IOException if the response cannot be written
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response,
+                      HttpStatus status, String title, String detail) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(response.getOutputStream(), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeStringField("type", ABOUT_BLANK);
+            generator.writeStringField("title", title);
+            generator.writeNumberField("status", status.value());
+            generator.writeStringField("detail", detail);
+            generator.writeStringField("instance", request.getRequestURI());
+            generator.writeStringField("timestamp", timestamp());
+            generator.writeStringField("error", title);
+            generator.writeStringField("message", detail);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Gets the current timestamp in ISO-8601 local date-time format, truncated to seconds.
+     *
+     * @return the formatted timestamp
+     */
+    String timestamp() {
+        long epochSecond = clock.millis() / 1000;
+        CachedTimestamp cached = cachedTimestamp;
+        if (cached == null || cached.epochSecond() != epochSecond) {
+            cached = new CachedTimestamp(epochSecond,
+                    TIMESTAMP_FORMAT.format(LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS)));
+            cachedTimestamp = cached;
+        }
+        return cached.formatted();
+    }
+
+    private record CachedTimestamp(long epochSecond, String formatted) {
+    }
+}
@@ -30,4 +30,28 @@ public class ValidationException extends RuntimeException {
     public ValidationException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Constructs a new validation exception with the specified detail message, cause,
+     * suppression and stack trace settings.
+     *
+     * @param message the detail message
+     * @param cause the cause of the exception
+     * @param enableSuppression whether suppression is enabled
+     * @param writableStackTrace whether the stack trace should be writable
+     */
+    protected ValidationException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+
+    /**
+     * Creates a validation exception without a stack trace, for rejecting invalid input cheaply.
+     * See {@link NotFoundException#stackless(String)}; constant-message instances may be shared.
+     *
+     * @param message the detail message
+     * @return the exception
+     */
+    public static ValidationException stackless(String message) {
+        return new ValidationException(message, null, false, false);
+    }
 }
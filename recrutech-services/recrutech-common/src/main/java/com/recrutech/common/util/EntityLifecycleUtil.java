@@ -17,12 +17,13 @@ public final class EntityLifecycleUtil {
     }
 
     /**
-     * Generates a new UUID.
+     * Generates a new time-ordered UUID.
+     * Time-ordered IDs keep primary key inserts sequential in the clustered index.
      *
      * @return a new UUID as a string
      */
     public static String generateId() {
-        return UuidGenerator.generateUuid();
+        return UuidGenerator.generateTimeOrderedUuid();
     }
 
     /**
@@ -25,7 +25,7 @@ public final class EntityValidator {
      */
     public static void requireNonNull(Object entity, String entityName) {
         if (entity == null) {
-            throw new ValidationException(entityName + " cannot be null");
+            throw ValidationException.stackless(entityName + " cannot be null");
         }
     }
 
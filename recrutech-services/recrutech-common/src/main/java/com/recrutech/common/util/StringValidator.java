@@ -25,7 +25,7 @@ public final class StringValidator {
      */
     public static void requireNonEmpty(String value, String fieldName) {
         if (value == null || value.trim().isEmpty()) {
-            throw new ValidationException(fieldName + " cannot be empty");
+            throw ValidationException.stackless(fieldName + " cannot be empty");
         }
     }
 
@@ -39,7 +39,7 @@ public final class StringValidator {
      */
     public static void validateMaxLength(String value, int maxLength, String fieldName) {
         if (value != null && value.length() > maxLength) {
-            throw new ValidationException(fieldName + " cannot exceed " + maxLength + " characters");
+            throw ValidationException.stackless(fieldName + " cannot exceed " + maxLength + " characters");
         }
     }
 
@@ -1,14 +1,30 @@
 package com.recrutech.common.util;
 
+import java.security.SecureRandom;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class for generating and validating UUIDs.
- * This class provides methods for generating random UUIDs and validating
- * whether a string represents a valid UUID.
+ * This class provides methods for generating random (version 4) and time-ordered
+ * (version 7) UUIDs and validating whether a string represents a valid UUID.
  */
 public final class UuidGenerator {
 
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_IETF = 0x8000000000000000L;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Last issued (unix millis << 12 | counter). Advanced with CAS so generation is lock-free
+     * and strictly monotonic within the JVM, even when the wall clock stalls or steps back.
+     */
+    private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
     /**
      * Private constructor to prevent instantiation of this utility class.
      */
@@ -25,29 +41,61 @@ public final class UuidGenerator {
         return UUID.randomUUID().toString();
     }
 
+    /**
+     * Generates a new time-ordered version 7 UUID as a string (RFC 9562).
+     * The first 48 bits hold the Unix timestamp in milliseconds followed by a 12-bit counter
+     * that orders UUIDs created within the same millisecond, so consecutive IDs sort after
+     * each other and are appended to the right edge of a B-tree index instead of being
+     * scattered across it. If the counter overflows, the timestamp is advanced by one
+     * millisecond rather than blocking. The remaining 62 bits are random.
+     *
+     * @return a new time-ordered UUID as a string
+     */
+    public static String generateTimeOrderedUuid() {
+        return nextTimeOrderedUuid().toString();
+    }
+
+    /**
+     * Generates a new time-ordered version 7 UUID.
+     *
+     * @return a new time-ordered UUID
+     * @see #generateTimeOrderedUuid()
+     */
+    public static UUID nextTimeOrderedUuid() {
+        long timestampAndCounter = nextTimestampAndCounter(System.currentTimeMillis());
+        long mostSigBits = ((timestampAndCounter >>> COUNTER_BITS) << 16)
+                | VERSION_7
+                | (timestampAndCounter & COUNTER_MASK);
+        long leastSigBits = (RANDOM.nextLong() & VARIANT_MASK) | VARIANT_IETF;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Reserves the next (timestamp, counter) pair.
+     *
+     * @param now the current time in milliseconds
+     * @return the reserved timestamp shifted left by 12 bits, combined with the counter
+     */
+    private static long nextTimestampAndCounter(long now) {
+        long candidate = now << COUNTER_BITS;
+        while (true) {
+            long last = LAST_TIMESTAMP_AND_COUNTER.get();
+            long next = candidate > last ? candidate : last + 1;
+            if (LAST_TIMESTAMP_AND_COUNTER.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
     /**
      * Validates if a string is a valid UUID.
-     * A valid UUID must be 36 characters long (32 hexadecimal digits plus 4 hyphens)
-     * and must be parseable by UUID.fromString.
+     * A valid UUID must be 36 characters long (32 hexadecimal digits plus 4 hyphens).
+     * Validation is done in a single pass without allocating or throwing exceptions.
      *
      * @param uuid the string to validate
      * @return true if the string is a valid UUID, false otherwise
      */
     public static boolean isValidUuid(String uuid) {
-        if (uuid == null) {
-            return false;
-        }
-
-        // Check if the UUID has the correct length (36 characters)
-        if (uuid.length() != 36) {
-            return false;
-        }
-
-        try {
-            UUID.fromString(uuid);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        return UuidParser.isValid(uuid);
     }
 }
@@ -0,0 +1,180 @@
+package com.recrutech.common.util;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Utility class for validating and parsing canonical UUID strings without allocations or exceptions.
+ * The canonical form is 8-4-4-4-12 hexadecimal digits separated by hyphens, in either case.
+ * <p>
+ * Validation is a single pass over the 36 characters using a lookup table, so rejecting a
+ * malformed ID costs the same as accepting a valid one. This matters for ID lookups, where
+ * invalid IDs would otherwise be rejected via {@code UUID.fromString} and a caught exception.
+ */
+public final class UuidParser {
+
+    /**
+     * Length of the canonical UUID string form.
+     */
+    public static final int UUID_LENGTH = 36;
+
+    private static final int VERSION_INDEX = 14;
+    private static final int VARIANT_INDEX = 19;
+
+    /**
+     * Maps ASCII characters to their hexadecimal value, or -1 if the character is not a hex digit.
+     */
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private UuidParser() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Checks if a string is a UUID in canonical form.
+     *
+     * @param uuid the string to check
+     * @return true if the string is a valid UUID, false otherwise
+     */
+    public static boolean isValid(String uuid) {
+        if (uuid == null || uuid.length() != UUID_LENGTH) {
+            return false;
+        }
+        if (uuid.charAt(8) != '-' || uuid.charAt(13) != '-' || uuid.charAt(18) != '-' || uuid.charAt(23) != '-') {
+            return false;
+        }
+
+        // Invalid characters map to -1, so any invalid digit makes the accumulated value negative
+        int bits = hexBits(uuid, 0, 8)
+                | hexBits(uuid, 9, 13)
+                | hexBits(uuid, 14, 18)
+                | hexBits(uuid, 19, 23)
+                | hexBits(uuid, 24, UUID_LENGTH);
+        return bits >= 0;
+    }
+
+    /**
+     * Checks if a string is a version 4 UUID in canonical form (RFC 4122 variant).
+     *
+     * @param uuid the string to check
+     * @return true if the string is a valid version 4 UUID, false otherwise
+     */
+    public static boolean isValidVersion4(String uuid) {
+        return isValid(uuid) && uuid.charAt(VERSION_INDEX) == '4' && isRfc4122Variant(uuid.charAt(VARIANT_INDEX));
+    }
+
+    /**
+     * Gets the version of a UUID string.
+     *
+     * @param uuid the UUID string
+     * @return the version number, or -1 if the string is not a valid UUID
+     */
+    public static int version(String uuid) {
+        return isValid(uuid) ? hexValue(uuid.charAt(VERSION_INDEX)) : -1;
+    }
+
+    /**
+     * Parses the most significant 64 bits of a UUID string.
+     *
+     * @param uuid the UUID string, which must be valid according to {@link #isValid(String)}
+     * @return the most significant bits
+     * @throws IllegalArgumentException if the string is not a valid UUID
+     */
+    public static long mostSignificantBits(String uuid) {
+        requireValid(uuid);
+        return parseHex(uuid, 0, 18);
+    }
+
+    /**
+     * Parses the least significant 64 bits of a UUID string.
+     *
+     * @param uuid the UUID string, which must be valid according to {@link #isValid(String)}
+     * @return the least significant bits
+     * @throws IllegalArgumentException if the string is not a valid UUID
+     */
+    public static long leastSignificantBits(String uuid) {
+        requireValid(uuid);
+        return parseHex(uuid, 19, UUID_LENGTH);
+    }
+
+    /**
+     * Parses a UUID string.
+     *
+     * @param uuid the UUID string
+     * @return the parsed UUID
+     * @throws IllegalArgumentException if the string is not a valid UUID
+     */
+    public static UUID parse(String uuid) {
+        requireValid(uuid);
+        return new UUID(parseHex(uuid, 0, 18), parseHex(uuid, 19, UUID_LENGTH));
+    }
+
+    /**
+     * Writes the 16-byte big-endian representation of a UUID string into a buffer.
+     *
+     * @param uuid the UUID string
+     * @param target the buffer to write into
+     * @param offset the offset of the first byte
+     * @throws IllegalArgumentException if the string is not a valid UUID
+     */
+    public static void writeBytes(String uuid, byte[] target, int offset) {
+        requireValid(uuid);
+        int position = offset;
+        int i = 0;
+        while (i < UUID_LENGTH) {
+            if (uuid.charAt(i) == '-') {
+                i++;
+                continue;
+            }
+            target[position++] = (byte) ((hexValue(uuid.charAt(i)) << 4) | hexValue(uuid.charAt(i + 1)));
+            i += 2;
+        }
+    }
+
+    private static void requireValid(String uuid) {
+        if (!isValid(uuid)) {
+            throw new IllegalArgumentException("Invalid UUID string: " + uuid);
+        }
+    }
+
+    private static int hexBits(String uuid, int start, int end) {
+        int bits = 0;
+        for (int i = start; i < end; i++) {
+            bits |= hexValue(uuid.charAt(i));
+        }
+        return bits;
+    }
+
+    private static long parseHex(String uuid, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = uuid.charAt(i);
+            if (c != '-') {
+                value = (value << 4) | hexValue(c);
+            }
+        }
+        return value;
+    }
+
+    private static int hexValue(char c) {
+        return c < 128 ? HEX_VALUES[c] : -1;
+    }
+
+    private static boolean isRfc4122Variant(char c) {
+        return c == '8' || c == '9' || c == 'a' || c == 'b' || c == 'A' || c == 'B';
+    }
+}
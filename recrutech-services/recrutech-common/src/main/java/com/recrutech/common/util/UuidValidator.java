@@ -2,9 +2,6 @@ package com.recrutech.common.util;
 
 import com.recrutech.common.exception.ValidationException;
 
-import java.util.UUID;
-import java.util.regex.Pattern;
-
 /**
  * Utility class for validating UUIDs.
  * This class provides methods for validating UUIDs with different levels of strictness
@@ -12,21 +9,6 @@ import java.util.regex.Pattern;
  */
 public final class UuidValidator {
 
-    /**
-     * Regular expression pattern for validating UUID format.
-     * Format: 8-4-4-4-12 hexadecimal digits separated by hyphens.
-     */
-    private static final Pattern UUID_PATTERN = 
-            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
-
-    /**
-     * Regular expression pattern for validating UUID version 4 format.
-     * Version 4 UUIDs have the form xxxxxxxx-xxxx-4xxx-yxxx-xxxxxxxxxxxx
-     * where x is any hexadecimal digit and y is one of 8, 9, A, or B.
-     */
-    private static final Pattern UUID_V4_PATTERN = 
-            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-4[0-9a-fA-F]{3}-[89abAB][0-9a-fA-F]{3}-[0-9a-fA-F]{12}$");
-
     /**
      * Private constructor to prevent instantiation of this utility class.
      */
@@ -45,18 +27,14 @@ public final class UuidValidator {
     }
 
     /**
-     * Validates if a string is a valid UUID using regex pattern matching.
-     * This method is more strict than isValidUuid() as it checks the exact format.
+     * Validates if a string is in the exact UUID format.
+     * Format: 8-4-4-4-12 hexadecimal digits separated by hyphens.
      *
      * @param uuid the string to validate
-     * @return true if the string matches the UUID pattern, false otherwise
+     * @return true if the string matches the UUID format, false otherwise
      */
     public static boolean isValidUuidFormat(String uuid) {
-        if (uuid == null) {
-            return false;
-        }
-
-        return UUID_PATTERN.matcher(uuid).matches();
+        return UuidParser.isValid(uuid);
     }
 
     /**
@@ -67,11 +45,7 @@ public final class UuidValidator {
      * @return true if the string is a valid UUID version 4, false otherwise
      */
     public static boolean isValidUuidV4(String uuid) {
-        if (uuid == null) {
-            return false;
-        }
-
-        return UUID_V4_PATTERN.matcher(uuid).matches();
+        return UuidParser.isValidVersion4(uuid);
     }
 
     /**
@@ -83,11 +57,11 @@ public final class UuidValidator {
      */
     public static void validateUuid(String uuid, String fieldName) {
         if (uuid == null) {
-            throw new ValidationException(fieldName + " cannot be null");
+            throw ValidationException.stackless(fieldName + " cannot be null");
         }
 
         if (!isValidUuid(uuid)) {
-            throw new ValidationException(fieldName + " must be a valid UUID");
+            throw ValidationException.stackless(fieldName + " must be a valid UUID");
         }
     }
 
@@ -100,11 +74,11 @@ public final class UuidValidator {
      */
     public static void validateUuidV4(String uuid, String fieldName) {
         if (uuid == null) {
-            throw new ValidationException(fieldName + " cannot be null");
+            throw ValidationException.stackless(fieldName + " cannot be null");
         }
 
         if (!isValidUuidV4(uuid)) {
-            throw new ValidationException(fieldName + " must be a valid UUID version 4");
+            throw ValidationException.stackless(fieldName + " must be a valid UUID version 4");
         }
     }
 
@@ -112,18 +86,9 @@ public final class UuidValidator {
      * Gets the version of a UUID.
      *
      * @param uuid the UUID to check
-     * @return the version number (1-5) or -1 if the UUID is invalid
+     * @return the version number, such as 4 for random or 7 for time-ordered UUIDs, or -1 if the UUID is invalid
      */
     public static int getUuidVersion(String uuid) {
-        if (!isValidUuid(uuid)) {
-            return -1;
-        }
-
-        try {
-            UUID parsedUuid = UUID.fromString(uuid);
-            return parsedUuid.version();
-        } catch (IllegalArgumentException e) {
-            return -1;
-        }
+        return UuidParser.version(uuid);
     }
 }
@@ -0,0 +1,48 @@
+package com.recrutech.common.concurrent;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the VirtualThreadPinningMonitor class.
+ */
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor =
+            new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(20));
+
+    @Test
+    void record_ShouldTimeEveryPinningAndReportEachCallSiteOnce() {
+        // Act
+        boolean first = monitor.record(Duration.ofMillis(30), "\n\tat com.example.Foo.bar:42");
+        boolean repeated = monitor.record(Duration.ofMillis(50), "\n\tat com.example.Foo.bar:42");
+        boolean other = monitor.record(Duration.ofMillis(40), "\n\tat com.example.Foo.baz:7");
+
+        // Assert
+        assertTrue(first);
+        assertFalse(repeated);
+        assertTrue(other);
+        Timer timer = meterRegistry.get("recrutech.virtualthreads.pinned").timer();
+        assertEquals(3, timer.count());
+        assertEquals(120, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+
+    @Test
+    void startAndStop_ShouldToggleRunning() {
+        // Act
+        monitor.start();
+        boolean runningAfterStart = monitor.isRunning();
+        monitor.stop();
+
+        // Assert
+        assertTrue(runningAfterStart);
+        assertFalse(monitor.isRunning());
+    }
+}
@@ -0,0 +1,58 @@
+package com.recrutech.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ReplicaDataSourceAutoConfiguration class.
+ */
+class ReplicaDataSourceAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ReplicaDataSourceAutoConfiguration.class, DataSourceAutoConfiguration.class))
+            .withInitializer(context -> context.getBeanFactory()
+                    .setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withPropertyValues("spring.datasource.url=jdbc:h2:mem:primary", "spring.datasource.username=sa");
+
+    @Test
+    void withReplicaUrl_ShouldRouteThroughSinglePrimaryDataSource() {
+        contextRunner.withPropertyValues("app.datasource.replica.url=jdbc:h2:mem:replica",
+                        "app.datasource.replica.hikari.maximum-pool-size=3")
+                .run(context -> {
+                    DataSource dataSource = context.getBean(DataSource.class);
+                    assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource);
+                    assertInstanceOf(ReplicaRoutingDataSource.class,
+                            ((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource());
+                    HikariDataSource replica = context.getBean("replicaDataSource", HikariDataSource.class);
+                    assertEquals("jdbc:h2:mem:replica", replica.getJdbcUrl());
+                    assertEquals("sa", replica.getUsername());
+                    assertEquals(3, replica.getMaximumPoolSize());
+                    assertEquals("jdbc:h2:mem:primary",
+                            context.getBean("primaryDataSource", HikariDataSource.class).getJdbcUrl());
+                    assertEquals(1, context.getBeansOfType(ReplicaLagMonitor.class).size());
+                    assertEquals(1, context.getBeansOfType(ReplicaReadCacheGuard.class).size());
+                });
+    }
+
+    @Test
+    void withoutReplicaUrl_ShouldLeaveDataSourceToSpringBoot() {
+        contextRunner.run(context -> {
+            assertInstanceOf(HikariDataSource.class, context.getBean(DataSource.class));
+            assertTrue(context.getBeansOfType(ReplicaLagMonitor.class).isEmpty());
+            assertTrue(context.getBeansOfType(ReplicaReadCacheGuard.class).isEmpty());
+        });
+    }
+}
@@ -0,0 +1,121 @@
+package com.recrutech.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the ReplicaLagMonitor class.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    private static final String LAG_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new ReplicaLagMonitor(replica, LAG_QUERY, LAG_COLUMN, Duration.ofSeconds(2), Duration.ofSeconds(1),
+                meterRegistry);
+    }
+
+    @Test
+    void check_WithLagWithinMaximum_ShouldUseReplica() throws SQLException {
+        // Arrange
+        replicaReports(1L);
+
+        // Act
+        monitor.check();
+
+        // Assert
+        assertTrue(monitor.isReplicaUsable());
+        assertEquals(1.0, meterRegistry.get("recrutech.datasource.replica.lag").gauge().value());
+        assertEquals(1.0, meterRegistry.get("recrutech.datasource.replica.usable").gauge().value());
+    }
+
+    @Test
+    void check_WithLagAboveMaximum_ShouldNotUseReplica() throws SQLException {
+        // Arrange
+        replicaReports(1L);
+        monitor.check();
+        replicaReports(3L);
+
+        // Act
+        monitor.check();
+
+        // Assert
+        assertFalse(monitor.isReplicaUsable());
+        assertEquals(3.0, meterRegistry.get("recrutech.datasource.replica.lag").gauge().value());
+    }
+
+    @Test
+    void check_WhenReplicationIsStopped_ShouldNotUseReplica() throws SQLException {
+        // Arrange
+        replicaReports(null);
+
+        // Act
+        monitor.check();
+
+        // Assert
+        assertFalse(monitor.isReplicaUsable());
+        assertTrue(Double.isNaN(meterRegistry.get("recrutech.datasource.replica.lag").gauge().value()));
+    }
+
+    @Test
+    void check_WhenReplicaIsDown_ShouldNotUseReplica() throws SQLException {
+        // Arrange
+        replicaReports(1L);
+        monitor.check();
+        reset(replica);
+        when(replica.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // Act
+        monitor.check();
+
+        // Assert
+        assertFalse(monitor.isReplicaUsable());
+    }
+
+    @Test
+    void isReplicaUsable_BeforeFirstCheck_ShouldBeFalse() {
+        // Act & Assert
+        assertFalse(monitor.isReplicaUsable());
+    }
+
+    private void replicaReports(Long lag) throws SQLException {
+        when(replica.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(LAG_QUERY)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(LAG_COLUMN)).thenReturn(lag == null ? 0L : lag);
+        when(resultSet.wasNull()).thenReturn(lag == null);
+    }
+}
@@ -0,0 +1,100 @@
+package com.recrutech.common.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the ReplicaReadCacheGuard class.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaReadCacheGuardTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private ObjectProvider<EntityManagerFactory> entityManagerFactoryProvider;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    private ReplicaReadCacheGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = new ReplicaReadCacheGuard(entityManagerFactoryProvider);
+        when(entityManagerFactoryProvider.getIfUnique()).thenReturn(entityManagerFactory);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        if (TransactionSynchronizationManager.hasResource(entityManagerFactory)) {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+        }
+    }
+
+    @Test
+    void run_InTransaction_ShouldStopCachePutsUntilCompletion() {
+        // Arrange
+        bindSession(CacheMode.NORMAL);
+        when(session.isOpen()).thenReturn(true);
+
+        // Act
+        guard.run();
+
+        // Assert
+        verify(session).setCacheMode(CacheMode.GET);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(session).setCacheMode(CacheMode.NORMAL);
+    }
+
+    @Test
+    void run_WhenCacheIsIgnored_ShouldKeepCacheMode() {
+        // Arrange
+        bindSession(CacheMode.IGNORE);
+
+        // Act
+        guard.run();
+
+        // Assert
+        verify(session, never()).setCacheMode(any());
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+
+    @Test
+    void run_WithoutBoundEntityManager_ShouldDoNothing() {
+        // Act
+        guard.run();
+
+        // Assert
+        verifyNoInteractions(entityManagerFactory);
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+
+    private void bindSession(CacheMode cacheMode) {
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.getCacheMode()).thenReturn(cacheMode);
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+    }
+}
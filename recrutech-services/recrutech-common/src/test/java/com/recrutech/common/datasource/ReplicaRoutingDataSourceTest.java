@@ -0,0 +1,156 @@
+package com.recrutech.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the ReplicaRoutingDataSource class.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    @Mock
+    private Runnable onReplicaRead;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private String session;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        session = "hr-user";
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), nanoTime::get);
+        dataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor, tracker, () -> session, onReplicaRead,
+                meterRegistry);
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    void determineCurrentLookupKey_ForReadOnlyTransaction_ShouldRouteToReplica() {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+
+        // Act
+        ReplicaRoutingDataSource.Route route = dataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, route);
+        assertEquals(1.0, meterRegistry.get("recrutech.datasource.reads")
+                .tags("target", "replica", "reason", "replica").counter().count());
+        verify(onReplicaRead).run();
+    }
+
+    @Test
+    void determineCurrentLookupKey_WhenReplicaLags_ShouldRouteToPrimary() {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isReplicaUsable()).thenReturn(false);
+
+        // Act
+        ReplicaRoutingDataSource.Route route = dataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, route);
+        assertEquals(1.0, meterRegistry.get("recrutech.datasource.reads")
+                .tags("target", "primary", "reason", "replica-unavailable").counter().count());
+        verifyNoInteractions(onReplicaRead);
+    }
+
+    @Test
+    void determineCurrentLookupKey_ForReadWriteTransaction_ShouldRouteToPrimary() {
+        // Act
+        ReplicaRoutingDataSource.Route route = dataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, route);
+        verifyNoInteractions(lagMonitor, onReplicaRead);
+    }
+
+    @Test
+    void determineCurrentLookupKey_AfterCommittedWrite_ShouldReadFromPrimaryWithinWindow() {
+        // Arrange
+        dataSource.determineCurrentLookupKey();
+        commit();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+
+        // Act
+        nanoTime.set(Duration.ofSeconds(4).toNanos());
+        ReplicaRoutingDataSource.Route withinWindow = dataSource.determineCurrentLookupKey();
+        session = "other-user";
+        ReplicaRoutingDataSource.Route otherSession = dataSource.determineCurrentLookupKey();
+        session = "hr-user";
+        nanoTime.set(Duration.ofSeconds(6).toNanos());
+        ReplicaRoutingDataSource.Route afterWindow = dataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals(ReplicaRoutingDataSource.Route.PRIMARY, withinWindow);
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, otherSession);
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, afterWindow);
+    }
+
+    @Test
+    void determineCurrentLookupKey_AfterRolledBackWrite_ShouldReadFromReplica() {
+        // Arrange
+        dataSource.determineCurrentLookupKey();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+
+        // Act
+        ReplicaRoutingDataSource.Route route = dataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertEquals(ReplicaRoutingDataSource.Route.REPLICA, route);
+    }
+
+    @Test
+    void determineCurrentLookupKey_WithoutSession_ShouldNotBeSticky() {
+        // Arrange
+        session = null;
+
+        // Act
+        dataSource.determineCurrentLookupKey();
+
+        // Assert
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+}
@@ -0,0 +1,62 @@
+package com.recrutech.common.entity;
+
+import com.recrutech.common.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the UuidBinaryType class.
+ */
+class UuidBinaryTypeTest {
+
+    @Test
+    void toBytes_ShouldReturnBigEndianBytes() {
+        // Act
+        byte[] bytes = UuidBinaryType.toBytes("00112233-4455-6677-8899-aabbccddeeff");
+
+        // Assert
+        assertArrayEquals(new byte[]{
+                0x00, 0x11, 0x22, 0x33, 0x44, 0x55, 0x66, 0x77,
+                (byte) 0x88, (byte) 0x99, (byte) 0xaa, (byte) 0xbb,
+                (byte) 0xcc, (byte) 0xdd, (byte) 0xee, (byte) 0xff}, bytes);
+    }
+
+    @Test
+    void fromBytes_ShouldRoundTrip() {
+        // Arrange
+        String uuid = "123e4567-e89b-12d3-a456-426614174000";
+
+        // Act & Assert
+        assertEquals(uuid, UuidBinaryType.fromBytes(UuidBinaryType.toBytes(uuid)));
+    }
+
+    @Test
+    void toBytes_WithUppercaseUuid_ShouldNormalizeToLowercase() {
+        // Act
+        String roundTripped = UuidBinaryType.fromBytes(
+                UuidBinaryType.toBytes("123E4567-E89B-12D3-A456-426614174000"));
+
+        // Assert
+        assertEquals("123e4567-e89b-12d3-a456-426614174000", roundTripped);
+    }
+
+    @Test
+    void convert_WithNull_ShouldReturnNull() {
+        // Act & Assert
+        assertNull(UuidBinaryType.toBytes(null));
+        assertNull(UuidBinaryType.fromBytes(null));
+    }
+
+    @Test
+    void toBytes_WithInvalidUuid_ShouldThrowValidationException() {
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> UuidBinaryType.toBytes("not-a-uuid"));
+    }
+
+    @Test
+    void fromBytes_WithWrongLength_ShouldThrowIllegalStateException() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> UuidBinaryType.fromBytes(new byte[8]));
+    }
+}
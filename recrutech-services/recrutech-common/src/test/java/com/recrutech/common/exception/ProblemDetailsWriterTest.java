@@ -0,0 +1,69 @@
+package com.recrutech.common.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ProblemDetailsWriter class.
+ */
+class ProblemDetailsWriterTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-15T10:30:00.123Z"), ZoneOffset.UTC);
+    private final ProblemDetailsWriter writer = new ProblemDetailsWriter(clock);
+
+    @Test
+    void write_ShouldWriteProblemDetailsWithLegacyFields() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/jobs/123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        writer.write(request, response, HttpStatus.NOT_FOUND, "Not Found", "Job not found with id: \"123\"");
+
+        // Assert
+        assertEquals(404, response.getStatus());
+        assertEquals(MediaType.APPLICATION_PROBLEM_JSON_VALUE, response.getContentType().split(";")[0]);
+        JsonNode body = new ObjectMapper().readTree(response.getContentAsByteArray());
+        assertEquals("about:blank", body.get("type").asText());
+        assertEquals("Not Found", body.get("title").asText());
+        assertEquals(404, body.get("status").asInt());
+        assertEquals("Job not found with id: \"123\"", body.get("detail").asText());
+        assertEquals("/api/v1/jobs/123", body.get("instance").asText());
+        assertEquals("2025-01-15T10:30:00", body.get("timestamp").asText());
+        assertEquals("Not Found", body.get("error").asText());
+        assertEquals("Job not found with id: \"123\"", body.get("message").asText());
+    }
+
+    @Test
+    void timestamp_ShouldBeReusedWithinTheSameSecond() {
+        // Act
+        String first = writer.timestamp();
+        String second = writer.timestamp();
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    @Test
+    void stacklessExceptions_ShouldNotCaptureStackTrace() {
+        // Act
+        NotFoundException notFound = NotFoundException.stackless("Job not found");
+        ValidationException validation = ValidationException.stackless("Invalid");
+
+        // Assert
+        assertEquals(0, notFound.getStackTrace().length);
+        assertEquals(0, validation.getStackTrace().length);
+        assertEquals("Job not found", notFound.getMessage());
+    }
+}
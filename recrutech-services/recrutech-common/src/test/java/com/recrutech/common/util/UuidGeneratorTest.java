@@ -1,6 +1,12 @@
 package com.recrutech.common.util;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -30,6 +36,45 @@ UuidGeneratorTest {
         assertNotEquals(uuid1, uuid2);
     }
 
+    @Test
+    void generateTimeOrderedUuid_ShouldReturnVersion7Uuid() {
+        // Act
+        long before = System.currentTimeMillis();
+        UUID uuid = UUID.fromString(UuidGenerator.generateTimeOrderedUuid());
+        long after = System.currentTimeMillis();
+
+        // Assert
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= after + 1);
+    }
+
+    @Test
+    void generateTimeOrderedUuid_ShouldBeMonotonicallyIncreasing() {
+        // Arrange
+        String previous = UuidGenerator.generateTimeOrderedUuid();
+
+        // Act & Assert
+        for (int i = 0; i < 10_000; i++) {
+            String current = UuidGenerator.generateTimeOrderedUuid();
+            assertTrue(current.compareTo(previous) > 0, previous + " should sort before " + current);
+            previous = current;
+        }
+    }
+
+    @Test
+    void generateTimeOrderedUuid_ShouldBeUniqueAcrossThreads() {
+        // Arrange
+        Set<String> uuids = ConcurrentHashMap.newKeySet();
+
+        // Act
+        IntStream.range(0, 50_000).parallel().forEach(i -> uuids.add(UuidGenerator.generateTimeOrderedUuid()));
+
+        // Assert
+        assertEquals(50_000, uuids.size());
+    }
+
     @Test
     void isValidUuid_WithValidUuid_ShouldReturnTrue() {
         // Arrange
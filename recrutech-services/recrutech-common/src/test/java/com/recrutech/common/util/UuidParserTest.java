@@ -0,0 +1,101 @@
+package com.recrutech.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the UuidParser utility class.
+ */
+class UuidParserTest {
+
+    private static final String VALID_UUID = "123e4567-e89b-12d3-a456-426614174000";
+
+    @Test
+    void isValid_WithValidUuids_ShouldReturnTrue() {
+        // Act & Assert
+        assertTrue(UuidParser.isValid(VALID_UUID));
+        assertTrue(UuidParser.isValid(VALID_UUID.toUpperCase()));
+        assertTrue(UuidParser.isValid("00000000-0000-0000-0000-000000000000"));
+        assertTrue(UuidParser.isValid("ffffffff-ffff-ffff-ffff-ffffffffffff"));
+    }
+
+    @Test
+    void isValid_WithInvalidUuids_ShouldReturnFalse() {
+        // Arrange
+        String[] invalidUuids = {
+            null,
+            "",
+            "not-a-uuid",
+            "123e4567-e89b-12d3-a456-42661417400", // too short
+            "123e4567-e89b-12d3-a456-4266141740000", // too long
+            "123e4567-e89b-12d3-a456_426614174000", // invalid separator
+            "123e4567-e89b-12d3-a456-42661417400g", // invalid character
+            "123e4567-e89b-12d3-a456-42661417400٠", // non-ASCII digit
+            "+23e4567-e89b-12d3-a456-426614174000", // sign
+            "123e4567e89b12d3a456426614174000----" // misplaced hyphens
+        };
+
+        // Act & Assert
+        for (String invalidUuid : invalidUuids) {
+            assertFalse(UuidParser.isValid(invalidUuid), "UUID should be invalid: " + invalidUuid);
+        }
+    }
+
+    @Test
+    void parse_ShouldMatchUuidFromString() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange
+            UUID expected = UUID.randomUUID();
+
+            // Act
+            UUID parsed = UuidParser.parse(expected.toString());
+
+            // Assert
+            assertEquals(expected, parsed);
+            assertEquals(expected.getMostSignificantBits(), UuidParser.mostSignificantBits(expected.toString()));
+            assertEquals(expected.getLeastSignificantBits(), UuidParser.leastSignificantBits(expected.toString()));
+        }
+    }
+
+    @Test
+    void parse_WithInvalidUuid_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> UuidParser.parse("not-a-uuid"));
+        assertThrows(IllegalArgumentException.class, () -> UuidParser.mostSignificantBits(null));
+    }
+
+    @Test
+    void writeBytes_ShouldWriteBigEndianBytes() {
+        // Arrange
+        byte[] target = new byte[18];
+
+        // Act
+        UuidParser.writeBytes("00112233-4455-6677-8899-AABBCCDDEEFF", target, 1);
+
+        // Assert
+        assertArrayEquals(new byte[]{0,
+                0x00, 0x11, 0x22, 0x33, 0x44, 0x55, 0x66, 0x77,
+                (byte) 0x88, (byte) 0x99, (byte) 0xaa, (byte) 0xbb,
+                (byte) 0xcc, (byte) 0xdd, (byte) 0xee, (byte) 0xff, 0}, target);
+    }
+
+    @Test
+    void isValidVersion4_ShouldCheckVersionAndVariant() {
+        // Act & Assert
+        assertTrue(UuidParser.isValidVersion4("123e4567-e89b-42d3-a456-426614174000"));
+        assertTrue(UuidParser.isValidVersion4("123e4567-e89b-42d3-B456-426614174000"));
+        assertFalse(UuidParser.isValidVersion4("123e4567-e89b-12d3-a456-426614174000"));
+        assertFalse(UuidParser.isValidVersion4("123e4567-e89b-42d3-c456-426614174000"));
+    }
+
+    @Test
+    void version_ShouldReturnVersionOrMinusOne() {
+        // Act & Assert
+        assertEquals(1, UuidParser.version(VALID_UUID));
+        assertEquals(7, UuidParser.version(UuidGenerator.generateTimeOrderedUuid()));
+        assertEquals(-1, UuidParser.version("not-a-uuid"));
+    }
+}
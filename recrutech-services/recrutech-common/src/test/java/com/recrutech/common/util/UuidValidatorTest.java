@@ -115,6 +115,15 @@ class UuidValidatorTest {
         assertEquals(4, version);
     }
 
+    @Test
+    void getUuidVersion_WithTimeOrderedUuid_ShouldReturnVersion7() {
+        // Act
+        int version = UuidValidator.getUuidVersion(UuidGenerator.generateTimeOrderedUuid());
+
+        // Assert
+        assertEquals(7, version);
+    }
+
     @Test
     void getUuidVersion_WithInvalidUuid_ShouldReturnMinusOne() {
         // Act
@@ -0,0 +1,226 @@
+package com.recrutech.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * HTTP client for the auth and platform REST APIs as used by the load test scenario.
+ * One instance is shared by all virtual users.
+ */
+public class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String authUrl;
+    private final String platformUrl;
+
+    /**
+     * Exception thrown when a request does not complete with a 2xx status.
+     */
+    public static class UnexpectedResponseException extends RuntimeException {
+        public UnexpectedResponseException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * Constructor for ApiClient.
+     *
+     * @param authUrl the base URL of the auth service
+     * @param platformUrl the base URL of the platform service
+     */
+    public ApiClient(String authUrl, String platformUrl) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        this.authUrl = authUrl;
+        this.platformUrl = platformUrl;
+    }
+
+    /**
+     * Registers a user.
+     *
+     * @param username the username
+     * @param password the password
+     * @param hr whether to register an HR user
+     */
+    public void register(String username, String password, boolean hr) {
+        Map<String, String> body = Map.of(
+                "username", username,
+                "email", username + "@loadtest.recrutech.com",
+                "password", password,
+                "firstName", "Load",
+                "lastName", "Test");
+        send(json(authUrl + (hr ? "/api/auth/register/hr" : "/api/auth/register"), null, body));
+    }
+
+    /**
+     * Logs a user in.
+     *
+     * @param username the username
+     * @param password the password
+     * @return the access token
+     */
+    public String login(String username, String password) {
+        JsonNode response = send(json(authUrl + "/api/auth/login", null,
+                Map.of("username", username, "password", password)));
+        return response.get("accessToken").asText();
+    }
+
+    /**
+     * Lists all jobs.
+     *
+     * @return the job summaries
+     */
+    public JsonNode listJobs() {
+        return send(request(platformUrl + "/api/v1/jobs", null).GET().build());
+    }
+
+    /**
+     * Creates an active job.
+     *
+     * @param token the access token of an HR user
+     * @param title the job title
+     * @return the job ID
+     */
+    public String createJob(String token, String title) {
+        JsonNode response = send(json(platformUrl + "/api/v1/jobs", token, Map.of(
+                "title", title,
+                "description", "Load test job posting for " + title,
+                "location", "Berlin",
+                "active", true)));
+        return response.get("id").asText();
+    }
+
+    /**
+     * Uploads a CV.
+     *
+     * @param token the access token
+     * @param content the file content
+     * @return the file ID
+     */
+    public String uploadCv(String token, byte[] content) {
+        String boundary = "loadtest-" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(content.length + 256);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"cv.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        HttpRequest request = request(platformUrl + "/storage/files", token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+        return send(request).get("fileId").asText();
+    }
+
+    /**
+     * Submits an application.
+     *
+     * @param token the access token of an applicant
+     * @param jobId the job ID
+     * @param cvFileId the file ID of the uploaded CV
+     * @return the application ID
+     */
+    public String apply(String token, String jobId, String cvFileId) {
+        JsonNode response = send(json(platformUrl + "/api/v1/jobs/" + jobId + "/applications", token,
+                Map.of("cvFileId", cvFileId)));
+        return response.get("id").asText();
+    }
+
+    /**
+     * Gets an application.
+     *
+     * @param token the access token of an HR user
+     * @param applicationId the application ID
+     * @return the application
+     */
+    public JsonNode getApplication(String token, String applicationId) {
+        return send(request(platformUrl + "/api/v1/applications/" + applicationId, token).GET().build());
+    }
+
+    /**
+     * Downloads a file.
+     *
+     * @param token the access token
+     * @param fileId the file ID
+     * @return the number of bytes received
+     */
+    public int downloadFile(String token, String fileId) {
+        HttpRequest request = request(platformUrl + "/storage/files/" + fileId, token).GET().build();
+        return checkStatus(request, execute(request, HttpResponse.BodyHandlers.ofByteArray())).body().length;
+    }
+
+    private HttpRequest json(String url, String token, Object body) {
+        try {
+            return request(url, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+
+    private static HttpRequest.Builder request(String url, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private JsonNode send(HttpRequest request) {
+        HttpResponse<byte[]> response = checkStatus(request, execute(request, HttpResponse.BodyHandlers.ofByteArray()));
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new UnexpectedResponseException(request.method() + " " + request.uri() + " returned invalid JSON");
+        }
+    }
+
+    private <T> HttpResponse<T> execute(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        try {
+            return httpClient.send(request, bodyHandler);
+        } catch (IOException e) {
+            throw new UnexpectedResponseException(request.method() + " " + request.uri() + " failed: " + e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UnexpectedResponseException(request.method() + " " + request.uri() + " was interrupted");
+        }
+    }
+
+    private static <T> HttpResponse<T> checkStatus(HttpRequest request, HttpResponse<T> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new UnexpectedResponseException(request.method() + " " + request.uri()
+                    + " returned " + response.statusCode());
+        }
+        return response;
+    }
+
+    /**
+     * Gets the IDs of the given job summaries.
+     *
+     * @param jobs the job summaries returned by {@link #listJobs()}
+     * @return the job IDs
+     */
+    public static List<String> jobIds(JsonNode jobs) {
+        return jobs.findValuesAsText("id");
+    }
+}
@@ -0,0 +1,73 @@
+package com.recrutech.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * The scripted scenario run by every virtual user: an applicant logs in, lists the jobs,
+ * uploads a CV and applies for a random job, then HR reviews the application and downloads the CV.
+ */
+public class ApplicantScenario {
+
+    private final ApiClient apiClient;
+    private final LatencyRecorder recorder;
+    private final String hrToken;
+    private final byte[] cv;
+
+    /**
+     * Constructor for ApplicantScenario.
+     *
+     * @param apiClient the API client
+     * @param recorder the recorder the step latencies are recorded into
+     * @param hrToken the access token of the reviewing HR user
+     * @param cv the CV uploaded by applicants
+     */
+    public ApplicantScenario(ApiClient apiClient, LatencyRecorder recorder, String hrToken, byte[] cv) {
+        this.apiClient = apiClient;
+        this.recorder = recorder;
+        this.hrToken = hrToken;
+        this.cv = cv;
+    }
+
+    /**
+     * Runs one iteration of the scenario for an applicant.
+     * The iteration is aborted at the first failing step.
+     *
+     * @param username the applicant's username
+     * @param password the applicant's password
+     * @return true if all steps succeeded, false otherwise
+     */
+    public boolean run(String username, String password) {
+        long start = System.nanoTime();
+        try {
+            String token = step(ScenarioStep.LOGIN, () -> apiClient.login(username, password));
+            List<String> jobIds = step(ScenarioStep.LIST_JOBS, () -> ApiClient.jobIds(apiClient.listJobs()));
+            if (jobIds.isEmpty()) {
+                throw new ApiClient.UnexpectedResponseException("No jobs to apply for");
+            }
+            String jobId = jobIds.get(ThreadLocalRandom.current().nextInt(jobIds.size()));
+            String fileId = step(ScenarioStep.UPLOAD_CV, () -> apiClient.uploadCv(token, cv));
+            String applicationId = step(ScenarioStep.APPLY, () -> apiClient.apply(token, jobId, fileId));
+            step(ScenarioStep.HR_REVIEW_APPLICATION, () -> apiClient.getApplication(hrToken, applicationId));
+            step(ScenarioStep.HR_DOWNLOAD_CV, () -> apiClient.downloadFile(hrToken, fileId));
+        } catch (ApiClient.UnexpectedResponseException e) {
+            recorder.recordError(ScenarioStep.ITERATION, e.getMessage());
+            return false;
+        }
+        recorder.recordSuccess(ScenarioStep.ITERATION, System.nanoTime() - start);
+        return true;
+    }
+
+    private <T> T step(ScenarioStep step, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+            recorder.recordSuccess(step, System.nanoTime() - start);
+            return result;
+        } catch (ApiClient.UnexpectedResponseException e) {
+            recorder.recordError(step, e.getMessage());
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.recrutech.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Closed-loop load generator: each virtual user runs on its own thread and starts its next
+ * iteration only when the previous one has completed (plus the think time), so the offered
+ * load adapts to the service latency.
+ * <p>
+ * Note that closed-loop latencies are subject to coordinated omission: while the services
+ * stall, virtual users stop issuing requests, so the stall shows up once per virtual user
+ * rather than for every request an open-loop client would have sent.
+ */
+public class ClosedLoopLoadGenerator {
+
+    private final ApplicantScenario scenario;
+    private final LatencyRecorder recorder;
+    private final List<String> usernames;
+    private final String password;
+    private final Duration thinkTime;
+    private volatile boolean running;
+
+    /**
+     * Constructor for ClosedLoopLoadGenerator.
+     *
+     * @param scenario the scenario run by the virtual users
+     * @param recorder the recorder the scenario records into
+     * @param usernames the applicant accounts, one per virtual user
+     * @param password the password of the applicant accounts
+     * @param thinkTime the pause of a virtual user between two iterations
+     */
+    public ClosedLoopLoadGenerator(ApplicantScenario scenario, LatencyRecorder recorder, List<String> usernames,
+                                   String password, Duration thinkTime) {
+        this.scenario = scenario;
+        this.recorder = recorder;
+        this.usernames = List.copyOf(usernames);
+        this.password = password;
+        this.thinkTime = thinkTime;
+    }
+
+    /**
+     * Runs the virtual users for the warmup, resets the recorder, then runs them for the measurement.
+     * Iterations still in flight when the measurement ends are not included in the report.
+     *
+     * @param warmup the warmup duration
+     * @param duration the measurement duration
+     * @return the report of the measurement
+     * @throws InterruptedException if interrupted while waiting for the virtual users
+     */
+    public LoadTestReport run(Duration warmup, Duration duration) throws InterruptedException {
+        running = true;
+        List<Thread> virtualUsers = new ArrayList<>(usernames.size());
+        for (int i = 0; i < usernames.size(); i++) {
+            String username = usernames.get(i);
+            Thread thread = new Thread(() -> loop(username), "virtual-user-" + i);
+            thread.setDaemon(true);
+            virtualUsers.add(thread);
+            thread.start();
+        }
+
+        Thread.sleep(warmup.toMillis());
+        recorder.reset();
+        long measurementStart = System.nanoTime();
+        Thread.sleep(duration.toMillis());
+        running = false;
+        LoadTestReport report = LoadTestReport.of(recorder, Duration.ofNanos(System.nanoTime() - measurementStart));
+
+        for (Thread thread : virtualUsers) {
+            thread.join();
+        }
+        return report;
+    }
+
+    private void loop(String username) {
+        long thinkNanos = thinkTime.toNanos();
+        while (running) {
+            scenario.run(username, password);
+            if (thinkNanos > 0 && running) {
+                LockSupport.parkNanos(thinkNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.recrutech.loadtest;
+
+import com.recrutech.recrutechauth.RecrutechAuthApplication;
+import com.recrutech.recrutechauth.model.Role;
+import com.recrutech.recrutechauth.repository.RoleRepository;
+import com.recrutech.recrutechauth.repository.UserRepository;
+import com.recrutech.recrutechplatform.RecrutechPlatformApplication;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.security.Security;
+
+/**
+ * Boots the auth and platform services in this JVM, each on a random port with its own
+ * in-memory H2 database, and the platform against an {@link InMemoryS3Server}.
+ * <p>
+ * Both services ship an {@code application.properties} at the same classpath location, so
+ * each is started with {@code spring.config.location} pointing at its own file under
+ * {@code loadtest/} instead.
+ */
+public class EmbeddedServices implements AutoCloseable {
+
+    static final String APPLICANT_ROLE = "ROLE_APPLICANT";
+
+    private final InMemoryS3Server s3Server;
+    private final ConfigurableApplicationContext authContext;
+    private final ConfigurableApplicationContext platformContext;
+
+    /**
+     * Starts the S3 stand-in, then the auth service, then the platform service.
+     *
+     * @param virtualThreads whether the services run requests on virtual threads
+     * @param tomcatThreads the maximum number of Tomcat request threads when virtual threads are off
+     * @throws IOException if the S3 stand-in cannot be started
+     */
+    public EmbeddedServices(boolean virtualThreads, int tomcatThreads) throws IOException {
+        Security.addProvider(new BouncyCastleProvider());
+
+        s3Server = new InMemoryS3Server();
+        authContext = new SpringApplicationBuilder(RecrutechAuthApplication.class)
+                .properties("spring.config.location=classpath:/loadtest/auth.properties", "server.port=0")
+                .properties(threading(virtualThreads, tomcatThreads))
+                .run();
+        prepareAuthDatabase();
+
+        platformContext = new SpringApplicationBuilder(RecrutechPlatformApplication.class)
+                .properties(
+                        "spring.config.location=classpath:/loadtest/platform.properties",
+                        "server.port=0",
+                        "minio.endpoint=" + s3Server.getEndpoint(),
+                        "spring.security.oauth2.resourceserver.jwt.issuer-uri=" + getAuthUrl(),
+                        "app.auth.service.url=" + getAuthUrl())
+                .properties(threading(virtualThreads, tomcatThreads))
+                .run();
+    }
+
+    /**
+     * Gets the base URL of the auth service.
+     *
+     * @return the auth service URL
+     */
+    public String getAuthUrl() {
+        return "http://localhost:" + port(authContext);
+    }
+
+    /**
+     * Gets the base URL of the platform service.
+     *
+     * @return the platform service URL
+     */
+    public String getPlatformUrl() {
+        return "http://localhost:" + port(platformContext);
+    }
+
+    /**
+     * Gets the S3 stand-in.
+     *
+     * @return the S3 stand-in
+     */
+    public InMemoryS3Server getS3Server() {
+        return s3Server;
+    }
+
+    /**
+     * Grants the applicant role to a registered user.
+     * Registration only assigns {@code ROLE_USER}, while the platform requires
+     * {@code ROLE_APPLICANT} to submit applications.
+     *
+     * @param username the username
+     */
+    public void grantApplicantRole(String username) {
+        RoleRepository roleRepository = authContext.getBean(RoleRepository.class);
+        UserRepository userRepository = authContext.getBean(UserRepository.class);
+        new TransactionTemplate(authContext.getBean(PlatformTransactionManager.class)).executeWithoutResult(status -> {
+            Role applicant = roleRepository.findByName(APPLICANT_ROLE).orElseThrow();
+            userRepository.findByUsername(username).orElseThrow().getRoles().add(applicant);
+        });
+    }
+
+    /**
+     * Seeds the roles the Liquibase changelogs would insert and widens the refresh token
+     * column to the size it has in the MySQL schema.
+     */
+    private void prepareAuthDatabase() {
+        RoleRepository roleRepository = authContext.getBean(RoleRepository.class);
+        roleRepository.save(new Role("ROLE_USER", "Standard user role"));
+        roleRepository.save(new Role("ROLE_ADMIN", "Administrator role"));
+        roleRepository.save(new Role("ROLE_HR", "HR role"));
+        roleRepository.save(new Role(APPLICANT_ROLE, "Applicant role"));
+
+        authContext.getBean(JdbcTemplate.class)
+                .execute("ALTER TABLE \"refresh_tokens\" ALTER COLUMN \"token\" SET DATA TYPE VARCHAR(2000)");
+    }
+
+    private static String[] threading(boolean virtualThreads, int tomcatThreads) {
+        return new String[] {
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "server.tomcat.threads.max=" + tomcatThreads
+        };
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    @Override
+    public void close() {
+        platformContext.close();
+        authContext.close();
+        s3Server.close();
+    }
+}
@@ -0,0 +1,172 @@
+package com.recrutech.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process stand-in for MinIO that implements the subset of the S3 API used by the
+ * MinIO client in {@code FileStorageService}: bucket location, bucket exists/create and
+ * single-part object upload and download with path-style URLs.
+ * Objects are kept in memory and request signatures are not verified.
+ */
+public class InMemoryS3Server implements AutoCloseable {
+
+    private static final String S3_NAMESPACE = "http://s3.amazonaws.com/doc/2006-03-01/";
+
+    private final Set<String> buckets = ConcurrentHashMap.newKeySet();
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private record StoredObject(byte[] content, String contentType) {
+    }
+
+    /**
+     * Starts the server on a free port of the loopback interface.
+     *
+     * @throws IOException if the server cannot be started
+     */
+    public InMemoryS3Server() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Gets the endpoint to configure as {@code minio.endpoint}.
+     *
+     * @return the endpoint URL
+     */
+    public String getEndpoint() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Gets the number of stored objects.
+     *
+     * @return the number of objects
+     */
+    public int getObjectCount() {
+        return objects.size();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String query = exchange.getRequestURI().getRawQuery();
+            int separator = path.indexOf('/', 1);
+            String bucket = separator < 0 ? path.substring(1) : path.substring(1, separator);
+            String key = separator < 0 ? "" : path.substring(separator + 1);
+            String method = exchange.getRequestMethod();
+
+            if (bucket.isEmpty()) {
+                sendError(exchange, 400, "InvalidRequest", bucket, key);
+            } else if (key.isEmpty()) {
+                handleBucket(exchange, method, query, bucket);
+            } else {
+                handleObject(exchange, method, bucket, key);
+            }
+        }
+    }
+
+    private void handleBucket(HttpExchange exchange, String method, String query, String bucket) throws IOException {
+        if ("GET".equals(method) && query != null && query.startsWith("location")) {
+            sendXml(exchange, 200, "<LocationConstraint xmlns=\"" + S3_NAMESPACE + "\">us-east-1</LocationConstraint>");
+        } else if ("PUT".equals(method)) {
+            exchange.getRequestBody().readAllBytes();
+            buckets.add(bucket);
+            sendEmpty(exchange, 200);
+        } else if ("HEAD".equals(method)) {
+            sendEmpty(exchange, buckets.contains(bucket) ? 200 : 404);
+        } else {
+            sendError(exchange, 501, "NotImplemented", bucket, "");
+        }
+    }
+
+    private void handleObject(HttpExchange exchange, String method, String bucket, String key) throws IOException {
+        if (!buckets.contains(bucket)) {
+            exchange.getRequestBody().readAllBytes();
+            sendError(exchange, 404, "NoSuchBucket", bucket, key);
+            return;
+        }
+
+        String objectKey = bucket + '/' + key;
+        switch (method) {
+            case "PUT" -> {
+                byte[] content = exchange.getRequestBody().readAllBytes();
+                objects.put(objectKey, new StoredObject(content, exchange.getRequestHeaders().getFirst("Content-Type")));
+                exchange.getResponseHeaders().set("ETag", "\"" + Integer.toHexString(objectKey.hashCode()) + "\"");
+                sendEmpty(exchange, 200);
+            }
+            case "GET", "HEAD" -> {
+                StoredObject object = objects.get(objectKey);
+                if (object == null) {
+                    sendError(exchange, 404, "NoSuchKey", bucket, key);
+                    return;
+                }
+                if (object.contentType() != null) {
+                    exchange.getResponseHeaders().set("Content-Type", object.contentType());
+                }
+                exchange.getResponseHeaders().set("ETag", "\"" + Integer.toHexString(objectKey.hashCode()) + "\"");
+                if ("HEAD".equals(method)) {
+                    exchange.getResponseHeaders().set("Content-Length", Integer.toString(object.content().length));
+                    exchange.sendResponseHeaders(200, -1);
+                } else {
+                    exchange.sendResponseHeaders(200, object.content().length);
+                    try (OutputStream body = exchange.getResponseBody()) {
+                        body.write(object.content());
+                    }
+                }
+            }
+            case "DELETE" -> {
+                objects.remove(objectKey);
+                sendEmpty(exchange, 204);
+            }
+            default -> sendError(exchange, 501, "NotImplemented", bucket, key);
+        }
+    }
+
+    private static void sendEmpty(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String code, String bucket, String key)
+            throws IOException {
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            sendEmpty(exchange, status);
+            return;
+        }
+        sendXml(exchange, status, "<Error><Code>" + code + "</Code><Message>" + code + "</Message>"
+                + "<BucketName>" + bucket + "</BucketName><Key>" + key + "</Key>"
+                + "<Resource>/" + bucket + "/" + key + "</Resource><RequestId>loadtest</RequestId>"
+                + "<HostId>loadtest</HostId></Error>");
+    }
+
+    private static void sendXml(HttpExchange exchange, int status, String xml) throws IOException {
+        byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + xml).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
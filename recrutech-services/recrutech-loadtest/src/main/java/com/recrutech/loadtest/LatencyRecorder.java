@@ -0,0 +1,91 @@
+package com.recrutech.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records per-step latencies of all virtual users into HdrHistograms, in microseconds.
+ * Recording is wait-free, so virtual users do not contend on the recorder.
+ */
+public class LatencyRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<ScenarioStep, Recorder> recorders = new EnumMap<>(ScenarioStep.class);
+    private final Map<ScenarioStep, LongAdder> errors = new EnumMap<>(ScenarioStep.class);
+    private final AtomicReference<String> firstError = new AtomicReference<>();
+
+    public LatencyRecorder() {
+        for (ScenarioStep step : ScenarioStep.values()) {
+            recorders.put(step, new Recorder(SIGNIFICANT_DIGITS));
+            errors.put(step, new LongAdder());
+        }
+    }
+
+    /**
+     * Records the latency of a successful step.
+     *
+     * @param step the step
+     * @param nanos the latency in nanoseconds
+     */
+    public void recordSuccess(ScenarioStep step, long nanos) {
+        recorders.get(step).recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    /**
+     * Counts a failed step.
+     *
+     * @param step the step
+     * @param message the failure message; the first one is kept for the report
+     */
+    public void recordError(ScenarioStep step, String message) {
+        errors.get(step).increment();
+        firstError.compareAndSet(null, step + ": " + message);
+    }
+
+    /**
+     * Discards everything recorded so far, e.g. at the end of the warmup.
+     */
+    public void reset() {
+        for (ScenarioStep step : ScenarioStep.values()) {
+            recorders.get(step).reset();
+            errors.get(step).reset();
+        }
+        firstError.set(null);
+    }
+
+    /**
+     * Takes the histogram of the latencies recorded since the last reset or snapshot.
+     *
+     * @param step the step
+     * @return the latency histogram in microseconds
+     */
+    public Histogram takeHistogram(ScenarioStep step) {
+        return recorders.get(step).getIntervalHistogram();
+    }
+
+    /**
+     * Gets the number of failures since the last reset.
+     *
+     * @param step the step
+     * @return the number of failures
+     */
+    public long getErrors(ScenarioStep step) {
+        return errors.get(step).sum();
+    }
+
+    /**
+     * Gets the first failure message since the last reset.
+     *
+     * @return the first failure message, or null if nothing failed
+     */
+    public String getFirstError() {
+        return firstError.get();
+    }
+}
@@ -0,0 +1,46 @@
+package com.recrutech.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Settings of a load test run, read from {@code loadtest.*} system properties.
+ *
+ * @param virtualUsers the number of concurrent virtual users (closed loop, one thread each)
+ * @param warmup how long the scenario runs before measuring starts
+ * @param duration how long the scenario is measured
+ * @param thinkTime the pause of a virtual user between two iterations
+ * @param jobs the number of jobs created before the run
+ * @param cvSizeBytes the size of the uploaded CV
+ * @param resultFile the file the JSON report is written to
+ * @param virtualThreads whether the services run requests on virtual threads
+ * @param tomcatThreads the maximum number of Tomcat request threads when virtual threads are off
+ */
+public record LoadTestConfig(
+        int virtualUsers,
+        Duration warmup,
+        Duration duration,
+        Duration thinkTime,
+        int jobs,
+        int cvSizeBytes,
+        String resultFile,
+        boolean virtualThreads,
+        int tomcatThreads) {
+
+    /**
+     * Reads the configuration from system properties, using defaults for missing values.
+     *
+     * @return the configuration
+     */
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.users", 16),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup", 30)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration", 60)),
+                Duration.ofMillis(Long.getLong("loadtest.think-time", 0)),
+                Integer.getInteger("loadtest.jobs", 50),
+                Integer.getInteger("loadtest.cv-size", 100 * 1024),
+                System.getProperty("loadtest.result-file", "loadtest-result.json"),
+                Boolean.getBoolean("loadtest.virtual-threads"),
+                Integer.getInteger("loadtest.tomcat-threads", 200));
+    }
+}
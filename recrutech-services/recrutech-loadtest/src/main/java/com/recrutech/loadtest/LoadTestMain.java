@@ -0,0 +1,83 @@
+package com.recrutech.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Runs the applicant scenario against the auth and platform services booted in this JVM
+ * and writes the throughput and latency percentiles to the console and a JSON file.
+ */
+public final class LoadTestMain {
+
+    private static final String PASSWORD = "Rv8!kQz#Lm4x";
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        try (EmbeddedServices services = new EmbeddedServices(config.virtualThreads(), config.tomcatThreads())) {
+            ApiClient apiClient = new ApiClient(services.getAuthUrl(), services.getPlatformUrl());
+
+            // Seed an HR user, the jobs and one applicant account per virtual user
+            apiClient.register("loadtest-hr", PASSWORD, true);
+            String hrToken = apiClient.login("loadtest-hr", PASSWORD);
+            for (int i = 0; i < config.jobs(); i++) {
+                apiClient.createJob(hrToken, "Load Test Job " + i);
+            }
+            List<String> applicants = new ArrayList<>(config.virtualUsers());
+            for (int i = 0; i < config.virtualUsers(); i++) {
+                String username = "loadtest-applicant-" + i;
+                apiClient.register(username, PASSWORD, false);
+                services.grantApplicantRole(username);
+                applicants.add(username);
+            }
+
+            byte[] cv = new byte[config.cvSizeBytes()];
+            new Random(42).nextBytes(cv);
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            ApplicantScenario scenario = new ApplicantScenario(apiClient, recorder, hrToken, cv);
+            ClosedLoopLoadGenerator generator = new ClosedLoopLoadGenerator(
+                    scenario, recorder, applicants, PASSWORD, config.thinkTime());
+
+            System.out.printf("Running %d virtual users against %s: %ds warmup, %ds measurement%n",
+                    config.virtualUsers(),
+                    config.virtualThreads() ? "virtual threads" : config.tomcatThreads() + " Tomcat threads",
+                    config.warmup().toSeconds(), config.duration().toSeconds());
+            LoadTestReport report = generator.run(config.warmup(), config.duration());
+
+            report.print(System.out);
+            writeJson(config, report);
+        }
+    }
+
+    private static void writeJson(LoadTestConfig config, LoadTestReport report) throws Exception {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("virtualUsers", config.virtualUsers());
+        settings.put("warmupSeconds", config.warmup().toSeconds());
+        settings.put("durationSeconds", config.duration().toSeconds());
+        settings.put("thinkTimeMillis", config.thinkTime().toMillis());
+        settings.put("jobs", config.jobs());
+        settings.put("cvSizeBytes", config.cvSizeBytes());
+        settings.put("virtualThreads", config.virtualThreads());
+        settings.put("tomcatThreads", config.tomcatThreads());
+        settings.put("javaVersion", System.getProperty("java.version"));
+        settings.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("config", settings);
+        result.put("report", report);
+
+        File file = new File(config.resultFile());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, result);
+        System.out.println("Results written to " + file.getAbsolutePath());
+    }
+}
@@ -0,0 +1,96 @@
+package com.recrutech.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency percentiles of a load test measurement.
+ *
+ * @param durationSeconds the length of the measurement in seconds
+ * @param steps the results per scenario step
+ * @param firstError the first failure message, or null if nothing failed
+ */
+public record LoadTestReport(double durationSeconds, List<StepResult> steps, String firstError) {
+
+    /**
+     * Result of one scenario step. Latencies are in milliseconds.
+     *
+     * @param step the step
+     * @param count the number of successful executions
+     * @param errors the number of failed executions
+     * @param throughputPerSecond successful executions per second
+     * @param meanMs the mean latency
+     * @param p50Ms the median latency
+     * @param p90Ms the 90th percentile latency
+     * @param p99Ms the 99th percentile latency
+     * @param p999Ms the 99.9th percentile latency
+     * @param maxMs the maximum latency
+     */
+    public record StepResult(
+            ScenarioStep step,
+            long count,
+            long errors,
+            double throughputPerSecond,
+            double meanMs,
+            double p50Ms,
+            double p90Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs) {
+    }
+
+    /**
+     * Creates the report from the latencies recorded since the last reset.
+     *
+     * @param recorder the recorder
+     * @param elapsed the length of the measurement
+     * @return the report
+     */
+    public static LoadTestReport of(LatencyRecorder recorder, Duration elapsed) {
+        double seconds = elapsed.toNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        List<StepResult> steps = new ArrayList<>();
+        for (ScenarioStep step : ScenarioStep.values()) {
+            Histogram histogram = recorder.takeHistogram(step);
+            steps.add(new StepResult(
+                    step,
+                    histogram.getTotalCount(),
+                    recorder.getErrors(step),
+                    histogram.getTotalCount() / seconds,
+                    histogram.getMean() / 1000.0,
+                    millis(histogram, 50.0),
+                    millis(histogram, 90.0),
+                    millis(histogram, 99.0),
+                    millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0));
+        }
+        return new LoadTestReport(seconds, List.copyOf(steps), recorder.getFirstError());
+    }
+
+    /**
+     * Prints the report as a table.
+     *
+     * @param out the stream to print to
+     */
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%-22s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "step", "count", "errors", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (StepResult result : steps) {
+            out.printf(Locale.ROOT, "%-22s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    result.step(), result.count(), result.errors(), result.throughputPerSecond(),
+                    result.p50Ms(), result.p90Ms(), result.p99Ms(), result.p999Ms(), result.maxMs());
+        }
+        if (firstError != null) {
+            out.println("First error: " + firstError);
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,15 @@
+package com.recrutech.loadtest;
+
+/**
+ * The measured steps of the applicant scenario, in execution order.
+ * {@link #ITERATION} covers one complete pass through all steps.
+ */
+public enum ScenarioStep {
+    LOGIN,
+    LIST_JOBS,
+    UPLOAD_CV,
+    APPLY,
+    HR_REVIEW_APPLICATION,
+    HR_DOWNLOAD_CV,
+    ITERATION
+}
@@ -1,11 +1,16 @@
 package com.recrutech.recrutechplatform;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.TypeExcludeFilter;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
 
 @SpringBootApplication
-@ComponentScan(basePackages = {"com.recrutech.recrutechplatform", "com.recrutech.common"})
+@ComponentScan(basePackages = {"com.recrutech.recrutechplatform", "com.recrutech.common"}, excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+        @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class)})
 public class RecrutechPlatformApplication {
 
     public static void main(String[] args) {
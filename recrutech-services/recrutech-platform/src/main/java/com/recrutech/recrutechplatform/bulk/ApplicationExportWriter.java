@@ -0,0 +1,26 @@
+package com.recrutech.recrutechplatform.bulk;
+
+import com.recrutech.recrutechplatform.dto.application.ApplicationExportRow;
+
+import java.io.IOException;
+
+/**
+ * Writes exported applications to a stream one at a time.
+ */
+public interface ApplicationExportWriter {
+
+    /**
+     * Writes one application.
+     *
+     * @param application the application
+     * @throws IOException if the application cannot be written
+     */
+    void write(ApplicationExportRow application) throws IOException;
+
+    /**
+     * Writes any buffered output. The underlying stream is not closed.
+     *
+     * @throws IOException if the output cannot be flushed
+     */
+    void flush() throws IOException;
+}
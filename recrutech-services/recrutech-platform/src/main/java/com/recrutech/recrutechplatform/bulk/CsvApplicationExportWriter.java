@@ -0,0 +1,54 @@
+package com.recrutech.recrutechplatform.bulk;
+
+import com.recrutech.recrutechplatform.dto.application.ApplicationExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes exported applications as RFC 4180 CSV with an
+ * {@code id,jobId,cvFileId,status,viewedByHr,createdAt} header. Timestamps are ISO-8601.
+ */
+public class CsvApplicationExportWriter implements ApplicationExportWriter {
+
+    static final String HEADER = "id,jobId,cvFileId,status,viewedByHr,createdAt";
+
+    private final Writer writer;
+
+    /**
+     * Constructor for CsvApplicationExportWriter. Writes the header.
+     *
+     * @param output the stream the UTF-8 encoded applications are written to
+     * @throws IOException if the header cannot be written
+     */
+    public CsvApplicationExportWriter(OutputStream output) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write(CsvFields.LINE_END);
+    }
+
+    @Override
+    public void write(ApplicationExportRow application) throws IOException {
+        CsvFields.write(writer, application.id());
+        writer.write(',');
+        CsvFields.write(writer, application.jobId());
+        writer.write(',');
+        CsvFields.write(writer, application.cvFileId());
+        writer.write(',');
+        CsvFields.write(writer, application.status() != null ? application.status().name() : null);
+        writer.write(',');
+        writer.write(Boolean.toString(application.viewedByHr()));
+        writer.write(',');
+        CsvFields.write(writer, application.createdAt() != null ? application.createdAt().toString() : null);
+        writer.write(CsvFields.LINE_END);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
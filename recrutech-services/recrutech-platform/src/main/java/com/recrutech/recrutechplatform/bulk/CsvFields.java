@@ -0,0 +1,41 @@
+package com.recrutech.recrutechplatform.bulk;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 field encoding shared by the CSV export writers.
+ */
+final class CsvFields {
+
+    static final String LINE_END = "\r\n";
+
+    private CsvFields() {
+    }
+
+    /**
+     * Writes a field, quoting it if it contains a separator, quote or line break.
+     * A null value is written as an empty field.
+     *
+     * @param writer the writer
+     * @param value the field value
+     * @throws IOException if the field cannot be written
+     */
+    static void write(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,52 @@
+package com.recrutech.recrutechplatform.bulk;
+
+import com.recrutech.recrutechplatform.dto.job.JobResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes exported jobs as RFC 4180 CSV with an {@code id,title,description,location,active} header.
+ * The output can be imported again as is; the id column is ignored on import.
+ */
+public class CsvJobExportWriter implements JobExportWriter {
+
+    static final String HEADER = "id,title,description,location,active";
+
+    private final Writer writer;
+
+    /**
+     * Constructor for CsvJobExportWriter. Writes the header.
+     *
+     * @param output the stream the UTF-8 encoded jobs are written to
+     * @throws IOException if the header cannot be written
+     */
+    public CsvJobExportWriter(OutputStream output) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write(CsvFields.LINE_END);
+    }
+
+    @Override
+    public void write(JobResponse job) throws IOException {
+        CsvFields.write(writer, job.id());
+        writer.write(',');
+        CsvFields.write(writer, job.title());
+        writer.write(',');
+        CsvFields.write(writer, job.description());
+        writer.write(',');
+        CsvFields.write(writer, job.location());
+        writer.write(',');
+        writer.write(Boolean.toString(job.active()));
+        writer.write(CsvFields.LINE_END);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,189 @@
+package com.recrutech.recrutechplatform.bulk;
+
+import com.recrutech.common.exception.ValidationException;
+import com.recrutech.recrutechplatform.dto.job.JobRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads jobs from RFC 4180 CSV. The first record is a header naming the columns; {@code title} is
+ * required, {@code description}, {@code location} and {@code active} are optional and other columns
+ * are ignored. Quoted fields may contain commas, doubled quotes and line breaks.
+ * Blank lines are skipped; row numbers count records after the header.
+ */
+public class CsvJobRowReader implements JobRowReader {
+
+    private static final int NO_COLUMN = -1;
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final Reader reader;
+    private final int titleColumn;
+    private final int descriptionColumn;
+    private final int locationColumn;
+    private final int activeColumn;
+    private long rowNumber;
+    private boolean unterminated;
+    private boolean oversized;
+
+    /**
+     * Constructor for CsvJobRowReader. Reads the header record.
+     *
+     * @param input the UTF-8 encoded input
+     * @throws IOException if the input cannot be read
+     * @throws ValidationException if the header is missing or has no title column
+     */
+    public CsvJobRowReader(InputStream input) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        List<String> header = readRecord();
+        if (header == null || unterminated) {
+            throw ValidationException.stackless("CSV header is missing");
+        }
+        if (oversized) {
+            throw ValidationException.stackless("CSV header is longer than " + MAX_RECORD_LENGTH + " characters");
+        }
+        int title = NO_COLUMN;
+        int description = NO_COLUMN;
+        int location = NO_COLUMN;
+        int active = NO_COLUMN;
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim();
+            if (i == 0 && name.startsWith(BYTE_ORDER_MARK)) {
+                name = name.substring(BYTE_ORDER_MARK.length()).trim();
+            }
+            switch (name.toLowerCase(Locale.ROOT)) {
+                case "title" -> title = i;
+                case "description" -> description = i;
+                case "location" -> location = i;
+                case "active" -> active = i;
+                default -> {
+                    // Unknown columns are ignored
+                }
+            }
+        }
+        if (title == NO_COLUMN) {
+            throw ValidationException.stackless("CSV header must contain a title column");
+        }
+        this.titleColumn = title;
+        this.descriptionColumn = description;
+        this.locationColumn = location;
+        this.activeColumn = active;
+    }
+
+    @Override
+    public JobRow next() throws IOException {
+        List<String> fields;
+        do {
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty() && !unterminated && !oversized);
+
+        rowNumber++;
+        if (unterminated) {
+            return JobRow.malformed(rowNumber, "Unterminated quoted field");
+        }
+        if (oversized) {
+            return JobRow.malformed(rowNumber, "Row is longer than " + MAX_RECORD_LENGTH + " characters");
+        }
+
+        String active = field(fields, activeColumn);
+        Boolean activeValue = null;
+        if (active != null) {
+            if ("true".equalsIgnoreCase(active)) {
+                activeValue = Boolean.TRUE;
+            } else if ("false".equalsIgnoreCase(active)) {
+                activeValue = Boolean.FALSE;
+            } else {
+                return JobRow.malformed(rowNumber, "Job active must be true or false");
+            }
+        }
+        return JobRow.parsed(rowNumber, new JobRequest(
+                field(fields, titleColumn),
+                field(fields, descriptionColumn),
+                field(fields, locationColumn),
+                activeValue));
+    }
+
+    /**
+     * Gets a field of a record, treating missing and empty fields as null.
+     */
+    private static String field(List<String> fields, int column) {
+        if (column == NO_COLUMN || column >= fields.size() || fields.get(column).isEmpty()) {
+            return null;
+        }
+        return fields.get(column);
+    }
+
+    /**
+     * Reads the fields of the next record. A record ends at an unquoted line break or the end of the input;
+     * {@code \r\n} and {@code \n} are both accepted. If the input ends inside a quoted field, the rest of
+     * the input is returned as one record and {@link #unterminated} is set. Characters beyond
+     * {@link #MAX_RECORD_LENGTH} are read but not kept, and {@link #oversized} is set.
+     *
+     * @return the fields, or null at the end of the input
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1 || unterminated) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        // Counts the skipped characters too, so that quotes are recognized as without the limit
+        int fieldLength = 0;
+        int recordLength = 0;
+        boolean quoted = false;
+        oversized = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    unterminated = true;
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        // Closing quote; the character after it is handled as unquoted
+                        quoted = false;
+                        continue;
+                    }
+                }
+                fieldLength++;
+                recordLength++;
+            } else if (c == ',') {
+                if (!oversized) {
+                    fields.add(field.toString());
+                }
+                field.setLength(0);
+                fieldLength = 0;
+                recordLength++;
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '"' && fieldLength == 0) {
+                quoted = true;
+            } else if (c != '\r') {
+                fieldLength++;
+                recordLength++;
+            }
+            if (recordLength > MAX_RECORD_LENGTH) {
+                oversized = true;
+            } else if (fieldLength > field.length()) {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.recrutech.recrutechplatform.bulk;
+
+import com.recrutech.recrutechplatform.dto.job.JobResponse;
+
+import java.io.IOException;
+
+/**
+ * Writes exported jobs to a stream one at a time.
+ */
+public interface JobExportWriter {
+
+    /**
+     * Writes one job.
+     *
+     * @param job the job
+     * @throws IOException if the job cannot be written
+     */
+    void write(JobResponse job) throws IOException;
+
+    /**
+     * Writes any buffered output. The underlying stream is not closed.
+     *
+     * @throws IOException if the output cannot be flushed
+     */
+    void flush() throws IOException;
+}
@@ -0,0 +1,48 @@
+package com.recrutech.recrutechplatform.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recrutech.recrutechplatform.dto.job.JobImportRowResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Streams the per-row results of a bulk job import as newline-delimited JSON.
+ */
+public class JobImportResultWriter {
+
+    private final JsonGenerator generator;
+
+    /**
+     * Constructor for JobImportResultWriter.
+     *
+     * @param output the stream the results are written to; it is not closed by this writer
+     * @param objectMapper the object mapper used to serialize the results
+     * @throws IOException if the generator cannot be created
+     */
+    public JobImportResultWriter(OutputStream output, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Writes the result of one row.
+     *
+     * @param result the row result
+     * @throws IOException if the result cannot be written
+     */
+    public void write(JobImportRowResult result) throws IOException {
+        generator.writePOJO(result);
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Sends the results written so far to the client.
+     *
+     * @throws IOException if the results cannot be flushed
+     */
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,21 @@
+package com.recrutech.recrutechplatform.bulk;
+
+import com.recrutech.recrutechplatform.dto.job.JobRequest;
+
+/**
+ * One row of a bulk job import.
+ *
+ * @param number the 1-based row number in the input
+ * @param request the parsed job, or null if the row could not be parsed
+ * @param error the parse error, or null if the row was parsed
+ */
+public record JobRow(long number, JobRequest request, String error) {
+
+    static JobRow parsed(long number, JobRequest request) {
+        return new JobRow(number, request, null);
+    }
+
+    static JobRow malformed(long number, String error) {
+        return new JobRow(number, null, error);
+    }
+}
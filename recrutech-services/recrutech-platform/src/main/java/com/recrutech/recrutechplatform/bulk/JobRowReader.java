@@ -0,0 +1,24 @@
+package com.recrutech.recrutechplatform.bulk;
+
+import java.io.IOException;
+
+/**
+ * Reads the rows of a bulk job import one at a time, so that the input is never held in memory as a whole.
+ * Rows that cannot be parsed are returned with an error rather than aborting the import.
+ */
+public interface JobRowReader {
+
+    /**
+     * The maximum length of a record in characters. The characters of a longer record are skipped
+     * up to its end, and the record is returned as malformed.
+     */
+    int MAX_RECORD_LENGTH = 16 * 1024;
+
+    /**
+     * Reads the next row.
+     *
+     * @return the next row, or null at the end of the input
+     * @throws IOException if the input cannot be read
+     */
+    JobRow next() throws IOException;
+}
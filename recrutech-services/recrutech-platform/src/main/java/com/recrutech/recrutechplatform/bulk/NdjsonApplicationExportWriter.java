@@ -0,0 +1,39 @@
+package com.recrutech.recrutechplatform.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recrutech.recrutechplatform.dto.application.ApplicationExportRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes exported applications as newline-delimited JSON, one {@link ApplicationExportRow} object per line.
+ */
+public class NdjsonApplicationExportWriter implements ApplicationExportWriter {
+
+    private final JsonGenerator generator;
+
+    /**
+     * Constructor for NdjsonApplicationExportWriter.
+     *
+     * @param output the stream the applications are written to
+     * @param objectMapper the object mapper used to serialize the applications
+     * @throws IOException if the generator cannot be created
+     */
+    public NdjsonApplicationExportWriter(OutputStream output, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void write(ApplicationExportRow application) throws IOException {
+        generator.writePOJO(application);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
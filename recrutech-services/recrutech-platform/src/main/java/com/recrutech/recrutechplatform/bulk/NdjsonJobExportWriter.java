@@ -0,0 +1,40 @@
+package com.recrutech.recrutechplatform.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recrutech.recrutechplatform.dto.job.JobResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes exported jobs as newline-delimited JSON, one {@link JobResponse} object per line.
+ * The output can be imported again as is.
+ */
+public class NdjsonJobExportWriter implements JobExportWriter {
+
+    private final JsonGenerator generator;
+
+    /**
+     * Constructor for NdjsonJobExportWriter.
+     *
+     * @param output the stream the jobs are written to
+     * @param objectMapper the object mapper used to serialize the jobs
+     * @throws IOException if the generator cannot be created
+     */
+    public NdjsonJobExportWriter(OutputStream output, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void write(JobResponse job) throws IOException {
+        generator.writePOJO(job);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,88 @@
+package com.recrutech.recrutechplatform.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.recrutech.recrutechplatform.dto.job.JobRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads jobs from newline-delimited JSON, one {@link JobRequest} object per line.
+ * Blank lines are skipped; row numbers are line numbers. Lines longer than {@link #MAX_RECORD_LENGTH}
+ * characters are skipped and returned as malformed rows.
+ */
+public class NdjsonJobRowReader implements JobRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader jobReader;
+    private final StringBuilder line = new StringBuilder();
+    private long lineNumber;
+    private boolean oversized;
+
+    /**
+     * Constructor for NdjsonJobRowReader.
+     *
+     * @param input the UTF-8 encoded input
+     * @param objectMapper the object mapper used to parse the lines
+     */
+    public NdjsonJobRowReader(InputStream input, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.jobReader = objectMapper.readerFor(JobRequest.class);
+    }
+
+    @Override
+    public JobRow next() throws IOException {
+        do {
+            if (!readLine()) {
+                return null;
+            }
+            lineNumber++;
+        } while (!oversized && line.toString().isBlank());
+
+        if (oversized) {
+            return JobRow.malformed(lineNumber, "Line is longer than " + MAX_RECORD_LENGTH + " characters");
+        }
+        try {
+            JobRequest request = jobReader.readValue(line.toString());
+            return request != null ? JobRow.parsed(lineNumber, request) : JobRow.malformed(lineNumber, "Job cannot be null");
+        } catch (JsonProcessingException e) {
+            return JobRow.malformed(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Reads the next line into {@link #line}, without the line break. {@code \n}, {@code \r\n} and a
+     * lone {@code \r} end a line. Characters beyond {@link #MAX_RECORD_LENGTH} are read but not kept,
+     * and {@link #oversized} is set.
+     *
+     * @return false at the end of the input
+     */
+    private boolean readLine() throws IOException {
+        line.setLength(0);
+        oversized = false;
+        int c = reader.read();
+        if (c == -1) {
+            return false;
+        }
+        while (c != -1 && c != '\n' && c != '\r') {
+            if (line.length() < MAX_RECORD_LENGTH) {
+                line.append((char) c);
+            } else {
+                oversized = true;
+            }
+            c = reader.read();
+        }
+        if (c == '\r') {
+            reader.mark(1);
+            if (reader.read() != '\n') {
+                reader.reset();
+            }
+        }
+        return true;
+    }
+}
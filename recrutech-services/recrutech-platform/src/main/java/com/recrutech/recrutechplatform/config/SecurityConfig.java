@@ -37,6 +37,9 @@ public class SecurityConfig {
     @Value("${app.cors.allowed-origins:http://localhost:3000}")
     private String allowedOrigins;
 
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:http://localhost:8082}")
     private String issuerUri;
 
@@ -52,7 +55,10 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         // Öffentliche Endpoints
-                        .requestMatchers("/actuator/health", "/api/v1/jobs").permitAll()
+                        // Actuator endpoints are only served on the management port, which is not published
+                        .requestMatchers(request -> request.getLocalPort() == managementPort).permitAll()
+                        .requestMatchers("/api/v1/jobs").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/jobs/*/applications").hasRole("HR")
                         .requestMatchers(HttpMethod.GET, "/api/v1/jobs/**").permitAll()
                         // Geschützte Endpoints - nur HR Personal
                         .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/api-docs/**").permitAll()
@@ -1,13 +1,46 @@
 package com.recrutech.recrutechplatform.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recrutech.common.exception.ValidationException;
+import com.recrutech.recrutechplatform.bulk.CsvApplicationExportWriter;
+import com.recrutech.recrutechplatform.bulk.NdjsonApplicationExportWriter;
+import com.recrutech.recrutechplatform.dto.application.ApplicationExportFilter;
+import com.recrutech.recrutechplatform.dto.application.ApplicationMarkViewedResponse;
 import com.recrutech.recrutechplatform.dto.application.ApplicationRequest;
 import com.recrutech.recrutechplatform.dto.application.ApplicationResponse;
+import com.recrutech.recrutechplatform.dto.application.ApplicationStatusTransitionResponse;
+import com.recrutech.recrutechplatform.dto.application.ApplicationStatusUpdateRequest;
+import com.recrutech.recrutechplatform.dto.application.ApplicationStatusUpdateResponse;
+import com.recrutech.recrutechplatform.dto.application.ApplicationTransitionRequest;
+import com.recrutech.recrutechplatform.dto.application.ApplicationTransitionResponse;
+import com.recrutech.recrutechplatform.dto.application.RankedApplicationResponse;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.intake.ApplicationIntake;
+import com.recrutech.recrutechplatform.service.ApplicationExportService;
 import com.recrutech.recrutechplatform.service.ApplicationService;
+import com.recrutech.recrutechplatform.service.ApplicationStatusService;
+import com.recrutech.recrutechplatform.service.IdempotencyStore;
+import com.recrutech.recrutechplatform.service.RelevanceService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Controller for handling application-related endpoints
@@ -17,24 +50,99 @@ import java.util.List;
 @RequestMapping("/api/v1")
 public class ApplicationController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String SORT_BY_RELEVANCE = "relevance";
+
     private final ApplicationService applicationService;
+    private final ApplicationStatusService applicationStatusService;
+    private final ApplicationExportService applicationExportService;
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final ApplicationIntake applicationIntake;
+    private final RelevanceService relevanceService;
 
-    public ApplicationController(ApplicationService applicationService) {
+    public ApplicationController(ApplicationService applicationService,
+            ApplicationStatusService applicationStatusService,
+            ApplicationExportService applicationExportService,
+            IdempotencyStore idempotencyStore,
+            ObjectMapper objectMapper,
+            ObjectProvider<ApplicationIntake> applicationIntakeProvider,
+            RelevanceService relevanceService) {
         this.applicationService = applicationService;
+        this.applicationStatusService = applicationStatusService;
+        this.applicationExportService = applicationExportService;
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.applicationIntake = applicationIntakeProvider.getIfAvailable();
+        this.relevanceService = relevanceService;
     }
 
     /**
-     * Endpoint for submitting a job application
+     * Endpoint for submitting a job application.
+     * With the write-behind intake enabled, the application is acknowledged with 202 Accepted once it is
+     * durably queued and stored shortly after; otherwise, or while the intake is full, it is stored
+     * directly and answered with 201 Created.
+     * Retries carrying the same Idempotency-Key are answered with the stored response,
+     * marked with an Idempotent-Replayed header, without creating the application again.
      * 
      * @param jobId The ID of the job to apply for
      * @param applicationRequest The application data
-     * @return The created application
+     * @param idempotencyKey Optional client-generated key identifying this submission
+     * @return The created or accepted application
      */
     @PostMapping("/jobs/{jobId}/applications")
-    @ResponseStatus(HttpStatus.CREATED)
-    public ApplicationResponse submitApplication(@PathVariable String jobId,
-            @RequestBody ApplicationRequest applicationRequest) {
-        return applicationService.createApplication(jobId, applicationRequest);
+    public ResponseEntity<ApplicationResponse> submitApplication(@PathVariable String jobId,
+            @RequestBody ApplicationRequest applicationRequest,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Authentication authentication) {
+        if (idempotencyKey == null) {
+            return createApplication(jobId, applicationRequest);
+        }
+        String fingerprint = jobId.toLowerCase(Locale.ROOT) + ':' + applicationRequest.getCvFileId();
+        IdempotencyStore.Result<ResponseEntity<ApplicationResponse>> result = idempotencyStore.execute(
+                authentication.getName(), idempotencyKey, fingerprint,
+                () -> createApplication(jobId, applicationRequest));
+        if (result.replayed()) {
+            return ResponseEntity.status(result.response().getStatusCode())
+                    .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                    .body(result.response().getBody());
+        }
+        return result.response();
+    }
+
+    private ResponseEntity<ApplicationResponse> createApplication(String jobId, ApplicationRequest applicationRequest) {
+        if (applicationIntake != null) {
+            Optional<ApplicationResponse> accepted = applicationIntake.submit(jobId, applicationRequest);
+            if (accepted.isPresent()) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(accepted.get());
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).body(applicationIntake.writeDirectly(
+                    jobId, applicationRequest.getCvFileId(),
+                    () -> applicationService.createApplication(jobId, applicationRequest)));
+        }
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(applicationService.createApplication(jobId, applicationRequest));
+    }
+
+    /**
+     * Endpoint for listing the most relevant applications of a job, ranked by how well their CV
+     * matches the job description. Applications are scored shortly after they are submitted, so the
+     * newest ones may not be ranked yet.
+     *
+     * @param jobId The ID of the job
+     * @param sort The order of the applications; only relevance is supported
+     * @return The ranked applications, most relevant first
+     */
+    @GetMapping("/jobs/{jobId}/applications")
+    @PreAuthorize("hasRole('HR')")
+    @ResponseStatus(HttpStatus.OK)
+    public List<RankedApplicationResponse> getRankedApplications(@PathVariable String jobId,
+            @RequestParam(defaultValue = SORT_BY_RELEVANCE) String sort) {
+        if (!SORT_BY_RELEVANCE.equals(sort)) {
+            throw ValidationException.stackless("Unsupported sort order: " + sort);
+        }
+        return relevanceService.getRanking(jobId);
     }
 
     @GetMapping("/applications")
@@ -48,4 +156,117 @@ public class ApplicationController {
     public ApplicationResponse getApplicationById(@PathVariable String applicationId) {
         return applicationService.getApplicationById(applicationId);
     }
-}
\ No newline at end of file
+
+    /**
+     * Endpoint for changing the status of many applications at once
+     *
+     * @param updates The application IDs and their new status
+     * @return The number of updated applications
+     */
+    @PatchMapping("/applications/status")
+    @PreAuthorize("hasRole('HR')")
+    @ResponseStatus(HttpStatus.OK)
+    public ApplicationStatusUpdateResponse updateApplicationStatuses(
+            @RequestBody List<ApplicationStatusUpdateRequest> updates, Authentication authentication) {
+        return applicationStatusService.updateStatuses(updates, authentication.getName());
+    }
+
+    /**
+     * Endpoint for moving many applications to the same status, e.g. rejecting a whole candidate list.
+     * Applications that cannot move to the status are skipped and reported.
+     *
+     * @param request The application IDs and the target status
+     * @return The number of moved applications and the skipped IDs
+     */
+    @PostMapping("/applications/transitions")
+    @PreAuthorize("hasRole('HR')")
+    @ResponseStatus(HttpStatus.OK)
+    public ApplicationTransitionResponse transitionApplications(@RequestBody ApplicationTransitionRequest request,
+            Authentication authentication) {
+        return applicationStatusService.transition(request, authentication.getName());
+    }
+
+    /**
+     * Endpoint for marking many applications as viewed by HR at once
+     *
+     * @param applicationIds The IDs of the applications
+     * @return The number of applications that were not viewed before
+     */
+    @PatchMapping("/applications/viewed")
+    @PreAuthorize("hasRole('HR')")
+    @ResponseStatus(HttpStatus.OK)
+    public ApplicationMarkViewedResponse markApplicationsViewed(@RequestBody List<String> applicationIds) {
+        return applicationStatusService.markViewed(applicationIds);
+    }
+
+    /**
+     * Endpoint for reading the status history of an application
+     *
+     * @param applicationId The ID of the application
+     * @return The status transitions, oldest first
+     */
+    @GetMapping("/applications/{applicationId}/transitions")
+    @PreAuthorize("hasRole('HR')")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ApplicationStatusTransitionResponse> getApplicationTransitions(@PathVariable String applicationId) {
+        return applicationStatusService.getTransitions(applicationId);
+    }
+
+    /**
+     * Endpoint for streaming an NDJSON export of applications for HR reporting
+     */
+    @GetMapping(path = "/applications:bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('HR')")
+    public void exportApplicationsNdjson(@RequestParam(required = false) String jobId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ApplicationExportFilter filter = new ApplicationExportFilter(jobId, status, from, to);
+        OutputStream output = startStreaming(request, response, MediaType.APPLICATION_NDJSON_VALUE);
+        applicationExportService.exportApplications(filter, new NdjsonApplicationExportWriter(output, objectMapper));
+        finishStreaming(output);
+    }
+
+    /**
+     * Endpoint for streaming a CSV export of applications for HR reporting
+     */
+    @GetMapping(path = "/applications:bulk", produces = JobController.TEXT_CSV_VALUE)
+    @PreAuthorize("hasRole('HR')")
+    public void exportApplicationsCsv(@RequestParam(required = false) String jobId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ApplicationExportFilter filter = new ApplicationExportFilter(jobId, status, from, to);
+        OutputStream output = startStreaming(request, response, JobController.TEXT_CSV_VALUE);
+        applicationExportService.exportApplications(filter, new CsvApplicationExportWriter(output));
+        finishStreaming(output);
+    }
+
+    /**
+     * Starts the streamed response, gzip-compressed if the client accepts it.
+     */
+    private static OutputStream startStreaming(HttpServletRequest request, HttpServletResponse response,
+            String contentType) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(contentType);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || !acceptEncoding.contains("gzip")) {
+            return response.getOutputStream();
+        }
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return new GZIPOutputStream(response.getOutputStream(), 8192);
+    }
+
+    /**
+     * Writes the gzip trailer if the response is compressed. The response stream itself is closed by the container.
+     */
+    private static void finishStreaming(OutputStream output) throws IOException {
+        if (output instanceof GZIPOutputStream gzip) {
+            gzip.finish();
+        }
+    }
+}
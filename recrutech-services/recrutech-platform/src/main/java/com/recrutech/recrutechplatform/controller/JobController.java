@@ -1,14 +1,35 @@
 package com.recrutech.recrutechplatform.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recrutech.common.exception.PreconditionFailedException;
+import com.recrutech.common.exception.PreconditionRequiredException;
+import com.recrutech.recrutechplatform.bulk.CsvJobExportWriter;
+import com.recrutech.recrutechplatform.bulk.CsvJobRowReader;
+import com.recrutech.recrutechplatform.bulk.JobImportResultWriter;
+import com.recrutech.recrutechplatform.bulk.JobRowReader;
+import com.recrutech.recrutechplatform.bulk.NdjsonJobExportWriter;
+import com.recrutech.recrutechplatform.bulk.NdjsonJobRowReader;
+import com.recrutech.recrutechplatform.dto.job.JobImportResponse;
 import com.recrutech.recrutechplatform.dto.job.JobRequest;
 import com.recrutech.recrutechplatform.dto.job.JobResponse;
+import com.recrutech.recrutechplatform.dto.job.JobSuggestionResponse;
 import com.recrutech.recrutechplatform.dto.job.JobSummaryResponse;
+import com.recrutech.recrutechplatform.service.JobExportService;
+import com.recrutech.recrutechplatform.service.JobImportService;
+import com.recrutech.recrutechplatform.service.JobSuggestionIndex;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import com.recrutech.recrutechplatform.service.JobService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -16,10 +37,22 @@ import java.util.List;
 @PreAuthorize("hasRole('HR')")
 public class JobController {
 
+    static final String TEXT_CSV_VALUE = "text/csv";
+
     private final JobService jobService;
+    private final JobImportService jobImportService;
+    private final JobExportService jobExportService;
+    private final ObjectMapper objectMapper;
+    private final JobSuggestionIndex jobSuggestionIndex;
 
-    public JobController(JobService jobService) {
+    public JobController(JobService jobService, JobImportService jobImportService,
+                         JobExportService jobExportService, ObjectMapper objectMapper,
+                         JobSuggestionIndex jobSuggestionIndex) {
         this.jobService = jobService;
+        this.jobImportService = jobImportService;
+        this.jobExportService = jobExportService;
+        this.objectMapper = objectMapper;
+        this.jobSuggestionIndex = jobSuggestionIndex;
     }
 
     @PostMapping("/jobs")
@@ -29,6 +62,45 @@ public class JobController {
         return jobService.createJob(jobRequest);
     }
 
+    @PostMapping("/jobs/batch")
+    @PreAuthorize("hasRole('HR')")
+    @ResponseStatus(HttpStatus.CREATED)
+    public JobImportResponse importJobs(@RequestBody List<JobRequest> jobRequests) {
+        return jobImportService.importJobs(jobRequests);
+    }
+
+    /**
+     * Streams an NDJSON import: one job object per line in, one result object per line out.
+     */
+    @PostMapping(path = "/jobs:bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('HR')")
+    public void importJobsNdjson(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        importJobs(new NdjsonJobRowReader(request.getInputStream(), objectMapper), response);
+    }
+
+    /**
+     * Streams a CSV import with a header row; one result object per line out.
+     */
+    @PostMapping(path = "/jobs:bulk", consumes = TEXT_CSV_VALUE)
+    @PreAuthorize("hasRole('HR')")
+    public void importJobsCsv(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        importJobs(new CsvJobRowReader(request.getInputStream()), response);
+    }
+
+    @GetMapping(path = "/jobs:bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('HR')")
+    public void exportJobsNdjson(HttpServletResponse response) throws IOException {
+        startStreaming(response, MediaType.APPLICATION_NDJSON_VALUE);
+        jobExportService.exportJobs(new NdjsonJobExportWriter(response.getOutputStream(), objectMapper));
+    }
+
+    @GetMapping(path = "/jobs:bulk", produces = TEXT_CSV_VALUE)
+    @PreAuthorize("hasRole('HR')")
+    public void exportJobsCsv(HttpServletResponse response) throws IOException {
+        startStreaming(response, TEXT_CSV_VALUE);
+        jobExportService.exportJobs(new CsvJobExportWriter(response.getOutputStream()));
+    }
+
     @GetMapping("/jobs")
     @PreAuthorize("permitAll()")
     @ResponseStatus(HttpStatus.OK)
@@ -36,11 +108,26 @@ public class JobController {
         return jobService.findAllJobs();
     }
 
-    @GetMapping("/jobs/{id}")
+    /**
+     * Suggests the titles and locations of active jobs starting with the typed prefix, for the search box.
+     * Served from memory; changes made on another instance appear after the next refresh of the index.
+     */
+    @GetMapping("/jobs/suggest")
     @PreAuthorize("permitAll()")
     @ResponseStatus(HttpStatus.OK)
-    public JobResponse getJobById(@PathVariable String id) {
-        return jobService.findJobById(id);
+    public JobSuggestionResponse suggestJobs(@RequestParam(defaultValue = "") String prefix) {
+        return jobSuggestionIndex.suggest(prefix);
+    }
+
+    /**
+     * Gets a job with its version as weak ETag. A request whose {@code If-None-Match} header matches
+     * is answered with 304 Not Modified and no body.
+     */
+    @GetMapping("/jobs/{id}")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<JobResponse> getJobById(@PathVariable String id) {
+        JobResponse job = jobService.findJobById(id);
+        return ResponseEntity.ok().eTag(eTag(job)).body(job);
     }
 
     @DeleteMapping("/jobs/{id}")
@@ -50,11 +137,55 @@ public class JobController {
         jobService.deleteJobById(id);
     }
 
+    /**
+     * Updates a job if the {@code If-Match} header names its current ETag, or is {@code *}.
+     * The weak ETag is compared by its version, as it is the only validator of a job.
+     */
     @PutMapping("/jobs/{id}")
     @PreAuthorize("hasRole('HR')")
-    @ResponseStatus(HttpStatus.OK)
-    public JobResponse updateJob(@PathVariable String id, 
-                               @RequestBody JobRequest jobRequest) {
-        return jobService.updateJob(id, jobRequest);
+    public ResponseEntity<JobResponse> updateJob(@PathVariable String id,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                 String ifMatch,
+                                                 @RequestBody JobRequest jobRequest) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw PreconditionRequiredException.stackless("Updating a job requires an If-Match header with its ETag");
+        }
+        JobResponse job = "*".equals(ifMatch.trim())
+                ? jobService.updateJob(id, jobRequest)
+                : jobService.updateJob(id, jobRequest, parseVersion(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(job)).body(job);
+    }
+
+    private void importJobs(JobRowReader reader, HttpServletResponse response) throws IOException {
+        startStreaming(response, MediaType.APPLICATION_NDJSON_VALUE);
+        jobImportService.importJobs(reader, new JobImportResultWriter(response.getOutputStream(), objectMapper));
+    }
+
+    private static String eTag(JobResponse job) {
+        return "W/\"" + job.version() + '"';
+    }
+
+    /**
+     * Parses the version from a single entity tag, weak or strong.
+     */
+    private static long parseVersion(String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // Fall through: no version of the job has this tag
+            }
+        }
+        throw PreconditionFailedException.stackless("If-Match does not match the current ETag of the job");
+    }
+
+    private static void startStreaming(HttpServletResponse response, String contentType) {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(contentType);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
     }
 }
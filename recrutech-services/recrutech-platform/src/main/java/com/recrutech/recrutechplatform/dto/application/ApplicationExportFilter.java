@@ -0,0 +1,23 @@
+package com.recrutech.recrutechplatform.dto.application;
+
+import com.recrutech.common.exception.ValidationException;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filter of an application export. Every criterion is optional; null matches all applications.
+ *
+ * @param jobId only applications for this job
+ * @param status only applications in this status
+ * @param from only applications created at or after this time
+ * @param to only applications created before this time
+ */
+public record ApplicationExportFilter(String jobId, ApplicationStatus status, LocalDateTime from, LocalDateTime to) {
+
+    public ApplicationExportFilter {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw ValidationException.stackless("Export range start must be before its end");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.recrutech.recrutechplatform.dto.application;
+
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one application of a streamed export, read directly from the query without loading the entity
+ */
+public record ApplicationExportRow(String id, String jobId, String cvFileId, ApplicationStatus status,
+                                   boolean viewedByHr, LocalDateTime createdAt) {
+}
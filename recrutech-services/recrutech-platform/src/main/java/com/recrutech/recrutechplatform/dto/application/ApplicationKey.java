@@ -0,0 +1,7 @@
+package com.recrutech.recrutechplatform.dto.application;
+
+/**
+ * The ID and CV file of an application, read without loading the entity
+ */
+public record ApplicationKey(String id, String cvFileId) {
+}
@@ -0,0 +1,13 @@
+package com.recrutech.recrutechplatform.dto.application;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO for sending the number of applications newly marked as viewed by HR to clients
+ */
+@Data
+@Builder
+public class ApplicationMarkViewedResponse {
+    private int updated;
+}
@@ -0,0 +1,9 @@
+package com.recrutech.recrutechplatform.dto.application;
+
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+
+/**
+ * The status of an application and its job, read without loading the entity
+ */
+public record ApplicationStatusSnapshot(String id, String jobId, ApplicationStatus status) {
+}
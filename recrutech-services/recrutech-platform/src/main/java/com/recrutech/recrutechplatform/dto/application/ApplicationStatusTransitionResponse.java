@@ -0,0 +1,19 @@
+package com.recrutech.recrutechplatform.dto.application;
+
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for sending one entry of an application's status history to clients
+ */
+@Data
+@Builder
+public class ApplicationStatusTransitionResponse {
+    private ApplicationStatus fromStatus;
+    private ApplicationStatus toStatus;
+    private String changedBy;
+    private LocalDateTime changedAt;
+}
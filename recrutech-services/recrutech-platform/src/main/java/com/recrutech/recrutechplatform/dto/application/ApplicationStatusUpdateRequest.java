@@ -0,0 +1,17 @@
+package com.recrutech.recrutechplatform.dto.application;
+
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for receiving one entry of a bulk application status update
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStatusUpdateRequest {
+    private String applicationId;
+    private ApplicationStatus status;
+}
@@ -0,0 +1,13 @@
+package com.recrutech.recrutechplatform.dto.application;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DTO for sending the result of a bulk application status update to clients
+ */
+@Data
+@Builder
+public class ApplicationStatusUpdateResponse {
+    private int updated;
+}
@@ -0,0 +1,19 @@
+package com.recrutech.recrutechplatform.dto.application;
+
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for receiving a bulk transition of many applications to the same status
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationTransitionRequest {
+    private List<String> applicationIds;
+    private ApplicationStatus status;
+}
@@ -0,0 +1,17 @@
+package com.recrutech.recrutechplatform.dto.application;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO for sending the result of a bulk application transition to clients.
+ * Skipped applications do not exist or cannot move to the requested status from their current one.
+ */
+@Data
+@Builder
+public class ApplicationTransitionResponse {
+    private int transitioned;
+    private List<String> skipped;
+}
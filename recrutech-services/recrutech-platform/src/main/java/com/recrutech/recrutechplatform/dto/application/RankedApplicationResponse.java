@@ -0,0 +1,7 @@
+package com.recrutech.recrutechplatform.dto.application;
+
+/**
+ * An application in the relevance ranking of its job, with the relevance of its CV between 0 and 1
+ */
+public record RankedApplicationResponse(String id, String cvFileId, double score) {
+}
@@ -0,0 +1,8 @@
+package com.recrutech.recrutechplatform.dto.job;
+
+/**
+ * Number of applications for a job, in total and per application status.
+ */
+public record JobApplicationCounts(long total, long received, long underReview, long invited, long rejected,
+                                   long withdrawn) {
+}
@@ -0,0 +1,6 @@
+package com.recrutech.recrutechplatform.dto.job;
+
+import java.util.List;
+
+public record JobImportResponse(int imported, List<String> ids) {
+}
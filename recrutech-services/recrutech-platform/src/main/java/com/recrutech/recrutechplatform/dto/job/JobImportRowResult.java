@@ -0,0 +1,20 @@
+package com.recrutech.recrutechplatform.dto.job;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.recrutech.recrutechplatform.enums.JobImportStatus;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JobImportRowResult(long row, JobImportStatus status, String id, String error) {
+
+    public static JobImportRowResult created(long row, String id) {
+        return new JobImportRowResult(row, JobImportStatus.CREATED, id, null);
+    }
+
+    public static JobImportRowResult invalid(long row, String error) {
+        return new JobImportRowResult(row, JobImportStatus.INVALID, null, error);
+    }
+
+    public static JobImportRowResult failed(long row, String error) {
+        return new JobImportRowResult(row, JobImportStatus.FAILED, null, error);
+    }
+}
@@ -0,0 +1,7 @@
+package com.recrutech.recrutechplatform.dto.job;
+
+/**
+ * The title and location of an active job, as indexed for search suggestions.
+ */
+public record JobListing(String id, String title, String location) {
+}
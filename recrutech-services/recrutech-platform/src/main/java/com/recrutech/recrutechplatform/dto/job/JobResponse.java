@@ -1,4 +1,10 @@
 package com.recrutech.recrutechplatform.dto.job;
 
-public record JobResponse (String id, String title, String description, String location, boolean active){
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Job details. The version is sent as the ETag header rather than in the body.
+ */
+public record JobResponse (String id, String title, String description, String location, boolean active,
+                           @JsonIgnore long version){
 }
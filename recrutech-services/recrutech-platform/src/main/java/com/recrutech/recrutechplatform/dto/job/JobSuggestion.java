@@ -0,0 +1,7 @@
+package com.recrutech.recrutechplatform.dto.job;
+
+/**
+ * A job title or location matching a search prefix, with the number of active jobs that have it.
+ */
+public record JobSuggestion(String value, int activeJobs) {
+}
@@ -0,0 +1,9 @@
+package com.recrutech.recrutechplatform.dto.job;
+
+import java.util.List;
+
+/**
+ * Job titles and locations matching a search prefix, each with the most active jobs first.
+ */
+public record JobSuggestionResponse(List<JobSuggestion> titles, List<JobSuggestion> locations) {
+}
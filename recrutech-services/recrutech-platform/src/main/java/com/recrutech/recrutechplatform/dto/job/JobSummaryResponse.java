@@ -1,4 +1,4 @@
 package com.recrutech.recrutechplatform.dto.job;
 
-public record JobSummaryResponse(String id, String title, String location) {
-}
\ No newline at end of file
+public record JobSummaryResponse(String id, String title, String location, JobApplicationCounts applications) {
+}
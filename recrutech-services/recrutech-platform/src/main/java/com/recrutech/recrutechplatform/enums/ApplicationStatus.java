@@ -1,9 +1,52 @@
 package com.recrutech.recrutechplatform.enums;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum ApplicationStatus {
     RECEIVED,
     UNDER_REVIEW,
     INVITED,
     REJECTED,
-    WITHDRAWN
+    WITHDRAWN;
+
+    /**
+     * Gets the statuses an application in this status may be moved to.
+     * REJECTED and WITHDRAWN are final.
+     *
+     * @return the allowed target statuses
+     */
+    public Set<ApplicationStatus> allowedTransitions() {
+        return switch (this) {
+            case RECEIVED -> EnumSet.of(UNDER_REVIEW, INVITED, REJECTED, WITHDRAWN);
+            case UNDER_REVIEW -> EnumSet.of(INVITED, REJECTED, WITHDRAWN);
+            case INVITED -> EnumSet.of(REJECTED, WITHDRAWN);
+            case REJECTED, WITHDRAWN -> EnumSet.noneOf(ApplicationStatus.class);
+        };
+    }
+
+    /**
+     * Checks whether an application in this status may be moved to the given status.
+     *
+     * @param target the target status
+     * @return true if the transition is allowed
+     */
+    public boolean canTransitionTo(ApplicationStatus target) {
+        return allowedTransitions().contains(target);
+    }
+
+    /**
+     * Gets the statuses from which an application may be moved to this status.
+     *
+     * @return the allowed source statuses
+     */
+    public Set<ApplicationStatus> allowedSources() {
+        Set<ApplicationStatus> sources = EnumSet.noneOf(ApplicationStatus.class);
+        for (ApplicationStatus status : values()) {
+            if (status.canTransitionTo(this)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
 }
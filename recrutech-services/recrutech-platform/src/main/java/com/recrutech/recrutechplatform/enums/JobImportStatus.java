@@ -0,0 +1,7 @@
+package com.recrutech.recrutechplatform.enums;
+
+public enum JobImportStatus {
+    CREATED,
+    INVALID,
+    FAILED
+}
@@ -0,0 +1,356 @@
+package com.recrutech.recrutechplatform.intake;
+
+import com.recrutech.common.exception.ConflictException;
+import com.recrutech.common.util.UuidGenerator;
+import com.recrutech.common.util.UuidValidator;
+import com.recrutech.recrutechplatform.dto.application.ApplicationRequest;
+import com.recrutech.recrutechplatform.dto.application.ApplicationResponse;
+import com.recrutech.recrutechplatform.dto.job.JobResponse;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.repository.ApplicationSubmissionRepository;
+import com.recrutech.recrutechplatform.service.ApplicationIntakeWriter;
+import com.recrutech.recrutechplatform.service.JobService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind intake for job applications, enabled with {@code app.intake.enabled}.
+ * <p>
+ * A submission is validated against the cached job, given its application ID and appended to the
+ * {@link IntakeLog}; it is acknowledged once the record is on disk. A CV already submitted to the job
+ * is refused before that, whether it waits in the log or is stored: the intake keeps the job and CV of
+ * every waiting application, rebuilt from the log on startup, and looks up the stored submission.
+ * A single background thread drains the log in order, in batches of {@code app.intake.batch-size}
+ * applications written with one transaction each, and at most {@code app.intake.max-rows-per-second},
+ * so a deadline spike reaches the database as a steady write rate. The log position is committed after
+ * each stored batch; after a crash the uncommitted records are drained again on startup.
+ * <p>
+ * The lag is bounded by {@code app.intake.max-pending}: while that many applications wait in the log,
+ * or while the intake is stopped, {@link #submit} declines and the application is written directly
+ * through {@link #writeDirectly}, which refuses it too while the same CV for the job waits in the log.
+ * If a batch is rejected by the database, its applications are written one by one, skipping those
+ * already stored before a crash; an application whose job was deleted in the meantime, or that
+ * duplicates one written directly on another instance while it waited, is dropped and counted in
+ * {@code recrutech.intake.rejected}.
+ * <p>
+ * The waiting applications are reported in {@code recrutech.intake.pending}, the time from submission
+ * to storage in {@code recrutech.intake.delay} and declined submissions in {@code recrutech.intake.overflow}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.intake", name = "enabled", havingValue = "true")
+@Slf4j
+public class ApplicationIntake implements SmartLifecycle {
+
+    private final JobService jobService;
+    private final ApplicationIntakeWriter writer;
+    private final ApplicationSubmissionRepository submissionRepository;
+    private final IntakeLog intakeLog;
+    private final long maxPending;
+    private final int batchSize;
+    private final int maxRowsPerSecond;
+    private final Duration pollInterval;
+    private final AtomicLong pending;
+    private final Set<String> pendingSubmissions = ConcurrentHashMap.newKeySet();
+    private final Timer delay;
+    private final Counter rejected;
+    private final Counter overflow;
+    private volatile ScheduledExecutorService drainer;
+    private long position;
+
+    /**
+     * Constructor for ApplicationIntake, opening and recovering the intake log.
+     *
+     * @param jobService service validating the jobs applied to
+     * @param writer writer storing the drained applications
+     * @param submissionRepository repository for the stored submissions, checked for duplicates
+     * @param directory the directory of the intake log
+     * @param segmentSize the size of each log segment
+     * @param fsync whether a submission waits until its record is forced to disk
+     * @param maxPending the maximum number of applications waiting in the log
+     * @param batchSize the maximum number of applications written in one transaction
+     * @param maxRowsPerSecond the maximum rate at which applications are written
+     * @param pollInterval the time between two checks of an empty log
+     * @param meterRegistry the registry the intake metrics are registered in
+     * @throws IOException if the intake log cannot be opened
+     */
+    @Autowired
+    public ApplicationIntake(JobService jobService, ApplicationIntakeWriter writer,
+                             ApplicationSubmissionRepository submissionRepository,
+                             @Value("${app.intake.directory:./data/intake}") Path directory,
+                             @Value("${app.intake.segment-size:64MB}") DataSize segmentSize,
+                             @Value("${app.intake.fsync:true}") boolean fsync,
+                             @Value("${app.intake.max-pending:50000}") long maxPending,
+                             @Value("${app.intake.batch-size:500}") int batchSize,
+                             @Value("${app.intake.max-rows-per-second:2000}") int maxRowsPerSecond,
+                             @Value("${app.intake.poll-interval:100ms}") Duration pollInterval,
+                             MeterRegistry meterRegistry) throws IOException {
+        if (batchSize < 1 || maxRowsPerSecond < 1) {
+            throw new IllegalArgumentException("Batch size and rate must be positive: "
+                    + batchSize + ", " + maxRowsPerSecond);
+        }
+        this.jobService = jobService;
+        this.writer = writer;
+        this.submissionRepository = submissionRepository;
+        this.intakeLog = new IntakeLog(directory, Math.toIntExact(segmentSize.toBytes()), fsync);
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+        this.maxRowsPerSecond = maxRowsPerSecond;
+        this.pollInterval = pollInterval;
+        this.pending = new AtomicLong(intakeLog.getRecoveredRecords());
+        this.position = intakeLog.getCommittedPosition();
+        Gauge.builder("recrutech.intake.pending", pending, AtomicLong::get)
+                .description("Applications acknowledged but not yet stored")
+                .register(meterRegistry);
+        this.delay = Timer.builder("recrutech.intake.delay")
+                .description("Time from acknowledging an application to storing it")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("recrutech.intake.rejected")
+                .description("Acknowledged applications the database rejected")
+                .register(meterRegistry);
+        this.overflow = Counter.builder("recrutech.intake.overflow")
+                .description("Submissions written directly because the intake was full or stopped")
+                .register(meterRegistry);
+        for (List<IntakeLog.Entry> entries = intakeLog.read(position, batchSize); !entries.isEmpty();
+             entries = intakeLog.read(entries.getLast().nextPosition(), batchSize)) {
+            for (IntakeLog.Entry entry : entries) {
+                try {
+                    PendingApplication application = PendingApplication.fromBytes(entry.payload());
+                    pendingSubmissions.add(submissionKey(application.jobId(), application.cvFileId()));
+                } catch (IllegalArgumentException e) {
+                    // Dropped and counted when the record is drained
+                }
+            }
+        }
+        if (intakeLog.getRecoveredRecords() > 0) {
+            log.info("Recovered {} pending applications from the intake log in {}",
+                    intakeLog.getRecoveredRecords(), directory);
+        }
+    }
+
+    /**
+     * Accepts an application into the intake log.
+     *
+     * @param jobId the ID of the job to apply for
+     * @param request the application data
+     * @return the acknowledged application, or empty if the intake is full or stopped and the
+     *         application must be written directly
+     * @throws com.recrutech.common.exception.ValidationException if the job ID or CV file ID is invalid
+     * @throws com.recrutech.common.exception.NotFoundException if the job does not exist
+     * @throws ConflictException if the CV was already submitted to the job
+     */
+    public Optional<ApplicationResponse> submit(String jobId, ApplicationRequest request) {
+        JobResponse job = jobService.findJobById(jobId);
+        String cvFileId = request.getCvFileId();
+        UuidValidator.validateUuid(cvFileId, "CV File ID");
+
+        if (!isRunning()) {
+            overflow.increment();
+            return Optional.empty();
+        }
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            overflow.increment();
+            return Optional.empty();
+        }
+        // Claimed before the lookup: a twin still in the log holds the claim, one drained since is stored
+        String submission = submissionKey(job.id(), cvFileId);
+        if (!pendingSubmissions.add(submission)) {
+            pending.decrementAndGet();
+            throw ConflictException.stackless("An application with this CV already exists for job: " + jobId);
+        }
+        if (submissionRepository.existsByJobIdAndCvFileId(job.id(), cvFileId)) {
+            pendingSubmissions.remove(submission);
+            pending.decrementAndGet();
+            throw ConflictException.stackless("An application with this CV already exists for job: " + jobId);
+        }
+        PendingApplication application = new PendingApplication(UuidGenerator.generateTimeOrderedUuid(),
+                job.id(), cvFileId, LocalDateTime.now());
+        try {
+            intakeLog.append(application.toBytes());
+        } catch (IOException e) {
+            pendingSubmissions.remove(submission);
+            pending.decrementAndGet();
+            overflow.increment();
+            log.warn("Could not append to the intake log, writing the application directly: {}", e.getMessage());
+            return Optional.empty();
+        }
+        return Optional.of(ApplicationResponse.builder()
+                .id(application.id())
+                .jobId(application.jobId())
+                .cvFileId(application.cvFileId())
+                .status(ApplicationStatus.RECEIVED)
+                .viewedByHr(false)
+                .createdAt(application.createdAt())
+                .build());
+    }
+
+    /**
+     * Writes an application declined by {@link #submit} directly, unless the same CV for the job waits
+     * in the log. The job and CV stay claimed until the write returns, so a submission racing with it
+     * finds the stored application.
+     *
+     * @param jobId the ID of the job to apply for
+     * @param cvFileId the ID of the CV file
+     * @param write the direct write, committed when it returns
+     * @param <T> the type of the written application
+     * @return the written application
+     * @throws ConflictException if an application with this CV waits in the log for the job
+     */
+    public <T> T writeDirectly(String jobId, String cvFileId, Supplier<T> write) {
+        String submission = submissionKey(jobId, cvFileId);
+        if (!pendingSubmissions.add(submission)) {
+            throw ConflictException.stackless("An application with this CV already exists for job: " + jobId);
+        }
+        try {
+            return write.get();
+        } finally {
+            pendingSubmissions.remove(submission);
+        }
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "application-intake");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::drain, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        drainer = executor;
+        log.info("Application intake started with {} pending applications", pending.get());
+    }
+
+    /**
+     * Stops accepting applications, lets the current batch finish and closes the log. Applications
+     * still waiting are drained after the next start.
+     */
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = drainer;
+        drainer = null;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Application intake did not finish its batch in time");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        intakeLog.close();
+        log.info("Application intake stopped with {} pending applications", pending.get());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return drainer != null;
+    }
+
+    /**
+     * Drains batches until the log is empty or the intake stops, at no more than the configured rate.
+     */
+    void drain() {
+        try {
+            int count;
+            do {
+                long started = System.nanoTime();
+                count = drainBatch();
+                long remaining = count * TimeUnit.SECONDS.toNanos(1) / maxRowsPerSecond
+                        - (System.nanoTime() - started);
+                if (remaining > 0) {
+                    TimeUnit.NANOSECONDS.sleep(remaining);
+                }
+            } while (count == batchSize && isRunning());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Application intake failed, retrying in {}: {}", pollInterval, e.getMessage());
+        }
+    }
+
+    /**
+     * Stores the next batch of the log and commits its position.
+     *
+     * @return the number of drained records; 0 if the log is empty
+     * @throws IOException if the log position cannot be committed
+     */
+    int drainBatch() throws IOException {
+        List<IntakeLog.Entry> entries = intakeLog.read(position, batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        List<PendingApplication> applications = new ArrayList<>(entries.size());
+        for (IntakeLog.Entry entry : entries) {
+            try {
+                applications.add(PendingApplication.fromBytes(entry.payload()));
+            } catch (IllegalArgumentException e) {
+                rejected.increment();
+                log.error("Dropping an unreadable intake record: {}", e.getMessage());
+            }
+        }
+        if (!applications.isEmpty()) {
+            try {
+                writer.writeAll(applications);
+            } catch (DataIntegrityViolationException e) {
+                writeOneByOne(applications);
+            }
+        }
+
+        long next = entries.getLast().nextPosition();
+        intakeLog.commit(next);
+        position = next;
+        pending.addAndGet(-entries.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (PendingApplication application : applications) {
+            pendingSubmissions.remove(submissionKey(application.jobId(), application.cvFileId()));
+            delay.record(Duration.between(application.createdAt(), now));
+        }
+        return entries.size();
+    }
+
+    private static String submissionKey(String jobId, String cvFileId) {
+        return (jobId + "/" + cvFileId).toLowerCase(Locale.ROOT);
+    }
+
+    private void writeOneByOne(List<PendingApplication> applications) {
+        for (PendingApplication application : applications) {
+            try {
+                writer.write(application);
+            } catch (DataIntegrityViolationException e) {
+                rejected.increment();
+                log.warn("Dropping application {} for job {} with CV {}: rejected by the database",
+                        application.id(), application.jobId(), application.cvFileId());
+            }
+        }
+    }
+}
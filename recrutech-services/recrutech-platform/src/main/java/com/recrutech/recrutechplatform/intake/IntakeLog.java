@@ -0,0 +1,337 @@
+package com.recrutech.recrutechplatform.intake;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongPredicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Durable append-only log of records in memory-mapped segment files of a fixed size.
+ * <p>
+ * A position is a byte offset across all segments: segment {@code n} holds the positions from
+ * {@code n * segmentSize}. Each record is stored as its length, the CRC32 checksum of its payload and
+ * the payload; a record that does not fit into the rest of a segment starts the next one. The consumer
+ * commits the position up to which it has processed the records. The position is stored in the
+ * checkpoint file, and segments that lie completely before it are deleted.
+ * <p>
+ * Opening the log recovers it: the records after the checkpoint are scanned, and appending continues
+ * after the last complete one. A record torn by a crash fails its checksum and is discarded, together
+ * with everything written after it. With fsync enabled, an append returns only once the record is forced
+ * to disk, and appends waiting at the same time share one force.
+ * <p>
+ * Records may be appended from any thread; reads and commits must come from a single consumer thread.
+ * The segment size must not change while the log holds uncommitted records.
+ */
+public class IntakeLog implements Closeable {
+
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int END_OF_SEGMENT = -1;
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean fsync;
+    private final Map<Long, MappedByteBuffer> segments = new ConcurrentHashMap<>();
+    /*
+     * ReentrantLocks rather than monitors: appends wait here for a force to disk or a new segment, and a
+     * waiting virtual thread unmounts instead of pinning its carrier thread.
+     */
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final int recoveredRecords;
+    private volatile long writePosition;
+    private volatile long committedPosition;
+    private long flushedPosition;
+
+    /**
+     * Opens the log in the given directory, creating it if needed, and recovers it.
+     *
+     * @param directory the directory holding the segments and the checkpoint
+     * @param segmentSize the size of each segment file in bytes
+     * @param fsync whether appends wait until the record is forced to disk
+     * @throws IOException if the directory or the segments cannot be read
+     */
+    public IntakeLog(Path directory, int segmentSize, boolean fsync) throws IOException {
+        if (segmentSize < 1024) {
+            throw new IllegalArgumentException("Segment size must be at least 1024 bytes: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsync = fsync;
+        Files.createDirectories(directory);
+
+        long checkpoint = readCheckpoint();
+        long position = checkpoint;
+        long firstSegment = segmentIndex(position);
+        deleteSegments(index -> index < firstSegment);
+        int records = 0;
+        while (true) {
+            MappedByteBuffer segment = mapIfExists(segmentIndex(position));
+            if (segment == null) {
+                break;
+            }
+            int offset = offset(position);
+            if (segmentSize - offset < HEADER_SIZE) {
+                position = nextSegment(position);
+                continue;
+            }
+            int length = segment.getInt(offset);
+            if (length == END_OF_SEGMENT) {
+                position = nextSegment(position);
+                continue;
+            }
+            if (length <= 0 || length > segmentSize - offset - HEADER_SIZE
+                    || segment.getInt(offset + Integer.BYTES) != checksum(segment.slice(offset + HEADER_SIZE, length))) {
+                break;
+            }
+            position += HEADER_SIZE + length;
+            records++;
+        }
+
+        // Clear what a crash left behind the last complete record, so it is never mistaken for a record
+        long lastSegment = segmentIndex(position);
+        MappedByteBuffer segment = segments.get(lastSegment);
+        if (segment != null) {
+            for (int offset = offset(position); offset < segmentSize; offset++) {
+                segment.put(offset, (byte) 0);
+            }
+            segment.force();
+        }
+        deleteSegments(index -> index > lastSegment);
+
+        this.committedPosition = checkpoint;
+        this.writePosition = position;
+        this.flushedPosition = position;
+        this.recoveredRecords = records;
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param payload the record, at most the segment size minus 8 bytes
+     * @return the position after the record
+     * @throws IOException if a new segment cannot be created
+     */
+    public long append(byte[] payload) throws IOException {
+        if (payload.length == 0 || payload.length > segmentSize - HEADER_SIZE) {
+            throw new IllegalArgumentException("Record size must be between 1 and "
+                    + (segmentSize - HEADER_SIZE) + " bytes: " + payload.length);
+        }
+        long end;
+        appendLock.lock();
+        try {
+            long position = writePosition;
+            int offset = offset(position);
+            if (segmentSize - offset < HEADER_SIZE + payload.length) {
+                if (segmentSize - offset >= Integer.BYTES) {
+                    segments.get(segmentIndex(position)).putInt(offset, END_OF_SEGMENT);
+                }
+                position = nextSegment(position);
+                offset = 0;
+            }
+            MappedByteBuffer segment = segments.get(segmentIndex(position));
+            if (segment == null) {
+                segment = map(segmentIndex(position));
+            }
+            segment.put(offset + HEADER_SIZE, payload);
+            segment.putInt(offset + Integer.BYTES, checksum(ByteBuffer.wrap(payload)));
+            segment.putInt(offset, payload.length);
+            end = position + HEADER_SIZE + payload.length;
+            writePosition = end;
+        } finally {
+            appendLock.unlock();
+        }
+        if (fsync) {
+            flush(end);
+        }
+        return end;
+    }
+
+    /**
+     * Reads the records following a position, up to the last appended one.
+     *
+     * @param from the position to read from, the committed position or the end of a previously read record
+     * @param maxRecords the maximum number of records
+     * @return the records, each with the position after it; empty if there are none
+     */
+    public List<Entry> read(long from, int maxRecords) {
+        List<Entry> records = new ArrayList<>(Math.min(maxRecords, 1024));
+        long end = writePosition;
+        long position = from;
+        while (position < end && records.size() < maxRecords) {
+            int offset = offset(position);
+            if (segmentSize - offset < HEADER_SIZE) {
+                position = nextSegment(position);
+                continue;
+            }
+            MappedByteBuffer segment = segments.get(segmentIndex(position));
+            int length = segment.getInt(offset);
+            if (length == END_OF_SEGMENT) {
+                position = nextSegment(position);
+                continue;
+            }
+            byte[] payload = new byte[length];
+            segment.get(offset + HEADER_SIZE, payload);
+            position += HEADER_SIZE + length;
+            records.add(new Entry(position, payload));
+        }
+        return records;
+    }
+
+    /**
+     * Marks the records before a position as processed and deletes the segments no longer needed.
+     *
+     * @param position the position after the last processed record
+     * @throws IOException if the checkpoint cannot be written
+     */
+    public void commit(long position) throws IOException {
+        if (position <= committedPosition) {
+            return;
+        }
+        Path temporary = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap(Long.toString(position).getBytes(StandardCharsets.US_ASCII)));
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        committedPosition = position;
+        long firstSegment = segmentIndex(position);
+        deleteSegments(index -> index < firstSegment);
+    }
+
+    /**
+     * Gets the position up to which records are processed; reading after a restart starts here.
+     *
+     * @return the committed position
+     */
+    public long getCommittedPosition() {
+        return committedPosition;
+    }
+
+    /**
+     * Gets the number of unprocessed records found when the log was opened.
+     *
+     * @return the number of recovered records
+     */
+    public int getRecoveredRecords() {
+        return recoveredRecords;
+    }
+
+    /**
+     * Forces all appended records to disk and releases the segments.
+     */
+    @Override
+    public void close() {
+        flush(writePosition);
+        segments.clear();
+    }
+
+    private void flush(long end) {
+        flushLock.lock();
+        try {
+            if (flushedPosition >= end) {
+                return;
+            }
+            long target = writePosition;
+            long position = flushedPosition;
+            while (position < target) {
+                long index = segmentIndex(position);
+                long segmentEnd = Math.min(target, (index + 1) * segmentSize);
+                MappedByteBuffer segment = segments.get(index);
+                if (segment != null) {
+                    segment.force(offset(position), (int) (segmentEnd - position));
+                }
+                position = segmentEnd;
+            }
+            flushedPosition = target;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private MappedByteBuffer mapIfExists(long index) throws IOException {
+        return Files.exists(segmentPath(index)) ? map(index) : null;
+    }
+
+    private MappedByteBuffer map(long index) throws IOException {
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(segmentPath(index), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            segments.put(index, segment);
+            return segment;
+        }
+    }
+
+    private void deleteSegments(LongPredicate filter) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (!name.endsWith(SEGMENT_SUFFIX)) {
+                    continue;
+                }
+                long index = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                if (filter.test(index)) {
+                    segments.remove(index);
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(checkpoint)) {
+            return 0;
+        }
+        return Long.parseLong(Files.readString(checkpoint, StandardCharsets.US_ASCII).trim());
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("%020d%s", index, SEGMENT_SUFFIX));
+    }
+
+    private long segmentIndex(long position) {
+        return position / segmentSize;
+    }
+
+    private int offset(long position) {
+        return (int) (position % segmentSize);
+    }
+
+    private long nextSegment(long position) {
+        return (segmentIndex(position) + 1) * segmentSize;
+    }
+
+    private static int checksum(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Record read from the log, with its position.
+     *
+     * @param nextPosition the position after the record, to be committed once it is processed
+     * @param payload the record
+     */
+    public record Entry(long nextPosition, byte[] payload) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.recrutech.recrutechplatform.intake;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Application accepted into the intake log but not yet written to the database.
+ * <p>
+ * It is stored in a fixed binary layout: a format version, the three IDs as 16-byte UUIDs and the
+ * submission time as seconds and nanoseconds.
+ */
+public record PendingApplication(
+        String id,
+        String jobId,
+        String cvFileId,
+        LocalDateTime createdAt
+) {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int SIZE = 1 + 3 * 2 * Long.BYTES + Long.BYTES + Integer.BYTES;
+
+    /**
+     * Encodes the application for the intake log.
+     *
+     * @return the record bytes
+     */
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE);
+        buffer.put(FORMAT_VERSION);
+        putUuid(buffer, id);
+        putUuid(buffer, jobId);
+        putUuid(buffer, cvFileId);
+        buffer.putLong(createdAt.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(createdAt.getNano());
+        return buffer.array();
+    }
+
+    /**
+     * Decodes an application read from the intake log.
+     *
+     * @param bytes the record bytes
+     * @return the application
+     * @throws IllegalArgumentException if the record has an unknown format
+     */
+    public static PendingApplication fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION || bytes.length != SIZE) {
+            throw new IllegalArgumentException("Unknown intake record format " + version + " of " + bytes.length + " bytes");
+        }
+        String id = getUuid(buffer);
+        String jobId = getUuid(buffer);
+        String cvFileId = getUuid(buffer);
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+        return new PendingApplication(id, jobId, cvFileId, createdAt);
+    }
+
+    private static void putUuid(ByteBuffer buffer, String value) {
+        UUID uuid = UUID.fromString(value);
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static String getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
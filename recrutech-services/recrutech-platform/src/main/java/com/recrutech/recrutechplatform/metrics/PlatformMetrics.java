@@ -0,0 +1,30 @@
+package com.recrutech.recrutechplatform.metrics;
+
+/**
+ * Names and descriptions of the timers shared by the platform service operations.
+ */
+public final class PlatformMetrics {
+
+    /**
+     * Timer of the job and application operations.
+     */
+    public static final String OPERATIONS = "recrutech.platform.operations";
+
+    /**
+     * Description of the {@link #OPERATIONS} timer.
+     */
+    public static final String OPERATIONS_DESCRIPTION = "Time spent in job and application operations";
+
+    /**
+     * Timer of the file storage operations.
+     */
+    public static final String STORAGE_OPERATIONS = "recrutech.storage.operations";
+
+    /**
+     * Description of the {@link #STORAGE_OPERATIONS} timer.
+     */
+    public static final String STORAGE_OPERATIONS_DESCRIPTION = "Time spent in file storage operations";
+
+    private PlatformMetrics() {
+    }
+}
@@ -1,10 +1,12 @@
 package com.recrutech.recrutechplatform.model;
 
 import com.recrutech.common.entity.BaseEntity;
+import com.recrutech.common.entity.UuidBinaryType;
 import com.recrutech.recrutechplatform.enums.ApplicationStatus;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Type;
 
 @Entity
 @Table(name="application")
@@ -12,7 +14,8 @@ import lombok.Setter;
 @Setter
 public class Application extends BaseEntity {
 
-    @Column(name = "cv_file_id", columnDefinition = "char", length = 36)
+    @Type(UuidBinaryType.class)
+    @Column(name = "cv_file_id", columnDefinition = "binary(16)")
     private String cvFileId;
 
     @Enumerated(EnumType.STRING)
@@ -21,7 +24,7 @@ public class Application extends BaseEntity {
     private boolean viewedByHr;
 
     @ManyToOne
-    @JoinColumn(name = "job_id")
+    @JoinColumn(name = "job_id", columnDefinition = "binary(16)")
     private Job job;
 
     @PrePersist
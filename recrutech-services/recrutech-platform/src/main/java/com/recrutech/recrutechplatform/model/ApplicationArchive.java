@@ -0,0 +1,40 @@
+package com.recrutech.recrutechplatform.model;
+
+import com.recrutech.common.entity.BaseEntity;
+import com.recrutech.common.entity.UuidBinaryType;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application of a long-closed job, moved out of the partitioned application table by the archiver.
+ * Archived applications are read-only and stored compressed.
+ */
+@Entity
+@Immutable
+@Table(name = "application_archive")
+@Getter
+@NoArgsConstructor
+public class ApplicationArchive extends BaseEntity {
+
+    @Type(UuidBinaryType.class)
+    @Column(name = "job_id", columnDefinition = "binary(16)", nullable = false)
+    private String jobId;
+
+    @Type(UuidBinaryType.class)
+    @Column(name = "cv_file_id", columnDefinition = "binary(16)")
+    private String cvFileId;
+
+    @Enumerated(EnumType.STRING)
+    private ApplicationStatus status;
+
+    private boolean viewedByHr;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
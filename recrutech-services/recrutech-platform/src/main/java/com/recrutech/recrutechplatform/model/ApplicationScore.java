@@ -0,0 +1,52 @@
+package com.recrutech.recrutechplatform.model;
+
+import com.recrutech.common.entity.UuidBinaryType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * Relevance of an application's CV to the description of its job, between 0 and 1. The hash of the
+ * description the score was computed against identifies scores made outdated by a description edit.
+ */
+@Entity
+@Table(name = "application_score")
+@Getter
+@NoArgsConstructor
+public class ApplicationScore {
+
+    @Id
+    @Type(UuidBinaryType.class)
+    @Column(name = "application_id", columnDefinition = "binary(16)", nullable = false)
+    private String applicationId;
+
+    @Type(UuidBinaryType.class)
+    @Column(name = "job_id", columnDefinition = "binary(16)", nullable = false)
+    private String jobId;
+
+    @Type(UuidBinaryType.class)
+    @Column(name = "cv_file_id", columnDefinition = "binary(16)")
+    private String cvFileId;
+
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    @Column(name = "description_hash", nullable = false)
+    private int descriptionHash;
+
+    @Column(name = "scored_at", nullable = false)
+    private LocalDateTime scoredAt;
+
+    public ApplicationScore(String applicationId, String jobId, String cvFileId, double score,
+                            int descriptionHash, LocalDateTime scoredAt) {
+        this.applicationId = applicationId;
+        this.jobId = jobId;
+        this.cvFileId = cvFileId;
+        this.score = score;
+        this.descriptionHash = descriptionHash;
+        this.scoredAt = scoredAt;
+    }
+}
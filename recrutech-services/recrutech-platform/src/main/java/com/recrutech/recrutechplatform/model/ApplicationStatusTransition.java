@@ -0,0 +1,49 @@
+package com.recrutech.recrutechplatform.model;
+
+import com.recrutech.common.entity.BaseEntity;
+import com.recrutech.common.entity.UuidBinaryType;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Type;
+
+/**
+ * Entry of the append-only application status transition log. Entries are never updated or deleted.
+ */
+@Entity
+@Immutable
+@Table(name = "application_status_transition")
+@Getter
+@NoArgsConstructor
+public class ApplicationStatusTransition extends BaseEntity {
+
+    @Type(UuidBinaryType.class)
+    @Column(name = "application_id", columnDefinition = "binary(16)", nullable = false)
+    private String applicationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private ApplicationStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private ApplicationStatus toStatus;
+
+    @Column(name = "changed_by")
+    private String changedBy;
+
+    public ApplicationStatusTransition(String applicationId, ApplicationStatus fromStatus, ApplicationStatus toStatus,
+                                       String changedBy) {
+        this.applicationId = applicationId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.changedBy = changedBy;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        initializeEntity();
+    }
+}
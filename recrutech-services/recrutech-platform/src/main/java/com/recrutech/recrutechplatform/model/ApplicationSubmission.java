@@ -0,0 +1,65 @@
+package com.recrutech.recrutechplatform.model;
+
+import com.recrutech.common.entity.UuidBinaryType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+
+/**
+ * One row per application, live or archived, keyed by its job and CV. The application table is
+ * partitioned and can enforce neither a unique key without the partitioning column nor a foreign
+ * key, so this table rejects a second application with the same CV for a job and an application
+ * for a job that does not exist. Rows are only inserted and deleted.
+ */
+@Entity
+@Table(name = "application_submission")
+@IdClass(ApplicationSubmission.Key.class)
+@Getter
+@NoArgsConstructor
+public class ApplicationSubmission implements Persistable<ApplicationSubmission.Key> {
+
+    @Id
+    @Type(UuidBinaryType.class)
+    @Column(name = "job_id", columnDefinition = "binary(16)", nullable = false)
+    private String jobId;
+
+    @Id
+    @Type(UuidBinaryType.class)
+    @Column(name = "cv_file_id", columnDefinition = "binary(16)", nullable = false)
+    private String cvFileId;
+
+    public ApplicationSubmission(String jobId, String cvFileId) {
+        this.jobId = jobId;
+        this.cvFileId = cvFileId;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(jobId, cvFileId);
+    }
+
+    /**
+     * Always true, so saving inserts the row and a duplicate fails instead of being merged.
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    /**
+     * Primary key of a submission.
+     */
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String jobId;
+        private String cvFileId;
+    }
+}
@@ -0,0 +1,51 @@
+package com.recrutech.recrutechplatform.model;
+
+import com.recrutech.common.entity.UuidBinaryType;
+import com.recrutech.recrutechplatform.relevance.TermVector;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * The terms extracted from a CV file, kept so that applications can be scored again without
+ * downloading and parsing their CVs. Rows are only inserted and deleted.
+ */
+@Entity
+@Table(name = "cv_term_vector")
+@Getter
+@NoArgsConstructor
+public class CvTermVector {
+
+    @Id
+    @Type(UuidBinaryType.class)
+    @Column(name = "file_id", columnDefinition = "binary(16)", nullable = false)
+    private String fileId;
+
+    @Column(name = "term_count", nullable = false)
+    private int termCount;
+
+    @Column(name = "terms", columnDefinition = "text", nullable = false)
+    private String terms;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public CvTermVector(String fileId, TermVector vector, LocalDateTime createdAt) {
+        this.fileId = fileId;
+        this.termCount = vector.length();
+        this.terms = vector.encode();
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Decodes the stored terms.
+     *
+     * @return the term vector of the CV
+     */
+    public TermVector toTermVector() {
+        return TermVector.decode(terms, termCount);
+    }
+}
@@ -6,11 +6,25 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 
+/**
+ * A job posting. Jobs are read far more often than written, so they are kept in the read-write
+ * second-level cache. The application counters of a cached job can lag behind; queries read them
+ * from the database.
+ * <p>
+ * Deleted jobs keep their row, with {@code deleted_at} set, until the job reaper has removed their
+ * applications; they are excluded from every query on jobs.
+ */
 @Entity
 @Table(name = "job")
+@SQLRestriction("deleted_at is null")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "recrutech.platform.job")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -30,6 +44,51 @@ public class Job extends BaseEntity {
 
     private boolean active;
 
+    /*
+     * Time the job was last closed, maintained by setActive. Applications of jobs closed long enough
+     * are moved to the archive.
+     */
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+
+    /*
+     * Optimistic locking version, exposed as the ETag of the job. The counter updates below
+     * bypass the entity and do not increment it.
+     */
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    /*
+     * Application counters, maintained by atomic increments in the transaction that creates an
+     * application or changes its status, so reads never count application rows. They are not
+     * updatable through the entity, so saving a stale job cannot overwrite concurrent increments.
+     */
+    @Column(name = "application_count", nullable = false, updatable = false)
+    private long applicationCount;
+
+    @Column(name = "received_count", nullable = false, updatable = false)
+    private long receivedCount;
+
+    @Column(name = "under_review_count", nullable = false, updatable = false)
+    private long underReviewCount;
+
+    @Column(name = "invited_count", nullable = false, updatable = false)
+    private long invitedCount;
+
+    @Column(name = "rejected_count", nullable = false, updatable = false)
+    private long rejectedCount;
+
+    @Column(name = "withdrawn_count", nullable = false, updatable = false)
+    private long withdrawnCount;
+
+    /*
+     * Time of deletion, set by a single update statement. Deleted jobs are never loaded, so it is
+     * not writable through the entity.
+     */
+    @Column(name = "deleted_at", insertable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
     @Builder
     public Job(String id, String title, String description, String location, LocalDateTime createdAt, String createdBy, boolean active) {
         this.setId(id);
@@ -39,6 +98,21 @@ public class Job extends BaseEntity {
         this.setCreatedAt(createdAt);
         this.createdBy = createdBy;
         this.active = active;
+        this.closedAt = active ? null : LocalDateTime.now();
+    }
+
+    /**
+     * Opens or closes the job. Closing an open job records the time it was closed.
+     *
+     * @param active whether the job is open
+     */
+    public void setActive(boolean active) {
+        if (active) {
+            closedAt = null;
+        } else if (this.active || closedAt == null) {
+            closedAt = LocalDateTime.now();
+        }
+        this.active = active;
     }
 
     @PrePersist
@@ -0,0 +1,48 @@
+package com.recrutech.recrutechplatform.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of an outbox relay: the sequence number of the last published event and the number of
+ * events published so far. The row doubles as the lock that keeps a single instance relaying.
+ */
+@Entity
+@Table(name = "outbox_checkpoint")
+@Getter
+@NoArgsConstructor
+public class OutboxCheckpoint {
+
+    @Id
+    @Column(name = "relay", nullable = false)
+    private String relay;
+
+    @Column(name = "last_sequence_number", nullable = false)
+    private long lastSequenceNumber;
+
+    @Column(name = "published_count", nullable = false)
+    private long publishedCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public OutboxCheckpoint(String relay) {
+        this.relay = relay;
+    }
+
+    /**
+     * Records a published batch.
+     *
+     * @param sequenceNumber the highest sequence number of the batch
+     * @param count the number of events in the batch
+     * @param publishedAt the time the batch was published
+     */
+    public void advance(long sequenceNumber, int count, LocalDateTime publishedAt) {
+        this.lastSequenceNumber = Math.max(lastSequenceNumber, sequenceNumber);
+        this.publishedCount += count;
+        this.updatedAt = publishedAt;
+    }
+}
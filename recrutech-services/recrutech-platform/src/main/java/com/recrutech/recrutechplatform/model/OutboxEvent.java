@@ -0,0 +1,54 @@
+package com.recrutech.recrutechplatform.model;
+
+import com.recrutech.common.entity.BaseEntity;
+import com.recrutech.common.entity.UuidBinaryType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain event in the transactional outbox, written in the same transaction as the change it describes.
+ * <p>
+ * The sequence number is assigned by the database on insert and is not known to the writing transaction.
+ * The payload is the JSON representation of the event.
+ */
+@Entity
+@Table(name = "outbox_event")
+@Getter
+@NoArgsConstructor
+public class OutboxEvent extends BaseEntity {
+
+    @Column(name = "sequence_number", insertable = false, updatable = false)
+    private Long sequenceNumber;
+
+    @Column(name = "aggregate_type", nullable = false, updatable = false)
+    private String aggregateType;
+
+    @Type(UuidBinaryType.class)
+    @Column(name = "aggregate_id", columnDefinition = "binary(16)", nullable = false, updatable = false)
+    private String aggregateId;
+
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private String eventType;
+
+    @Column(name = "payload", columnDefinition = "text", nullable = false, updatable = false)
+    private String payload;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    public OutboxEvent(String aggregateType, String aggregateId, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        initializeEntity();
+    }
+}
@@ -0,0 +1,46 @@
+package com.recrutech.recrutechplatform.outbox;
+
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+
+/**
+ * Payload of the application events. The previous status and the user making the change are only
+ * set for status changes, the CV file only for submissions.
+ */
+public record ApplicationEventPayload(
+        String id,
+        String jobId,
+        String cvFileId,
+        ApplicationStatus status,
+        ApplicationStatus previousStatus,
+        String changedBy
+) {
+
+    /**
+     * Creates the payload of a submitted application.
+     *
+     * @param id the ID of the application
+     * @param jobId the ID of the job applied to
+     * @param cvFileId the ID of the CV file
+     * @param status the initial status
+     * @return the payload
+     */
+    public static ApplicationEventPayload submitted(String id, String jobId, String cvFileId,
+                                                    ApplicationStatus status) {
+        return new ApplicationEventPayload(id, jobId, cvFileId, status, null, null);
+    }
+
+    /**
+     * Creates the payload of a status change.
+     *
+     * @param id the ID of the application
+     * @param jobId the ID of the job applied to
+     * @param previousStatus the status before the change
+     * @param status the status after the change
+     * @param changedBy the user making the change
+     * @return the payload
+     */
+    public static ApplicationEventPayload statusChanged(String id, String jobId, ApplicationStatus previousStatus,
+                                                        ApplicationStatus status, String changedBy) {
+        return new ApplicationEventPayload(id, jobId, null, status, previousStatus, changedBy);
+    }
+}
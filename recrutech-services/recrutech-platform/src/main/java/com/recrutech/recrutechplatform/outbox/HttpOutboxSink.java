@@ -0,0 +1,74 @@
+package com.recrutech.recrutechplatform.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Publishes outbox events to an HTTP endpoint, enabled by setting {@code app.outbox.http.url}.
+ * <p>
+ * Each batch is posted as one JSON array of {@link OutboxMessage}s; any status other than 2xx fails the batch.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox.http", name = "url")
+public class HttpOutboxSink implements OutboxEventSink {
+
+    private final HttpClient httpClient;
+    private final URI url;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor for HttpOutboxSink.
+     *
+     * @param url the endpoint the batches are posted to
+     * @param timeout the timeout for connecting and for each request
+     * @param objectMapper the mapper serializing the batches
+     */
+    @Autowired
+    public HttpOutboxSink(@Value("${app.outbox.http.url}") URI url,
+                          @Value("${app.outbox.http.timeout:5s}") Duration timeout,
+                          ObjectMapper objectMapper) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+        this.url = url;
+        this.timeout = timeout;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return "http";
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(messages)))
+                .build();
+        HttpResponse<Void> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while publishing to " + url);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException(url + " responded with status " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.recrutech.recrutechplatform.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Publishes outbox events as Spring application events, one {@link OutboxMessage} per event.
+ * <p>
+ * Listeners run on the relay thread, outside the transaction that wrote the event; an exception
+ * in a listener fails the batch, which is then published again.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox.in-process", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InProcessOutboxSink implements OutboxEventSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InProcessOutboxSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public String name() {
+        return "in-process";
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            eventPublisher.publishEvent(message);
+        }
+    }
+}
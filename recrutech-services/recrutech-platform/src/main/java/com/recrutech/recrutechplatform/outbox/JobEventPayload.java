@@ -0,0 +1,27 @@
+package com.recrutech.recrutechplatform.outbox;
+
+import com.recrutech.recrutechplatform.model.Job;
+
+/**
+ * Payload of the job created and job updated events: the state of the job after the change.
+ */
+public record JobEventPayload(
+        String id,
+        String title,
+        String description,
+        String location,
+        boolean active,
+        long version
+) {
+
+    /**
+     * Creates the payload from a job.
+     *
+     * @param job the job after the change
+     * @return the payload
+     */
+    public static JobEventPayload of(Job job) {
+        return new JobEventPayload(job.getId(), job.getTitle(), job.getDescription(), job.getLocation(),
+                job.isActive(), job.getVersion());
+    }
+}
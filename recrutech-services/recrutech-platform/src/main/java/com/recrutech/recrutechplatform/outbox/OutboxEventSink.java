@@ -0,0 +1,29 @@
+package com.recrutech.recrutechplatform.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination the outbox relay publishes events to. Every sink bean receives every batch.
+ * <p>
+ * Delivery is at least once: a batch that fails in any sink is published again to all sinks,
+ * so sinks must tolerate duplicates, e.g. by the event ID. Events of one aggregate are always
+ * delivered in sequence order.
+ */
+public interface OutboxEventSink {
+
+    /**
+     * Gets the name of the sink, used in logs and metrics.
+     *
+     * @return the name
+     */
+    String name();
+
+    /**
+     * Publishes a batch of events, in sequence order. The batch counts as delivered once this method returns.
+     *
+     * @param messages the events
+     * @throws IOException if the events could not be delivered
+     */
+    void publish(List<OutboxMessage> messages) throws IOException;
+}
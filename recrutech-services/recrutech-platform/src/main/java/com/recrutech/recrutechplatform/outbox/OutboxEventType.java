@@ -0,0 +1,39 @@
+package com.recrutech.recrutechplatform.outbox;
+
+/**
+ * Types of the domain events written to the outbox, with the aggregate they belong to.
+ */
+public enum OutboxEventType {
+
+    JOB_CREATED("job", "job.created"),
+    JOB_UPDATED("job", "job.updated"),
+    JOB_DELETED("job", "job.deleted"),
+    APPLICATION_SUBMITTED("application", "application.submitted"),
+    APPLICATION_STATUS_CHANGED("application", "application.status-changed");
+
+    private final String aggregateType;
+    private final String eventType;
+
+    OutboxEventType(String aggregateType, String eventType) {
+        this.aggregateType = aggregateType;
+        this.eventType = eventType;
+    }
+
+    /**
+     * Gets the type of the aggregate the events belong to.
+     *
+     * @return the aggregate type, e.g. {@code job}
+     */
+    public String aggregateType() {
+        return aggregateType;
+    }
+
+    /**
+     * Gets the name of the event type as published to the sinks.
+     *
+     * @return the event type, e.g. {@code job.created}
+     */
+    public String eventType() {
+        return eventType;
+    }
+}
@@ -0,0 +1,32 @@
+package com.recrutech.recrutechplatform.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.recrutech.recrutechplatform.model.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Event as delivered to the sinks. The ID identifies the event for deduplication, the sequence number
+ * orders the events of one aggregate. The payload is JSON and is embedded as is when serialized.
+ */
+public record OutboxMessage(
+        String id,
+        long sequenceNumber,
+        String aggregateType,
+        String aggregateId,
+        String eventType,
+        @JsonRawValue String payload,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * Creates the message of a stored event.
+     *
+     * @param event the event read from the outbox
+     * @return the message
+     */
+    public static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getSequenceNumber(), event.getAggregateType(),
+                event.getAggregateId(), event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+}
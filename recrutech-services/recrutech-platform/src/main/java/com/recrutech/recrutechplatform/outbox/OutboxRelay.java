@@ -0,0 +1,216 @@
+package com.recrutech.recrutechplatform.outbox;
+
+import com.recrutech.recrutechplatform.model.OutboxCheckpoint;
+import com.recrutech.recrutechplatform.model.OutboxEvent;
+import com.recrutech.recrutechplatform.repository.OutboxCheckpointRepository;
+import com.recrutech.recrutechplatform.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the events of the outbox to all {@link OutboxEventSink}s, off the request path.
+ * <p>
+ * Every interval the relay publishes the unpublished events in batches, oldest sequence number first,
+ * until none are left. Each batch is one transaction: it locks the relay's checkpoint row with
+ * {@code SKIP LOCKED}, so only one instance relays at a time and the others skip the round, hands the
+ * batch to every sink, then marks the events as published and advances the checkpoint. If a sink fails,
+ * the transaction rolls back and the same batch is published again in the next round, so the events
+ * of one aggregate are never delivered out of order. Published events are deleted after the retention.
+ * <p>
+ * Published events are counted in {@code recrutech.outbox.published}, failed batches per sink in
+ * {@code recrutech.outbox.failures}, and the time from writing to publishing an event is recorded in
+ * {@code recrutech.outbox.delay}.
+ */
+@Component
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+
+    static final String RELAY = "platform";
+    private static final long PURGE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final OutboxEventRepository eventRepository;
+    private final OutboxCheckpointRepository checkpointRepository;
+    private final List<OutboxEventSink> sinks;
+    private final TransactionOperations transactionOperations;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration interval;
+    private final Duration retention;
+    private final MeterRegistry meterRegistry;
+    private final Counter published;
+    private final Timer delay;
+    private volatile ScheduledExecutorService scheduler;
+    private long lastPurge = System.nanoTime() - PURGE_INTERVAL_NANOS;
+
+    /**
+     * Constructor for OutboxRelay.
+     *
+     * @param eventRepository repository for the outbox events
+     * @param checkpointRepository repository for the relay checkpoint
+     * @param sinks the sinks every event is published to
+     * @param transactionOperations the template running each batch in a transaction
+     * @param enabled whether the relay runs on this instance
+     * @param batchSize the maximum number of events per batch
+     * @param interval the time between two rounds
+     * @param retention how long published events are kept
+     * @param meterRegistry the registry the relay metrics are registered in
+     */
+    @Autowired
+    public OutboxRelay(OutboxEventRepository eventRepository, OutboxCheckpointRepository checkpointRepository,
+                       List<OutboxEventSink> sinks, TransactionOperations transactionOperations,
+                       @Value("${app.outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${app.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${app.outbox.relay.interval:500ms}") Duration interval,
+                       @Value("${app.outbox.retention:7d}") Duration retention,
+                       MeterRegistry meterRegistry) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.eventRepository = eventRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.sinks = sinks;
+        this.transactionOperations = transactionOperations;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.interval = interval;
+        this.retention = retention;
+        this.meterRegistry = meterRegistry;
+        this.published = Counter.builder("recrutech.outbox.published")
+                .description("Outbox events published to all sinks")
+                .register(meterRegistry);
+        this.delay = Timer.builder("recrutech.outbox.delay")
+                .description("Time from writing an outbox event to publishing it")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::relay, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler = executor;
+        log.info("Outbox relay started with {} sinks: {}", sinks.size(),
+                sinks.stream().map(OutboxEventSink::name).toList());
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Runs one round: publishes batches until the outbox is drained, then deletes expired events.
+     */
+    void relay() {
+        try {
+            int count;
+            do {
+                count = relayBatch();
+            } while (count == batchSize && !Thread.currentThread().isInterrupted());
+            purgeIfDue();
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed, retrying in {}: {}", interval, e.getMessage());
+        }
+    }
+
+    /**
+     * Publishes the oldest unpublished events to all sinks in one transaction.
+     *
+     * @return the number of published events; 0 if there were none or another instance is relaying
+     */
+    int relayBatch() {
+        Integer count = transactionOperations.execute(status -> {
+            OutboxCheckpoint checkpoint = checkpointRepository.lockByRelay(RELAY).orElse(null);
+            if (checkpoint == null) {
+                return 0;
+            }
+            List<OutboxEvent> events =
+                    eventRepository.findByPublishedAtIsNullOrderBySequenceNumberAsc(Limit.of(batchSize));
+            if (events.isEmpty()) {
+                return 0;
+            }
+            List<OutboxMessage> messages = events.stream()
+                    .map(OutboxMessage::of)
+                    .toList();
+            for (OutboxEventSink sink : sinks) {
+                publish(sink, messages);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            eventRepository.markPublished(messages.stream().map(OutboxMessage::id).toList(), now);
+            checkpoint.advance(messages.getLast().sequenceNumber(), messages.size(), now);
+            for (OutboxMessage message : messages) {
+                delay.record(Duration.between(message.createdAt(), now));
+            }
+            published.increment(messages.size());
+            return messages.size();
+        });
+        return count != null ? count : 0;
+    }
+
+    private void publish(OutboxEventSink sink, List<OutboxMessage> messages) {
+        try {
+            sink.publish(messages);
+        } catch (IOException | RuntimeException e) {
+            Counter.builder("recrutech.outbox.failures")
+                    .description("Outbox batches a sink failed to accept")
+                    .tag("sink", sink.name())
+                    .register(meterRegistry)
+                    .increment();
+            String message = "Sink " + sink.name() + " failed to publish events "
+                    + messages.getFirst().sequenceNumber() + " to " + messages.getLast().sequenceNumber();
+            if (e instanceof IOException io) {
+                throw new UncheckedIOException(message, io);
+            }
+            throw new IllegalStateException(message, e);
+        }
+    }
+
+    private void purgeIfDue() {
+        long now = System.nanoTime();
+        if (now - lastPurge < PURGE_INTERVAL_NANOS) {
+            return;
+        }
+        lastPurge = now;
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        Integer deleted = transactionOperations.execute(status ->
+                eventRepository.deletePublishedBefore(before, batchSize * 10));
+        if (deleted != null && deleted > 0) {
+            log.debug("Deleted {} outbox events published before {}", deleted, before);
+        }
+    }
+}
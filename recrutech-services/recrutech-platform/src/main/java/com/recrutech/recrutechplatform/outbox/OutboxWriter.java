@@ -0,0 +1,89 @@
+package com.recrutech.recrutechplatform.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recrutech.recrutechplatform.model.OutboxEvent;
+import com.recrutech.recrutechplatform.repository.BatchWriter;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes domain events to the outbox in the transaction of the change they describe, so an event
+ * is stored if and only if its change commits. {@link OutboxRelay} publishes them afterwards.
+ * <p>
+ * Pending changes are flushed before an event is written. The change then holds the row lock of its
+ * aggregate before the database assigns the event's sequence number, so the events of one aggregate
+ * commit in sequence order.
+ */
+@Component
+public class OutboxWriter {
+
+    private final EntityManager entityManager;
+    private final BatchWriter batchWriter;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor for OutboxWriter.
+     *
+     * @param entityManager the entity manager of the current transaction
+     * @param batchWriter writer persisting the events of bulk operations in JDBC batches
+     * @param objectMapper the mapper serializing the payloads
+     */
+    @Autowired
+    public OutboxWriter(EntityManager entityManager, BatchWriter batchWriter, ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.batchWriter = batchWriter;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes an event.
+     *
+     * @param type the event type
+     * @param aggregateId the ID of the job or application the event belongs to
+     * @param payload the payload, serialized as JSON
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, String aggregateId, Object payload) {
+        entityManager.flush();
+        entityManager.persist(toEvent(type, aggregateId, payload));
+    }
+
+    /**
+     * Writes one event per payload in JDBC batches. Like {@link BatchWriter#persistAll(List)},
+     * this detaches all managed entities.
+     *
+     * @param type the event type
+     * @param payloads the payloads, serialized as JSON
+     * @param aggregateId extracts the ID of the aggregate from a payload
+     * @param <T> the payload type
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void appendAll(OutboxEventType type, List<T> payloads, Function<? super T, String> aggregateId) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        List<OutboxEvent> events = new ArrayList<>(payloads.size());
+        for (T payload : payloads) {
+            events.add(toEvent(type, aggregateId.apply(payload), payload));
+        }
+        entityManager.flush();
+        batchWriter.persistAll(events);
+    }
+
+    private OutboxEvent toEvent(OutboxEventType type, String aggregateId, Object payload) {
+        try {
+            return new OutboxEvent(type.aggregateType(), aggregateId, type.eventType(),
+                    objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize the payload of " + type.eventType(), e);
+        }
+    }
+}
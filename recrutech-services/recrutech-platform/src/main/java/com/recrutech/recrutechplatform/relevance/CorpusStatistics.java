@@ -0,0 +1,88 @@
+package com.recrutech.recrutechplatform.relevance;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Statistics the term weights are derived from: in how many job descriptions each term occurs, and
+ * the average length of the CVs in terms. A term that occurs in most job descriptions, such as
+ * {@code team} or {@code experience}, says little about a particular job and is weighted low.
+ */
+public final class CorpusStatistics {
+
+    private final int documents;
+    private final Map<String, Integer> documentFrequencies;
+    private final double averageCvLength;
+
+    private CorpusStatistics(int documents, Map<String, Integer> documentFrequencies, double averageCvLength) {
+        this.documents = documents;
+        this.documentFrequencies = documentFrequencies;
+        this.averageCvLength = averageCvLength;
+    }
+
+    /**
+     * Gets the number of job descriptions the statistics were collected from.
+     *
+     * @return the number of job descriptions
+     */
+    public int documents() {
+        return documents;
+    }
+
+    /**
+     * Gets the average length of the CVs in terms.
+     *
+     * @return the average CV length, at least 1
+     */
+    public double averageCvLength() {
+        return averageCvLength;
+    }
+
+    /**
+     * Gets the inverse document frequency of a term, in the non-negative form used by BM25.
+     *
+     * @param term the term
+     * @return the weight of the term; highest for terms that occur in no or few job descriptions
+     */
+    public double inverseDocumentFrequency(String term) {
+        int frequency = documentFrequencies.getOrDefault(term, 0);
+        return Math.log(1 + (documents - frequency + 0.5) / (frequency + 0.5));
+    }
+
+    /**
+     * Collects the statistics of a set of job descriptions.
+     */
+    public static final class Builder {
+
+        private final Map<String, Integer> documentFrequencies = new HashMap<>();
+        private int documents;
+
+        /**
+         * Adds a job description.
+         *
+         * @param description the description; may be null
+         * @return this builder
+         */
+        public Builder add(String description) {
+            Set<String> terms = new HashSet<>();
+            TextAnalyzer.forEachTerm(description, terms::add);
+            for (String term : terms) {
+                documentFrequencies.merge(term, 1, Integer::sum);
+            }
+            documents++;
+            return this;
+        }
+
+        /**
+         * Creates the statistics.
+         *
+         * @param averageCvLength the average length of the CVs in terms; values below 1 count as 1
+         * @return the statistics
+         */
+        public CorpusStatistics build(double averageCvLength) {
+            return new CorpusStatistics(documents, Map.copyOf(documentFrequencies), Math.max(1, averageCvLength));
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.recrutech.recrutechplatform.relevance;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Extracts the plain text of an uploaded CV, for scoring only.
+ * <p>
+ * Text files are decoded as UTF-8. Of a Word document (DOCX), the text runs of the main document part
+ * are read. A PDF is read with PDFBox; scanned CVs yield no usable text. Other formats yield no text.
+ * <p>
+ * The work is bounded whatever the file: the text returned is cut at {@value #MAX_TEXT_LENGTH}
+ * characters, and a document expanding to more than {@value #MAX_INFLATED_SIZE} bytes when decompressed
+ * is cut there (DOCX) or not read at all (PDF). PDFBox decodes each stream completely in memory, so the
+ * compressed streams of a PDF are measured before it is parsed; PDFs with filters that cannot be
+ * measured that way ({@code LZWDecode}, {@code RunLengthDecode}) and encrypted PDFs are not read.
+ * Extraction never fails: whatever could be read before a malformed part is returned.
+ */
+public final class CvTextExtractor {
+
+    static final String PDF = "application/pdf";
+    static final String DOCX = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+    static final int MAX_TEXT_LENGTH = 512 * 1024;
+    static final int MAX_INFLATED_SIZE = 16 * 1024 * 1024;
+
+    private static final byte[] STREAM = "stream".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] END_STREAM = "endstream".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] UNMEASURED = {
+            "/Encrypt".getBytes(StandardCharsets.US_ASCII),
+            "/LZWDecode".getBytes(StandardCharsets.US_ASCII),
+            "/RunLengthDecode".getBytes(StandardCharsets.US_ASCII)
+    };
+
+    private CvTextExtractor() {
+    }
+
+    /**
+     * Extracts the text of a CV.
+     *
+     * @param content the content of the file
+     * @param contentType the content type stored with the file; may be null
+     * @return the text, empty if none could be read
+     */
+    public static String extract(byte[] content, String contentType) {
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        if (type.startsWith("text/")) {
+            return truncate(new String(content, StandardCharsets.UTF_8));
+        }
+        if (type.startsWith(PDF)) {
+            return extractPdf(content);
+        }
+        if (type.startsWith(DOCX)) {
+            return extractDocx(content);
+        }
+        return "";
+    }
+
+    static String extractDocx(byte[] content) {
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(content))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if ("word/document.xml".equals(entry.getName())) {
+                    String xml = new String(zip.readNBytes(MAX_INFLATED_SIZE), StandardCharsets.UTF_8);
+                    return truncate(unescapeXml(xml
+                            .replaceAll("</w:p>|<w:tab/>|<w:br/>", " ")
+                            .replaceAll("<[^>]*>", "")));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            return "";
+        }
+        return "";
+    }
+
+    static String extractPdf(byte[] content) {
+        if (!isMeasurable(content) || inflatedSize(content) > MAX_INFLATED_SIZE) {
+            return "";
+        }
+        LimitedWriter text = new LimitedWriter(MAX_TEXT_LENGTH);
+        try (PDDocument document = Loader.loadPDF(content)) {
+            new PDFTextStripper().writeText(document, text);
+        } catch (IOException | RuntimeException e) {
+            // Full, or malformed past this point
+        }
+        return text.toString();
+    }
+
+    private static boolean isMeasurable(byte[] content) {
+        for (byte[] keyword : UNMEASURED) {
+            if (indexOf(content, keyword, 0) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sums the sizes the streams of a PDF inflate to, stopping once the sum is over the limit. Every
+     * stream is inflated, whether or not it is compressed with {@code FlateDecode}; the others fail fast.
+     */
+    private static long inflatedSize(byte[] content) {
+        long size = 0;
+        int position = 0;
+        while (size <= MAX_INFLATED_SIZE && (position = indexOf(content, STREAM, position)) >= 0) {
+            int start = position + STREAM.length;
+            if (start < content.length && content[start] == '\r') {
+                start++;
+            }
+            if (start >= content.length || content[start] != '\n') {
+                position = start;
+                continue;
+            }
+            start++;
+            int end = indexOf(content, END_STREAM, start);
+            if (end < 0) {
+                break;
+            }
+            size += inflatedSize(content, start, end - start, MAX_INFLATED_SIZE - size + 1);
+            position = end + END_STREAM.length;
+        }
+        return size;
+    }
+
+    private static long inflatedSize(byte[] content, int offset, int length, long limit) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(content, offset, length);
+            byte[] buffer = new byte[8192];
+            long size = 0;
+            while (!inflater.finished() && size < limit) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                size += inflated;
+            }
+            return size;
+        } catch (DataFormatException e) {
+            return 0;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static int indexOf(byte[] content, byte[] pattern, int from) {
+        outer:
+        for (int i = Math.max(0, from); i <= content.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (content[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static String truncate(String text) {
+        return text.length() <= MAX_TEXT_LENGTH ? text : text.substring(0, MAX_TEXT_LENGTH);
+    }
+
+    private static String unescapeXml(String text) {
+        return text.replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&apos;", "'")
+                .replace("&amp;", "&");
+    }
+
+    /**
+     * Collects text up to a number of characters, then fails the write so the text stripper stops.
+     */
+    private static final class LimitedWriter extends Writer {
+
+        private final StringBuilder text = new StringBuilder();
+        private final int limit;
+
+        LimitedWriter(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            int room = limit - text.length();
+            text.append(buffer, offset, Math.min(length, room));
+            if (length > room) {
+                throw new IOException("Text limit of " + limit + " characters reached");
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.recrutech.recrutechplatform.relevance;
+
+/**
+ * Weighted terms of a job description, against which CVs are scored with BM25.
+ * <p>
+ * Each distinct term of the description is weighted with its TF-IDF weight: the logarithm of its
+ * frequency in the description times its inverse document frequency among all job descriptions.
+ * A CV scores the sum of these weights, each multiplied with the saturated frequency of the term in
+ * the CV, normalized by the CV's length relative to the average. The score is divided by its maximum,
+ * so it lies between 0 for a CV sharing no term with the description and 1.
+ */
+public final class JobProfile {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    private final String[] terms;
+    private final double[] weights;
+    private final double maximum;
+    private final double averageCvLength;
+    private final int descriptionHash;
+
+    private JobProfile(String[] terms, double[] weights, double averageCvLength, int descriptionHash) {
+        this.terms = terms;
+        this.weights = weights;
+        this.averageCvLength = averageCvLength;
+        this.descriptionHash = descriptionHash;
+        double sum = 0;
+        for (double weight : weights) {
+            sum += weight;
+        }
+        this.maximum = sum * (K1 + 1);
+    }
+
+    /**
+     * Creates the profile of a job description.
+     *
+     * @param description the job description; may be null
+     * @param statistics the statistics of all job descriptions and CVs
+     * @return the profile
+     */
+    public static JobProfile of(String description, CorpusStatistics statistics) {
+        TermVector vector = TermVector.of(description);
+        String[] terms = new String[vector.size()];
+        double[] weights = new double[vector.size()];
+        for (int i = 0; i < vector.size(); i++) {
+            terms[i] = vector.term(i);
+            weights[i] = (1 + Math.log(vector.count(i))) * statistics.inverseDocumentFrequency(terms[i]);
+        }
+        return new JobProfile(terms, weights, statistics.averageCvLength(), hash(description));
+    }
+
+    /**
+     * Computes the hash identifying the description a score was computed against, so scores of an
+     * outdated description can be recognized.
+     *
+     * @param description the job description; may be null
+     * @return the hash
+     */
+    public static int hash(String description) {
+        return description == null ? 0 : description.hashCode();
+    }
+
+    /**
+     * Scores a CV against the description.
+     *
+     * @param cv the term vector of the CV
+     * @return the relevance between 0 and 1
+     */
+    public double score(TermVector cv) {
+        if (maximum <= 0 || cv.length() == 0) {
+            return 0;
+        }
+        double normalization = K1 * (1 - B + B * cv.length() / averageCvLength);
+        double score = 0;
+        for (int i = 0; i < terms.length; i++) {
+            int frequency = cv.count(terms[i]);
+            if (frequency > 0) {
+                score += weights[i] * frequency * (K1 + 1) / (frequency + normalization);
+            }
+        }
+        return score / maximum;
+    }
+
+    /**
+     * Gets the hash of the description the profile was created from.
+     *
+     * @return the description hash
+     */
+    public int descriptionHash() {
+        return descriptionHash;
+    }
+}
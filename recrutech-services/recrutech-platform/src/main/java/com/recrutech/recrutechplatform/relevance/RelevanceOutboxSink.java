@@ -0,0 +1,146 @@
+package com.recrutech.recrutechplatform.relevance;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recrutech.recrutechplatform.outbox.ApplicationEventPayload;
+import com.recrutech.recrutechplatform.outbox.JobEventPayload;
+import com.recrutech.recrutechplatform.outbox.OutboxEventSink;
+import com.recrutech.recrutechplatform.outbox.OutboxEventType;
+import com.recrutech.recrutechplatform.outbox.OutboxMessage;
+import com.recrutech.recrutechplatform.service.RelevanceService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the relevance scores up to date from the outbox events, enabled by {@code app.relevance.enabled}.
+ * <p>
+ * Submitted applications are scored together, per batch. An updated job is scored again if its
+ * description changed; a deleted job's ranking is dropped. Events are handled in sequence order, and
+ * since scoring is idempotent, a batch delivered again only repeats the work.
+ * <p>
+ * The relay's transaction is suspended while a batch is scored, so the scores are committed in
+ * transactions of their own and a scoring failure cannot roll back the relay or hold up the other sinks.
+ * A failed batch is tried up to {@code app.relevance.sink.max-attempts} times, {@code app.relevance.sink.retry-delay}
+ * apart; after that it is given up, logged and counted in {@code recrutech.relevance.dead-letters}. Its
+ * applications stay unranked until their job is scored again.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.relevance", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class RelevanceOutboxSink implements OutboxEventSink {
+
+    private final RelevanceService relevanceService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate outsideRelayTransaction;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Counter deadLetters;
+
+    /**
+     * Constructor for RelevanceOutboxSink.
+     *
+     * @param relevanceService service scoring the applications
+     * @param objectMapper the mapper reading the event payloads
+     * @param transactionManager the transaction manager suspending the relay's transaction
+     * @param maxAttempts the number of times a batch is scored before it is given up
+     * @param retryDelay the time between two attempts
+     * @param meterRegistry the registry the dead-letter counter is registered in
+     */
+    @Autowired
+    public RelevanceOutboxSink(RelevanceService relevanceService, ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.relevance.sink.max-attempts:3}") int maxAttempts,
+                               @Value("${app.relevance.sink.retry-delay:1s}") Duration retryDelay,
+                               MeterRegistry meterRegistry) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Number of attempts must be positive: " + maxAttempts);
+        }
+        this.relevanceService = relevanceService;
+        this.objectMapper = objectMapper;
+        this.outsideRelayTransaction = new TransactionTemplate(transactionManager);
+        this.outsideRelayTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.deadLetters = Counter.builder("recrutech.relevance.dead-letters")
+                .description("Outbox events given up after scoring them failed repeatedly")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return "relevance";
+    }
+
+    /**
+     * Scores a batch outside the relay's transaction, retrying it a bounded number of times.
+     *
+     * @param messages the events
+     * @throws InterruptedIOException if the relay thread is interrupted while waiting to retry
+     */
+    @Override
+    public void publish(List<OutboxMessage> messages) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                outsideRelayTransaction.executeWithoutResult(status -> handle(messages));
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    deadLetters.increment(messages.size());
+                    log.error("Giving up scoring events {} to {} after {} attempts: {}",
+                            messages.getFirst().sequenceNumber(), messages.getLast().sequenceNumber(), attempt,
+                            e.getMessage());
+                    return;
+                }
+                log.warn("Scoring events {} to {} failed, retrying in {}: {}", messages.getFirst().sequenceNumber(),
+                        messages.getLast().sequenceNumber(), retryDelay, e.getMessage());
+            }
+            try {
+                Thread.sleep(retryDelay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to score the events again");
+            }
+        }
+    }
+
+    private void handle(List<OutboxMessage> messages) {
+        List<ApplicationEventPayload> submitted = new ArrayList<>();
+        for (OutboxMessage message : messages) {
+            if (OutboxEventType.APPLICATION_SUBMITTED.eventType().equals(message.eventType())) {
+                submitted.add(read(message, ApplicationEventPayload.class));
+            } else if (OutboxEventType.JOB_UPDATED.eventType().equals(message.eventType())) {
+                // Applications submitted before the update are scored first, then rescored if needed
+                relevanceService.scoreSubmitted(submitted);
+                submitted.clear();
+                JobEventPayload job = read(message, JobEventPayload.class);
+                relevanceService.onDescriptionChanged(job.id(), job.description());
+            } else if (OutboxEventType.JOB_DELETED.eventType().equals(message.eventType())) {
+                relevanceService.forget(message.aggregateId());
+            }
+        }
+        relevanceService.scoreSubmitted(submitted);
+    }
+
+    private <T> T read(OutboxMessage message, Class<T> type) {
+        try {
+            return objectMapper.readValue(message.payload(), type);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Unreadable payload of event " + message.id(), e);
+        }
+    }
+}
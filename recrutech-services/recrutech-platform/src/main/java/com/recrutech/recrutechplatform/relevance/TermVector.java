@@ -0,0 +1,151 @@
+package com.recrutech.recrutechplatform.relevance;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The terms of a text with the number of times each occurs, and the total number of terms.
+ * <p>
+ * Only the {@link #MAX_TERMS} most frequent distinct terms are kept, so the vector of a long CV stays
+ * small enough to be stored; the length still counts all terms. Terms are held in sorted order and
+ * encoded as {@code term:count} pairs separated by spaces.
+ */
+public final class TermVector {
+
+    static final int MAX_TERMS = 1000;
+
+    private static final TermVector EMPTY = new TermVector(new String[0], new int[0], 0);
+
+    private final String[] terms;
+    private final int[] counts;
+    private final int length;
+
+    private TermVector(String[] terms, int[] counts, int length) {
+        this.terms = terms;
+        this.counts = counts;
+        this.length = length;
+    }
+
+    /**
+     * Analyzes a text.
+     *
+     * @param text the text; may be null
+     * @return the term vector of the text
+     */
+    public static TermVector of(String text) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        int[] length = new int[1];
+        TextAnalyzer.forEachTerm(text, term -> {
+            frequencies.computeIfAbsent(term, key -> new int[1])[0]++;
+            length[0]++;
+        });
+        if (frequencies.isEmpty()) {
+            return EMPTY;
+        }
+        String[] kept = frequencies.keySet().stream()
+                .sorted((a, b) -> {
+                    int byCount = Integer.compare(frequencies.get(b)[0], frequencies.get(a)[0]);
+                    return byCount != 0 ? byCount : a.compareTo(b);
+                })
+                .limit(MAX_TERMS)
+                .sorted()
+                .toArray(String[]::new);
+        int[] counts = new int[kept.length];
+        for (int i = 0; i < kept.length; i++) {
+            counts[i] = frequencies.get(kept[i])[0];
+        }
+        return new TermVector(kept, counts, length[0]);
+    }
+
+    /**
+     * Decodes a vector encoded with {@link #encode()}.
+     *
+     * @param encoded the encoded terms
+     * @param length the total number of terms of the text
+     * @return the term vector
+     * @throws IllegalArgumentException if the terms are not a valid encoding
+     */
+    public static TermVector decode(String encoded, int length) {
+        if (encoded == null || encoded.isBlank()) {
+            return length == 0 ? EMPTY : new TermVector(new String[0], new int[0], length);
+        }
+        String[] pairs = encoded.trim().split(" ");
+        String[] terms = new String[pairs.length];
+        int[] counts = new int[pairs.length];
+        for (int i = 0; i < pairs.length; i++) {
+            int separator = pairs[i].lastIndexOf(':');
+            if (separator <= 0 || (i > 0 && pairs[i].substring(0, separator).compareTo(terms[i - 1]) <= 0)) {
+                throw new IllegalArgumentException("Invalid term vector entry: " + pairs[i]);
+            }
+            terms[i] = pairs[i].substring(0, separator);
+            counts[i] = Integer.parseInt(pairs[i].substring(separator + 1));
+        }
+        return new TermVector(terms, counts, length);
+    }
+
+    /**
+     * Encodes the terms and their counts; the length is stored separately.
+     *
+     * @return the encoded terms, empty if there are none
+     */
+    public String encode() {
+        StringBuilder encoded = new StringBuilder(terms.length * 12);
+        for (int i = 0; i < terms.length; i++) {
+            if (i > 0) {
+                encoded.append(' ');
+            }
+            encoded.append(terms[i]).append(':').append(counts[i]);
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Gets how often a term occurs.
+     *
+     * @param term the term
+     * @return the number of occurrences; 0 if the term does not occur or was not kept
+     */
+    public int count(String term) {
+        int index = Arrays.binarySearch(terms, term);
+        return index >= 0 ? counts[index] : 0;
+    }
+
+    /**
+     * Gets the number of distinct terms kept.
+     *
+     * @return the number of distinct terms
+     */
+    public int size() {
+        return terms.length;
+    }
+
+    /**
+     * Gets a distinct term.
+     *
+     * @param index the index, in sorted term order
+     * @return the term
+     */
+    public String term(int index) {
+        return terms[index];
+    }
+
+    /**
+     * Gets the number of occurrences of a distinct term.
+     *
+     * @param index the index, in sorted term order
+     * @return the number of occurrences
+     */
+    public int count(int index) {
+        return counts[index];
+    }
+
+    /**
+     * Gets the total number of terms of the text, including those not kept.
+     *
+     * @return the length of the text in terms
+     */
+    public int length() {
+        return length;
+    }
+}
@@ -0,0 +1,66 @@
+package com.recrutech.recrutechplatform.relevance;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Splits text into the terms that are compared between job descriptions and CVs.
+ * <p>
+ * A term is a run of letters and digits, lower-cased, of 2 to {@value #MAX_TERM_LENGTH} characters.
+ * Common English and German stop words are dropped. Terms are not stemmed, so {@code developer}
+ * and {@code developers} are different terms.
+ */
+public final class TextAnalyzer {
+
+    static final int MAX_TERM_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "about", "an", "and", "are", "as", "at", "be", "been", "but", "by", "can", "for", "from",
+            "has", "have", "he", "her", "his", "i", "if", "in", "into", "is", "it", "its", "me", "my", "no",
+            "not", "of", "on", "or", "our", "she", "so", "that", "the", "their", "them", "there", "they",
+            "this", "to", "us", "was", "we", "were", "will", "with", "you", "your",
+            "als", "am", "auch", "auf", "aus", "bei", "bin", "bis", "das", "dass", "dem", "den", "der",
+            "des", "die", "du", "ein", "eine", "einem", "einen", "einer", "eines", "er", "es", "fur", "für",
+            "hat", "ich", "ihr", "im", "ist", "mit", "nach", "nicht", "oder", "sich", "sie", "sind",
+            "uber", "über", "um", "und", "uns", "unser", "vom", "von", "vor", "war", "wie", "wir", "zu", "zum",
+            "zur");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Passes the terms of a text to a consumer, in the order they occur.
+     *
+     * @param text the text; may be null
+     * @param consumer receives each term
+     */
+    public static void forEachTerm(String text, Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; ) {
+            int codePoint = i < length ? text.codePointAt(i) : ' ';
+            boolean partOfTerm = i < length && Character.isLetterOrDigit(codePoint);
+            if (partOfTerm && start < 0) {
+                start = i;
+            } else if (!partOfTerm && start >= 0) {
+                emit(text.substring(start, i), consumer);
+                start = -1;
+            }
+            i += i < length ? Character.charCount(codePoint) : 1;
+        }
+    }
+
+    private static void emit(String token, Consumer<String> consumer) {
+        if (token.length() < 2 || token.length() > MAX_TERM_LENGTH) {
+            return;
+        }
+        String term = token.toLowerCase(Locale.ROOT);
+        if (!STOP_WORDS.contains(term)) {
+            consumer.accept(term);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.recrutech.recrutechplatform.relevance;
+
+import com.recrutech.recrutechplatform.dto.application.RankedApplicationResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * The most relevant applications of a job, bounded to a fixed number.
+ * <p>
+ * The applications are held in a min-heap ordered by score, so offering an application costs
+ * {@code O(log k)}: it replaces the least relevant one once the ranking is full, or is dropped if it
+ * scores lower. Offering an application that is already ranked replaces its score. Ties are broken
+ * by application ID. The ranking is safe for concurrent use.
+ */
+public class TopKRanking {
+
+    static final Comparator<RankedApplicationResponse> ORDER = Comparator
+            .comparingDouble(RankedApplicationResponse::score)
+            .thenComparing(RankedApplicationResponse::id, Comparator.reverseOrder());
+
+    private final int capacity;
+    private final PriorityQueue<RankedApplicationResponse> heap;
+    private final Map<String, RankedApplicationResponse> ranked = new HashMap<>();
+
+    /**
+     * Constructor for TopKRanking.
+     *
+     * @param capacity the maximum number of ranked applications
+     */
+    public TopKRanking(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.heap = new PriorityQueue<>(capacity, ORDER);
+    }
+
+    /**
+     * Creates a ranking holding the most relevant of the given applications.
+     *
+     * @param capacity the maximum number of ranked applications
+     * @param applications the scored applications
+     * @return the ranking
+     */
+    public static TopKRanking of(int capacity, Collection<RankedApplicationResponse> applications) {
+        TopKRanking ranking = new TopKRanking(capacity);
+        applications.forEach(ranking::offer);
+        return ranking;
+    }
+
+    /**
+     * Offers a scored application to the ranking.
+     *
+     * @param application the application with its score
+     * @return true if the application is ranked
+     */
+    public synchronized boolean offer(RankedApplicationResponse application) {
+        RankedApplicationResponse previous = ranked.remove(application.id());
+        if (previous != null) {
+            heap.remove(previous);
+        }
+        if (heap.size() == capacity) {
+            if (ORDER.compare(application, heap.peek()) <= 0) {
+                return false;
+            }
+            ranked.remove(heap.poll().id());
+        }
+        heap.add(application);
+        ranked.put(application.id(), application);
+        return true;
+    }
+
+    /**
+     * Removes an application from the ranking.
+     *
+     * @param applicationId the ID of the application
+     */
+    public synchronized void remove(String applicationId) {
+        RankedApplicationResponse previous = ranked.remove(applicationId);
+        if (previous != null) {
+            heap.remove(previous);
+        }
+    }
+
+    /**
+     * Gets the ranked applications.
+     *
+     * @return the applications, most relevant first
+     */
+    public synchronized List<RankedApplicationResponse> snapshot() {
+        List<RankedApplicationResponse> applications = new ArrayList<>(heap);
+        applications.sort(ORDER.reversed());
+        return applications;
+    }
+
+    /**
+     * Gets the number of ranked applications.
+     *
+     * @return the size of the ranking
+     */
+    public synchronized int size() {
+        return heap.size();
+    }
+}
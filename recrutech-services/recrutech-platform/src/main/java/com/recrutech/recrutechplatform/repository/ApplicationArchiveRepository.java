@@ -0,0 +1,41 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.recrutechplatform.dto.application.ApplicationKey;
+import com.recrutech.recrutechplatform.model.ApplicationArchive;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for archived applications
+ */
+@Repository
+public interface ApplicationArchiveRepository extends JpaRepository<ApplicationArchive, String> {
+
+    /**
+     * Find the IDs and CV files of archived applications for a job.
+     *
+     * @param jobId the ID of the job
+     * @param limit the maximum number of applications
+     * @return the IDs and CV files of the applications
+     */
+    @Query("select new com.recrutech.recrutechplatform.dto.application.ApplicationKey(r.id, r.cvFileId) "
+            + "from ApplicationArchive r where r.jobId = :jobId")
+    List<ApplicationKey> findKeysByJobId(@Param("jobId") String jobId, Limit limit);
+
+    /**
+     * Delete the given archived applications in one statement.
+     *
+     * @param ids the IDs of the applications
+     * @return the number of deleted applications
+     */
+    @Modifying
+    @Query("delete from ApplicationArchive r where r.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<String> ids);
+}
@@ -1,13 +1,93 @@
 package com.recrutech.recrutechplatform.repository;
 
+import com.recrutech.recrutechplatform.dto.application.ApplicationKey;
+import com.recrutech.recrutechplatform.dto.application.ApplicationStatusSnapshot;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
 import com.recrutech.recrutechplatform.model.Application;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Repository for Application entities
  */
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, String> {
-    // Add custom query methods if needed
-}
\ No newline at end of file
+public interface ApplicationRepository extends JpaRepository<Application, String>, ApplicationRepositoryCustom {
+
+    /**
+     * Find and lock applications by their IDs until the end of the transaction, fetching their jobs in
+     * the same query. Only the application rows are locked.
+     *
+     * @param ids the IDs of the applications
+     * @return the applications found; missing IDs are skipped
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Application a left join fetch a.job where a.id in :ids")
+    List<Application> lockAllWithJobByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Find and lock the applications that are in one of the given statuses, until the end of the transaction.
+     *
+     * @param ids the IDs of the applications
+     * @param statuses the statuses the applications must be in
+     * @return the IDs, jobs and statuses of the matching applications
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.recrutech.recrutechplatform.dto.application.ApplicationStatusSnapshot(a.id, a.job.id, a.status) "
+            + "from Application a where a.id in :ids and a.status in :statuses")
+    List<ApplicationStatusSnapshot> lockStatusesByIdInAndStatusIn(@Param("ids") Collection<String> ids,
+                                                                  @Param("statuses") Collection<ApplicationStatus> statuses);
+
+    /**
+     * Move the given applications to a status in one statement, guarded by their current status.
+     *
+     * @param ids the IDs of the applications
+     * @param from the statuses the applications must be in to be updated
+     * @param to the new status
+     * @return the number of updated applications
+     */
+    @Modifying
+    @Query("update Application a set a.status = :to where a.id in :ids and a.status in :from")
+    int updateStatusByIdInAndStatusIn(@Param("ids") Collection<String> ids,
+                                      @Param("from") Collection<ApplicationStatus> from,
+                                      @Param("to") ApplicationStatus to);
+
+    /**
+     * Mark the given applications as viewed by HR in one statement.
+     *
+     * @param ids the IDs of the applications
+     * @return the number of applications that were not viewed before
+     */
+    @Modifying
+    @Query("update Application a set a.viewedByHr = true where a.id in :ids and a.viewedByHr = false")
+    int markViewedByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Find the IDs and CV files of applications for a job, e.g. to archive or remove them.
+     *
+     * @param jobId the ID of the job
+     * @param limit the maximum number of applications
+     * @return the IDs and CV files of the applications
+     */
+    @Query("select new com.recrutech.recrutechplatform.dto.application.ApplicationKey(a.id, a.cvFileId) "
+            + "from Application a where a.job.id = :jobId")
+    List<ApplicationKey> findKeysByJobId(@Param("jobId") String jobId, Limit limit);
+
+    /**
+     * Delete the given applications in one statement.
+     *
+     * @param ids the IDs of the applications
+     * @return the number of deleted applications
+     */
+    @Modifying
+    @Query("delete from Application a where a.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<String> ids);
+}
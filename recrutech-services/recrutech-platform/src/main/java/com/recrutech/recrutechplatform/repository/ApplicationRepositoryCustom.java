@@ -0,0 +1,34 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.recrutechplatform.dto.application.ApplicationExportFilter;
+import com.recrutech.recrutechplatform.dto.application.ApplicationExportRow;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * Custom queries of {@link ApplicationRepository}.
+ */
+public interface ApplicationRepositoryCustom {
+
+    /**
+     * Streams the matching applications in creation order from a forward-only cursor, as DTOs rather
+     * than managed entities, so that neither the result set nor the persistence context grows with the
+     * number of applications. Must be called within a transaction, and the stream must be closed.
+     *
+     * @param filter the criteria the applications must match
+     * @return the applications
+     */
+    Stream<ApplicationExportRow> streamForExport(ApplicationExportFilter filter);
+
+    /**
+     * Copies the given applications to the archive with a single insert statement.
+     * The applications themselves are left in place; see {@link ApplicationRepository#deleteByIdIn}.
+     *
+     * @param ids the IDs of the applications
+     * @param archivedAt the time of archival
+     * @return the number of archived applications
+     */
+    int archiveByIdIn(Collection<String> ids, LocalDateTime archivedAt);
+}
@@ -0,0 +1,97 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.common.entity.UuidBinaryType;
+import com.recrutech.recrutechplatform.dto.application.ApplicationExportFilter;
+import com.recrutech.recrutechplatform.dto.application.ApplicationExportRow;
+import com.recrutech.recrutechplatform.model.ApplicationArchive;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link ApplicationRepositoryCustom}.
+ */
+class ApplicationRepositoryCustomImpl implements ApplicationRepositoryCustom {
+
+    private static final String EXPORT_SELECT = "select new com.recrutech.recrutechplatform.dto.application."
+            + "ApplicationExportRow(a.id, a.job.id, a.cvFileId, a.status, a.viewedByHr, a.createdAt) "
+            + "from Application a";
+
+    private static final String ARCHIVE_INSERT = "insert into application_archive "
+            + "(id, job_id, cv_file_id, status, viewed_by_hr, created_at, archived_at) "
+            + "select id, job_id, cv_file_id, status, viewed_by_hr, created_at, :archivedAt "
+            + "from application where id in (:ids)";
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    /**
+     * Constructor for ApplicationRepositoryCustomImpl.
+     *
+     * @param entityManager the entity manager
+     * @param fetchSize the JDBC fetch size of the export cursor
+     */
+    ApplicationRepositoryCustomImpl(EntityManager entityManager,
+                                    @Value("${app.bulk.export-fetch-size:500}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<ApplicationExportRow> streamForExport(ApplicationExportFilter filter) {
+        // Only the criteria that are set become predicates, so each filter combination can use its index
+        List<String> predicates = new ArrayList<>(4);
+        if (filter.jobId() != null) {
+            predicates.add("a.job.id = :jobId");
+        }
+        if (filter.status() != null) {
+            predicates.add("a.status = :status");
+        }
+        if (filter.from() != null) {
+            predicates.add("a.createdAt >= :from");
+        }
+        if (filter.to() != null) {
+            predicates.add("a.createdAt < :to");
+        }
+        String jpql = EXPORT_SELECT
+                + (predicates.isEmpty() ? "" : " where " + String.join(" and ", predicates))
+                + " order by a.createdAt, a.id";
+
+        TypedQuery<ApplicationExportRow> query = entityManager.createQuery(jpql, ApplicationExportRow.class);
+        if (filter.jobId() != null) {
+            query.setParameter("jobId", filter.jobId());
+        }
+        if (filter.status() != null) {
+            query.setParameter("status", filter.status());
+        }
+        if (filter.from() != null) {
+            query.setParameter("from", filter.from());
+        }
+        if (filter.to() != null) {
+            query.setParameter("to", filter.to());
+        }
+        return query
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public int archiveByIdIn(Collection<String> ids, LocalDateTime archivedAt) {
+        // Only the archive is written, so no cached entity needs to be evicted
+        return entityManager.createNativeQuery(ARCHIVE_INSERT)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(ApplicationArchive.class)
+                .setParameter("archivedAt", archivedAt)
+                .setParameterList("ids", ids.stream().map(UuidBinaryType::toBytes).toList())
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,61 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.recrutechplatform.dto.application.RankedApplicationResponse;
+import com.recrutech.recrutechplatform.model.ApplicationScore;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the relevance scores of applications
+ */
+@Repository
+public interface ApplicationScoreRepository extends JpaRepository<ApplicationScore, String> {
+
+    /**
+     * Find the most relevant applications of a job.
+     *
+     * @param jobId the ID of the job
+     * @param limit the maximum number of applications
+     * @return the applications with their scores, most relevant first
+     */
+    @Query("select new com.recrutech.recrutechplatform.dto.application.RankedApplicationResponse("
+            + "s.applicationId, s.cvFileId, s.score) from ApplicationScore s where s.jobId = :jobId "
+            + "order by s.score desc, s.applicationId")
+    List<RankedApplicationResponse> findRankingByJobId(@Param("jobId") String jobId, Limit limit);
+
+    /**
+     * Check whether a job has scores computed against another description than the given one.
+     *
+     * @param jobId the ID of the job
+     * @param descriptionHash the hash of the current description
+     * @return true if the job has outdated scores
+     */
+    boolean existsByJobIdAndDescriptionHashNot(String jobId, int descriptionHash);
+
+    /**
+     * Delete all scores of a job in one statement.
+     *
+     * @param jobId the ID of the job
+     * @return the number of deleted scores
+     */
+    @Modifying
+    @Query("delete from ApplicationScore s where s.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") String jobId);
+
+    /**
+     * Delete the scores of the given applications in one statement.
+     *
+     * @param applicationIds the IDs of the applications
+     * @return the number of deleted scores
+     */
+    @Modifying
+    @Query("delete from ApplicationScore s where s.applicationId in :applicationIds")
+    int deleteByApplicationIdIn(@Param("applicationIds") Collection<String> applicationIds);
+}
@@ -0,0 +1,36 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.recrutechplatform.model.ApplicationStatusTransition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the application status transition log
+ */
+@Repository
+public interface ApplicationStatusTransitionRepository extends JpaRepository<ApplicationStatusTransition, String> {
+
+    /**
+     * Find the transitions of an application, oldest first.
+     *
+     * @param applicationId the ID of the application
+     * @return the transitions
+     */
+    List<ApplicationStatusTransition> findByApplicationIdOrderByCreatedAtAscIdAsc(String applicationId);
+
+    /**
+     * Delete the transitions of the given applications in one statement.
+     *
+     * @param applicationIds the IDs of the applications
+     * @return the number of deleted transitions
+     */
+    @Modifying
+    @Query("delete from ApplicationStatusTransition t where t.applicationId in :applicationIds")
+    int deleteByApplicationIdIn(@Param("applicationIds") Collection<String> applicationIds);
+}
@@ -0,0 +1,63 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.recrutechplatform.model.ApplicationSubmission;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the submissions guarding the uniqueness of applications per job and CV
+ */
+@Repository
+public interface ApplicationSubmissionRepository
+        extends JpaRepository<ApplicationSubmission, ApplicationSubmission.Key> {
+
+    /**
+     * Find which of the given CV files were also submitted to another job.
+     *
+     * @param cvFileIds the IDs of the CV files
+     * @param jobId the ID of the job to disregard
+     * @return the IDs of the CV files submitted to another job
+     */
+    @Query("select distinct s.cvFileId from ApplicationSubmission s where s.cvFileId in :cvFileIds and s.jobId <> :jobId")
+    List<String> findCvFileIdsUsedByOtherJobs(@Param("cvFileIds") Collection<String> cvFileIds,
+                                              @Param("jobId") String jobId);
+
+    /**
+     * Check whether a CV was already submitted to a job. Not read-only, so it is never routed to a
+     * replica that may not have the submission yet.
+     *
+     * @param jobId the ID of the job
+     * @param cvFileId the ID of the CV file
+     * @return true if the CV was submitted to the job
+     */
+    @Transactional
+    boolean existsByJobIdAndCvFileId(String jobId, String cvFileId);
+
+    /**
+     * Delete the submissions of the given CV files to a job in one statement.
+     *
+     * @param jobId the ID of the job
+     * @param cvFileIds the IDs of the CV files
+     * @return the number of deleted submissions
+     */
+    @Modifying
+    @Query("delete from ApplicationSubmission s where s.jobId = :jobId and s.cvFileId in :cvFileIds")
+    int deleteByJobIdAndCvFileIdIn(@Param("jobId") String jobId, @Param("cvFileIds") Collection<String> cvFileIds);
+
+    /**
+     * Delete all submissions to a job in one statement.
+     *
+     * @param jobId the ID of the job
+     * @return the number of deleted submissions
+     */
+    @Modifying
+    @Query("delete from ApplicationSubmission s where s.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") String jobId);
+}
@@ -0,0 +1,74 @@
+package com.recrutech.recrutechplatform.repository;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Writes large numbers of entities in chunks of the JDBC batch size.
+ * Hibernate groups the statements of each chunk into JDBC batches ({@code hibernate.jdbc.batch_size},
+ * ordered by {@code hibernate.order_inserts}/{@code order_updates}); the persistence context is
+ * flushed and cleared after every chunk so that it does not grow with the number of rows.
+ * <p>
+ * All methods must be called within a transaction. Entities are detached once their chunk is flushed.
+ * As a repository, its persistence exceptions are translated, e.g. a duplicate key found by a flush
+ * into a {@link org.springframework.dao.DataIntegrityViolationException}.
+ */
+@Repository
+public class BatchWriter {
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    /**
+     * Constructor for BatchWriter.
+     *
+     * @param entityManager the entity manager of the current transaction
+     * @param batchSize the number of entities written per chunk, aligned with the JDBC batch size
+     */
+    @Autowired
+    public BatchWriter(EntityManager entityManager,
+                       @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the number of entities written per chunk.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Persists new entities, flushing and clearing the persistence context after every chunk.
+     *
+     * @param entities the entities to persist
+     * @param <T> the entity type
+     */
+    public <T> void persistAll(List<T> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+    }
+
+    /**
+     * Writes the pending changes of the current chunk and detaches all managed entities.
+     */
+    public void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
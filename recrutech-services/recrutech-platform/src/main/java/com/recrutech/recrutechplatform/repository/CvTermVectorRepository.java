@@ -0,0 +1,35 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.recrutechplatform.model.CvTermVector;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * Repository for the terms extracted from CV files
+ */
+@Repository
+public interface CvTermVectorRepository extends JpaRepository<CvTermVector, String> {
+
+    /**
+     * Compute the average length of the CVs in terms.
+     *
+     * @return the average length, or null if no CV has been analyzed
+     */
+    @Query("select avg(v.termCount) from CvTermVector v")
+    Double findAverageTermCount();
+
+    /**
+     * Delete the terms of the given files in one statement.
+     *
+     * @param fileIds the IDs of the files
+     * @return the number of deleted entries
+     */
+    @Modifying
+    @Query("delete from CvTermVector v where v.fileId in :fileIds")
+    int deleteByFileIdIn(@Param("fileIds") Collection<String> fileIds);
+}
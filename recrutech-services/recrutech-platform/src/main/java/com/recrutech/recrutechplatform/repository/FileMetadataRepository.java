@@ -2,8 +2,12 @@ package com.recrutech.recrutechplatform.repository;
 
 import com.recrutech.recrutechplatform.model.FileMetadata;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -19,4 +23,14 @@ public interface FileMetadataRepository extends JpaRepository<FileMetadata, Stri
      * @return an Optional containing the file metadata if found, or empty if not found
      */
     Optional<FileMetadata> findById(String id);
-}
\ No newline at end of file
+
+    /**
+     * Delete the metadata of the given files in one statement.
+     *
+     * @param ids the IDs of the files
+     * @return the number of deleted entries
+     */
+    @Modifying
+    @Query("delete from FileMetadata f where f.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<String> ids);
+}
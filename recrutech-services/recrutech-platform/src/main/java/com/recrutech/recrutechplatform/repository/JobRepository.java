@@ -1,7 +1,59 @@
 package com.recrutech.recrutechplatform.repository;
 
+import com.recrutech.recrutechplatform.dto.job.JobListing;
 import com.recrutech.recrutechplatform.model.Job;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface JobRepository extends JpaRepository<Job, String> {
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface JobRepository extends JpaRepository<Job, String>, JobRepositoryCustom {
+
+    /**
+     * Find a job by its ID with a query, so it is read from the database instead of the second-level
+     * cache, which can hold a job changed or deleted on another instance. Used before writing to the job
+     * and to fill the job details cache. Not read-only, so it is also never routed to a lagging replica.
+     *
+     * @param id the ID of the job
+     * @return the job, or an empty optional if it does not exist or is deleted
+     */
+    @Transactional
+    @Query("select j from Job j where j.id = :id")
+    Optional<Job> findCurrentById(@Param("id") String id);
+
+    /**
+     * Find jobs that were closed before the given time and still have applications that are not archived,
+     * longest closed first.
+     *
+     * @param closedBefore the time before which the jobs were closed
+     * @param limit the maximum number of jobs
+     * @return the IDs of the jobs
+     */
+    @Query("select j.id from Job j where j.active = false and j.closedAt < :closedBefore "
+            + "and exists (select 1 from Application a where a.job.id = j.id) order by j.closedAt")
+    List<String> findIdsToArchive(@Param("closedBefore") LocalDateTime closedBefore, Limit limit);
+
+    /**
+     * Stream the descriptions of all jobs, e.g. to collect term statistics. Must be called within a transaction.
+     *
+     * @return the descriptions
+     */
+    @Query("select j.description from Job j")
+    Stream<String> streamDescriptions();
+
+    /**
+     * Stream the titles and locations of all active jobs, e.g. to build the search suggestions.
+     * Must be called within a transaction.
+     *
+     * @return the active jobs
+     */
+    @Query("select new com.recrutech.recrutechplatform.dto.job.JobListing(j.id, j.title, j.location) "
+            + "from Job j where j.active = true")
+    Stream<JobListing> streamActiveListings();
 }
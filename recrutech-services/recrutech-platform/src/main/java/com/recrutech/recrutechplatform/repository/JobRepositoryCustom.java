@@ -0,0 +1,61 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.recrutechplatform.dto.job.JobResponse;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Custom queries of {@link JobRepository}.
+ */
+public interface JobRepositoryCustom {
+
+    /**
+     * Streams all jobs in ID order from a forward-only cursor, as DTOs rather than managed entities,
+     * so that neither the result set nor the persistence context grows with the number of jobs.
+     * Must be called within a transaction, and the stream must be closed.
+     *
+     * @return the jobs
+     */
+    Stream<JobResponse> streamAllForExport();
+
+    /**
+     * Atomically adds to the application counters of a job with a single update statement, so concurrent
+     * changes are never lost. Must be called within a transaction; the row stays locked until it ends.
+     *
+     * @param jobId the ID of the job
+     * @param total the change of the total number of applications
+     * @param statusDeltas the change of the number of applications per status; zero entries are ignored
+     * @return true if the job exists and is not deleted
+     */
+    boolean addApplicationCounts(String jobId, long total, Map<ApplicationStatus, Long> statusDeltas);
+
+    /**
+     * Marks a job as deleted, hiding it from all job queries, and increments its version.
+     * Its applications are left to the job reaper.
+     *
+     * @param jobId the ID of the job
+     * @param deletedAt the time of deletion
+     * @return true if the job existed and was not deleted yet
+     */
+    boolean softDelete(String jobId, LocalDateTime deletedAt);
+
+    /**
+     * Finds deleted jobs whose row still exists, longest deleted first.
+     *
+     * @param limit the maximum number of jobs
+     * @return the IDs of the jobs
+     */
+    List<String> findDeletedJobIds(int limit);
+
+    /**
+     * Removes the row of a deleted job. Must be called once its applications are removed.
+     *
+     * @param jobId the ID of the job
+     * @return true if the job was deleted and its row is removed now
+     */
+    boolean purgeDeleted(String jobId);
+}
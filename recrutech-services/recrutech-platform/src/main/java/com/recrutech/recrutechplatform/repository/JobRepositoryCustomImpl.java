@@ -0,0 +1,135 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.common.entity.UuidBinaryType;
+import com.recrutech.recrutechplatform.dto.job.JobResponse;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.model.Job;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link JobRepositoryCustom}.
+ */
+class JobRepositoryCustomImpl implements JobRepositoryCustom {
+
+    private static final String EXPORT_QUERY = "select new com.recrutech.recrutechplatform.dto.job.JobResponse("
+            + "j.id, j.title, j.description, j.location, j.active, j.version) from Job j order by j.id";
+
+    /*
+     * Query space of the counter updates. No entity uses it, so Hibernate does not evict the whole job
+     * region after each update as it does for statements on the job table; only the updated job is evicted.
+     */
+    private static final String COUNTERS_QUERY_SPACE = "job_application_counters";
+
+    /*
+     * Query space of the soft deletion and the removal of deleted jobs. A soft-deleted job is evicted on
+     * its own; removed rows belong to deleted jobs, which are never cached.
+     */
+    private static final String DELETION_QUERY_SPACE = "job_deletion";
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    /**
+     * Constructor for JobRepositoryCustomImpl.
+     *
+     * @param entityManager the entity manager
+     * @param fetchSize the JDBC fetch size of the export cursor
+     */
+    JobRepositoryCustomImpl(EntityManager entityManager,
+                            @Value("${app.bulk.export-fetch-size:500}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<JobResponse> streamAllForExport() {
+        return entityManager.createQuery(EXPORT_QUERY, JobResponse.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public boolean addApplicationCounts(String jobId, long total, Map<ApplicationStatus, Long> statusDeltas) {
+        List<String> assignments = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+        if (total != 0) {
+            assignments.add("application_count = application_count + :delta0");
+            deltas.add(total);
+        }
+        for (Map.Entry<ApplicationStatus, Long> entry : statusDeltas.entrySet()) {
+            if (entry.getValue() != 0) {
+                String column = counterColumn(entry.getKey());
+                assignments.add(column + " = " + column + " + :delta" + deltas.size());
+                deltas.add(entry.getValue());
+            }
+        }
+        if (assignments.isEmpty()) {
+            return true;
+        }
+
+        NativeQuery<?> query = entityManager.createNativeQuery(
+                        "update job set " + String.join(", ", assignments) + " where id = :jobId and deleted_at is null")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(COUNTERS_QUERY_SPACE);
+        for (int i = 0; i < deltas.size(); i++) {
+            query.setParameter("delta" + i, deltas.get(i));
+        }
+        boolean updated = query.setParameter("jobId", UuidBinaryType.toBytes(jobId)).executeUpdate() == 1;
+        entityManager.getEntityManagerFactory().getCache().evict(Job.class, jobId);
+        return updated;
+    }
+
+    @Override
+    public boolean softDelete(String jobId, LocalDateTime deletedAt) {
+        boolean deleted = entityManager.createNativeQuery(
+                        "update job set deleted_at = :deletedAt, version = version + 1 "
+                                + "where id = :jobId and deleted_at is null")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(DELETION_QUERY_SPACE)
+                .setParameter("deletedAt", deletedAt)
+                .setParameter("jobId", UuidBinaryType.toBytes(jobId))
+                .executeUpdate() == 1;
+        entityManager.getEntityManagerFactory().getCache().evict(Job.class, jobId);
+        return deleted;
+    }
+
+    @Override
+    public List<String> findDeletedJobIds(int limit) {
+        List<?> ids = entityManager.createNativeQuery(
+                        "select id from job where deleted_at is not null order by deleted_at limit :limit")
+                .setParameter("limit", limit)
+                .getResultList();
+        return ids.stream()
+                .map(id -> UuidBinaryType.fromBytes((byte[]) id))
+                .toList();
+    }
+
+    @Override
+    public boolean purgeDeleted(String jobId) {
+        return entityManager.createNativeQuery("delete from job where id = :jobId and deleted_at is not null")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(DELETION_QUERY_SPACE)
+                .setParameter("jobId", UuidBinaryType.toBytes(jobId))
+                .executeUpdate() == 1;
+    }
+
+    private static String counterColumn(ApplicationStatus status) {
+        return switch (status) {
+            case RECEIVED -> "received_count";
+            case UNDER_REVIEW -> "under_review_count";
+            case INVITED -> "invited_count";
+            case REJECTED -> "rejected_count";
+            case WITHDRAWN -> "withdrawn_count";
+        };
+    }
+}
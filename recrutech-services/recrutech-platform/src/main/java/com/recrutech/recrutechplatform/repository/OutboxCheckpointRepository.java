@@ -0,0 +1,32 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.recrutechplatform.model.OutboxCheckpoint;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for the checkpoints of the outbox relays
+ */
+@Repository
+public interface OutboxCheckpointRepository extends JpaRepository<OutboxCheckpoint, String> {
+
+    /**
+     * Find and lock the checkpoint of a relay until the end of the transaction, without waiting:
+     * a lock timeout of -2 renders {@code FOR UPDATE SKIP LOCKED}.
+     *
+     * @param relay the name of the relay
+     * @return the checkpoint, or empty if it is locked by another transaction
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select c from OutboxCheckpoint c where c.relay = :relay")
+    Optional<OutboxCheckpoint> lockByRelay(@Param("relay") String relay);
+}
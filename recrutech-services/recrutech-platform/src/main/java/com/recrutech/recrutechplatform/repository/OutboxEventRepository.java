@@ -0,0 +1,50 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.recrutechplatform.model.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the events of the transactional outbox
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, String> {
+
+    /**
+     * Find the oldest events that were not published yet, in sequence order.
+     *
+     * @param limit the maximum number of events
+     * @return the events
+     */
+    List<OutboxEvent> findByPublishedAtIsNullOrderBySequenceNumberAsc(Limit limit);
+
+    /**
+     * Mark the given events as published in one statement.
+     *
+     * @param ids the IDs of the events
+     * @param publishedAt the time the events were published
+     * @return the number of updated events
+     */
+    @Modifying
+    @Query("update OutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(@Param("ids") Collection<String> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * Delete events published before the given time, at most the given number.
+     *
+     * @param before the time before which the events were published
+     * @param limit the maximum number of events to delete
+     * @return the number of deleted events
+     */
+    @Modifying
+    @Query(value = "delete from outbox_event where published_at < :before limit :limit", nativeQuery = true)
+    int deletePublishedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
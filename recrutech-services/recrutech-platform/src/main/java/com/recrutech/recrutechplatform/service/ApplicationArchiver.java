@@ -0,0 +1,192 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.recrutechplatform.dto.application.ApplicationKey;
+import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import com.recrutech.recrutechplatform.repository.JobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves the applications of long-closed jobs from the partitioned application table to the
+ * compressed archive, keeping the working set of the application table small.
+ * <p>
+ * Every interval the archiver works through the jobs closed for longer than {@code app.archive.closed-for},
+ * longest closed first. For each job it copies the applications to the archive and deletes them from the
+ * application table in batches of {@code app.archive.batch-size}, each batch in its own transaction, and
+ * at most {@code app.archive.max-rows-per-second} applications. Their status transitions and submissions
+ * stay in place. Archived applications remain readable through
+ * {@link ApplicationService#getApplicationById}; jobs that are reopened keep their archived applications.
+ * <p>
+ * A round that fails is retried in the next one; batches already committed are not repeated.
+ * Archived applications are counted in {@code recrutech.archive.archived}.
+ */
+@Component
+@Slf4j
+public class ApplicationArchiver implements SmartLifecycle {
+
+    private static final int JOBS_PER_ROUND = 10;
+
+    private final JobRepository jobRepository;
+    private final ApplicationRepository applicationRepository;
+    private final TransactionOperations transactionOperations;
+    private final boolean enabled;
+    private final Duration closedFor;
+    private final int batchSize;
+    private final int maxRowsPerSecond;
+    private final Duration interval;
+    private final Counter archived;
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor for ApplicationArchiver.
+     *
+     * @param jobRepository repository for the closed jobs
+     * @param applicationRepository repository for the applications to archive
+     * @param transactionOperations the template running each batch in a transaction
+     * @param enabled whether the archiver runs on this instance
+     * @param closedFor how long a job must be closed before its applications are archived
+     * @param batchSize the maximum number of applications archived per transaction
+     * @param maxRowsPerSecond the maximum rate at which applications are archived
+     * @param interval the time between two rounds
+     * @param meterRegistry the registry the archiver metrics are registered in
+     */
+    @Autowired
+    public ApplicationArchiver(JobRepository jobRepository, ApplicationRepository applicationRepository,
+                               TransactionOperations transactionOperations,
+                               @Value("${app.archive.enabled:true}") boolean enabled,
+                               @Value("${app.archive.closed-for:180d}") Duration closedFor,
+                               @Value("${app.archive.batch-size:500}") int batchSize,
+                               @Value("${app.archive.max-rows-per-second:2000}") int maxRowsPerSecond,
+                               @Value("${app.archive.interval:1h}") Duration interval,
+                               MeterRegistry meterRegistry) {
+        if (batchSize < 1 || maxRowsPerSecond < 1) {
+            throw new IllegalArgumentException("Batch size and rate must be positive: "
+                    + batchSize + ", " + maxRowsPerSecond);
+        }
+        this.jobRepository = jobRepository;
+        this.applicationRepository = applicationRepository;
+        this.transactionOperations = transactionOperations;
+        this.enabled = enabled;
+        this.closedFor = closedFor;
+        this.batchSize = batchSize;
+        this.maxRowsPerSecond = maxRowsPerSecond;
+        this.interval = interval;
+        this.archived = Counter.builder("recrutech.archive.archived")
+                .description("Applications moved to the archive")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "application-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::archive, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler = executor;
+        log.info("Application archiver started for jobs closed longer than {}", closedFor);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Runs one round: archives the applications of long-closed jobs until none are left, at no more
+     * than the configured rate.
+     */
+    void archive() {
+        try {
+            List<String> jobIds;
+            do {
+                LocalDateTime closedBefore = LocalDateTime.now().minus(closedFor);
+                jobIds = transactionOperations.execute(status ->
+                        jobRepository.findIdsToArchive(closedBefore, Limit.of(JOBS_PER_ROUND)));
+                if (jobIds == null) {
+                    return;
+                }
+                for (String jobId : jobIds) {
+                    archiveJob(jobId);
+                }
+            } while (jobIds.size() == JOBS_PER_ROUND);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Application archiver failed, retrying in {}: {}", interval, e.getMessage());
+        }
+    }
+
+    private void archiveJob(String jobId) throws InterruptedException {
+        long applications = 0;
+        int count;
+        do {
+            long started = System.nanoTime();
+            count = archiveBatch(jobId);
+            applications += count;
+            long remaining = count * TimeUnit.SECONDS.toNanos(1) / maxRowsPerSecond - (System.nanoTime() - started);
+            if (remaining > 0) {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            }
+        } while (count == batchSize);
+        log.info("Archived {} applications of closed job {}", applications, jobId);
+    }
+
+    /**
+     * Moves the next batch of applications of a closed job to the archive in one transaction.
+     *
+     * @param jobId the ID of the closed job
+     * @return the number of archived applications; 0 if none were left
+     */
+    int archiveBatch(String jobId) {
+        Integer count = transactionOperations.execute(status -> {
+            List<String> ids = applicationRepository.findKeysByJobId(jobId, Limit.of(batchSize)).stream()
+                    .map(ApplicationKey::id)
+                    .toList();
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            int copied = applicationRepository.archiveByIdIn(ids, LocalDateTime.now());
+            int deleted = applicationRepository.deleteByIdIn(ids);
+            if (copied != deleted) {
+                throw new IllegalStateException("Archived " + copied + " but deleted " + deleted
+                        + " applications of job " + jobId);
+            }
+            return ids.size();
+        });
+        if (count == null) {
+            return 0;
+        }
+        archived.increment(count);
+        return count;
+    }
+}
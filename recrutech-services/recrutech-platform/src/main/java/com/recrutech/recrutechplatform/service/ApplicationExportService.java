@@ -0,0 +1,55 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.recrutechplatform.bulk.ApplicationExportWriter;
+import com.recrutech.recrutechplatform.dto.application.ApplicationExportFilter;
+import com.recrutech.recrutechplatform.dto.application.ApplicationExportRow;
+import com.recrutech.recrutechplatform.metrics.PlatformMetrics;
+import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service for exporting applications for HR reporting.
+ * Applications are written to the client while they are read from the database cursor, so memory use
+ * does not depend on the number of applications.
+ */
+@Service
+@Slf4j
+public class ApplicationExportService {
+
+    private final ApplicationRepository applicationRepository;
+
+    public ApplicationExportService(ApplicationRepository applicationRepository) {
+        this.applicationRepository = applicationRepository;
+    }
+
+    /**
+     * Writes the matching applications, in creation order.
+     *
+     * @param filter the criteria the applications must match
+     * @param writer the writer the applications are written to
+     * @return the number of exported applications
+     * @throws IOException if an application cannot be written
+     */
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
+    @Transactional(readOnly = true)
+    public long exportApplications(ApplicationExportFilter filter, ApplicationExportWriter writer) throws IOException {
+        long count = 0;
+        try (Stream<ApplicationExportRow> applications = applicationRepository.streamForExport(filter)) {
+            Iterator<ApplicationExportRow> iterator = applications.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                count++;
+            }
+        }
+        writer.flush();
+        log.info("Exported {} applications", count);
+        return count;
+    }
+}
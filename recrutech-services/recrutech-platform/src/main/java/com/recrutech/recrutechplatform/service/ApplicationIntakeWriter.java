@@ -0,0 +1,115 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.intake.PendingApplication;
+import com.recrutech.recrutechplatform.model.Application;
+import com.recrutech.recrutechplatform.model.ApplicationSubmission;
+import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.outbox.ApplicationEventPayload;
+import com.recrutech.recrutechplatform.outbox.OutboxEventType;
+import com.recrutech.recrutechplatform.outbox.OutboxWriter;
+import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import com.recrutech.recrutechplatform.repository.BatchWriter;
+import com.recrutech.recrutechplatform.repository.JobRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes the applications drained from the intake log to the database.
+ * <p>
+ * A batch is stored in one transaction with multi-row inserts, and the application counters are
+ * adjusted once per job, in job ID order. Each application is stored with its {@link ApplicationSubmission},
+ * which rejects duplicates for the same job and CV. Every application keeps the ID and submission time it was
+ * acknowledged with, and an {@link OutboxEventType#APPLICATION_SUBMITTED} event is written for it.
+ */
+@Service
+public class ApplicationIntakeWriter {
+
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final BatchWriter batchWriter;
+    private final OutboxWriter outboxWriter;
+    private final EntityManager entityManager;
+
+    /**
+     * Constructor for ApplicationIntakeWriter.
+     *
+     * @param applicationRepository repository for applications
+     * @param jobRepository repository for jobs, whose application counters are adjusted
+     * @param batchWriter writer inserting the applications in JDBC batches
+     * @param outboxWriter writer for the submission events
+     * @param entityManager the entity manager providing references to the jobs
+     */
+    public ApplicationIntakeWriter(ApplicationRepository applicationRepository, JobRepository jobRepository,
+                                   BatchWriter batchWriter, OutboxWriter outboxWriter, EntityManager entityManager) {
+        this.applicationRepository = applicationRepository;
+        this.jobRepository = jobRepository;
+        this.batchWriter = batchWriter;
+        this.outboxWriter = outboxWriter;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Stores the given applications in one transaction.
+     *
+     * @param pending the applications to store
+     * @throws org.springframework.dao.DataIntegrityViolationException if any application already exists,
+     *         duplicates another one for the same job and CV or refers to a deleted job
+     */
+    @Transactional
+    public void writeAll(List<PendingApplication> pending) {
+        List<Application> applications = new ArrayList<>(pending.size());
+        List<ApplicationSubmission> submissions = new ArrayList<>(pending.size());
+        List<ApplicationEventPayload> events = new ArrayList<>(pending.size());
+        Map<String, Long> counts = new TreeMap<>();
+        for (PendingApplication item : pending) {
+            Application application = new Application();
+            application.setId(item.id());
+            application.setCreatedAt(item.createdAt());
+            application.setCvFileId(item.cvFileId());
+            application.setStatus(ApplicationStatus.RECEIVED);
+            application.setViewedByHr(false);
+            application.setJob(entityManager.getReference(Job.class, item.jobId()));
+            applications.add(application);
+            submissions.add(new ApplicationSubmission(item.jobId(), item.cvFileId()));
+            events.add(ApplicationEventPayload.submitted(
+                    item.id(), item.jobId(), item.cvFileId(), ApplicationStatus.RECEIVED));
+            counts.merge(item.jobId(), 1L, Long::sum);
+        }
+
+        batchWriter.persistAll(submissions);
+        batchWriter.persistAll(applications);
+        counts.forEach((jobId, count) -> {
+            // A deleted job keeps its row until it is reaped, so the foreign keys do not reject it
+            if (!jobRepository.addApplicationCounts(jobId, count, Map.of(ApplicationStatus.RECEIVED, count))) {
+                throw new DataIntegrityViolationException("Job not found or deleted: " + jobId);
+            }
+        });
+        outboxWriter.appendAll(OutboxEventType.APPLICATION_SUBMITTED, events, ApplicationEventPayload::id);
+    }
+
+    /**
+     * Stores a single application unless it is already stored, e.g. because the batch holding it was
+     * committed just before a crash.
+     *
+     * @param pending the application to store
+     * @return true if the application was stored, false if it already existed
+     * @throws org.springframework.dao.DataIntegrityViolationException if the application duplicates another
+     *         one for the same job and CV or refers to a deleted job
+     */
+    @Transactional
+    public boolean write(PendingApplication pending) {
+        if (applicationRepository.existsById(pending.id())) {
+            return false;
+        }
+        writeAll(List.of(pending));
+        return true;
+    }
+}
@@ -0,0 +1,180 @@
+package com.recrutech.recrutechplatform.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps monthly partitions of the application table ready ahead of time.
+ * <p>
+ * The application table is range-partitioned on {@code created_at}, one partition per month, followed by
+ * the catch-all partition {@code p_max}. On startup and every interval the manager splits a partition for
+ * each month up to {@code app.partitions.months-ahead} months from now off {@code p_max}, while it is still
+ * empty, so inserts never land in {@code p_max} and no rows have to be moved. On databases other than
+ * MySQL, and if the table is not partitioned, the manager does nothing.
+ */
+@Component
+@Slf4j
+public class ApplicationPartitionManager implements SmartLifecycle {
+
+    static final String CATCH_ALL_PARTITION = "p_max";
+    private static final String PARTITIONS_QUERY = "SELECT partition_name, partition_description "
+            + "FROM information_schema.partitions "
+            + "WHERE table_schema = DATABASE() AND table_name = 'application' AND partition_name IS NOT NULL";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final DataSource dataSource;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final Duration interval;
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor for ApplicationPartitionManager.
+     *
+     * @param dataSource the data source of the primary database
+     * @param enabled whether the manager runs on this instance
+     * @param monthsAhead the number of months after the current one that must have a partition
+     * @param interval the time between two checks
+     */
+    @Autowired
+    public ApplicationPartitionManager(DataSource dataSource,
+                                       @Value("${app.partitions.enabled:true}") boolean enabled,
+                                       @Value("${app.partitions.months-ahead:3}") int monthsAhead,
+                                       @Value("${app.partitions.interval:1d}") Duration interval) {
+        if (monthsAhead < 1) {
+            throw new IllegalArgumentException("Months ahead must be positive: " + monthsAhead);
+        }
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.interval = interval;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "application-partition-manager");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::maintain, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Adds the missing monthly partitions once.
+     */
+    void maintain() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+            List<String> descriptions = new ArrayList<>();
+            boolean catchAll = false;
+            try (ResultSet resultSet = statement.executeQuery(PARTITIONS_QUERY)) {
+                while (resultSet.next()) {
+                    if (CATCH_ALL_PARTITION.equals(resultSet.getString(1))) {
+                        catchAll = true;
+                    } else {
+                        descriptions.add(resultSet.getString(2));
+                    }
+                }
+            }
+            if (!catchAll) {
+                log.debug("Application table has no {} partition, skipping partition maintenance", CATCH_ALL_PARTITION);
+                return;
+            }
+            LocalDate highestBoundary = descriptions.stream()
+                    .map(ApplicationPartitionManager::parseBoundary)
+                    .max(LocalDate::compareTo)
+                    .orElseThrow(() -> new IllegalStateException("Application table has no bounded partition"));
+            for (YearMonth month : missingMonths(highestBoundary, LocalDate.now(), monthsAhead)) {
+                statement.execute(reorganizeStatement(month));
+                log.info("Added application partition {}", month.format(PARTITION_NAME));
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Application partition maintenance failed, retrying in {}: {}", interval, e.getMessage());
+        }
+    }
+
+    /**
+     * Parses the upper boundary of a range partition as reported by {@code information_schema},
+     * e.g. {@code '2026-11-01 00:00:00'}.
+     *
+     * @param description the partition description
+     * @return the date before which the partition holds rows
+     */
+    static LocalDate parseBoundary(String description) {
+        String value = description.replace("'", "").trim();
+        return LocalDate.parse(value.substring(0, Math.min(10, value.length())));
+    }
+
+    /**
+     * Determines the months that need a partition: from the highest existing boundary through the
+     * month {@code monthsAhead} months after today.
+     *
+     * @param highestBoundary the upper boundary of the last partition before the catch-all one
+     * @param today the current date
+     * @param monthsAhead the number of months after the current one that must have a partition
+     * @return the missing months, in order
+     */
+    static List<YearMonth> missingMonths(LocalDate highestBoundary, LocalDate today, int monthsAhead) {
+        YearMonth last = YearMonth.from(today).plusMonths(monthsAhead);
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(highestBoundary); !month.isAfter(last); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+
+    /**
+     * Builds the statement splitting the partition of a month off the catch-all partition.
+     *
+     * @param month the month of the new partition; it must start at the current highest boundary
+     * @return the statement
+     */
+    static String reorganizeStatement(YearMonth month) {
+        return "ALTER TABLE application REORGANIZE PARTITION " + CATCH_ALL_PARTITION + " INTO ("
+                + "PARTITION " + month.format(PARTITION_NAME)
+                + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "'), "
+                + "PARTITION " + CATCH_ALL_PARTITION + " VALUES LESS THAN (MAXVALUE))";
+    }
+}
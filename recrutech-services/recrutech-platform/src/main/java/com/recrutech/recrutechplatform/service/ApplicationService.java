@@ -1,35 +1,56 @@
 package com.recrutech.recrutechplatform.service;
 
+import com.recrutech.common.exception.ConflictException;
 import com.recrutech.common.exception.NotFoundException;
 import com.recrutech.common.util.UuidValidator;
 import com.recrutech.recrutechplatform.dto.application.ApplicationRequest;
 import com.recrutech.recrutechplatform.dto.application.ApplicationResponse;
 import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.metrics.PlatformMetrics;
 import com.recrutech.recrutechplatform.model.Application;
+import com.recrutech.recrutechplatform.model.ApplicationArchive;
+import com.recrutech.recrutechplatform.model.ApplicationSubmission;
 import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.outbox.ApplicationEventPayload;
+import com.recrutech.recrutechplatform.outbox.OutboxEventType;
+import com.recrutech.recrutechplatform.outbox.OutboxWriter;
+import com.recrutech.recrutechplatform.repository.ApplicationArchiveRepository;
 import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationSubmissionRepository;
 import com.recrutech.recrutechplatform.repository.JobRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class ApplicationService {
 
     private final ApplicationRepository applicationRepository;
     private final JobRepository jobRepository;
+    private final ApplicationSubmissionRepository submissionRepository;
+    private final ApplicationArchiveRepository archiveRepository;
+    private final OutboxWriter outboxWriter;
 
-    public ApplicationService(ApplicationRepository applicationRepository, JobRepository jobRepository) {
+    public ApplicationService(ApplicationRepository applicationRepository, JobRepository jobRepository,
+                              ApplicationSubmissionRepository submissionRepository,
+                              ApplicationArchiveRepository archiveRepository, OutboxWriter outboxWriter) {
         this.applicationRepository = applicationRepository;
         this.jobRepository = jobRepository;
+        this.submissionRepository = submissionRepository;
+        this.archiveRepository = archiveRepository;
+        this.outboxWriter = outboxWriter;
     }
 
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
     @Transactional
     public ApplicationResponse createApplication(String jobId, ApplicationRequest request) {
         // Verify job exists
         Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new NotFoundException("Job not found with id: " + jobId));
+                .orElseThrow(() -> NotFoundException.stackless("Job not found with id: " + jobId));
 
         // Validate cvFileId is a valid UUID
         String cvFileId = request.getCvFileId();
@@ -42,8 +63,21 @@ public class ApplicationService {
         application.setViewedByHr(false);
         application.setJob(job);
 
-        // Save application
-        Application savedApplication = applicationRepository.save(application);
+        // Save application and count it on the job; the submission's primary key on (job_id, cv_file_id) rejects duplicates
+        Application savedApplication;
+        try {
+            submissionRepository.save(new ApplicationSubmission(job.getId(), cvFileId));
+            savedApplication = applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            throw ConflictException.stackless("An application with this CV already exists for job: " + jobId);
+        }
+        // The cached job may have been deleted on another instance; the guarded counter update is authoritative
+        if (!jobRepository.addApplicationCounts(job.getId(), 1, Map.of(ApplicationStatus.RECEIVED, 1L))) {
+            throw NotFoundException.stackless("Job not found with id: " + jobId);
+        }
+        outboxWriter.append(OutboxEventType.APPLICATION_SUBMITTED, savedApplication.getId(),
+                ApplicationEventPayload.submitted(savedApplication.getId(), job.getId(),
+                        savedApplication.getCvFileId(), savedApplication.getStatus()));
 
         // Return response
         return ApplicationResponse.builder()
@@ -56,6 +90,7 @@ public class ApplicationService {
                 .build();
     }
 
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
     public List<ApplicationResponse> getAllApplications() {
         List<Application> applications = applicationRepository.findAll();
         return applications.stream()
@@ -70,13 +105,18 @@ public class ApplicationService {
                 .toList();
     }
 
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
     public ApplicationResponse getApplicationById(String applicationId) {
         // Validate application ID
         UuidValidator.validateUuid(applicationId, "Application ID");
 
-        // Find application by ID
-        Application application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new NotFoundException("Application not found with id: " + applicationId));
+        // Find application by ID, in the archive if it is not in the working set
+        Application application = applicationRepository.findById(applicationId).orElse(null);
+        if (application == null) {
+            return archiveRepository.findById(applicationId)
+                    .map(ApplicationService::mapArchived)
+                    .orElseThrow(() -> NotFoundException.stackless("Application not found with id: " + applicationId));
+        }
         // Return response
         return ApplicationResponse.builder()
                 .id(application.getId())
@@ -87,4 +127,15 @@ public class ApplicationService {
                 .createdAt(application.getCreatedAt())
                 .build();
     }
+
+    private static ApplicationResponse mapArchived(ApplicationArchive application) {
+        return ApplicationResponse.builder()
+                .id(application.getId())
+                .jobId(application.getJobId())
+                .cvFileId(application.getCvFileId())
+                .status(application.getStatus())
+                .viewedByHr(application.isViewedByHr())
+                .createdAt(application.getCreatedAt())
+                .build();
+    }
 }
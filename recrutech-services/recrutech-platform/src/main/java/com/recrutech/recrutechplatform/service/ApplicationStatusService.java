@@ -0,0 +1,311 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.common.exception.NotFoundException;
+import com.recrutech.common.exception.ValidationException;
+import com.recrutech.common.util.UuidValidator;
+import com.recrutech.recrutechplatform.dto.application.ApplicationMarkViewedResponse;
+import com.recrutech.recrutechplatform.dto.application.ApplicationStatusSnapshot;
+import com.recrutech.recrutechplatform.dto.application.ApplicationStatusTransitionResponse;
+import com.recrutech.recrutechplatform.dto.application.ApplicationStatusUpdateRequest;
+import com.recrutech.recrutechplatform.dto.application.ApplicationStatusUpdateResponse;
+import com.recrutech.recrutechplatform.dto.application.ApplicationTransitionRequest;
+import com.recrutech.recrutechplatform.dto.application.ApplicationTransitionResponse;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.metrics.PlatformMetrics;
+import com.recrutech.recrutechplatform.model.Application;
+import com.recrutech.recrutechplatform.model.ApplicationStatusTransition;
+import com.recrutech.recrutechplatform.outbox.ApplicationEventPayload;
+import com.recrutech.recrutechplatform.outbox.OutboxEventType;
+import com.recrutech.recrutechplatform.outbox.OutboxWriter;
+import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationStatusTransitionRepository;
+import com.recrutech.recrutechplatform.repository.BatchWriter;
+import com.recrutech.recrutechplatform.repository.JobRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Service for the application status workflow: moving applications between statuses along the
+ * transitions allowed by {@link ApplicationStatus}, marking them as viewed by HR and recording
+ * every status change in the append-only transition log.
+ * <p>
+ * All operations work on many applications at once, in chunks of the JDBC batch size, so each
+ * chunk costs a constant number of statements, and each operation is one transaction. The application
+ * counters of the affected jobs are adjusted once per job at the end, in job ID order so that
+ * concurrent operations lock the job rows in the same order. Every status change is also written
+ * to the outbox as an {@link OutboxEventType#APPLICATION_STATUS_CHANGED} event.
+ */
+@Service
+@Slf4j
+public class ApplicationStatusService {
+
+    private static final int MAX_REPORTED_IDS = 10;
+
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final ApplicationStatusTransitionRepository transitionRepository;
+    private final BatchWriter batchWriter;
+    private final OutboxWriter outboxWriter;
+    private final int maxRows;
+
+    /**
+     * Constructor for ApplicationStatusService.
+     *
+     * @param applicationRepository repository for applications
+     * @param jobRepository repository for jobs, whose application counters are adjusted
+     * @param transitionRepository repository for the status transition log
+     * @param batchWriter writer flushing the updates in JDBC batches
+     * @param outboxWriter writer for the status change events
+     * @param maxRows the maximum number of applications per operation
+     */
+    @Autowired
+    public ApplicationStatusService(ApplicationRepository applicationRepository, JobRepository jobRepository,
+                                    ApplicationStatusTransitionRepository transitionRepository,
+                                    BatchWriter batchWriter, OutboxWriter outboxWriter,
+                                    @Value("${app.bulk.max-rows:10000}") int maxRows) {
+        this.applicationRepository = applicationRepository;
+        this.jobRepository = jobRepository;
+        this.transitionRepository = transitionRepository;
+        this.batchWriter = batchWriter;
+        this.outboxWriter = outboxWriter;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Sets the status of the given applications. If an application is listed more than once,
+     * the last entry wins. Updates to the current status are accepted and not logged.
+     *
+     * @param updates the application IDs and their new status
+     * @param changedBy the user making the change
+     * @return the number of updated applications
+     * @throws ValidationException if there are no updates, too many updates, any update is invalid
+     *         or any application cannot move to its new status
+     * @throws NotFoundException if any of the applications does not exist
+     */
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
+    @Transactional
+    public ApplicationStatusUpdateResponse updateStatuses(List<ApplicationStatusUpdateRequest> updates,
+                                                          String changedBy) {
+        BulkLimits.requireSize(updates, maxRows, "status updates");
+        log.debug("Updating the status of {} applications", updates.size());
+
+        Map<String, ApplicationStatus> statuses = new LinkedHashMap<>();
+        for (int i = 0; i < updates.size(); i++) {
+            ApplicationStatusUpdateRequest update = updates.get(i);
+            if (update == null) {
+                throw ValidationException.stackless("Status update at index " + i + " cannot be null");
+            }
+            UuidValidator.validateUuid(update.getApplicationId(), "Application ID");
+            if (update.getStatus() == null) {
+                throw ValidationException.stackless("Status is required for the update at index " + i);
+            }
+            statuses.put(update.getApplicationId().toLowerCase(Locale.ROOT), update.getStatus());
+        }
+
+        List<String> ids = new ArrayList<>(statuses.keySet());
+        Map<String, Map<ApplicationStatus, Long>> countDeltas = new TreeMap<>();
+        int chunkSize = batchWriter.getBatchSize();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            // Lock the rows so a concurrent update cannot change a status between the check and the write
+            List<Application> applications = applicationRepository.lockAllWithJobByIdIn(chunk);
+            if (applications.size() != chunk.size()) {
+                throw notFound(chunk, applications);
+            }
+            List<ApplicationStatusTransition> transitions = new ArrayList<>(applications.size());
+            List<ApplicationEventPayload> events = new ArrayList<>(applications.size());
+            for (Application application : applications) {
+                ApplicationStatus oldStatus = application.getStatus();
+                ApplicationStatus newStatus = statuses.get(application.getId());
+                if (oldStatus == newStatus) {
+                    continue;
+                }
+                if (oldStatus != null && !oldStatus.canTransitionTo(newStatus)) {
+                    throw ValidationException.stackless("Application " + application.getId()
+                            + " cannot move from " + oldStatus + " to " + newStatus);
+                }
+                application.setStatus(newStatus);
+                transitions.add(new ApplicationStatusTransition(application.getId(), oldStatus, newStatus, changedBy));
+                String jobId = application.getJob() != null ? application.getJob().getId() : null;
+                events.add(ApplicationEventPayload.statusChanged(
+                        application.getId(), jobId, oldStatus, newStatus, changedBy));
+                if (jobId != null) {
+                    addCountDelta(countDeltas, jobId, oldStatus, newStatus);
+                }
+            }
+            batchWriter.persistAll(transitions);
+            outboxWriter.appendAll(OutboxEventType.APPLICATION_STATUS_CHANGED, events, ApplicationEventPayload::id);
+            batchWriter.flushAndClear();
+        }
+        applyCountDeltas(countDeltas);
+
+        log.info("Updated the status of {} applications", ids.size());
+        return ApplicationStatusUpdateResponse.builder()
+                .updated(ids.size())
+                .build();
+    }
+
+    /**
+     * Moves the given applications to the same status with set-based updates guarded by the allowed
+     * source statuses. Applications that do not exist or cannot move to the status are skipped, so a
+     * triage decision can be applied to a whole candidate list at once.
+     *
+     * @param request the application IDs and the target status
+     * @param changedBy the user making the change
+     * @return the number of moved applications and the IDs of the skipped ones
+     * @throws ValidationException if the request is invalid, has no applications or too many
+     */
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
+    @Transactional
+    public ApplicationTransitionResponse transition(ApplicationTransitionRequest request, String changedBy) {
+        if (request == null || request.getStatus() == null) {
+            throw ValidationException.stackless("Target status is required");
+        }
+        List<String> ids = normalizeIds(request.getApplicationIds(), "applications");
+        ApplicationStatus target = request.getStatus();
+        Set<ApplicationStatus> sources = target.allowedSources();
+        log.debug("Moving {} applications to {}", ids.size(), target);
+
+        Map<String, Map<ApplicationStatus, Long>> countDeltas = new TreeMap<>();
+        Set<String> moved = new HashSet<>();
+        int chunkSize = batchWriter.getBatchSize();
+        for (int from = 0; from < ids.size() && !sources.isEmpty(); from += chunkSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            // Lock the rows first: the guarded update then changes exactly the rows read here
+            List<ApplicationStatusSnapshot> snapshots =
+                    applicationRepository.lockStatusesByIdInAndStatusIn(chunk, sources);
+            if (snapshots.isEmpty()) {
+                continue;
+            }
+            List<String> lockedIds = new ArrayList<>(snapshots.size());
+            List<ApplicationStatusTransition> transitions = new ArrayList<>(snapshots.size());
+            List<ApplicationEventPayload> events = new ArrayList<>(snapshots.size());
+            for (ApplicationStatusSnapshot snapshot : snapshots) {
+                lockedIds.add(snapshot.id());
+                transitions.add(new ApplicationStatusTransition(snapshot.id(), snapshot.status(), target, changedBy));
+                events.add(ApplicationEventPayload.statusChanged(
+                        snapshot.id(), snapshot.jobId(), snapshot.status(), target, changedBy));
+                if (snapshot.jobId() != null) {
+                    addCountDelta(countDeltas, snapshot.jobId(), snapshot.status(), target);
+                }
+            }
+            applicationRepository.updateStatusByIdInAndStatusIn(lockedIds, sources, target);
+            batchWriter.persistAll(transitions);
+            outboxWriter.appendAll(OutboxEventType.APPLICATION_STATUS_CHANGED, events, ApplicationEventPayload::id);
+            moved.addAll(lockedIds);
+        }
+        applyCountDeltas(countDeltas);
+
+        List<String> skipped = ids.stream()
+                .filter(id -> !moved.contains(id))
+                .toList();
+        log.info("Moved {} applications to {}, skipped {}", moved.size(), target, skipped.size());
+        return ApplicationTransitionResponse.builder()
+                .transitioned(moved.size())
+                .skipped(skipped)
+                .build();
+    }
+
+    /**
+     * Marks the given applications as viewed by HR with set-based updates.
+     * Applications that do not exist or were already viewed are not counted.
+     *
+     * @param applicationIds the IDs of the applications
+     * @return the number of applications newly marked as viewed
+     * @throws ValidationException if there are no IDs, too many IDs or any ID is invalid
+     */
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
+    @Transactional
+    public ApplicationMarkViewedResponse markViewed(List<String> applicationIds) {
+        List<String> ids = normalizeIds(applicationIds, "applications");
+
+        int updated = 0;
+        int chunkSize = batchWriter.getBatchSize();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            updated += applicationRepository.markViewedByIdIn(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+
+        log.info("Marked {} of {} applications as viewed", updated, ids.size());
+        return ApplicationMarkViewedResponse.builder()
+                .updated(updated)
+                .build();
+    }
+
+    /**
+     * Gets the status history of an application, oldest first.
+     *
+     * @param applicationId the ID of the application
+     * @return the logged transitions
+     * @throws ValidationException if the ID is invalid
+     * @throws NotFoundException if the application does not exist
+     */
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
+    @Transactional(readOnly = true)
+    public List<ApplicationStatusTransitionResponse> getTransitions(String applicationId) {
+        UuidValidator.validateUuid(applicationId, "Application ID");
+        String id = applicationId.toLowerCase(Locale.ROOT);
+        if (!applicationRepository.existsById(id)) {
+            throw NotFoundException.stackless("Application not found with id: " + applicationId);
+        }
+        return transitionRepository.findByApplicationIdOrderByCreatedAtAscIdAsc(id).stream()
+                .map(transition -> ApplicationStatusTransitionResponse.builder()
+                        .fromStatus(transition.getFromStatus())
+                        .toStatus(transition.getToStatus())
+                        .changedBy(transition.getChangedBy())
+                        .changedAt(transition.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    private List<String> normalizeIds(List<String> applicationIds, String name) {
+        BulkLimits.requireSize(applicationIds, maxRows, name);
+        Set<String> ids = new LinkedHashSet<>();
+        for (String applicationId : applicationIds) {
+            UuidValidator.validateUuid(applicationId, "Application ID");
+            ids.add(applicationId.toLowerCase(Locale.ROOT));
+        }
+        return new ArrayList<>(ids);
+    }
+
+    private static void addCountDelta(Map<String, Map<ApplicationStatus, Long>> countDeltas, String jobId,
+                                      ApplicationStatus oldStatus, ApplicationStatus newStatus) {
+        Map<ApplicationStatus, Long> deltas =
+                countDeltas.computeIfAbsent(jobId, id -> new EnumMap<>(ApplicationStatus.class));
+        if (oldStatus != null) {
+            deltas.merge(oldStatus, -1L, Long::sum);
+        }
+        deltas.merge(newStatus, 1L, Long::sum);
+    }
+
+    private void applyCountDeltas(Map<String, Map<ApplicationStatus, Long>> countDeltas) {
+        countDeltas.forEach((jobId, deltas) -> jobRepository.addApplicationCounts(jobId, 0, deltas));
+    }
+
+    private static NotFoundException notFound(Collection<String> chunk, List<Application> found) {
+        Set<String> foundIds = new HashSet<>();
+        for (Application application : found) {
+            foundIds.add(application.getId());
+        }
+        List<String> missing = chunk.stream()
+                .filter(id -> !foundIds.contains(id))
+                .limit(MAX_REPORTED_IDS)
+                .toList();
+        return NotFoundException.stackless("Applications not found with ids: " + String.join(", ", missing));
+    }
+}
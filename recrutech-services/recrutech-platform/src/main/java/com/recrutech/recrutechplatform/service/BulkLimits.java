@@ -0,0 +1,33 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.common.exception.ValidationException;
+
+import java.util.Collection;
+
+/**
+ * Size checks shared by the bulk operations.
+ */
+final class BulkLimits {
+
+    private BulkLimits() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Checks that a bulk request contains at least one and at most {@code maxRows} entries.
+     *
+     * @param entries the entries of the request
+     * @param maxRows the maximum number of entries
+     * @param name the plural name of the entries, used in error messages
+     * @throws ValidationException if the request is empty or too large
+     */
+    static void requireSize(Collection<?> entries, int maxRows, String name) {
+        if (entries == null || entries.isEmpty()) {
+            throw ValidationException.stackless("At least one of the " + name + " is required");
+        }
+        if (entries.size() > maxRows) {
+            throw ValidationException.stackless(
+                    "At most " + maxRows + " " + name + " can be processed at once, got " + entries.size());
+        }
+    }
+}
@@ -3,11 +3,17 @@ package com.recrutech.recrutechplatform.service;
 import com.recrutech.common.exception.NotFoundException;
 import com.recrutech.common.exception.ValidationException;
 import com.recrutech.recrutechplatform.config.MinioConfig;
+import com.recrutech.recrutechplatform.metrics.PlatformMetrics;
 import com.recrutech.recrutechplatform.model.FileMetadata;
 import com.recrutech.recrutechplatform.repository.FileMetadataRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.minio.*;
 import io.minio.errors.*;
 import io.minio.http.Method;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
@@ -15,10 +21,14 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -29,9 +39,14 @@ import java.util.concurrent.TimeUnit;
 @Service
 public class FileStorageService {
 
+    private static final ValidationException FILE_NULL = ValidationException.stackless("File cannot be null");
+    private static final ValidationException FILE_EMPTY = ValidationException.stackless("File cannot be empty");
+
     private final MinioClient minioClient;
     private final MinioConfig minioConfig;
     private final FileMetadataRepository fileMetadataRepository;
+    private final DistributionSummary uploadBytes;
+    private final DistributionSummary downloadBytes;
 
     /**
      * Constructor for FileStorageService.
@@ -39,14 +54,24 @@ public class FileStorageService {
      * @param minioClient MinIO client for object storage operations
      * @param minioConfig MinIO configuration
      * @param fileMetadataRepository repository for file metadata
+     * @param meterRegistry registry for the upload and download size metrics
      */
     public FileStorageService(
             MinioClient minioClient,
             MinioConfig minioConfig,
-            FileMetadataRepository fileMetadataRepository) {
+            FileMetadataRepository fileMetadataRepository,
+            MeterRegistry meterRegistry) {
         this.minioClient = minioClient;
         this.minioConfig = minioConfig;
         this.fileMetadataRepository = fileMetadataRepository;
+        this.uploadBytes = DistributionSummary.builder("recrutech.storage.upload.bytes")
+                .description("Size of the files uploaded to MinIO")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.downloadBytes = DistributionSummary.builder("recrutech.storage.download.bytes")
+                .description("Bytes read from the files downloaded from MinIO")
+                .baseUnit("bytes")
+                .register(meterRegistry);
 
         // Ensure bucket exists
         try {
@@ -70,15 +95,16 @@ public class FileStorageService {
      * @param file the file to store
      * @return the metadata of the stored file
      */
+    @Timed(value = PlatformMetrics.STORAGE_OPERATIONS, description = PlatformMetrics.STORAGE_OPERATIONS_DESCRIPTION)
     @Transactional
     public FileMetadata storeFile(MultipartFile file) {
         // Validate file
         if (file == null) {
-            throw new ValidationException("File cannot be null");
+            throw FILE_NULL;
         }
 
         if (file.isEmpty()) {
-            throw new ValidationException("File cannot be empty");
+            throw FILE_EMPTY;
         }
 
         // Normalize file name
@@ -86,7 +112,7 @@ public class FileStorageService {
 
         // Check if the file name contains invalid characters
         if (originalFileName.contains("..")) {
-            throw new ValidationException("Filename contains invalid path sequence: " + originalFileName);
+            throw ValidationException.stackless("Filename contains invalid path sequence: " + originalFileName);
         }
 
         try {
@@ -113,6 +139,7 @@ public class FileStorageService {
             fileMetadata.setSize(file.getSize());
             fileMetadata.setFilePath(objectName);
 
+            uploadBytes.record(file.getSize());
             return fileMetadataRepository.save(fileMetadata);
         } catch (Exception e) {
             throw new RuntimeException("Could not store file " + originalFileName + ": " + e.getMessage(), e);
@@ -125,11 +152,12 @@ public class FileStorageService {
      * @param fileId the ID of the file to retrieve
      * @return the file as a Resource
      */
+    @Timed(value = PlatformMetrics.STORAGE_OPERATIONS, description = PlatformMetrics.STORAGE_OPERATIONS_DESCRIPTION)
     @Transactional(readOnly = true)
     public Resource loadFileAsResource(String fileId) {
         try {
             FileMetadata fileMetadata = fileMetadataRepository.findById(fileId)
-                    .orElseThrow(() -> new NotFoundException("File not found with id: " + fileId));
+                    .orElseThrow(() -> NotFoundException.stackless("File not found with id: " + fileId));
 
             // Get object from MinIO
             GetObjectResponse response = minioClient.getObject(
@@ -138,7 +166,7 @@ public class FileStorageService {
                             .object(fileMetadata.getFilePath())
                             .build());
 
-            return new InputStreamResource(response);
+            return new InputStreamResource(new CountingInputStream(response));
         } catch (Exception e) {
             throw new RuntimeException("Could not load file with id: " + fileId, e);
         }
@@ -150,10 +178,11 @@ public class FileStorageService {
      * @param fileId the ID of the file
      * @return the file metadata
      */
+    @Timed(value = PlatformMetrics.STORAGE_OPERATIONS, description = PlatformMetrics.STORAGE_OPERATIONS_DESCRIPTION)
     @Transactional(readOnly = true)
     public FileMetadata getFileMetadata(String fileId) {
         return fileMetadataRepository.findById(fileId)
-                .orElseThrow(() -> new NotFoundException("File not found with id: " + fileId));
+                .orElseThrow(() -> NotFoundException.stackless("File not found with id: " + fileId));
     }
 
     /**
@@ -164,11 +193,12 @@ public class FileStorageService {
      * @param expiryTime the expiry time in seconds
      * @return the presigned URL
      */
+    @Timed(value = PlatformMetrics.STORAGE_OPERATIONS, description = PlatformMetrics.STORAGE_OPERATIONS_DESCRIPTION)
     @Transactional(readOnly = true)
     public String generatePresignedUrl(String fileId, int expiryTime) {
         try {
             FileMetadata fileMetadata = fileMetadataRepository.findById(fileId)
-                    .orElseThrow(() -> new NotFoundException("File not found with id: " + fileId));
+                    .orElseThrow(() -> NotFoundException.stackless("File not found with id: " + fileId));
 
             return minioClient.getPresignedObjectUrl(
                     GetPresignedObjectUrlArgs.builder()
@@ -181,4 +211,79 @@ public class FileStorageService {
             throw new RuntimeException("Could not generate presigned URL for file with id: " + fileId, e);
         }
     }
+
+    /**
+     * Delete stored objects from MinIO with a single multi-object delete request.
+     * Objects that do not exist are ignored, so a deletion can be retried.
+     *
+     * @param objectNames the names of the objects, i.e. the file paths of their metadata
+     * @return the number of objects requested for deletion
+     */
+    @Timed(value = PlatformMetrics.STORAGE_OPERATIONS, description = PlatformMetrics.STORAGE_OPERATIONS_DESCRIPTION)
+    public int deleteObjects(Collection<String> objectNames) {
+        if (objectNames.isEmpty()) {
+            return 0;
+        }
+        List<DeleteObject> objects = new ArrayList<>(objectNames.size());
+        for (String objectName : objectNames) {
+            objects.add(new DeleteObject(objectName));
+        }
+        try {
+            // The request is only sent while the results are iterated
+            for (Result<DeleteError> result : minioClient.removeObjects(RemoveObjectsArgs.builder()
+                    .bucket(minioConfig.getBucketName())
+                    .objects(objects)
+                    .build())) {
+                DeleteError error = result.get();
+                if (!"NoSuchKey".equals(error.code())) {
+                    throw new RuntimeException("Could not delete object " + error.objectName() + ": " + error.message());
+                }
+            }
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Could not delete " + objects.size() + " objects: " + e.getMessage(), e);
+        }
+        return objects.size();
+    }
+
+    /**
+     * Stream of a downloaded object that records the number of bytes actually read once it is closed.
+     */
+    private final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+        private boolean closed;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                downloadBytes.record(count);
+            }
+            super.close();
+        }
+    }
 }
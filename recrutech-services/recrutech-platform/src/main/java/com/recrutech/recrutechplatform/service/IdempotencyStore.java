@@ -0,0 +1,183 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.common.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-memory store of the responses to requests carrying an {@code Idempotency-Key} header.
+ * <p>
+ * The first request with a key runs and its response is kept for the TTL; retries with the same key
+ * are answered from the store, and retries arriving while the first request is still running wait for
+ * its outcome instead of running again. Failed requests are not stored, so they can be retried.
+ * Keys are scoped per user, and a key can only be reused for the same request. Once the store holds
+ * the maximum number of entries, the oldest ones are evicted first.
+ * <p>
+ * The store is local to the instance. A retry routed to another instance runs again and is caught
+ * by the database's unique constraints.
+ */
+@Component
+public class IdempotencyStore {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Insertion order equals expiry order because every entry has the same TTL
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+
+    /**
+     * Constructor for IdempotencyStore.
+     *
+     * @param ttl how long a response is kept
+     * @param maxEntries the maximum number of kept responses
+     */
+    @Autowired
+    public IdempotencyStore(@Value("${app.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${app.idempotency.max-entries:100000}") int maxEntries) {
+        this(ttl, maxEntries, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor for IdempotencyStore with a given clock.
+     *
+     * @param ttl how long a response is kept
+     * @param maxEntries the maximum number of kept responses
+     * @param clock the clock the expiry is measured with
+     */
+    IdempotencyStore(Duration ttl, int maxEntries, Clock clock) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * Runs a request once per key and returns its response, or the stored response of an earlier run.
+     *
+     * @param scope the owner of the key, e.g. the user
+     * @param key the idempotency key sent by the client
+     * @param fingerprint identifies the request, so a key cannot be reused for a different one
+     * @param action the request
+     * @param <T> the response type
+     * @return the response and whether it was replayed from the store
+     * @throws ValidationException if the key is invalid or was used for a different request
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<T> execute(String scope, String key, String fingerprint, Supplier<T> action) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw ValidationException.stackless(
+                    "Idempotency-Key must not be blank and at most " + MAX_KEY_LENGTH + " characters long");
+        }
+        String storeKey = scope + '\n' + key;
+        long now = clock.millis();
+
+        Entry entry;
+        boolean owner = false;
+        lock.lock();
+        try {
+            entry = entries.get(storeKey);
+            if (entry != null && entry.expiresAt() <= now) {
+                entries.remove(storeKey);
+                entry = null;
+            }
+            if (entry == null) {
+                evict(now);
+                entry = new Entry(fingerprint, new CompletableFuture<>(), now + ttl.toMillis());
+                entries.put(storeKey, entry);
+                owner = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (!entry.fingerprint().equals(fingerprint)) {
+            throw ValidationException.stackless("Idempotency-Key was already used for a different request");
+        }
+
+        if (!owner) {
+            try {
+                return new Result<>((T) entry.response().join(), true);
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            T response = action.get();
+            entry.response().complete(response);
+            return new Result<>(response, false);
+        } catch (RuntimeException e) {
+            remove(storeKey, entry);
+            entry.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of stored entries, including running requests.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(String storeKey, Entry entry) {
+        lock.lock();
+        try {
+            entries.remove(storeKey, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes expired entries and, if the store is full, the oldest ones to make room for a new entry.
+     * Must hold the lock.
+     */
+    private void evict(long now) {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        int size = entries.size();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            if (entry.expiresAt() > now && size < maxEntries) {
+                return;
+            }
+            iterator.remove();
+            size--;
+        }
+    }
+
+    /**
+     * Response of an idempotent request.
+     *
+     * @param response the response
+     * @param replayed true if the response was stored by an earlier request with the same key
+     * @param <T> the response type
+     */
+    public record Result<T>(T response, boolean replayed) {
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<Object> response, long expiresAt) {
+    }
+}
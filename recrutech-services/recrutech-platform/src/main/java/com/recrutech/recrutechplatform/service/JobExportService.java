@@ -0,0 +1,53 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.recrutechplatform.bulk.JobExportWriter;
+import com.recrutech.recrutechplatform.dto.job.JobResponse;
+import com.recrutech.recrutechplatform.metrics.PlatformMetrics;
+import com.recrutech.recrutechplatform.repository.JobRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Service for exporting all jobs.
+ * Jobs are written to the client while they are read from the database cursor, so memory use
+ * does not depend on the number of jobs.
+ */
+@Service
+@Slf4j
+public class JobExportService {
+
+    private final JobRepository jobRepository;
+
+    public JobExportService(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * Writes all jobs, in ID order.
+     *
+     * @param writer the writer the jobs are written to
+     * @return the number of exported jobs
+     * @throws IOException if a job cannot be written
+     */
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
+    @Transactional(readOnly = true)
+    public long exportJobs(JobExportWriter writer) throws IOException {
+        long count = 0;
+        try (Stream<JobResponse> jobs = jobRepository.streamAllForExport()) {
+            Iterator<JobResponse> iterator = jobs.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                count++;
+            }
+        }
+        writer.flush();
+        log.info("Exported {} jobs", count);
+        return count;
+    }
+}
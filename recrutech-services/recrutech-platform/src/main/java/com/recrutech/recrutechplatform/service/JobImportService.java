@@ -0,0 +1,193 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.common.exception.ValidationException;
+import com.recrutech.common.validator.JobValidator;
+import com.recrutech.recrutechplatform.bulk.JobImportResultWriter;
+import com.recrutech.recrutechplatform.bulk.JobRow;
+import com.recrutech.recrutechplatform.bulk.JobRowReader;
+import com.recrutech.recrutechplatform.dto.job.JobImportResponse;
+import com.recrutech.recrutechplatform.dto.job.JobImportRowResult;
+import com.recrutech.recrutechplatform.dto.job.JobRequest;
+import com.recrutech.recrutechplatform.metrics.PlatformMetrics;
+import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.outbox.JobEventPayload;
+import com.recrutech.recrutechplatform.outbox.OutboxEventType;
+import com.recrutech.recrutechplatform.outbox.OutboxWriter;
+import com.recrutech.recrutechplatform.repository.BatchWriter;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service for importing jobs in bulk.
+ * <p>
+ * A list import is validated as a whole before any job is written and is all-or-nothing. A streamed
+ * import reads, validates and persists the rows one chunk of the JDBC batch size at a time, each chunk
+ * in its own transaction, and reports a result for every row, so inputs of any size use bounded memory.
+ * A job created event is written to the outbox for every imported job, in the same transaction.
+ */
+@Service
+@Slf4j
+public class JobImportService {
+
+    private final BatchWriter batchWriter;
+    private final OutboxWriter outboxWriter;
+    private final JobSuggestionIndex jobSuggestionIndex;
+    private final TransactionOperations transactionOperations;
+    private final int maxRows;
+
+    /**
+     * Constructor for JobImportService.
+     *
+     * @param batchWriter writer persisting the jobs in JDBC batches
+     * @param outboxWriter writer for the job created events
+     * @param jobSuggestionIndex index the imported jobs are added to
+     * @param transactionOperations the template running each chunk of a streamed import in a transaction
+     * @param maxRows the maximum number of jobs per list import
+     */
+    @Autowired
+    public JobImportService(BatchWriter batchWriter, OutboxWriter outboxWriter,
+                            JobSuggestionIndex jobSuggestionIndex, TransactionOperations transactionOperations,
+                            @Value("${app.bulk.max-rows:10000}") int maxRows) {
+        this.batchWriter = batchWriter;
+        this.outboxWriter = outboxWriter;
+        this.jobSuggestionIndex = jobSuggestionIndex;
+        this.transactionOperations = transactionOperations;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Imports jobs in one transaction, inserting them in JDBC batches.
+     *
+     * @param jobRequests the jobs to import
+     * @return the number and IDs of the imported jobs, in request order
+     * @throws ValidationException if there are no jobs, too many jobs or any job is invalid
+     */
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
+    @Transactional
+    public JobImportResponse importJobs(List<JobRequest> jobRequests) {
+        BulkLimits.requireSize(jobRequests, maxRows, "jobs");
+        log.debug("Importing {} jobs", jobRequests.size());
+
+        List<Job> jobs = new ArrayList<>(jobRequests.size());
+        for (int i = 0; i < jobRequests.size(); i++) {
+            try {
+                jobs.add(toJob(jobRequests.get(i)));
+            } catch (ValidationException e) {
+                throw ValidationException.stackless("Invalid job at index " + i + ": " + e.getMessage());
+            }
+        }
+
+        persistWithEvents(jobs);
+
+        List<String> ids = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            ids.add(job.getId());
+        }
+        log.info("Imported {} jobs", ids.size());
+        return new JobImportResponse(ids.size(), ids);
+    }
+
+    /**
+     * Imports jobs row by row, writing the result of every row in input order. Invalid rows are
+     * reported and skipped; if a chunk cannot be stored, its valid rows are reported as failed and
+     * the import continues with the next chunk. Results are flushed to the client after every chunk.
+     *
+     * @param reader the reader of the rows to import
+     * @param resultWriter the writer the per-row results are written to
+     * @return the number of created jobs
+     * @throws IOException if the rows cannot be read or the results cannot be written
+     */
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
+    public long importJobs(JobRowReader reader, JobImportResultWriter resultWriter) throws IOException {
+        int chunkSize = batchWriter.getBatchSize();
+        List<JobRow> chunk = new ArrayList<>(chunkSize);
+        long created = 0;
+        long rows = 0;
+        JobRow row;
+        while ((row = reader.next()) != null) {
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                created += importChunk(chunk, resultWriter);
+                rows += chunk.size();
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            created += importChunk(chunk, resultWriter);
+            rows += chunk.size();
+        }
+        resultWriter.flush();
+        log.info("Imported {} of {} streamed jobs", created, rows);
+        return created;
+    }
+
+    private int importChunk(List<JobRow> rows, JobImportResultWriter resultWriter) throws IOException {
+        JobImportRowResult[] results = new JobImportRowResult[rows.size()];
+        List<Job> jobs = new ArrayList<>(rows.size());
+        int[] jobRows = new int[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            JobRow row = rows.get(i);
+            if (row.error() != null) {
+                results[i] = JobImportRowResult.invalid(row.number(), row.error());
+                continue;
+            }
+            try {
+                Job job = toJob(row.request());
+                jobRows[jobs.size()] = i;
+                jobs.add(job);
+            } catch (ValidationException e) {
+                results[i] = JobImportRowResult.invalid(row.number(), e.getMessage());
+            }
+        }
+
+        int stored = 0;
+        if (!jobs.isEmpty()) {
+            try {
+                transactionOperations.executeWithoutResult(status -> persistWithEvents(jobs));
+                stored = jobs.size();
+            } catch (RuntimeException e) {
+                log.warn("Could not store the jobs of rows {} to {}",
+                        rows.get(0).number(), rows.get(rows.size() - 1).number(), e);
+            }
+            for (int j = 0; j < jobs.size(); j++) {
+                long number = rows.get(jobRows[j]).number();
+                results[jobRows[j]] = stored > 0
+                        ? JobImportRowResult.created(number, jobs.get(j).getId())
+                        : JobImportRowResult.failed(number, "Job could not be stored");
+            }
+        }
+
+        for (JobImportRowResult result : results) {
+            resultWriter.write(result);
+        }
+        resultWriter.flush();
+        return stored;
+    }
+
+    private void persistWithEvents(List<Job> jobs) {
+        batchWriter.persistAll(jobs);
+        outboxWriter.appendAll(OutboxEventType.JOB_CREATED, jobs.stream().map(JobEventPayload::of).toList(),
+                JobEventPayload::id);
+        jobs.forEach(jobSuggestionIndex::update);
+    }
+
+    private static Job toJob(JobRequest jobRequest) {
+        JobValidator.requireNonNull(jobRequest);
+        JobValidator.validateJobData(jobRequest.title(), jobRequest.description(), jobRequest.location());
+        return Job.builder()
+                .title(jobRequest.title())
+                .description(jobRequest.description())
+                .location(jobRequest.location())
+                .active(jobRequest.active() != null ? jobRequest.active() : true)
+                .build();
+    }
+}
@@ -0,0 +1,264 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.recrutechplatform.dto.application.ApplicationKey;
+import com.recrutech.recrutechplatform.model.FileMetadata;
+import com.recrutech.recrutechplatform.repository.ApplicationArchiveRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationScoreRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationStatusTransitionRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationSubmissionRepository;
+import com.recrutech.recrutechplatform.repository.CvTermVectorRepository;
+import com.recrutech.recrutechplatform.repository.FileMetadataRepository;
+import com.recrutech.recrutechplatform.repository.JobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Removes deleted jobs in the background, after {@link JobService#deleteJobById} has marked them.
+ * <p>
+ * Every interval the reaper works through the deleted jobs, longest deleted first. For each job it
+ * removes the live applications and then the archived ones in batches of {@code app.job-reaper.batch-size},
+ * each batch in its own transaction together with their status transitions, submissions and relevance
+ * scores, and the metadata and extracted terms of CV files not submitted to another job. Once a batch has committed, the CV objects are
+ * deleted from MinIO with one request. When no applications are left, the job row itself is removed. The reaper deletes at
+ * most {@code app.job-reaper.max-rows-per-second} applications, so removing a large job does not
+ * compete with the request load.
+ * <p>
+ * A round that fails is retried in the next one; batches already committed are not repeated. CV objects
+ * that could not be deleted from MinIO stay behind and are counted in {@code recrutech.reaper.failures}.
+ * Removed rows are counted in {@code recrutech.reaper.deleted}, tagged with the {@code entity}.
+ */
+@Component
+@Slf4j
+public class JobReaper implements SmartLifecycle {
+
+    private static final int JOBS_PER_ROUND = 10;
+
+    private final JobRepository jobRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationArchiveRepository archiveRepository;
+    private final ApplicationSubmissionRepository submissionRepository;
+    private final ApplicationStatusTransitionRepository transitionRepository;
+    private final ApplicationScoreRepository scoreRepository;
+    private final CvTermVectorRepository termVectorRepository;
+    private final FileMetadataRepository fileMetadataRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionOperations transactionOperations;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxRowsPerSecond;
+    private final Duration interval;
+    private final Counter deletedJobs;
+    private final Counter deletedApplications;
+    private final Counter deletedFiles;
+    private final Counter failures;
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor for JobReaper.
+     *
+     * @param jobRepository repository for jobs
+     * @param applicationRepository repository for the applications of the deleted jobs
+     * @param archiveRepository repository for the archived applications of the deleted jobs
+     * @param submissionRepository repository for the submissions of the applications
+     * @param transitionRepository repository for the status transitions of the applications
+     * @param scoreRepository repository for the relevance scores of the applications
+     * @param termVectorRepository repository for the terms extracted from the CV files
+     * @param fileMetadataRepository repository for the metadata of the CV files
+     * @param fileStorageService service deleting the CV objects from MinIO
+     * @param transactionOperations the template running each batch in a transaction
+     * @param enabled whether the reaper runs on this instance
+     * @param batchSize the maximum number of applications removed per transaction
+     * @param maxRowsPerSecond the maximum rate at which applications are removed
+     * @param interval the time between two rounds
+     * @param meterRegistry the registry the reaper metrics are registered in
+     */
+    @Autowired
+    public JobReaper(JobRepository jobRepository, ApplicationRepository applicationRepository,
+                     ApplicationArchiveRepository archiveRepository,
+                     ApplicationSubmissionRepository submissionRepository,
+                     ApplicationStatusTransitionRepository transitionRepository,
+                     ApplicationScoreRepository scoreRepository, CvTermVectorRepository termVectorRepository,
+                     FileMetadataRepository fileMetadataRepository, FileStorageService fileStorageService,
+                     TransactionOperations transactionOperations,
+                     @Value("${app.job-reaper.enabled:true}") boolean enabled,
+                     @Value("${app.job-reaper.batch-size:500}") int batchSize,
+                     @Value("${app.job-reaper.max-rows-per-second:2000}") int maxRowsPerSecond,
+                     @Value("${app.job-reaper.interval:10s}") Duration interval,
+                     MeterRegistry meterRegistry) {
+        if (batchSize < 1 || maxRowsPerSecond < 1) {
+            throw new IllegalArgumentException("Batch size and rate must be positive: "
+                    + batchSize + ", " + maxRowsPerSecond);
+        }
+        this.jobRepository = jobRepository;
+        this.applicationRepository = applicationRepository;
+        this.archiveRepository = archiveRepository;
+        this.submissionRepository = submissionRepository;
+        this.transitionRepository = transitionRepository;
+        this.scoreRepository = scoreRepository;
+        this.termVectorRepository = termVectorRepository;
+        this.fileMetadataRepository = fileMetadataRepository;
+        this.fileStorageService = fileStorageService;
+        this.transactionOperations = transactionOperations;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxRowsPerSecond = maxRowsPerSecond;
+        this.interval = interval;
+        this.deletedJobs = deletedCounter(meterRegistry, "job");
+        this.deletedApplications = deletedCounter(meterRegistry, "application");
+        this.deletedFiles = deletedCounter(meterRegistry, "file");
+        this.failures = Counter.builder("recrutech.reaper.failures")
+                .description("CV object deletions that failed and were left behind")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::reap, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler = executor;
+        log.info("Job reaper started");
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Runs one round: removes deleted jobs until none are left, at no more than the configured rate.
+     */
+    void reap() {
+        try {
+            List<String> jobIds;
+            do {
+                jobIds = transactionOperations.execute(status -> jobRepository.findDeletedJobIds(JOBS_PER_ROUND));
+                if (jobIds == null) {
+                    return;
+                }
+                for (String jobId : jobIds) {
+                    reapJob(jobId);
+                }
+            } while (jobIds.size() == JOBS_PER_ROUND);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Job reaper failed, retrying in {}: {}", interval, e.getMessage());
+        }
+    }
+
+    private void reapJob(String jobId) throws InterruptedException {
+        long applications = 0;
+        int count;
+        do {
+            long started = System.nanoTime();
+            count = reapBatch(jobId);
+            applications += count;
+            long remaining = count * TimeUnit.SECONDS.toNanos(1) / maxRowsPerSecond - (System.nanoTime() - started);
+            if (remaining > 0) {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            }
+        } while (count > 0);
+        log.info("Removed deleted job {} with {} applications", jobId, applications);
+    }
+
+    /**
+     * Removes the next batch of applications of a deleted job, or the job itself if none are left.
+     *
+     * @param jobId the ID of the deleted job
+     * @return the number of removed applications; 0 if the job was removed
+     */
+    int reapBatch(String jobId) {
+        ReapedBatch batch = transactionOperations.execute(status -> {
+            List<ApplicationKey> keys = applicationRepository.findKeysByJobId(jobId, Limit.of(batchSize));
+            boolean archived = keys.isEmpty();
+            if (archived) {
+                keys = archiveRepository.findKeysByJobId(jobId, Limit.of(batchSize));
+            }
+            if (keys.isEmpty()) {
+                submissionRepository.deleteByJobId(jobId);
+                return new ReapedBatch(jobRepository.purgeDeleted(jobId), 0, 0, List.of());
+            }
+            List<String> ids = keys.stream().map(ApplicationKey::id).toList();
+            Set<String> jobFileIds = new LinkedHashSet<>();
+            keys.stream().map(ApplicationKey::cvFileId).filter(Objects::nonNull).forEach(jobFileIds::add);
+            Set<String> fileIds = new LinkedHashSet<>(jobFileIds);
+            if (!jobFileIds.isEmpty()) {
+                submissionRepository.deleteByJobIdAndCvFileIdIn(jobId, jobFileIds);
+                submissionRepository.findCvFileIdsUsedByOtherJobs(jobFileIds, jobId).forEach(fileIds::remove);
+            }
+            List<String> objectNames = fileMetadataRepository.findAllById(fileIds).stream()
+                    .map(FileMetadata::getFilePath)
+                    .toList();
+            transitionRepository.deleteByApplicationIdIn(ids);
+            scoreRepository.deleteByApplicationIdIn(ids);
+            int applications = archived ? archiveRepository.deleteByIdIn(ids) : applicationRepository.deleteByIdIn(ids);
+            int files = 0;
+            if (!fileIds.isEmpty()) {
+                termVectorRepository.deleteByFileIdIn(fileIds);
+                files = fileMetadataRepository.deleteByIdIn(fileIds);
+            }
+            return new ReapedBatch(false, applications, files, objectNames);
+        });
+        if (batch == null) {
+            return 0;
+        }
+        if (batch.jobRemoved()) {
+            deletedJobs.increment();
+        }
+        deletedApplications.increment(batch.applications());
+        deletedFiles.increment(batch.files());
+        try {
+            fileStorageService.deleteObjects(batch.objectNames());
+        } catch (RuntimeException e) {
+            failures.increment(batch.objectNames().size());
+            log.warn("Could not delete {} CV objects of deleted job {}: {}",
+                    batch.objectNames().size(), jobId, e.getMessage());
+        }
+        return batch.applications();
+    }
+
+    private static Counter deletedCounter(MeterRegistry meterRegistry, String entity) {
+        return Counter.builder("recrutech.reaper.deleted")
+                .description("Rows removed by the job reaper")
+                .tag("entity", entity)
+                .register(meterRegistry);
+    }
+
+    private record ReapedBatch(boolean jobRemoved, int applications, int files, List<String> objectNames) {
+    }
+}
@@ -0,0 +1,99 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recrutech.recrutechplatform.dto.job.JobResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded in-memory cache of job details, keyed by job ID in lower case, so an ID cached in one
+ * spelling is found and invalidated in any other.
+ * <p>
+ * A missing job is loaded once per key even if many requests ask for it at the same time.
+ * Writes invalidate their job both immediately and after their transaction completes, so a read
+ * running concurrently with the write cannot put the old state back into the cache.
+ * Hits, misses, evictions and the size are exported as the {@code cache.*} metrics tagged
+ * {@code cache=jobs}.
+ * <p>
+ * The cache is local to the instance. Writes on another instance become visible here after the TTL.
+ */
+@Component
+public class JobResponseCache {
+
+    static final String NAME = "jobs";
+
+    private final Cache<String, JobResponse> cache;
+
+    /**
+     * Constructor for JobResponseCache.
+     *
+     * @param ttl how long a job is kept after it was loaded
+     * @param maxEntries the maximum number of kept jobs
+     * @param meterRegistry registry for the cache metrics
+     */
+    @Autowired
+    public JobResponseCache(@Value("${app.job-cache.ttl:60s}") Duration ttl,
+                            @Value("${app.job-cache.max-entries:10000}") long maxEntries,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+    }
+
+    /**
+     * Gets a job from the cache, loading it on a miss. Jobs the loader does not find are not cached.
+     *
+     * @param id the ID of the job
+     * @param loader loads the job, returning an empty optional if it does not exist
+     * @return the job, or an empty optional if it does not exist
+     */
+    public Optional<JobResponse> get(String id, Function<String, Optional<JobResponse>> loader) {
+        return Optional.ofNullable(cache.get(key(id), key -> loader.apply(key).orElse(null)));
+    }
+
+    /**
+     * Removes a job from the cache, and again after the current transaction completes, if any.
+     *
+     * @param id the ID of the job
+     */
+    public void invalidate(String id) {
+        String key = key(id);
+        cache.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(key);
+                }
+            });
+        }
+    }
+
+    private static String key(String id) {
+        return id.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the approximate number of cached jobs.
+     *
+     * @return the number of cached jobs
+     */
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+}
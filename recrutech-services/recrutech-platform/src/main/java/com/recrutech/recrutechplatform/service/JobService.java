@@ -1,39 +1,56 @@
 package com.recrutech.recrutechplatform.service;
 
+import com.recrutech.recrutechplatform.dto.job.JobApplicationCounts;
 import com.recrutech.recrutechplatform.dto.job.JobRequest;
 import com.recrutech.recrutechplatform.dto.job.JobResponse;
 import com.recrutech.recrutechplatform.dto.job.JobSummaryResponse;
 import com.recrutech.common.exception.NotFoundException;
+import com.recrutech.common.exception.PreconditionFailedException;
 import com.recrutech.common.exception.ValidationException;
 import com.recrutech.common.validator.JobValidator;
+import com.recrutech.recrutechplatform.metrics.PlatformMetrics;
 import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.outbox.JobEventPayload;
+import com.recrutech.recrutechplatform.outbox.OutboxEventType;
+import com.recrutech.recrutechplatform.outbox.OutboxWriter;
 import com.recrutech.recrutechplatform.repository.JobRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Slf4j
 public class JobService {
 
     private final JobRepository jobRepository;
+    private final JobResponseCache jobResponseCache;
+    private final OutboxWriter outboxWriter;
+    private final JobSuggestionIndex jobSuggestionIndex;
 
     @Autowired
-    public JobService(JobRepository jobRepository) {
+    public JobService(JobRepository jobRepository, JobResponseCache jobResponseCache, OutboxWriter outboxWriter,
+                      JobSuggestionIndex jobSuggestionIndex) {
         this.jobRepository = jobRepository;
+        this.jobResponseCache = jobResponseCache;
+        this.outboxWriter = outboxWriter;
+        this.jobSuggestionIndex = jobSuggestionIndex;
     }
 
     private Job findJobByIdOrThrow(String id, String operation) {
-        return jobRepository.findById(id)
+        return jobRepository.findCurrentById(id)
                 .orElseThrow(() -> {
                     log.warn("Job with id {} not found for {}", id, operation);
-                    return new NotFoundException("Job not found with id: " + id);
+                    return NotFoundException.stackless("Job not found with id: " + id);
                 });
     }
 
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
     @Transactional
     public JobResponse createJob(JobRequest jobRequest) {
         log.debug("Creating new job with title: {}", jobRequest.title());
@@ -49,6 +66,8 @@ public class JobService {
                 .build();
 
         Job savedJob = jobRepository.save(job);
+        outboxWriter.append(OutboxEventType.JOB_CREATED, savedJob.getId(), JobEventPayload.of(savedJob));
+        jobSuggestionIndex.update(savedJob);
         log.info("Job created successfully with id: {}", savedJob.getId());
 
         return mapToJobResponse(savedJob);
@@ -59,6 +78,7 @@ public class JobService {
      *
      * @return a list of all jobs with summary information
      */
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
     @Transactional(readOnly = true)
     public List<JobSummaryResponse> findAllJobs() {
         log.debug("Retrieving all jobs");
@@ -72,45 +92,56 @@ public class JobService {
 
     /**
      * Retrieves a job by its ID with full details.
+     * Served from the job cache; the database is only read on a miss, in its own read-only transaction.
      *
      * @param id the ID of the job to retrieve
      * @return the job response with full details
      * @throws ValidationException if the ID is invalid
      * @throws NotFoundException if the job is not found
      */
-    @Transactional(readOnly = true)
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
     public JobResponse findJobById(String id) {
         log.debug("Retrieving job with id: {}", id);
 
         JobValidator.validateId(id);
-        Job job = findJobByIdOrThrow(id, "retrieval");
+        JobResponse job = jobResponseCache.get(id, key -> jobRepository.findCurrentById(key).map(this::mapToJobResponse))
+                .orElseThrow(() -> {
+                    log.warn("Job with id {} not found for retrieval", id);
+                    return NotFoundException.stackless("Job not found with id: " + id);
+                });
 
-        log.info("Retrieved job with id: {}", id);
-        return mapToJobResponse(job);
+        log.debug("Retrieved job with id: {}", id);
+        return job;
     }
 
     /**
      * Deletes a job by its ID.
+     * The job is only marked as deleted, so this takes constant time however many applications it has;
+     * the {@link JobReaper} removes its applications and their files in the background.
      *
      * @param id the ID of the job to delete
      * @throws ValidationException if the ID is invalid
      * @throws NotFoundException if the job is not found
      */
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
     @Transactional
     public void deleteJobById(String id) {
         log.debug("Deleting job with id: {}", id);
 
         JobValidator.validateId(id);
 
-        // Verify the job exists before deletion
-        findJobByIdOrThrow(id, "deletion");
-
-        jobRepository.deleteById(id);
+        if (!jobRepository.softDelete(id, LocalDateTime.now())) {
+            log.warn("Job with id {} not found for deletion", id);
+            throw NotFoundException.stackless("Job not found with id: " + id);
+        }
+        outboxWriter.append(OutboxEventType.JOB_DELETED, id, Map.of("id", id));
+        jobResponseCache.invalidate(id);
+        jobSuggestionIndex.remove(id);
         log.info("Job with id {} deleted successfully", id);
     }
 
     /**
-     * Updates a job with the provided details.
+     * Updates a job with the provided details, regardless of its current version.
      *
      * @param id the ID of the job to update
      * @param jobRequest the job request containing updated job details
@@ -118,8 +149,30 @@ public class JobService {
      * @throws ValidationException if the job request or ID is invalid
      * @throws NotFoundException if the job is not found
      */
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
     @Transactional
     public JobResponse updateJob(String id, JobRequest jobRequest) {
+        return update(id, jobRequest, null);
+    }
+
+    /**
+     * Updates a job with the provided details if it still has the expected version.
+     *
+     * @param id the ID of the job to update
+     * @param jobRequest the job request containing updated job details
+     * @param expectedVersion the version the client based the update on
+     * @return the updated job response, with the new version
+     * @throws ValidationException if the job request or ID is invalid
+     * @throws NotFoundException if the job is not found
+     * @throws PreconditionFailedException if the job has a different version
+     */
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
+    @Transactional
+    public JobResponse updateJob(String id, JobRequest jobRequest, long expectedVersion) {
+        return update(id, jobRequest, expectedVersion);
+    }
+
+    private JobResponse update(String id, JobRequest jobRequest, Long expectedVersion) {
         log.debug("Updating job with id: {}", id);
 
         JobValidator.validateId(id);
@@ -127,6 +180,10 @@ public class JobService {
         JobValidator.validateJobData(jobRequest.title(), jobRequest.description(), jobRequest.location());
 
         Job job = findJobByIdOrThrow(id, "update");
+        if (expectedVersion != null && job.getVersion() != expectedVersion) {
+            log.warn("Job with id {} has version {}, update expected {}", id, job.getVersion(), expectedVersion);
+            throw PreconditionFailedException.stackless("Job was modified since it was read: " + id);
+        }
 
         // Update job properties
         job.setTitle(jobRequest.title());
@@ -137,7 +194,11 @@ public class JobService {
             job.setActive(jobRequest.active());
         }
 
-        Job updatedJob = jobRepository.save(job);
+        // Flush so the response carries the incremented version; a concurrent update fails here
+        Job updatedJob = jobRepository.saveAndFlush(job);
+        outboxWriter.append(OutboxEventType.JOB_UPDATED, id, JobEventPayload.of(updatedJob));
+        jobResponseCache.invalidate(id);
+        jobSuggestionIndex.update(updatedJob);
         log.info("Job with id {} updated successfully", id);
 
         return mapToJobResponse(updatedJob);
@@ -155,7 +216,8 @@ public class JobService {
                 job.getTitle(),
                 job.getDescription(),
                 job.getLocation(),
-                job.isActive()
+                job.isActive(),
+                job.getVersion()
         );
     }
 
@@ -169,7 +231,14 @@ public class JobService {
         return new JobSummaryResponse(
                 job.getId(),
                 job.getTitle(),
-                job.getLocation()
+                job.getLocation(),
+                new JobApplicationCounts(
+                        job.getApplicationCount(),
+                        job.getReceivedCount(),
+                        job.getUnderReviewCount(),
+                        job.getInvitedCount(),
+                        job.getRejectedCount(),
+                        job.getWithdrawnCount())
         );
     }
 
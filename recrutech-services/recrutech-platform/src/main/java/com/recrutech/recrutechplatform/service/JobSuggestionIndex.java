@@ -0,0 +1,263 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.common.exception.ValidationException;
+import com.recrutech.recrutechplatform.dto.job.JobListing;
+import com.recrutech.recrutechplatform.dto.job.JobSuggestionResponse;
+import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.repository.JobRepository;
+import com.recrutech.recrutechplatform.suggest.PrefixTree;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory search suggestions over the distinct titles and locations of the active jobs, each weighted
+ * by the number of active jobs that have it.
+ * <p>
+ * Titles and locations are held in one {@link PrefixTree} each, so a lookup costs the length of the prefix
+ * and does not touch the database. Jobs created, updated or deleted on this instance are applied to the
+ * trees once their transaction commits. On startup and every {@code app.job-suggest.refresh} the trees are
+ * rebuilt from the database in the background, which picks up changes made on other instances; changes
+ * applied while a rebuild runs are applied to the rebuilt trees as well. Until the first build has finished,
+ * no suggestions are returned. The number of indexed values is exported as {@code recrutech.suggest.values},
+ * tagged with the {@code field}.
+ */
+@Component
+@Slf4j
+public class JobSuggestionIndex implements SmartLifecycle {
+
+    static final int MAX_PREFIX_LENGTH = 100;
+
+    private final JobRepository jobRepository;
+    private final TransactionOperations transactionOperations;
+    private final int maxSuggestions;
+    private final Duration refresh;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state;
+    private List<Change> pending;
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Constructor for JobSuggestionIndex.
+     *
+     * @param jobRepository repository for the active jobs
+     * @param transactionOperations the template running the rebuild query in a transaction
+     * @param maxSuggestions the maximum number of titles and of locations suggested per prefix
+     * @param refresh the time between two rebuilds
+     * @param meterRegistry the registry the index metrics are registered in
+     */
+    @Autowired
+    public JobSuggestionIndex(JobRepository jobRepository, TransactionOperations transactionOperations,
+                              @Value("${app.job-suggest.max-suggestions:10}") int maxSuggestions,
+                              @Value("${app.job-suggest.refresh:5m}") Duration refresh,
+                              MeterRegistry meterRegistry) {
+        if (maxSuggestions < 1) {
+            throw new IllegalArgumentException("Number of suggestions must be positive: " + maxSuggestions);
+        }
+        this.jobRepository = jobRepository;
+        this.transactionOperations = transactionOperations;
+        this.maxSuggestions = maxSuggestions;
+        this.refresh = refresh;
+        this.state = new State(maxSuggestions);
+        Gauge.builder("recrutech.suggest.values", this, index -> index.size(true))
+                .description("Distinct values in the job search suggestions")
+                .tag("field", "title")
+                .register(meterRegistry);
+        Gauge.builder("recrutech.suggest.values", this, index -> index.size(false))
+                .description("Distinct values in the job search suggestions")
+                .tag("field", "location")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-suggestion-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::rebuild, 0, refresh.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler = executor;
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        scheduler = null;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Suggests the titles and locations of active jobs starting with a prefix, ignoring case.
+     *
+     * @param prefix the prefix typed so far; an empty prefix suggests the most common values
+     * @return the matching titles and locations, most active jobs first
+     * @throws ValidationException if the prefix is longer than {@value #MAX_PREFIX_LENGTH} characters
+     */
+    public JobSuggestionResponse suggest(String prefix) {
+        if (prefix != null && prefix.length() > MAX_PREFIX_LENGTH) {
+            throw ValidationException.stackless("Prefix must not be longer than " + MAX_PREFIX_LENGTH + " characters");
+        }
+        lock.readLock().lock();
+        try {
+            return new JobSuggestionResponse(state.titles.complete(prefix), state.locations.complete(prefix));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes a created or updated job once the current transaction commits; an inactive job is removed.
+     *
+     * @param job the job after the change
+     */
+    public void update(Job job) {
+        String id = job.getId();
+        JobListing listing = job.isActive() ? new JobListing(id, job.getTitle(), job.getLocation()) : null;
+        afterCommit(() -> apply(new Change(id, listing)));
+    }
+
+    /**
+     * Removes a deleted job once the current transaction commits.
+     *
+     * @param jobId the ID of the job
+     */
+    public void remove(String jobId) {
+        afterCommit(() -> apply(new Change(jobId, null)));
+    }
+
+    /**
+     * Rebuilds the trees from the active jobs in the database and replaces the current ones.
+     */
+    void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        State rebuilt = new State(maxSuggestions);
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                try (Stream<JobListing> listings = jobRepository.streamActiveListings()) {
+                    listings.forEach(listing -> rebuilt.apply(new Change(listing.id(), listing)));
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.warn("Rebuilding the job suggestions failed, retrying in {}: {}", refresh, e.getMessage());
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            pending.forEach(rebuilt::apply);
+            pending = null;
+            state = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Rebuilt job suggestions with {} titles and {} locations",
+                rebuilt.titles.size(), rebuilt.locations.size());
+    }
+
+    private void apply(Change change) {
+        lock.writeLock().lock();
+        try {
+            state.apply(change);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int size(boolean titles) {
+        lock.readLock().lock();
+        try {
+            return titles ? state.titles.size() : state.locations.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * The title and location trees with the listing each job is indexed with, so a change can remove
+     * the job's previous title and location.
+     */
+    private static final class State {
+
+        private final PrefixTree titles;
+        private final PrefixTree locations;
+        private final Map<String, JobListing> listings = new HashMap<>();
+
+        private State(int maxSuggestions) {
+            this.titles = new PrefixTree(maxSuggestions);
+            this.locations = new PrefixTree(maxSuggestions);
+        }
+
+        private void apply(Change change) {
+            JobListing previous = change.listing() != null
+                    ? listings.put(change.jobId(), change.listing())
+                    : listings.remove(change.jobId());
+            if (previous != null) {
+                titles.adjust(previous.title(), -1);
+                locations.adjust(previous.location(), -1);
+            }
+            if (change.listing() != null) {
+                titles.adjust(change.listing().title(), 1);
+                locations.adjust(change.listing().location(), 1);
+            }
+        }
+    }
+
+    /**
+     * A job to index, or to remove if the listing is null.
+     */
+    private record Change(String jobId, JobListing listing) {
+    }
+}
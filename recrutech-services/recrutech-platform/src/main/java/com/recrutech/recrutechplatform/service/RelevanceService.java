@@ -0,0 +1,377 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recrutech.recrutechplatform.dto.application.ApplicationKey;
+import com.recrutech.recrutechplatform.dto.application.RankedApplicationResponse;
+import com.recrutech.recrutechplatform.metrics.PlatformMetrics;
+import com.recrutech.recrutechplatform.model.ApplicationScore;
+import com.recrutech.recrutechplatform.model.CvTermVector;
+import com.recrutech.recrutechplatform.model.FileMetadata;
+import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.outbox.ApplicationEventPayload;
+import com.recrutech.recrutechplatform.relevance.CorpusStatistics;
+import com.recrutech.recrutechplatform.relevance.CvTextExtractor;
+import com.recrutech.recrutechplatform.relevance.JobProfile;
+import com.recrutech.recrutechplatform.relevance.TermVector;
+import com.recrutech.recrutechplatform.relevance.TopKRanking;
+import com.recrutech.recrutechplatform.repository.ApplicationArchiveRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationScoreRepository;
+import com.recrutech.recrutechplatform.repository.BatchWriter;
+import com.recrutech.recrutechplatform.repository.CvTermVectorRepository;
+import com.recrutech.recrutechplatform.repository.JobRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * Scores the CVs of applications against the description of their job and keeps a ranking of the
+ * most relevant applications per job.
+ * <p>
+ * A CV is downloaded and analyzed once, when the first application with it is scored; its terms are
+ * stored in {@code cv_term_vector}. Each application's score is stored in {@code application_score}
+ * with the hash of the description it was computed against. When a description changes, all
+ * applications of the job, live and archived, are scored again from the stored terms; CVs are
+ * analyzed and applications scored in parallel on a dedicated fork-join pool of
+ * {@code app.relevance.parallelism} threads.
+ * <p>
+ * The ranking of a job holds its {@code app.relevance.top-k} most relevant applications. It is loaded
+ * from the stored scores, kept for {@code app.relevance.ranking-ttl} and updated in place as applications
+ * are scored on this instance; scores written on another instance become visible here after the TTL.
+ * <p>
+ * Term weights depend on how many job descriptions contain a term; these statistics are collected
+ * every {@code app.relevance.statistics-refresh}. Scores of one job are comparable with each other,
+ * since all of them are recomputed when the description changes, but not with scores of other jobs.
+ * Applications whose CV could not be read are not ranked. Scored applications are counted in
+ * {@code recrutech.relevance.scored}, unreadable CVs in {@code recrutech.relevance.failures}, and the
+ * time to score a job again is recorded in {@code recrutech.relevance.rescore}.
+ */
+@Service
+@Slf4j
+public class RelevanceService implements DisposableBean {
+
+    static final String CACHE_NAME = "relevance-rankings";
+    private static final double DEFAULT_AVERAGE_CV_LENGTH = 500;
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JobService jobService;
+    private final JobRepository jobRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationArchiveRepository archiveRepository;
+    private final ApplicationScoreRepository scoreRepository;
+    private final CvTermVectorRepository termVectorRepository;
+    private final FileStorageService fileStorageService;
+    private final BatchWriter batchWriter;
+    private final TransactionOperations transactionOperations;
+    private final int topK;
+    private final int maxCvSize;
+    private final Duration statisticsRefresh;
+    private final ForkJoinPool pool;
+    private final Cache<String, TopKRanking> rankings;
+    private final Counter scored;
+    private final Counter failures;
+    private final Timer rescore;
+    private CorpusStatistics statistics;
+    private long statisticsLoadedAt;
+
+    /**
+     * Constructor for RelevanceService.
+     *
+     * @param jobService service checking that a ranked job exists
+     * @param jobRepository repository for the jobs and their descriptions
+     * @param applicationRepository repository for the applications of a job
+     * @param archiveRepository repository for the archived applications of a job
+     * @param scoreRepository repository for the scores
+     * @param termVectorRepository repository for the terms of the CVs
+     * @param fileStorageService service reading the CV files
+     * @param batchWriter writer inserting the scores of a job in JDBC batches
+     * @param transactionOperations the template running the reads and writes in transactions
+     * @param topK the number of applications ranked per job
+     * @param parallelism the number of threads analyzing CVs and scoring applications
+     * @param maxCvSize the number of bytes of a CV file that are analyzed
+     * @param rankingTtl how long a ranking is kept after it was loaded
+     * @param maxRankings the maximum number of kept rankings
+     * @param statisticsRefresh how long the term statistics are used before they are collected again
+     * @param meterRegistry the registry the scoring and cache metrics are registered in
+     */
+    @Autowired
+    public RelevanceService(JobService jobService, JobRepository jobRepository,
+                            ApplicationRepository applicationRepository,
+                            ApplicationArchiveRepository archiveRepository,
+                            ApplicationScoreRepository scoreRepository,
+                            CvTermVectorRepository termVectorRepository,
+                            FileStorageService fileStorageService, BatchWriter batchWriter,
+                            TransactionOperations transactionOperations,
+                            @Value("${app.relevance.top-k:50}") int topK,
+                            @Value("${app.relevance.parallelism:4}") int parallelism,
+                            @Value("${app.relevance.max-cv-size:5MB}") DataSize maxCvSize,
+                            @Value("${app.relevance.ranking-ttl:60s}") Duration rankingTtl,
+                            @Value("${app.relevance.max-rankings:1000}") long maxRankings,
+                            @Value("${app.relevance.statistics-refresh:1h}") Duration statisticsRefresh,
+                            MeterRegistry meterRegistry) {
+        if (topK < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Ranking size and parallelism must be positive: "
+                    + topK + ", " + parallelism);
+        }
+        this.jobService = jobService;
+        this.jobRepository = jobRepository;
+        this.applicationRepository = applicationRepository;
+        this.archiveRepository = archiveRepository;
+        this.scoreRepository = scoreRepository;
+        this.termVectorRepository = termVectorRepository;
+        this.fileStorageService = fileStorageService;
+        this.batchWriter = batchWriter;
+        this.transactionOperations = transactionOperations;
+        this.topK = topK;
+        this.maxCvSize = Math.toIntExact(maxCvSize.toBytes());
+        this.statisticsRefresh = statisticsRefresh;
+        this.pool = new ForkJoinPool(parallelism);
+        this.rankings = Caffeine.newBuilder()
+                .expireAfterWrite(rankingTtl)
+                .maximumSize(maxRankings)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, rankings, CACHE_NAME);
+        this.scored = Counter.builder("recrutech.relevance.scored")
+                .description("Applications scored against their job description")
+                .register(meterRegistry);
+        this.failures = Counter.builder("recrutech.relevance.failures")
+                .description("CV files that could not be read for scoring")
+                .register(meterRegistry);
+        this.rescore = Timer.builder("recrutech.relevance.rescore")
+                .description("Time spent scoring all applications of a job again")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gets the most relevant applications of a job.
+     *
+     * @param jobId the ID of the job
+     * @return the ranked applications, most relevant first
+     * @throws com.recrutech.common.exception.ValidationException if the job ID is invalid
+     * @throws com.recrutech.common.exception.NotFoundException if the job does not exist
+     */
+    @Timed(value = PlatformMetrics.OPERATIONS, description = PlatformMetrics.OPERATIONS_DESCRIPTION)
+    @Transactional(readOnly = true)
+    public List<RankedApplicationResponse> getRanking(String jobId) {
+        String id = jobService.findJobById(jobId).id();
+        return rankings.get(id, key -> TopKRanking.of(topK, scoreRepository.findRankingByJobId(key, Limit.of(topK))))
+                .snapshot();
+    }
+
+    /**
+     * Scores newly submitted applications. Applications of deleted jobs and applications whose CV
+     * cannot be read are skipped.
+     *
+     * @param applications the submitted applications
+     */
+    public void scoreSubmitted(List<ApplicationEventPayload> applications) {
+        if (applications.isEmpty()) {
+            return;
+        }
+        Set<String> jobIds = new LinkedHashSet<>();
+        applications.forEach(application -> jobIds.add(application.jobId()));
+        Map<String, String> descriptions = transactionOperations.execute(status -> {
+            Map<String, String> found = new HashMap<>();
+            for (Job job : jobRepository.findAllById(jobIds)) {
+                found.put(job.getId(), job.getDescription());
+            }
+            return found;
+        });
+        if (descriptions == null || descriptions.isEmpty()) {
+            return;
+        }
+        CorpusStatistics current = statistics();
+        Map<String, JobProfile> profiles = new HashMap<>();
+        descriptions.forEach((jobId, description) -> profiles.put(jobId, JobProfile.of(description, current)));
+
+        Map<String, TermVector> vectors = termVectors(applications.stream()
+                .filter(application -> profiles.containsKey(application.jobId()))
+                .map(ApplicationEventPayload::cvFileId));
+        LocalDateTime now = LocalDateTime.now();
+        List<ApplicationScore> scores = new ArrayList<>(applications.size());
+        for (ApplicationEventPayload application : applications) {
+            JobProfile profile = profiles.get(application.jobId());
+            TermVector vector = application.cvFileId() != null ? vectors.get(application.cvFileId()) : null;
+            if (profile != null && vector != null) {
+                scores.add(new ApplicationScore(application.id(), application.jobId(), application.cvFileId(),
+                        profile.score(vector), profile.descriptionHash(), now));
+            }
+        }
+        if (scores.isEmpty()) {
+            return;
+        }
+        transactionOperations.executeWithoutResult(status -> scoreRepository.saveAll(scores));
+        scored.increment(scores.size());
+        for (ApplicationScore score : scores) {
+            TopKRanking ranking = rankings.getIfPresent(score.getJobId());
+            if (ranking != null) {
+                ranking.offer(toRanked(score));
+            }
+        }
+    }
+
+    /**
+     * Scores all applications of a job again if any of them was scored against another description.
+     *
+     * @param jobId the ID of the job
+     * @param description the current description of the job
+     * @return the number of scored applications; 0 if the scores were up to date
+     */
+    public int onDescriptionChanged(String jobId, String description) {
+        int hash = JobProfile.hash(description);
+        Boolean outdated = transactionOperations.execute(status ->
+                scoreRepository.existsByJobIdAndDescriptionHashNot(jobId, hash));
+        if (!Boolean.TRUE.equals(outdated)) {
+            return 0;
+        }
+        return rescoreJob(jobId, description);
+    }
+
+    /**
+     * Scores all applications of a job, live and archived, against its description and replaces
+     * the job's scores and ranking.
+     *
+     * @param jobId the ID of the job
+     * @param description the description of the job
+     * @return the number of scored applications
+     */
+    public int rescoreJob(String jobId, String description) {
+        long started = System.nanoTime();
+        List<ApplicationKey> keys = transactionOperations.execute(status -> {
+            List<ApplicationKey> all = new ArrayList<>(applicationRepository.findKeysByJobId(jobId, Limit.unlimited()));
+            all.addAll(archiveRepository.findKeysByJobId(jobId, Limit.unlimited()));
+            return all;
+        });
+        if (keys == null) {
+            return 0;
+        }
+        JobProfile profile = JobProfile.of(description, statistics());
+        Map<String, TermVector> vectors = termVectors(keys.stream().map(ApplicationKey::cvFileId));
+        LocalDateTime now = LocalDateTime.now();
+        List<ApplicationScore> scores = pool.submit(() -> keys.parallelStream()
+                .filter(key -> key.cvFileId() != null && vectors.containsKey(key.cvFileId()))
+                .map(key -> new ApplicationScore(key.id(), jobId, key.cvFileId(),
+                        profile.score(vectors.get(key.cvFileId())), profile.descriptionHash(), now))
+                .toList()).join();
+
+        transactionOperations.executeWithoutResult(status -> {
+            scoreRepository.deleteByJobId(jobId);
+            batchWriter.persistAll(scores);
+        });
+        rankings.put(jobId, TopKRanking.of(topK, scores.stream().map(RelevanceService::toRanked).toList()));
+        scored.increment(scores.size());
+        rescore.record(Duration.ofNanos(System.nanoTime() - started));
+        log.info("Scored {} applications of job {} against its new description", scores.size(), jobId);
+        return scores.size();
+    }
+
+    /**
+     * Drops the ranking of a deleted job from this instance.
+     *
+     * @param jobId the ID of the job
+     */
+    public void forget(String jobId) {
+        rankings.invalidate(jobId);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Gets the term vectors of CV files: stored ones are read in chunks, the others are downloaded and
+     * analyzed in parallel and stored.
+     */
+    private Map<String, TermVector> termVectors(Stream<String> cvFileIds) {
+        List<String> ids = cvFileIds.filter(Objects::nonNull).distinct().toList();
+        Map<String, TermVector> vectors = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(ids.size(), from + CHUNK_SIZE));
+            List<CvTermVector> stored = transactionOperations.execute(status -> termVectorRepository.findAllById(chunk));
+            if (stored != null) {
+                stored.forEach(vector -> vectors.put(vector.getFileId(), vector.toTermVector()));
+            }
+        }
+        List<String> missing = ids.stream().filter(id -> !vectors.containsKey(id)).toList();
+        if (missing.isEmpty()) {
+            return vectors;
+        }
+
+        Map<String, TermVector> analyzed = pool.submit(() -> missing.parallelStream()
+                .map(id -> Map.entry(id, analyze(id)))
+                .filter(entry -> entry.getValue().isPresent())
+                .collect(LinkedHashMap<String, TermVector>::new,
+                        (map, entry) -> map.put(entry.getKey(), entry.getValue().get()), Map::putAll)).join();
+        LocalDateTime now = LocalDateTime.now();
+        List<CvTermVector> entities = analyzed.entrySet().stream()
+                .map(entry -> new CvTermVector(entry.getKey(), entry.getValue(), now))
+                .toList();
+        transactionOperations.executeWithoutResult(status -> batchWriter.persistAll(entities));
+        vectors.putAll(analyzed);
+        return vectors;
+    }
+
+    private Optional<TermVector> analyze(String fileId) {
+        try {
+            FileMetadata metadata = fileStorageService.getFileMetadata(fileId);
+            byte[] content;
+            try (InputStream input = fileStorageService.loadFileAsResource(fileId).getInputStream()) {
+                content = input.readNBytes(maxCvSize);
+            }
+            return Optional.of(TermVector.of(CvTextExtractor.extract(content, metadata.getContentType())));
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            log.warn("Could not read CV file {} for scoring: {}", fileId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private synchronized CorpusStatistics statistics() {
+        if (statistics == null || System.nanoTime() - statisticsLoadedAt > statisticsRefresh.toNanos()) {
+            statistics = transactionOperations.execute(status -> {
+                CorpusStatistics.Builder builder = new CorpusStatistics.Builder();
+                try (Stream<String> descriptions = jobRepository.streamDescriptions()) {
+                    descriptions.forEach(builder::add);
+                }
+                Double averageCvLength = termVectorRepository.findAverageTermCount();
+                return builder.build(averageCvLength != null ? averageCvLength : DEFAULT_AVERAGE_CV_LENGTH);
+            });
+            statisticsLoadedAt = System.nanoTime();
+        }
+        return statistics;
+    }
+
+    private static RankedApplicationResponse toRanked(ApplicationScore score) {
+        return new RankedApplicationResponse(score.getApplicationId(), score.getCvFileId(), score.getScore());
+    }
+}
@@ -0,0 +1,261 @@
+package com.recrutech.recrutechplatform.suggest;
+
+import com.recrutech.recrutechplatform.dto.job.JobSuggestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Radix tree over distinct values, each weighted by a count, answering which values start with a prefix.
+ * <p>
+ * Values are matched case-insensitively and with runs of whitespace collapsed; a value is returned as it
+ * was first added. Each edge of the tree is labelled with a string, so a chain of nodes with a single child
+ * is stored as one node. Every node keeps the best completions of its subtree, highest weight first, so a
+ * lookup only walks the prefix and copies that list, however many values the tree holds. Adjusting a weight
+ * updates the completions of the nodes on the value's path.
+ * <p>
+ * The tree is not safe for concurrent use.
+ */
+public final class PrefixTree {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::weight).reversed()
+            .thenComparing(Entry::key);
+
+    private final int maxCompletions;
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * Constructor for PrefixTree.
+     *
+     * @param maxCompletions the maximum number of completions kept per node, and returned per lookup
+     */
+    public PrefixTree(int maxCompletions) {
+        if (maxCompletions < 1) {
+            throw new IllegalArgumentException("Number of completions must be positive: " + maxCompletions);
+        }
+        this.maxCompletions = maxCompletions;
+    }
+
+    /**
+     * Normalizes a value or prefix for matching: lower case, leading whitespace removed and runs of
+     * whitespace collapsed into one space.
+     *
+     * @param value the value; may be null
+     * @return the normalized value
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(value.stripLeading()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adjusts the weight of a value. A value is added with its first positive weight and removed when
+     * its weight drops to 0 or below.
+     *
+     * @param value the value; blank values are ignored
+     * @param delta the change of the weight
+     */
+    public void adjust(String value, int delta) {
+        String key = normalize(value).stripTrailing();
+        if (key.isEmpty() || delta == 0) {
+            return;
+        }
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int matched = 0;
+        path.add(node);
+        while (matched < key.length()) {
+            int index = node.childIndex(key.charAt(matched));
+            if (index < 0) {
+                if (delta < 0) {
+                    return;
+                }
+                Node leaf = new Node(key.substring(matched));
+                node.insertChild(leaf);
+                node = leaf;
+                path.add(node);
+                break;
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, key, matched);
+            if (common < child.label.length()) {
+                if (delta < 0) {
+                    return;
+                }
+                child = split(node, index, common);
+            }
+            node = child;
+            matched += common;
+            path.add(node);
+        }
+
+        if (node.weight == 0) {
+            if (delta < 0) {
+                return;
+            }
+            node.value = value.strip();
+            size++;
+        }
+        node.weight = Math.max(0, node.weight + delta);
+        if (node.weight == 0) {
+            node.value = null;
+            size--;
+        }
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node current = path.get(i);
+            if (i > 0 && current.weight == 0 && current.children.length <= 1) {
+                prune(path.get(i - 1), current);
+            }
+            current.refresh(maxCompletions);
+        }
+    }
+
+    /**
+     * Gets the values starting with a prefix.
+     *
+     * @param prefix the prefix; an empty prefix matches all values
+     * @return at most the configured number of values, highest weight first, then in alphabetical order
+     */
+    public List<JobSuggestion> complete(String prefix) {
+        String key = normalize(prefix);
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            int index = node.childIndex(key.charAt(matched));
+            if (index < 0) {
+                return List.of();
+            }
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, key, matched);
+            if (common < child.label.length() && matched + common < key.length()) {
+                return List.of();
+            }
+            node = child;
+            matched += common;
+        }
+        List<JobSuggestion> suggestions = new ArrayList<>(node.completions.length);
+        for (Entry entry : node.completions) {
+            suggestions.add(new JobSuggestion(entry.value(), entry.weight()));
+        }
+        return suggestions;
+    }
+
+    /**
+     * Gets the number of distinct values.
+     *
+     * @return the number of values with a positive weight
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Splits the edge to a child after {@code length} characters, inserting a node for the common part.
+     */
+    private static Node split(Node parent, int index, int length) {
+        Node child = parent.children[index];
+        Node middle = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children = new Node[] {child};
+        middle.completions = child.completions;
+        parent.children[index] = middle;
+        return middle;
+    }
+
+    /**
+     * Removes a node without a value: a leaf is dropped, a node with one child is merged into it.
+     */
+    private static void prune(Node parent, Node node) {
+        int index = parent.childIndex(node.label.charAt(0));
+        if (node.children.length == 0) {
+            Node[] children = new Node[parent.children.length - 1];
+            System.arraycopy(parent.children, 0, children, 0, index);
+            System.arraycopy(parent.children, index + 1, children, index, children.length - index);
+            parent.children = children.length == 0 ? NO_CHILDREN : children;
+        } else {
+            Node child = node.children[0];
+            child.label = node.label + child.label;
+            parent.children[index] = child;
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private String value;
+        private int weight;
+        private Entry[] completions = NO_ENTRIES;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private int childIndex(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char c = children[middle].label.charAt(0);
+                if (c < first) {
+                    low = middle + 1;
+                } else if (c > first) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void insertChild(Node child) {
+            int position = -(childIndex(child.label.charAt(0)) + 1);
+            Node[] grown = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(grown, position, grown, position + 1, children.length - position);
+            grown[position] = child;
+            children = grown;
+        }
+
+        /**
+         * Recomputes the best completions of the subtree from the node's own value and the
+         * completions of its children.
+         */
+        private void refresh(int maxCompletions) {
+            List<Entry> candidates = new ArrayList<>();
+            if (weight > 0) {
+                candidates.add(new Entry(normalize(value), value, weight));
+            }
+            for (Node child : children) {
+                candidates.addAll(Arrays.asList(child.completions));
+            }
+            candidates.sort(ORDER);
+            int count = Math.min(maxCompletions, candidates.size());
+            completions = count == 0 ? NO_ENTRIES : candidates.subList(0, count).toArray(Entry[]::new);
+        }
+    }
+
+    /**
+     * A completion: the normalized key orders values of equal weight.
+     */
+    private record Entry(String key, String value, int weight) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.recrutech.recrutechplatform.bulk;
+
+import com.recrutech.common.exception.ValidationException;
+import com.recrutech.recrutechplatform.dto.job.JobRequest;
+import com.recrutech.recrutechplatform.dto.job.JobResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for CsvJobRowReader and its round trip with CsvJobExportWriter.
+ */
+class CsvJobRowReaderTest {
+
+    @Test
+    void next_ShouldReadRowsByHeaderName() throws Exception {
+        // Arrange
+        CsvJobRowReader reader = reader("\uFEFFLocation,Title,active,ignored\r\n"
+                + "Berlin,Software Engineer,true,x\r\n"
+                + "\r\n"
+                + ",Data Engineer,,\n");
+
+        // Act
+        JobRow first = reader.next();
+        JobRow second = reader.next();
+
+        // Assert
+        assertEquals(new JobRow(1, new JobRequest("Software Engineer", null, "Berlin", true), null), first);
+        assertEquals(new JobRow(2, new JobRequest("Data Engineer", null, null, null), null), second);
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_ShouldReadQuotedFields() throws Exception {
+        // Arrange
+        CsvJobRowReader reader = reader("title,description\n"
+                + "\"Engineer, Senior\",\"Says \"\"hi\"\"\nand more\"\n");
+
+        // Act
+        JobRow row = reader.next();
+
+        // Assert
+        assertEquals("Engineer, Senior", row.request().title());
+        assertEquals("Says \"hi\"\nand more", row.request().description());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_ShouldReportMalformedRowsAndContinue() throws Exception {
+        // Arrange
+        CsvJobRowReader reader = reader("title,active\nEngineer,maybe\nDesigner,false\n\"Unterminated\n");
+
+        // Act & Assert
+        assertEquals(JobRow.malformed(1, "Job active must be true or false"), reader.next());
+        assertEquals(new JobRow(2, new JobRequest("Designer", null, null, false), null), reader.next());
+        assertEquals(JobRow.malformed(3, "Unterminated quoted field"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_WithOversizedRecord_ShouldReportItAndContinueAfterIt() throws Exception {
+        // Arrange
+        String longField = "x".repeat(JobRowReader.MAX_RECORD_LENGTH);
+        CsvJobRowReader reader = reader("title,description\n"
+                + "Engineer,\"" + longField + "\nstill \"\"quoted\"\", not a new row\"\n"
+                + "Designer," + ",".repeat(JobRowReader.MAX_RECORD_LENGTH) + "\n"
+                + "Tester,\n");
+
+        // Act & Assert
+        assertEquals(JobRow.malformed(1, "Row is longer than " + JobRowReader.MAX_RECORD_LENGTH + " characters"),
+                reader.next());
+        assertEquals(JobRow.malformed(2, "Row is longer than " + JobRowReader.MAX_RECORD_LENGTH + " characters"),
+                reader.next());
+        assertEquals(new JobRow(3, new JobRequest("Tester", null, null, null), null), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_WithUnterminatedQuoteBeforeLongInput_ShouldReportUnterminatedField() throws Exception {
+        // Arrange
+        CsvJobRowReader reader = reader("title\n\"Engineer\n" + "x\n".repeat(JobRowReader.MAX_RECORD_LENGTH));
+
+        // Act & Assert
+        assertEquals(JobRow.malformed(1, "Unterminated quoted field"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_WithRecordOfMaximumLength_ShouldReadIt() throws Exception {
+        // Arrange
+        String title = "t".repeat(JobRowReader.MAX_RECORD_LENGTH - 1);
+        CsvJobRowReader reader = reader("title,active\r\n" + title + ",\r\n");
+
+        // Act
+        JobRow row = reader.next();
+
+        // Assert
+        assertEquals(title, row.request().title());
+    }
+
+    @Test
+    void constructor_WithoutTitleColumn_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> reader("name,location\nEngineer,Berlin\n"));
+        assertThrows(ValidationException.class, () -> reader(""));
+    }
+
+    @Test
+    void exportedCsv_ShouldBeImportableAgain() throws Exception {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CsvJobExportWriter writer = new CsvJobExportWriter(output);
+        writer.write(new JobResponse("123e4567-e89b-12d3-a456-426614174000",
+                "Engineer, \"Senior\"", "Line one\r\nLine two", null, false, 0));
+        writer.flush();
+
+        // Act
+        CsvJobRowReader reader = reader(output.toString(StandardCharsets.UTF_8));
+
+        // Assert
+        assertEquals(new JobRow(1, new JobRequest("Engineer, \"Senior\"", "Line one\r\nLine two", null, false), null),
+                reader.next());
+        assertNull(reader.next());
+    }
+
+    private static CsvJobRowReader reader(String csv) throws Exception {
+        return new CsvJobRowReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+}
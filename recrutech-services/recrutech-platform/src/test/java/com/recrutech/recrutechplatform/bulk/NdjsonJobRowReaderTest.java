@@ -0,0 +1,61 @@
+package com.recrutech.recrutechplatform.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recrutech.recrutechplatform.dto.job.JobRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for NdjsonJobRowReader.
+ */
+class NdjsonJobRowReaderTest {
+
+    @Test
+    void next_ShouldReadOneJobPerLineAndSkipBlankLines() throws Exception {
+        // Arrange
+        NdjsonJobRowReader reader = reader("{\"title\":\"Engineer\",\"location\":\"Berlin\"}\r\n"
+                + "\n"
+                + "{\"title\":\"Designer\",\"active\":false}");
+
+        // Act & Assert
+        assertEquals(new JobRow(1, new JobRequest("Engineer", null, "Berlin", null), null), reader.next());
+        assertEquals(new JobRow(3, new JobRequest("Designer", null, null, false), null), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_WithOversizedLine_ShouldReportItAndContinueAfterIt() throws Exception {
+        // Arrange
+        String description = "x".repeat(JobRowReader.MAX_RECORD_LENGTH);
+        NdjsonJobRowReader reader = reader("{\"title\":\"Engineer\",\"description\":\"" + description + "\"}\n"
+                + "{\"title\":\"Designer\"}\n");
+
+        // Act & Assert
+        assertEquals(JobRow.malformed(1, "Line is longer than " + JobRowReader.MAX_RECORD_LENGTH + " characters"),
+                reader.next());
+        assertEquals(new JobRow(2, new JobRequest("Designer", null, null, null), null), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_WithMalformedJson_ShouldReportIt() throws Exception {
+        // Arrange
+        NdjsonJobRowReader reader = reader("{\"title\":\n");
+
+        // Act
+        JobRow row = reader.next();
+
+        // Assert
+        assertEquals(1, row.number());
+        assertTrue(row.error().startsWith("Malformed JSON"));
+    }
+
+    private static NdjsonJobRowReader reader(String ndjson) {
+        return new NdjsonJobRowReader(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)),
+                new ObjectMapper());
+    }
+}
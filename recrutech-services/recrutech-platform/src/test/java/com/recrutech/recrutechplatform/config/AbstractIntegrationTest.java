@@ -0,0 +1,35 @@
+package com.recrutech.recrutechplatform.config;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Abstract base class for repository integration tests.
+ * Sets up a MySQL container for testing, creates the schema with the Liquibase changelog and configures
+ * the JPA slice to use it, so native queries, locks and BINARY(16) bindings run as in the service.
+ * The tests are skipped where Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("testcontainers")
+@Import(TestContainersConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class AbstractIntegrationTest {
+
+    /**
+     * Dynamically sets the database connection properties for the test.
+     *
+     * @param registry The property registry
+     */
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("TESTCONTAINERS_MYSQL_URL", TestContainersConfig::getJdbcUrl);
+        registry.add("TESTCONTAINERS_MYSQL_USERNAME", TestContainersConfig::getUsername);
+        registry.add("TESTCONTAINERS_MYSQL_PASSWORD", TestContainersConfig::getPassword);
+    }
+}
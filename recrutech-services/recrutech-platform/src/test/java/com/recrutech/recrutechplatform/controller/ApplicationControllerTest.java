@@ -4,22 +4,28 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.recrutech.recrutechplatform.controller.ApplicationController;
 import com.recrutech.recrutechplatform.dto.application.ApplicationRequest;
 import com.recrutech.recrutechplatform.dto.application.ApplicationResponse;
+import com.recrutech.recrutechplatform.dto.application.RankedApplicationResponse;
 import com.recrutech.recrutechplatform.enums.ApplicationStatus;
 import com.recrutech.common.exception.GlobalExceptionHandler;
 import com.recrutech.common.exception.NotFoundException;
+import com.recrutech.recrutechplatform.intake.ApplicationIntake;
 import com.recrutech.recrutechplatform.service.ApplicationService;
+import com.recrutech.recrutechplatform.service.RelevanceService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -39,6 +45,12 @@ class ApplicationControllerTest {
     @Mock
     private ApplicationService applicationService;
 
+    @Mock
+    private ObjectProvider<ApplicationIntake> applicationIntakeProvider;
+
+    @Mock
+    private RelevanceService relevanceService;
+
     @InjectMocks
     private ApplicationController applicationController;
 
@@ -88,6 +100,58 @@ class ApplicationControllerTest {
         verify(applicationService, times(1)).createApplication(eq(jobId), any(ApplicationRequest.class));
     }
 
+    @Test
+    void submitApplication_WithIntakeEnabled_ShouldReturnAcceptedApplicationResponse() throws Exception {
+        // Arrange
+        String jobId = "job-id-456";
+        ApplicationIntake applicationIntake = mock(ApplicationIntake.class);
+        when(applicationIntakeProvider.getIfAvailable()).thenReturn(applicationIntake);
+        when(applicationIntake.submit(eq(jobId), any(ApplicationRequest.class)))
+                .thenReturn(Optional.of(applicationResponse));
+        ApplicationController controller = new ApplicationController(applicationService, null, null, null,
+                objectMapper, applicationIntakeProvider, null);
+        MockMvc intakeMockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        // Act & Assert
+        intakeMockMvc.perform(post("/api/v1/jobs/{jobId}/applications", jobId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(applicationRequest)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id", is("app-id-123")))
+                .andExpect(jsonPath("$.status", is("RECEIVED")));
+
+        verifyNoInteractions(applicationService);
+    }
+
+    @Test
+    void submitApplication_WhenIntakeIsFull_ShouldCreateApplicationDirectly() throws Exception {
+        // Arrange
+        String jobId = "job-id-456";
+        ApplicationIntake applicationIntake = mock(ApplicationIntake.class);
+        when(applicationIntakeProvider.getIfAvailable()).thenReturn(applicationIntake);
+        when(applicationIntake.submit(eq(jobId), any(ApplicationRequest.class))).thenReturn(Optional.empty());
+        when(applicationIntake.writeDirectly(eq(jobId), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        when(applicationService.createApplication(eq(jobId), any(ApplicationRequest.class)))
+                .thenReturn(applicationResponse);
+        ApplicationController controller = new ApplicationController(applicationService, null, null, null,
+                objectMapper, applicationIntakeProvider, null);
+        MockMvc intakeMockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        // Act & Assert
+        intakeMockMvc.perform(post("/api/v1/jobs/{jobId}/applications", jobId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(applicationRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is("app-id-123")));
+
+        verify(applicationService, times(1)).createApplication(eq(jobId), any(ApplicationRequest.class));
+    }
+
     @Test
     void submitApplication_WhenJobDoesNotExist_ShouldReturnNotFound() throws Exception {
         // Arrange
@@ -261,4 +325,34 @@ class ApplicationControllerTest {
 
         verify(applicationService, times(1)).getAllApplications();
     }
-}
\ No newline at end of file
+
+    @Test
+    void getRankedApplications_ShouldReturnRankingOfJob() throws Exception {
+        // Arrange
+        String jobId = "job-id-456";
+        when(relevanceService.getRanking(jobId)).thenReturn(List.of(
+                new RankedApplicationResponse("app-id-1", "123e4567-e89b-12d3-a456-426614174001", 0.8),
+                new RankedApplicationResponse("app-id-2", "123e4567-e89b-12d3-a456-426614174002", 0.5)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/jobs/{jobId}/applications", jobId)
+                .param("sort", "relevance"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is("app-id-1")))
+                .andExpect(jsonPath("$[0].score", is(0.8)))
+                .andExpect(jsonPath("$[1].id", is("app-id-2")));
+
+        verify(relevanceService, times(1)).getRanking(jobId);
+    }
+
+    @Test
+    void getRankedApplications_WithUnsupportedSort_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/jobs/{jobId}/applications", "job-id-456")
+                .param("sort", "createdAt"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(relevanceService);
+    }
+}
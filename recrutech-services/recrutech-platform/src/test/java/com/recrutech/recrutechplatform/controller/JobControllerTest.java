@@ -3,18 +3,24 @@ package com.recrutech.recrutechplatform.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.recrutech.recrutechplatform.controller.JobController;
+import com.recrutech.recrutechplatform.dto.job.JobApplicationCounts;
 import com.recrutech.recrutechplatform.dto.job.JobRequest;
 import com.recrutech.recrutechplatform.dto.job.JobResponse;
+import com.recrutech.recrutechplatform.dto.job.JobSuggestion;
+import com.recrutech.recrutechplatform.dto.job.JobSuggestionResponse;
 import com.recrutech.recrutechplatform.dto.job.JobSummaryResponse;
 import com.recrutech.common.exception.GlobalExceptionHandler;
 import com.recrutech.common.exception.NotFoundException;
+import com.recrutech.common.exception.PreconditionFailedException;
 import com.recrutech.recrutechplatform.service.JobService;
+import com.recrutech.recrutechplatform.service.JobSuggestionIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -27,6 +33,8 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -39,6 +47,9 @@ class JobControllerTest {
     @Mock
     private JobService jobService;
 
+    @Mock
+    private JobSuggestionIndex jobSuggestionIndex;
+
     @InjectMocks
     private JobController jobController;
 
@@ -67,13 +78,15 @@ class JobControllerTest {
                 "Software Engineer",
                 "Java developer position",
                 "Berlin",
-                true
+                true,
+                3L
         );
 
         jobSummaryResponse = new JobSummaryResponse(
                 "test-id-123",
                 "Software Engineer",
-                "Berlin"
+                "Berlin",
+                new JobApplicationCounts(3, 1, 1, 1, 0, 0)
         );
     }
 
@@ -100,7 +113,8 @@ class JobControllerTest {
         JobSummaryResponse jobSummaryResponse2 = new JobSummaryResponse(
                 "test-id-456",
                 "Product Manager",
-                "Munich"
+                "Munich",
+                new JobApplicationCounts(0, 0, 0, 0, 0, 0)
         );
         List<JobSummaryResponse> jobSummaryResponses = List.of(jobSummaryResponse, jobSummaryResponse2);
 
@@ -177,13 +191,15 @@ class JobControllerTest {
                 "Updated Software Engineer",
                 "Updated Java developer position",
                 "Updated Berlin",
-                true
+                true,
+                3L
         );
 
-        when(jobService.updateJob(eq(jobId), any(JobRequest.class))).thenReturn(updatedResponse);
+        when(jobService.updateJob(eq(jobId), any(JobRequest.class), eq(3L))).thenReturn(updatedResponse);
 
         // Act & Assert
         mockMvc.perform(put("/api/v1/jobs/{id}", jobId)
+                .header(HttpHeaders.IF_MATCH, "W/\"3\"")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isOk())
@@ -193,7 +209,7 @@ class JobControllerTest {
                 .andExpect(jsonPath("$.location", is("Updated Berlin")))
                 .andExpect(jsonPath("$.active", is(true)));
 
-        verify(jobService, times(1)).updateJob(eq(jobId), any(JobRequest.class));
+        verify(jobService, times(1)).updateJob(eq(jobId), any(JobRequest.class), eq(3L));
     }
 
     @Test
@@ -207,17 +223,18 @@ class JobControllerTest {
                 true
         );
 
-        when(jobService.updateJob(eq(jobId), any(JobRequest.class)))
+        when(jobService.updateJob(eq(jobId), any(JobRequest.class), eq(3L)))
                 .thenThrow(new NotFoundException("Job not found with id: " + jobId));
 
         // Act & Assert
         mockMvc.perform(put("/api/v1/jobs/{id}", jobId)
+                .header(HttpHeaders.IF_MATCH, "W/\"3\"")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.message", is("Job not found with id: " + jobId)));
 
-        verify(jobService, times(1)).updateJob(eq(jobId), any(JobRequest.class));
+        verify(jobService, times(1)).updateJob(eq(jobId), any(JobRequest.class), eq(3L));
     }
 
     @Test
@@ -234,11 +251,79 @@ class JobControllerTest {
                 .andExpect(jsonPath("$.title", is("Software Engineer")))
                 .andExpect(jsonPath("$.description", is("Java developer position")))
                 .andExpect(jsonPath("$.location", is("Berlin")))
-                .andExpect(jsonPath("$.active", is(true)));
+                .andExpect(jsonPath("$.active", is(true)))
+                .andExpect(jsonPath("$.version").doesNotExist())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"3\""));
 
         verify(jobService, times(1)).findJobById(jobId);
     }
 
+    @Test
+    void getJobById_WithMatchingIfNoneMatch_ShouldReturnNotModified() throws Exception {
+        // Arrange
+        String jobId = "test-id-123";
+        when(jobService.findJobById(jobId)).thenReturn(jobResponse);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/jobs/{id}", jobId)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"3\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getJobById_WithOutdatedIfNoneMatch_ShouldReturnJob() throws Exception {
+        // Arrange
+        String jobId = "test-id-123";
+        when(jobService.findJobById(jobId)).thenReturn(jobResponse);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/jobs/{id}", jobId)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(jobId)));
+    }
+
+    @Test
+    void updateJob_WithoutIfMatch_ShouldReturnPreconditionRequired() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api/v1/jobs/{id}", "test-id-123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(jobRequest)))
+                .andExpect(status().isPreconditionRequired());
+
+        verifyNoInteractions(jobService);
+    }
+
+    @Test
+    void updateJob_WithOutdatedIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        // Arrange
+        String jobId = "test-id-123";
+        when(jobService.updateJob(eq(jobId), any(JobRequest.class), eq(2L)))
+                .thenThrow(PreconditionFailedException.stackless("Job was modified since it was read: " + jobId));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/v1/jobs/{id}", jobId)
+                .header(HttpHeaders.IF_MATCH, "W/\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(jobRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", is("Job was modified since it was read: " + jobId)));
+    }
+
+    @Test
+    void updateJob_WithMalformedIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api/v1/jobs/{id}", "test-id-123")
+                .header(HttpHeaders.IF_MATCH, "not-an-etag")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(jobRequest)))
+                .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(jobService);
+    }
+
     @Test
     void getJobById_WhenJobDoesNotExist_ShouldReturnNotFound() throws Exception {
         // Arrange
@@ -271,13 +356,15 @@ class JobControllerTest {
                 "Updated Software Engineer",
                 "Updated Java developer position",
                 "Updated Berlin",
-                false
+                false,
+                3L
         );
 
-        when(jobService.updateJob(eq(jobId), any(JobRequest.class))).thenReturn(updatedResponse);
+        when(jobService.updateJob(eq(jobId), any(JobRequest.class), eq(3L))).thenReturn(updatedResponse);
 
         // Act & Assert
         mockMvc.perform(put("/api/v1/jobs/{id}", jobId)
+                .header(HttpHeaders.IF_MATCH, "W/\"3\"")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isOk())
@@ -287,6 +374,24 @@ class JobControllerTest {
                 .andExpect(jsonPath("$.location", is("Updated Berlin")))
                 .andExpect(jsonPath("$.active", is(false)));
 
-        verify(jobService, times(1)).updateJob(eq(jobId), any(JobRequest.class));
+        verify(jobService, times(1)).updateJob(eq(jobId), any(JobRequest.class), eq(3L));
+    }
+
+    @Test
+    void suggestJobs_ShouldReturnMatchingTitlesAndLocations() throws Exception {
+        // Arrange
+        when(jobSuggestionIndex.suggest("ber")).thenReturn(new JobSuggestionResponse(
+                List.of(new JobSuggestion("Beratung Vertrieb", 1)),
+                List.of(new JobSuggestion("Berlin", 12), new JobSuggestion("Bern", 2))));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/jobs/suggest").param("prefix", "ber"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.titles", hasSize(1)))
+                .andExpect(jsonPath("$.titles[0].value", is("Beratung Vertrieb")))
+                .andExpect(jsonPath("$.locations[0].value", is("Berlin")))
+                .andExpect(jsonPath("$.locations[0].activeJobs", is(12)));
+
+        verify(jobService, never()).findJobById(any());
     }
 }
@@ -0,0 +1,32 @@
+package com.recrutech.recrutechplatform.enums;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationStatusTest {
+
+    @Test
+    void canTransitionTo_ShouldFollowTheWorkflow() {
+        assertTrue(ApplicationStatus.RECEIVED.canTransitionTo(ApplicationStatus.UNDER_REVIEW));
+        assertTrue(ApplicationStatus.UNDER_REVIEW.canTransitionTo(ApplicationStatus.INVITED));
+        assertTrue(ApplicationStatus.INVITED.canTransitionTo(ApplicationStatus.WITHDRAWN));
+        assertFalse(ApplicationStatus.UNDER_REVIEW.canTransitionTo(ApplicationStatus.RECEIVED));
+        assertFalse(ApplicationStatus.RECEIVED.canTransitionTo(ApplicationStatus.RECEIVED));
+    }
+
+    @Test
+    void allowedTransitions_OfFinalStatuses_ShouldBeEmpty() {
+        assertTrue(ApplicationStatus.REJECTED.allowedTransitions().isEmpty());
+        assertTrue(ApplicationStatus.WITHDRAWN.allowedTransitions().isEmpty());
+    }
+
+    @Test
+    void allowedSources_ShouldBeTheInverseOfAllowedTransitions() {
+        assertEquals(EnumSet.of(ApplicationStatus.RECEIVED, ApplicationStatus.UNDER_REVIEW, ApplicationStatus.INVITED),
+                ApplicationStatus.REJECTED.allowedSources());
+        assertTrue(ApplicationStatus.RECEIVED.allowedSources().isEmpty());
+    }
+}
@@ -0,0 +1,152 @@
+package com.recrutech.recrutechplatform.intake;
+
+import com.recrutech.common.util.UuidGenerator;
+import com.recrutech.recrutechplatform.dto.application.ApplicationRequest;
+import com.recrutech.recrutechplatform.dto.application.ApplicationResponse;
+import com.recrutech.recrutechplatform.dto.job.JobResponse;
+import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.outbox.OutboxWriter;
+import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationSubmissionRepository;
+import com.recrutech.recrutechplatform.repository.BatchWriter;
+import com.recrutech.recrutechplatform.repository.JobRepository;
+import com.recrutech.recrutechplatform.repository.OutboxEventRepository;
+import com.recrutech.recrutechplatform.service.ApplicationIntakeWriter;
+import com.recrutech.recrutechplatform.service.JobService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.dao.PersistenceExceptionTranslationAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration tests for draining the intake into the database using H2 in-memory database, with the
+ * real writer and the persistence exceptions translated, so the database rejects a batch as it does in the
+ * service. Each drained batch commits on its own, as on the background thread.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationIntakeWriter.class, BatchWriter.class, OutboxWriter.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, PersistenceExceptionTranslationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationIntakeReplayTest {
+
+    private static final String CV_FILE_ID = "423e4567-e89b-12d3-a456-426614174000";
+
+    @Autowired
+    private ApplicationIntakeWriter writer;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationSubmissionRepository submissionRepository;
+
+    @Autowired
+    private OutboxEventRepository eventRepository;
+
+    @TempDir
+    private Path directory;
+
+    private final JobService jobService = mock(JobService.class);
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationIntake intake;
+    private String jobId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        applicationRepository.deleteAll();
+        submissionRepository.deleteAll();
+        eventRepository.deleteAll();
+        jobRepository.deleteAll();
+        jobId = jobRepository.save(Job.builder()
+                .title("Software Engineer")
+                .description("Java developer position")
+                .location("Berlin")
+                .active(true)
+                .build()).getId();
+        when(jobService.findJobById(jobId)).thenReturn(new JobResponse(jobId, "Software Engineer",
+                "Java developer position", "Berlin", true, 0));
+        intake = startIntake();
+    }
+
+    @AfterEach
+    void tearDown() {
+        intake.stop();
+    }
+
+    @Test
+    void drainBatch_WithBatchStoredBeforeCrash_ShouldSkipStoredApplicationsAndMoveOn() throws IOException {
+        // Arrange
+        ApplicationResponse accepted = intake.submit(jobId, request()).orElseThrow();
+        // The batch was committed, but the crash came before the log position was
+        writer.writeAll(List.of(new PendingApplication(accepted.getId(), jobId, CV_FILE_ID, accepted.getCreatedAt())));
+        intake.stop();
+        intake = startIntake();
+
+        // Act
+        int drained = intake.drainBatch();
+
+        // Assert
+        assertEquals(1, drained);
+        assertEquals(0, intake.drainBatch());
+        assertEquals(1, applicationRepository.count());
+        assertEquals(0.0, meterRegistry.get("recrutech.intake.rejected").counter().count());
+        assertEquals(0.0, meterRegistry.get("recrutech.intake.pending").gauge().value());
+    }
+
+    @Test
+    void drainBatch_WithCvStoredMeanwhile_ShouldDropDuplicateAndMoveOn() throws IOException {
+        // Arrange
+        intake.submit(jobId, request());
+        // Written directly on another instance while the application waited
+        writer.writeAll(List.of(new PendingApplication(UuidGenerator.generateTimeOrderedUuid(), jobId, CV_FILE_ID,
+                LocalDateTime.now())));
+
+        // Act
+        int drained = intake.drainBatch();
+
+        // Assert
+        assertEquals(1, drained);
+        assertEquals(0, intake.drainBatch());
+        assertEquals(1, applicationRepository.count());
+        assertEquals(1.0, meterRegistry.get("recrutech.intake.rejected").counter().count());
+    }
+
+    private ApplicationIntake startIntake() throws IOException {
+        // A fresh registry per start, as after a restart of the service
+        meterRegistry = new SimpleMeterRegistry();
+        ApplicationIntake started = new ApplicationIntake(jobService, writer, submissionRepository, directory,
+                DataSize.ofKilobytes(64), false, 100, 10, 1000, Duration.ofHours(1), meterRegistry);
+        started.start();
+        return started;
+    }
+
+    private static ApplicationRequest request() {
+        ApplicationRequest request = new ApplicationRequest();
+        request.setCvFileId(CV_FILE_ID);
+        return request;
+    }
+}
@@ -0,0 +1,150 @@
+package com.recrutech.recrutechplatform.intake;
+
+import com.recrutech.common.exception.ConflictException;
+import com.recrutech.recrutechplatform.dto.application.ApplicationRequest;
+import com.recrutech.recrutechplatform.dto.job.JobResponse;
+import com.recrutech.recrutechplatform.repository.ApplicationSubmissionRepository;
+import com.recrutech.recrutechplatform.service.ApplicationIntakeWriter;
+import com.recrutech.recrutechplatform.service.JobService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the ApplicationIntake class. The poll interval is long, so the log is only drained when a
+ * test calls {@code drainBatch}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationIntakeTest {
+
+    private static final String JOB_ID = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String CV_FILE_ID = "423e4567-e89b-12d3-a456-426614174000";
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private ApplicationIntakeWriter writer;
+
+    @Mock
+    private ApplicationSubmissionRepository submissionRepository;
+
+    @TempDir
+    private Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ApplicationIntake intake;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(jobService.findJobById(JOB_ID)).thenReturn(new JobResponse(JOB_ID, "Backend Developer",
+                "Java developer position", "Berlin", true, 0));
+        intake = startIntake();
+    }
+
+    @AfterEach
+    void tearDown() {
+        intake.stop();
+    }
+
+    @Test
+    void submit_WithNewCv_ShouldAcknowledgeApplication() {
+        // Act
+        var response = intake.submit(JOB_ID, request(CV_FILE_ID));
+
+        // Assert
+        assertTrue(response.isPresent());
+        assertEquals(CV_FILE_ID, response.get().getCvFileId());
+        assertEquals(1.0, meterRegistry.get("recrutech.intake.pending").gauge().value());
+    }
+
+    @Test
+    void submit_WithCvWaitingInLog_ShouldThrowConflictException() {
+        // Arrange
+        intake.submit(JOB_ID, request(CV_FILE_ID));
+
+        // Act & Assert
+        assertThrows(ConflictException.class, () -> intake.submit(JOB_ID, request(CV_FILE_ID.toUpperCase())));
+        assertEquals(1.0, meterRegistry.get("recrutech.intake.pending").gauge().value());
+    }
+
+    @Test
+    void submit_WithStoredSubmission_ShouldThrowConflictException() {
+        // Arrange
+        when(submissionRepository.existsByJobIdAndCvFileId(JOB_ID, CV_FILE_ID)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(ConflictException.class, () -> intake.submit(JOB_ID, request(CV_FILE_ID)));
+        assertEquals(0.0, meterRegistry.get("recrutech.intake.pending").gauge().value());
+    }
+
+    @Test
+    void submit_AfterBatchStored_ShouldCheckStoredSubmission() throws IOException {
+        // Arrange
+        intake.submit(JOB_ID, request(CV_FILE_ID));
+        intake.drainBatch();
+        when(submissionRepository.existsByJobIdAndCvFileId(JOB_ID, CV_FILE_ID)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(ConflictException.class, () -> intake.submit(JOB_ID, request(CV_FILE_ID)));
+        verify(writer).writeAll(anyList());
+    }
+
+    @Test
+    void submit_AfterRestartWithCvWaitingInLog_ShouldThrowConflictException() throws IOException {
+        // Arrange
+        intake.submit(JOB_ID, request(CV_FILE_ID));
+        intake.stop();
+        intake = startIntake();
+
+        // Act & Assert
+        assertThrows(ConflictException.class, () -> intake.submit(JOB_ID, request(CV_FILE_ID)));
+    }
+
+    @Test
+    void writeDirectly_WithCvWaitingInLog_ShouldThrowConflictException() {
+        // Arrange
+        intake.submit(JOB_ID, request(CV_FILE_ID));
+
+        // Act & Assert
+        assertThrows(ConflictException.class,
+                () -> intake.writeDirectly(JOB_ID.toUpperCase(), CV_FILE_ID, () -> "written"));
+    }
+
+    @Test
+    void writeDirectly_WithoutCvWaitingInLog_ShouldWriteAndReleaseCv() {
+        // Act
+        String written = intake.writeDirectly(JOB_ID, CV_FILE_ID, () -> "written");
+
+        // Assert
+        assertEquals("written", written);
+        assertTrue(intake.submit(JOB_ID, request(CV_FILE_ID)).isPresent());
+    }
+
+    private ApplicationIntake startIntake() throws IOException {
+        ApplicationIntake started = new ApplicationIntake(jobService, writer, submissionRepository, directory,
+                DataSize.ofKilobytes(64), false, 100, 10, 1000, Duration.ofHours(1), meterRegistry);
+        started.start();
+        return started;
+    }
+
+    private static ApplicationRequest request(String cvFileId) {
+        ApplicationRequest request = new ApplicationRequest();
+        request.setCvFileId(cvFileId);
+        return request;
+    }
+}
@@ -0,0 +1,127 @@
+package com.recrutech.recrutechplatform.intake;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the IntakeLog class.
+ */
+class IntakeLogTest {
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void read_AfterAppend_ShouldReturnRecordsInOrder() throws IOException {
+        // Arrange
+        try (IntakeLog log = new IntakeLog(directory, SEGMENT_SIZE, true)) {
+            long first = log.append(bytes("first"));
+            long second = log.append(bytes("second"));
+
+            // Act
+            List<IntakeLog.Entry> entries = log.read(0, 10);
+            List<IntakeLog.Entry> afterFirst = log.read(first, 10);
+
+            // Assert
+            assertEquals(List.of("first", "second"), payloads(entries));
+            assertEquals(List.of(first, second), entries.stream().map(IntakeLog.Entry::nextPosition).toList());
+            assertEquals(List.of("second"), payloads(afterFirst));
+        }
+    }
+
+    @Test
+    void constructor_AfterReopen_ShouldRecoverUncommittedRecords() throws IOException {
+        // Arrange
+        try (IntakeLog log = new IntakeLog(directory, SEGMENT_SIZE, true)) {
+            long first = log.append(bytes("first"));
+            log.append(bytes("second"));
+            log.commit(first);
+        }
+
+        // Act
+        try (IntakeLog log = new IntakeLog(directory, SEGMENT_SIZE, true)) {
+            long third = log.append(bytes("third"));
+
+            // Assert
+            assertEquals(1, log.getRecoveredRecords());
+            assertEquals(List.of("second", "third"), payloads(log.read(log.getCommittedPosition(), 10)));
+            assertEquals(third, log.read(log.getCommittedPosition(), 10).getLast().nextPosition());
+        }
+    }
+
+    @Test
+    void constructor_WithTornRecord_ShouldDiscardItAndAppendAfterLastCompleteRecord() throws IOException {
+        // Arrange
+        long end;
+        try (IntakeLog log = new IntakeLog(directory, SEGMENT_SIZE, true)) {
+            end = log.append(bytes("complete"));
+            log.append(bytes("torn"));
+        }
+        try (FileChannel segment = FileChannel.open(directory.resolve(String.format("%020d.log", 0)),
+                StandardOpenOption.WRITE)) {
+            segment.write(ByteBuffer.wrap(new byte[] {'X'}), end + IntakeLog.HEADER_SIZE);
+        }
+
+        // Act
+        try (IntakeLog log = new IntakeLog(directory, SEGMENT_SIZE, true)) {
+            log.append(bytes("next"));
+
+            // Assert
+            assertEquals(1, log.getRecoveredRecords());
+            assertEquals(List.of("complete", "next"), payloads(log.read(0, 10)));
+        }
+    }
+
+    @Test
+    void commit_AcrossSegments_ShouldRollOverAndDeleteProcessedSegments() throws IOException {
+        // Arrange
+        byte[] payload = new byte[400];
+        try (IntakeLog log = new IntakeLog(directory, SEGMENT_SIZE, false)) {
+            for (int i = 0; i < 5; i++) {
+                log.append(payload);
+            }
+            List<IntakeLog.Entry> entries = log.read(0, 10);
+
+            // Act
+            log.commit(entries.get(3).nextPosition());
+
+            // Assert
+            assertEquals(5, entries.size());
+            assertEquals(List.of(String.format("%020d.log", 1), String.format("%020d.log", 2)), segmentFiles());
+            assertEquals(1, log.read(log.getCommittedPosition(), 10).size());
+        }
+    }
+
+    private List<String> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".log"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> payloads(List<IntakeLog.Entry> entries) {
+        return entries.stream()
+                .map(entry -> new String(entry.payload(), StandardCharsets.UTF_8))
+                .toList();
+    }
+}
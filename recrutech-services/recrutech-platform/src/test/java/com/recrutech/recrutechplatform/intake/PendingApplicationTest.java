@@ -0,0 +1,33 @@
+package com.recrutech.recrutechplatform.intake;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the PendingApplication class.
+ */
+class PendingApplicationTest {
+
+    @Test
+    void fromBytes_ShouldRestoreEncodedApplication() {
+        // Arrange
+        PendingApplication application = new PendingApplication("0190a4d2-6f1e-7c3a-9b2d-4e5f6a7b8c9d",
+                "123e4567-e89b-12d3-a456-426614174000", "223e4567-e89b-12d3-a456-426614174000",
+                LocalDateTime.of(2024, 5, 31, 23, 59, 59, 123456789));
+
+        // Act
+        PendingApplication decoded = PendingApplication.fromBytes(application.toBytes());
+
+        // Assert
+        assertEquals(application, decoded);
+    }
+
+    @Test
+    void fromBytes_WithUnknownFormat_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> PendingApplication.fromBytes(new byte[] {2, 0, 0}));
+    }
+}
@@ -0,0 +1,137 @@
+package com.recrutech.recrutechplatform.outbox;
+
+import com.recrutech.recrutechplatform.model.OutboxCheckpoint;
+import com.recrutech.recrutechplatform.model.OutboxEvent;
+import com.recrutech.recrutechplatform.repository.OutboxCheckpointRepository;
+import com.recrutech.recrutechplatform.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final String JOB_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    @Mock
+    private OutboxEventRepository eventRepository;
+
+    @Mock
+    private OutboxCheckpointRepository checkpointRepository;
+
+    @Mock
+    private OutboxEventSink firstSink;
+
+    @Mock
+    private OutboxEventSink secondSink;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxCheckpoint checkpoint;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        checkpoint = new OutboxCheckpoint(OutboxRelay.RELAY);
+        outboxRelay = new OutboxRelay(eventRepository, checkpointRepository, List.of(firstSink, secondSink),
+                TransactionOperations.withoutTransaction(), true, 2, Duration.ofMillis(500), Duration.ofDays(7),
+                meterRegistry);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void relayBatch_ShouldPublishToAllSinksInSequenceOrderAndAdvanceCheckpoint() throws Exception {
+        // Arrange
+        OutboxEvent created = event("event-1", 7, "job.created");
+        OutboxEvent updated = event("event-2", 9, "job.updated");
+        when(checkpointRepository.lockByRelay(OutboxRelay.RELAY)).thenReturn(Optional.of(checkpoint));
+        when(eventRepository.findByPublishedAtIsNullOrderBySequenceNumberAsc(Limit.of(2)))
+                .thenReturn(List.of(created, updated));
+
+        // Act
+        int published = outboxRelay.relayBatch();
+
+        // Assert
+        assertEquals(2, published);
+        List<OutboxMessage> messages = List.of(OutboxMessage.of(created), OutboxMessage.of(updated));
+        InOrder inOrder = inOrder(firstSink, secondSink, eventRepository);
+        inOrder.verify(firstSink).publish(messages);
+        inOrder.verify(secondSink).publish(messages);
+        inOrder.verify(eventRepository).markPublished(eq(List.of("event-1", "event-2")), any(LocalDateTime.class));
+        assertEquals(9, checkpoint.getLastSequenceNumber());
+        assertEquals(2, checkpoint.getPublishedCount());
+        assertEquals(2.0, meterRegistry.get("recrutech.outbox.published").counter().count());
+    }
+
+    @Test
+    void relayBatch_WhenCheckpointIsLocked_ShouldSkipRound() {
+        // Arrange
+        when(checkpointRepository.lockByRelay(OutboxRelay.RELAY)).thenReturn(Optional.empty());
+
+        // Act
+        int published = outboxRelay.relayBatch();
+
+        // Assert
+        assertEquals(0, published);
+        verifyNoInteractions(eventRepository, firstSink, secondSink);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void relayBatch_WhenSinkFails_ShouldKeepEventsUnpublished() throws Exception {
+        // Arrange
+        when(checkpointRepository.lockByRelay(OutboxRelay.RELAY)).thenReturn(Optional.of(checkpoint));
+        when(eventRepository.findByPublishedAtIsNullOrderBySequenceNumberAsc(Limit.of(2)))
+                .thenReturn(List.of(event("event-1", 7, "job.created")));
+        when(secondSink.name()).thenReturn("http");
+        doThrow(new IOException("Connection refused")).when(secondSink).publish(any(List.class));
+
+        // Act & Assert
+        assertThrows(UncheckedIOException.class, () -> outboxRelay.relayBatch());
+        verify(eventRepository, never()).markPublished(any(List.class), any(LocalDateTime.class));
+        assertEquals(0, checkpoint.getLastSequenceNumber());
+        assertEquals(1.0, meterRegistry.get("recrutech.outbox.failures").tag("sink", "http").counter().count());
+    }
+
+    @Test
+    void relay_ShouldPublishBatchesUntilOutboxIsDrained() {
+        // Arrange
+        when(checkpointRepository.lockByRelay(OutboxRelay.RELAY)).thenReturn(Optional.of(checkpoint));
+        when(eventRepository.findByPublishedAtIsNullOrderBySequenceNumberAsc(Limit.of(2)))
+                .thenReturn(List.of(event("event-1", 1, "job.created"), event("event-2", 2, "job.updated")))
+                .thenReturn(List.of(event("event-3", 3, "job.deleted")));
+
+        // Act
+        outboxRelay.relay();
+
+        // Assert
+        verify(eventRepository, times(2)).findByPublishedAtIsNullOrderBySequenceNumberAsc(Limit.of(2));
+        verify(eventRepository).deletePublishedBefore(any(LocalDateTime.class), eq(20));
+        assertEquals(3, checkpoint.getLastSequenceNumber());
+    }
+
+    private static OutboxEvent event(String id, long sequenceNumber, String eventType) {
+        OutboxEvent event = new OutboxEvent("job", JOB_ID, eventType, "{\"id\":\"" + JOB_ID + "\"}");
+        event.setId(id);
+        event.setCreatedAt(LocalDateTime.now());
+        ReflectionTestUtils.setField(event, "sequenceNumber", sequenceNumber);
+        return event;
+    }
+}
@@ -0,0 +1,138 @@
+package com.recrutech.recrutechplatform.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.model.ApplicationScore;
+import com.recrutech.recrutechplatform.model.OutboxCheckpoint;
+import com.recrutech.recrutechplatform.model.OutboxEvent;
+import com.recrutech.recrutechplatform.relevance.RelevanceOutboxSink;
+import com.recrutech.recrutechplatform.repository.ApplicationScoreRepository;
+import com.recrutech.recrutechplatform.repository.OutboxCheckpointRepository;
+import com.recrutech.recrutechplatform.repository.OutboxEventRepository;
+import com.recrutech.recrutechplatform.service.RelevanceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration tests for the outbox relay with the relevance sink, using H2 in-memory database and the
+ * JPA transaction manager, so the relay's transaction and the sink's own transactions are real.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTransactionTest {
+
+    private static final String APPLICATION_ID = "223e4567-e89b-12d3-a456-426614174000";
+    private static final String JOB_ID = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String CV_FILE_ID = "423e4567-e89b-12d3-a456-426614174000";
+
+    @Autowired
+    private OutboxEventRepository eventRepository;
+
+    @Autowired
+    private OutboxCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private ApplicationScoreRepository scoreRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RelevanceService relevanceService = mock(RelevanceService.class);
+    private RelevanceOutboxSink relevanceSink;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        scoreRepository.deleteAll();
+        eventRepository.deleteAll();
+        checkpointRepository.deleteAll();
+        checkpointRepository.save(new OutboxCheckpoint(OutboxRelay.RELAY));
+        String payload = objectMapper.writeValueAsString(
+                ApplicationEventPayload.submitted(APPLICATION_ID, JOB_ID, CV_FILE_ID, ApplicationStatus.RECEIVED));
+        eventRepository.save(new OutboxEvent("application", APPLICATION_ID,
+                OutboxEventType.APPLICATION_SUBMITTED.eventType(), payload));
+        // Assigned by the database on MySQL
+        jdbcTemplate.update("update outbox_event set sequence_number = 1");
+        relevanceSink = new RelevanceOutboxSink(relevanceService, objectMapper, transactionManager, 2,
+                Duration.ZERO, meterRegistry);
+    }
+
+    @Test
+    void relayBatch_WhenOtherSinkFails_ShouldKeepScoresCommittedBySink() {
+        // Arrange
+        AtomicBoolean inRelayTransaction = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            inRelayTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> scoreRepository.save(
+                    new ApplicationScore(APPLICATION_ID, JOB_ID, CV_FILE_ID, 0.5, 1, LocalDateTime.now())));
+            return null;
+        }).when(relevanceService).scoreSubmitted(anyList());
+        OutboxEventSink failingSink = new OutboxEventSink() {
+            @Override
+            public String name() {
+                return "failing";
+            }
+
+            @Override
+            public void publish(List<OutboxMessage> messages) {
+                throw new IllegalStateException("Broker unavailable");
+            }
+        };
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> relay(failingSink).relayBatch());
+
+        // Assert
+        assertFalse(inRelayTransaction.get());
+        assertEquals(1, scoreRepository.count());
+        assertNull(eventRepository.findAll().getFirst().getPublishedAt());
+    }
+
+    @Test
+    void relayBatch_WhenScoringKeepsFailing_ShouldGiveUpAndPublishBatch() {
+        // Arrange
+        doThrow(new IllegalStateException("Deadlock")).when(relevanceService).scoreSubmitted(anyList());
+
+        // Act
+        int published = relay().relayBatch();
+
+        // Assert
+        assertEquals(1, published);
+        verify(relevanceService, times(2)).scoreSubmitted(anyList());
+        assertNotNull(eventRepository.findAll().getFirst().getPublishedAt());
+        assertEquals(1, checkpointRepository.findById(OutboxRelay.RELAY).orElseThrow().getLastSequenceNumber());
+        assertEquals(1.0, meterRegistry.get("recrutech.relevance.dead-letters").counter().count());
+    }
+
+    private OutboxRelay relay(OutboxEventSink... otherSinks) {
+        List<OutboxEventSink> sinks = new ArrayList<>(List.of(relevanceSink));
+        sinks.addAll(List.of(otherSinks));
+        return new OutboxRelay(eventRepository, checkpointRepository, sinks, new TransactionTemplate(transactionManager),
+                true, 10, Duration.ofMillis(500), Duration.ofDays(7), meterRegistry);
+    }
+}
@@ -0,0 +1,90 @@
+package com.recrutech.recrutechplatform.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.model.OutboxEvent;
+import com.recrutech.recrutechplatform.repository.BatchWriter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxWriterTest {
+
+    private static final String JOB_ID = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String APPLICATION_ID = "223e4567-e89b-12d3-a456-426614174000";
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private BatchWriter batchWriter;
+
+    private OutboxWriter outboxWriter;
+
+    @BeforeEach
+    void setUp() {
+        outboxWriter = new OutboxWriter(entityManager, batchWriter, new ObjectMapper());
+    }
+
+    @Test
+    void append_ShouldFlushPendingChangesBeforePersistingEvent() {
+        // Act
+        outboxWriter.append(OutboxEventType.JOB_UPDATED, JOB_ID,
+                new JobEventPayload(JOB_ID, "Software Engineer", "Java developer position", "Berlin", true, 2));
+
+        // Assert
+        ArgumentCaptor<OutboxEvent> event = ArgumentCaptor.forClass(OutboxEvent.class);
+        InOrder inOrder = inOrder(entityManager);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(entityManager).persist(event.capture());
+        assertEquals("job", event.getValue().getAggregateType());
+        assertEquals(JOB_ID, event.getValue().getAggregateId());
+        assertEquals("job.updated", event.getValue().getEventType());
+        assertTrue(event.getValue().getPayload().contains("\"title\":\"Software Engineer\""));
+        assertTrue(event.getValue().getPayload().contains("\"version\":2"));
+        assertNull(event.getValue().getPublishedAt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void appendAll_ShouldPersistOneEventPerPayloadInBatches() {
+        // Arrange
+        List<ApplicationEventPayload> payloads = List.of(
+                ApplicationEventPayload.statusChanged(APPLICATION_ID, JOB_ID, ApplicationStatus.RECEIVED,
+                        ApplicationStatus.INVITED, "hr-user"));
+
+        // Act
+        outboxWriter.appendAll(OutboxEventType.APPLICATION_STATUS_CHANGED, payloads, ApplicationEventPayload::id);
+
+        // Assert
+        ArgumentCaptor<List<OutboxEvent>> events = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(entityManager, batchWriter);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(batchWriter).persistAll(events.capture());
+        assertEquals(1, events.getValue().size());
+        assertEquals("application", events.getValue().get(0).getAggregateType());
+        assertEquals(APPLICATION_ID, events.getValue().get(0).getAggregateId());
+        assertEquals("application.status-changed", events.getValue().get(0).getEventType());
+        assertTrue(events.getValue().get(0).getPayload().contains("\"previousStatus\":\"RECEIVED\""));
+    }
+
+    @Test
+    void appendAll_WithoutPayloads_ShouldWriteNothing() {
+        // Act
+        outboxWriter.appendAll(OutboxEventType.JOB_CREATED, List.<JobEventPayload>of(), JobEventPayload::id);
+
+        // Assert
+        verifyNoInteractions(entityManager, batchWriter);
+    }
+}
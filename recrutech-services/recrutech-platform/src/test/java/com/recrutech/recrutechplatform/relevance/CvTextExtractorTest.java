@@ -0,0 +1,139 @@
+package com.recrutech.recrutechplatform.relevance;
+
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CvTextExtractorTest {
+
+    @Test
+    void extract_WithTextFile_ShouldDecodeUtf8() {
+        // Act
+        String text = CvTextExtractor.extract("Entwickler in München".getBytes(StandardCharsets.UTF_8),
+                "text/plain; charset=UTF-8");
+
+        // Assert
+        assertEquals("Entwickler in München", text);
+    }
+
+    @Test
+    void extract_WithPdf_ShouldReadText() throws IOException {
+        // Arrange
+        byte[] pdf = pdf(null, "Java Developer", "Spring Boots");
+
+        // Act
+        String text = CvTextExtractor.extract(pdf, CvTextExtractor.PDF);
+
+        // Assert
+        TermVector vector = TermVector.of(text);
+        assertEquals(1, vector.count("java"));
+        assertEquals(1, vector.count("developer"));
+        assertEquals(1, vector.count("spring"));
+        assertEquals(1, vector.count("boots"));
+        assertEquals(0, vector.count("helvetica"));
+    }
+
+    @Test
+    void extract_WithPdfInflatingPastLimit_ShouldReturnEmptyText() throws IOException {
+        // Arrange
+        byte[] pdf = pdf(new byte[CvTextExtractor.MAX_INFLATED_SIZE + 1], "Java Developer");
+
+        // Act & Assert
+        assertEquals("", CvTextExtractor.extract(pdf, CvTextExtractor.PDF));
+    }
+
+    @Test
+    void extract_WithDocx_ShouldReadTextRuns() throws IOException {
+        // Arrange
+        ByteArrayOutputStream docx = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(docx)) {
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.write(("<w:document><w:body><w:p><w:r><w:t>Kotlin &amp; Java</w:t></w:r></w:p>"
+                    + "<w:p><w:r><w:t>Engineer</w:t></w:r></w:p></w:body></w:document>").getBytes(StandardCharsets.UTF_8));
+        }
+
+        // Act
+        String text = CvTextExtractor.extract(docx.toByteArray(), CvTextExtractor.DOCX);
+
+        // Assert
+        assertEquals("Kotlin & Java Engineer ", text);
+    }
+
+    @Test
+    void extract_WithLongDocx_ShouldCutText() throws IOException {
+        // Arrange
+        ByteArrayOutputStream docx = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(docx)) {
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.write(("<w:document><w:body><w:p><w:r><w:t>" + "Java ".repeat(CvTextExtractor.MAX_TEXT_LENGTH)
+                    + "</w:t></w:r></w:p></w:body></w:document>").getBytes(StandardCharsets.UTF_8));
+        }
+
+        // Act
+        String text = CvTextExtractor.extract(docx.toByteArray(), CvTextExtractor.DOCX);
+
+        // Assert
+        assertEquals(CvTextExtractor.MAX_TEXT_LENGTH, text.length());
+        assertTrue(text.startsWith("Java Java"));
+    }
+
+    @Test
+    void extract_WithLongTextFile_ShouldCutText() {
+        // Act
+        String text = CvTextExtractor.extract("a".repeat(CvTextExtractor.MAX_TEXT_LENGTH + 1)
+                .getBytes(StandardCharsets.UTF_8), "text/plain");
+
+        // Assert
+        assertEquals(CvTextExtractor.MAX_TEXT_LENGTH, text.length());
+    }
+
+    @Test
+    void extract_WithUnsupportedOrMalformedContent_ShouldReturnEmptyText() {
+        // Act & Assert
+        assertEquals("", CvTextExtractor.extract(new byte[] {1, 2, 3}, "image/png"));
+        assertEquals("", CvTextExtractor.extract(new byte[] {1, 2, 3}, CvTextExtractor.DOCX));
+        assertEquals("", CvTextExtractor.extract(new byte[] {1, 2, 3}, CvTextExtractor.PDF));
+        assertEquals("", CvTextExtractor.extract(new byte[] {1, 2, 3}, null));
+    }
+
+    /**
+     * Builds a one-page PDF showing the lines, with an extra compressed stream of the padding if given.
+     */
+    private static byte[] pdf(byte[] padding, String... lines) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.beginText();
+                content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                content.newLineAtOffset(72, 712);
+                for (String line : lines) {
+                    content.showText(line);
+                    content.newLineAtOffset(0, -14);
+                }
+                content.endText();
+            }
+            if (padding != null) {
+                page.getCOSObject().setItem(COSName.getPDFName("Padding"),
+                        new PDStream(document, new ByteArrayInputStream(padding), COSName.FLATE_DECODE));
+            }
+            ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+            document.save(pdf);
+            return pdf.toByteArray();
+        }
+    }
+}
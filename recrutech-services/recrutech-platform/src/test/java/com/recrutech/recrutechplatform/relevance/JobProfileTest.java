@@ -0,0 +1,65 @@
+package com.recrutech.recrutechplatform.relevance;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobProfileTest {
+
+    private static final String DESCRIPTION = "Backend developer for Java and Spring Boot microservices";
+
+    private CorpusStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new CorpusStatistics.Builder()
+                .add(DESCRIPTION)
+                .add("Frontend developer for React and TypeScript")
+                .add("Data engineer for Python and Spark pipelines")
+                .build(10);
+    }
+
+    @Test
+    void score_ShouldRankMatchingCvAboveUnrelatedCv() {
+        // Arrange
+        JobProfile profile = JobProfile.of(DESCRIPTION, statistics);
+        TermVector matching = TermVector.of("Java Spring Boot microservices, five years of Java backend work");
+        TermVector unrelated = TermVector.of("React TypeScript frontend developer with design experience");
+
+        // Act
+        double matchingScore = profile.score(matching);
+        double unrelatedScore = profile.score(unrelated);
+
+        // Assert
+        assertTrue(matchingScore > unrelatedScore);
+        assertTrue(matchingScore > 0 && matchingScore < 1);
+    }
+
+    @Test
+    void score_ShouldWeightRareTermsAboveCommonTerms() {
+        // Arrange
+        JobProfile profile = JobProfile.of(DESCRIPTION, statistics);
+
+        // Act
+        double rare = profile.score(TermVector.of("java"));
+        double common = profile.score(TermVector.of("developer"));
+
+        // Assert
+        assertTrue(rare > common);
+    }
+
+    @Test
+    void score_WithEmptyCvOrDescription_ShouldReturnZero() {
+        // Act & Assert
+        assertEquals(0, JobProfile.of(DESCRIPTION, statistics).score(TermVector.of("")));
+        assertEquals(0, JobProfile.of(null, statistics).score(TermVector.of("java spring")));
+    }
+
+    @Test
+    void descriptionHash_ShouldChangeWithDescription() {
+        // Act & Assert
+        assertEquals(JobProfile.hash(DESCRIPTION), JobProfile.of(DESCRIPTION, statistics).descriptionHash());
+        assertNotEquals(JobProfile.hash(DESCRIPTION), JobProfile.hash(DESCRIPTION + " and Kafka"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.recrutech.recrutechplatform.relevance;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TermVectorTest {
+
+    @Test
+    void of_ShouldCountTermsWithoutStopwordsAndCase() {
+        // Act
+        TermVector vector = TermVector.of("Java developer with Java and Spring, the JAVA team");
+
+        // Assert
+        assertEquals(3, vector.count("java"));
+        assertEquals(1, vector.count("spring"));
+        assertEquals(0, vector.count("the"));
+        assertEquals(0, vector.count("with"));
+        assertEquals(6, vector.length());
+    }
+
+    @Test
+    void of_WithMoreThanMaxTerms_ShouldKeepMostFrequentAndFullLength() {
+        // Arrange
+        StringBuilder text = new StringBuilder("frequent frequent ");
+        for (int i = 0; i < TermVector.MAX_TERMS + 10; i++) {
+            text.append("term").append(i).append(' ');
+        }
+
+        // Act
+        TermVector vector = TermVector.of(text.toString());
+
+        // Assert
+        assertEquals(TermVector.MAX_TERMS, vector.size());
+        assertEquals(2, vector.count("frequent"));
+        assertEquals(TermVector.MAX_TERMS + 12, vector.length());
+    }
+
+    @Test
+    void decode_ShouldRestoreEncodedVector() {
+        // Arrange
+        TermVector vector = TermVector.of("kotlin java kotlin münchen");
+
+        // Act
+        TermVector decoded = TermVector.decode(vector.encode(), vector.length());
+
+        // Assert
+        assertEquals("java:1 kotlin:2 münchen:1", decoded.encode());
+        assertEquals(2, decoded.count("kotlin"));
+        assertEquals(4, decoded.length());
+    }
+
+    @Test
+    void decode_WithUnsortedTerms_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> TermVector.decode("kotlin:1 java:1", 2));
+    }
+}
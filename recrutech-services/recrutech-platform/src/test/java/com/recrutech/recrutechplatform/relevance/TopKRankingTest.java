@@ -0,0 +1,69 @@
+package com.recrutech.recrutechplatform.relevance;
+
+import com.recrutech.recrutechplatform.dto.application.RankedApplicationResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKRankingTest {
+
+    @Test
+    void offer_WhenFull_ShouldKeepMostRelevantApplications() {
+        // Arrange
+        TopKRanking ranking = new TopKRanking(2);
+
+        // Act
+        ranking.offer(ranked("a", 0.2));
+        ranking.offer(ranked("b", 0.9));
+        boolean third = ranking.offer(ranked("c", 0.5));
+        boolean fourth = ranking.offer(ranked("d", 0.1));
+
+        // Assert
+        assertTrue(third);
+        assertFalse(fourth);
+        assertEquals(List.of(ranked("b", 0.9), ranked("c", 0.5)), ranking.snapshot());
+    }
+
+    @Test
+    void offer_WithRankedApplication_ShouldReplaceItsScore() {
+        // Arrange
+        TopKRanking ranking = TopKRanking.of(3, List.of(ranked("a", 0.2), ranked("b", 0.5)));
+
+        // Act
+        ranking.offer(ranked("a", 0.8));
+
+        // Assert
+        assertEquals(2, ranking.size());
+        assertEquals(List.of(ranked("a", 0.8), ranked("b", 0.5)), ranking.snapshot());
+    }
+
+    @Test
+    void snapshot_WithEqualScores_ShouldOrderById() {
+        // Arrange
+        TopKRanking ranking = TopKRanking.of(3, List.of(ranked("b", 0.5), ranked("a", 0.5)));
+
+        // Act
+        List<RankedApplicationResponse> snapshot = ranking.snapshot();
+
+        // Assert
+        assertEquals(List.of(ranked("a", 0.5), ranked("b", 0.5)), snapshot);
+    }
+
+    @Test
+    void remove_ShouldDropApplication() {
+        // Arrange
+        TopKRanking ranking = TopKRanking.of(3, List.of(ranked("a", 0.2), ranked("b", 0.5)));
+
+        // Act
+        ranking.remove("b");
+
+        // Assert
+        assertEquals(List.of(ranked("a", 0.2)), ranking.snapshot());
+    }
+
+    private static RankedApplicationResponse ranked(String id, double score) {
+        return new RankedApplicationResponse(id, "cv-" + id, score);
+    }
+}
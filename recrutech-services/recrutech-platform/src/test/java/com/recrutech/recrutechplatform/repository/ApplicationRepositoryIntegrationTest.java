@@ -0,0 +1,78 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.recrutechplatform.config.AbstractIntegrationTest;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.model.Application;
+import com.recrutech.recrutechplatform.model.ApplicationArchive;
+import com.recrutech.recrutechplatform.model.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the native queries of ApplicationRepository using a MySQL container, on the
+ * partitioned application table created by the changelog.
+ */
+class ApplicationRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String CV_FILE_ID = "423e4567-e89b-12d3-a456-426614174000";
+    private static final String OTHER_CV_FILE_ID = "523e4567-e89b-12d3-a456-426614174000";
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationArchiveRepository archiveRepository;
+
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        job = jobRepository.saveAndFlush(Job.builder()
+                .title("Software Engineer")
+                .description("Java developer position")
+                .location("Berlin")
+                .active(false)
+                .build());
+    }
+
+    @Test
+    void archiveByIdIn_ShouldCopyOnlyGivenApplications() {
+        // Arrange
+        Application archived = application(CV_FILE_ID);
+        Application kept = application(OTHER_CV_FILE_ID);
+        applicationRepository.saveAllAndFlush(List.of(archived, kept));
+        LocalDateTime archivedAt = LocalDateTime.of(2026, 1, 15, 10, 30);
+
+        // Act
+        int count = applicationRepository.archiveByIdIn(List.of(archived.getId()), archivedAt);
+
+        // Assert
+        assertEquals(1, count);
+        ApplicationArchive archive = archiveRepository.findById(archived.getId()).orElseThrow();
+        assertEquals(job.getId(), archive.getJobId());
+        assertEquals(CV_FILE_ID, archive.getCvFileId());
+        assertEquals(ApplicationStatus.UNDER_REVIEW, archive.getStatus());
+        assertTrue(archive.isViewedByHr());
+        assertEquals(archivedAt, archive.getArchivedAt());
+        assertTrue(archiveRepository.findById(kept.getId()).isEmpty());
+        assertEquals(2, applicationRepository.count());
+    }
+
+    private Application application(String cvFileId) {
+        Application application = new Application();
+        application.setJob(job);
+        application.setCvFileId(cvFileId);
+        application.setStatus(ApplicationStatus.UNDER_REVIEW);
+        application.setViewedByHr(true);
+        return application;
+    }
+}
@@ -0,0 +1,132 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.common.entity.UuidBinaryType;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.model.Job;
+import jakarta.persistence.EntityManagerFactory;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.xml.XmlConfiguration;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the second-level cache of jobs using H2 in-memory database.
+ * Each repository call runs in its own transaction, so entities reach the cache as they do in the service.
+ * The configured database is kept, since the {@code deleted_at} restriction needs its MySQL mode.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobRepositoryCacheTest {
+
+    private static final String REGION = "recrutech.platform.job";
+    private static final Duration JOB_CACHE_TTL = Duration.ofSeconds(60);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private String jobId;
+
+    @BeforeEach
+    void setUp() {
+        jobId = jobRepository.save(Job.builder()
+                .title("Software Engineer")
+                .description("Java developer position")
+                .location("Berlin")
+                .active(true)
+                .build()).getId();
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void region_ShouldExpireJobsNoLaterThanJobDetailsCache() {
+        // Arrange
+        XmlConfiguration configuration = new XmlConfiguration(getClass().getResource("/ehcache-platform.xml"));
+
+        // Act
+        CacheConfiguration<?, ?> region = configuration.getCacheConfigurations().get(REGION);
+
+        // Assert
+        assertNotNull(region);
+        Duration ttl = region.getExpiryPolicy().getExpiryForCreation(null, null);
+        assertTrue(ttl.compareTo(JOB_CACHE_TTL) <= 0, "TTL " + ttl + " exceeds " + JOB_CACHE_TTL);
+    }
+
+    @Test
+    void findById_Twice_ShouldHitSecondLevelCache() {
+        // Act
+        jobRepository.findById(jobId);
+        jobRepository.findById(jobId);
+
+        // Assert
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(REGION);
+        assertEquals(1, region.getMissCount());
+        assertEquals(1, region.getPutCount());
+        assertEquals(1, region.getHitCount());
+    }
+
+    @Test
+    void findCurrentById_ShouldReadDatabaseInsteadOfCache() {
+        // Arrange
+        jobRepository.findById(jobId);
+        markDeletedElsewhere();
+
+        // Act & Assert
+        assertTrue(jobRepository.findById(jobId).isPresent());
+        assertTrue(jobRepository.findCurrentById(jobId).isEmpty());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(REGION).getHitCount());
+    }
+
+    @Test
+    void addApplicationCounts_WhenCachedJobWasDeletedElsewhere_ShouldNotCountAndEvictJob() {
+        // Arrange
+        jobRepository.findById(jobId);
+        markDeletedElsewhere();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Act
+        Boolean counted = transactionTemplate.execute(status ->
+                jobRepository.addApplicationCounts(jobId, 1, Map.of(ApplicationStatus.RECEIVED, 1L)));
+
+        // Assert
+        assertFalse(counted);
+        assertFalse(entityManagerFactory.getCache().contains(Job.class, jobId));
+    }
+
+    /**
+     * Deletes the job the way another instance would, leaving this instance's cache untouched.
+     */
+    private void markDeletedElsewhere() {
+        jdbcTemplate.update("update job set deleted_at = ? where id = ?",
+                LocalDateTime.now(), UuidBinaryType.toBytes(jobId));
+    }
+}
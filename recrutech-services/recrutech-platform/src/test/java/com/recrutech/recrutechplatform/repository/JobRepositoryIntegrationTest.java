@@ -0,0 +1,88 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.common.entity.UuidBinaryType;
+import com.recrutech.recrutechplatform.config.AbstractIntegrationTest;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.model.Job;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the native queries of JobRepository using a MySQL container.
+ */
+class JobRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String jobId;
+
+    @BeforeEach
+    void setUp() {
+        jobId = jobRepository.saveAndFlush(Job.builder()
+                .title("Software Engineer")
+                .description("Java developer position")
+                .location("Berlin")
+                .active(true)
+                .build()).getId();
+    }
+
+    @Test
+    void addApplicationCounts_ShouldAddToCounters() {
+        // Act
+        boolean updated = jobRepository.addApplicationCounts(jobId, 2,
+                Map.of(ApplicationStatus.RECEIVED, 2L, ApplicationStatus.INVITED, 0L));
+
+        // Assert
+        assertTrue(updated);
+        Map<String, Object> counters = jdbcTemplate.queryForMap(
+                "select application_count, received_count, invited_count from job where id = ?",
+                (Object) UuidBinaryType.toBytes(jobId));
+        assertEquals(2L, ((Number) counters.get("application_count")).longValue());
+        assertEquals(2L, ((Number) counters.get("received_count")).longValue());
+        assertEquals(0L, ((Number) counters.get("invited_count")).longValue());
+    }
+
+    @Test
+    void addApplicationCounts_WithDeletedJob_ShouldReturnFalse() {
+        // Arrange
+        jobRepository.softDelete(jobId, LocalDateTime.now());
+
+        // Act & Assert
+        assertFalse(jobRepository.addApplicationCounts(jobId, 1, Map.of(ApplicationStatus.RECEIVED, 1L)));
+    }
+
+    @Test
+    void softDelete_ShouldHideJobAndListItAsDeleted() {
+        // Act
+        boolean deleted = jobRepository.softDelete(jobId, LocalDateTime.now());
+
+        // Assert
+        assertTrue(deleted);
+        assertFalse(jobRepository.softDelete(jobId, LocalDateTime.now()));
+        assertTrue(jobRepository.findCurrentById(jobId).isEmpty());
+        assertEquals(List.of(jobId), jobRepository.findDeletedJobIds(10));
+    }
+
+    @Test
+    void purgeDeleted_ShouldRemoveOnlyDeletedJob() {
+        // Act & Assert
+        assertFalse(jobRepository.purgeDeleted(jobId));
+        jobRepository.softDelete(jobId, LocalDateTime.now());
+        assertTrue(jobRepository.purgeDeleted(jobId));
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from job where id = ?", Integer.class,
+                (Object) UuidBinaryType.toBytes(jobId)));
+        assertTrue(jobRepository.findDeletedJobIds(10).isEmpty());
+    }
+}
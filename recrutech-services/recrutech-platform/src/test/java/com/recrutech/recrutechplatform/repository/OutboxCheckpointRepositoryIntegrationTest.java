@@ -0,0 +1,63 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.recrutechplatform.config.AbstractIntegrationTest;
+import com.recrutech.recrutechplatform.model.OutboxCheckpoint;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the locking of OutboxCheckpointRepository using a MySQL container.
+ * Each test runs its own transactions, so two of them can compete for the checkpoint.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxCheckpointRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    /** The checkpoint inserted by the changelog. */
+    private static final String RELAY = "platform";
+
+    @Autowired
+    private OutboxCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void lockByRelay_WhenNotLocked_ShouldReturnCheckpoint() {
+        // Act
+        Optional<OutboxCheckpoint> checkpoint = new TransactionTemplate(transactionManager)
+                .execute(status -> checkpointRepository.lockByRelay(RELAY));
+
+        // Assert
+        assertNotNull(checkpoint);
+        assertEquals(RELAY, checkpoint.orElseThrow().getRelay());
+    }
+
+    @Test
+    void lockByRelay_WhenLockedByAnotherTransaction_ShouldSkipCheckpointWithoutWaiting() {
+        // Arrange
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act
+        Optional<OutboxCheckpoint> skipped = transaction.execute(status -> {
+            assertTrue(checkpointRepository.lockByRelay(RELAY).isPresent());
+            return CompletableFuture
+                    .supplyAsync(() -> transaction.execute(other -> checkpointRepository.lockByRelay(RELAY)))
+                    .orTimeout(10, TimeUnit.SECONDS)
+                    .join();
+        });
+
+        // Assert
+        assertNotNull(skipped);
+        assertTrue(skipped.isEmpty());
+    }
+}
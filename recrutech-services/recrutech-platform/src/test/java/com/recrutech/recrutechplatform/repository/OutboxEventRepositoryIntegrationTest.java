@@ -0,0 +1,64 @@
+package com.recrutech.recrutechplatform.repository;
+
+import com.recrutech.recrutechplatform.config.AbstractIntegrationTest;
+import com.recrutech.recrutechplatform.model.OutboxEvent;
+import com.recrutech.recrutechplatform.outbox.OutboxEventType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for OutboxEventRepository using a MySQL container.
+ */
+class OutboxEventRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String JOB_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    @Autowired
+    private OutboxEventRepository eventRepository;
+
+    @Test
+    void deletePublishedBefore_ShouldDeleteOldPublishedEventsUpToLimit() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        OutboxEvent first = event();
+        OutboxEvent second = event();
+        OutboxEvent recent = event();
+        OutboxEvent unpublished = event();
+        eventRepository.saveAllAndFlush(List.of(first, second, recent, unpublished));
+        eventRepository.markPublished(List.of(first.getId(), second.getId()), now.minusDays(8));
+        eventRepository.markPublished(List.of(recent.getId()), now);
+
+        // Act
+        int deleted = eventRepository.deletePublishedBefore(now.minusDays(7), 1);
+
+        // Assert
+        assertEquals(1, deleted);
+        assertEquals(1, eventRepository.deletePublishedBefore(now.minusDays(7), 10));
+        assertEquals(0, eventRepository.deletePublishedBefore(now.minusDays(7), 10));
+        assertEquals(2, eventRepository.count());
+    }
+
+    @Test
+    void save_ShouldAssignIncreasingSequenceNumbers() {
+        // Arrange
+        OutboxEvent first = eventRepository.saveAndFlush(event());
+        OutboxEvent second = eventRepository.saveAndFlush(event());
+
+        // Act
+        List<OutboxEvent> events = eventRepository.findByPublishedAtIsNullOrderBySequenceNumberAsc(Limit.of(10));
+
+        // Assert
+        assertEquals(List.of(first.getId(), second.getId()), events.stream().map(OutboxEvent::getId).toList());
+    }
+
+    private static OutboxEvent event() {
+        return new OutboxEvent("job", JOB_ID, OutboxEventType.JOB_UPDATED.eventType(), "{}");
+    }
+}
@@ -0,0 +1,99 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.recrutechplatform.dto.application.ApplicationKey;
+import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import com.recrutech.recrutechplatform.repository.JobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationArchiverTest {
+
+    private static final String JOB_ID = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String APPLICATION_ID_1 = "223e4567-e89b-12d3-a456-426614174000";
+    private static final String APPLICATION_ID_2 = "323e4567-e89b-12d3-a456-426614174000";
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ApplicationArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archiver = new ApplicationArchiver(jobRepository, applicationRepository,
+                TransactionOperations.withoutTransaction(), true, Duration.ofDays(180), 2, 1_000_000,
+                Duration.ofHours(1), meterRegistry);
+    }
+
+    @Test
+    void archiveBatch_WithApplications_ShouldCopyThenDeleteThem() {
+        // Arrange
+        List<String> ids = List.of(APPLICATION_ID_1, APPLICATION_ID_2);
+        when(applicationRepository.findKeysByJobId(JOB_ID, Limit.of(2))).thenReturn(List.of(
+                new ApplicationKey(APPLICATION_ID_1, null), new ApplicationKey(APPLICATION_ID_2, null)));
+        when(applicationRepository.archiveByIdIn(eq(ids), any(LocalDateTime.class))).thenReturn(2);
+        when(applicationRepository.deleteByIdIn(ids)).thenReturn(2);
+
+        // Act
+        int archived = archiver.archiveBatch(JOB_ID);
+
+        // Assert
+        assertEquals(2, archived);
+        InOrder inOrder = inOrder(applicationRepository);
+        inOrder.verify(applicationRepository).archiveByIdIn(eq(ids), any(LocalDateTime.class));
+        inOrder.verify(applicationRepository).deleteByIdIn(ids);
+        assertEquals(2.0, meterRegistry.get("recrutech.archive.archived").counter().count());
+    }
+
+    @Test
+    void archiveBatch_WhenCopyAndDeleteDiffer_ShouldFailTheBatch() {
+        // Arrange
+        List<String> ids = List.of(APPLICATION_ID_1);
+        when(applicationRepository.findKeysByJobId(JOB_ID, Limit.of(2)))
+                .thenReturn(List.of(new ApplicationKey(APPLICATION_ID_1, null)));
+        when(applicationRepository.archiveByIdIn(eq(ids), any(LocalDateTime.class))).thenReturn(0);
+        when(applicationRepository.deleteByIdIn(ids)).thenReturn(1);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> archiver.archiveBatch(JOB_ID));
+        assertEquals(0.0, meterRegistry.get("recrutech.archive.archived").counter().count());
+    }
+
+    @Test
+    void archive_ShouldArchiveEveryLongClosedJobBatchByBatch() {
+        // Arrange
+        when(jobRepository.findIdsToArchive(any(LocalDateTime.class), eq(Limit.of(10)))).thenReturn(List.of(JOB_ID));
+        when(applicationRepository.findKeysByJobId(JOB_ID, Limit.of(2)))
+                .thenReturn(List.of(new ApplicationKey(APPLICATION_ID_1, null), new ApplicationKey(APPLICATION_ID_2, null)))
+                .thenReturn(List.of(new ApplicationKey(APPLICATION_ID_1, null)));
+        when(applicationRepository.archiveByIdIn(anyList(), any(LocalDateTime.class))).thenReturn(2, 1);
+        when(applicationRepository.deleteByIdIn(anyList())).thenReturn(2, 1);
+
+        // Act
+        archiver.archive();
+
+        // Assert
+        verify(applicationRepository, times(2)).deleteByIdIn(anyList());
+        assertEquals(3.0, meterRegistry.get("recrutech.archive.archived").counter().count());
+    }
+}
@@ -0,0 +1,70 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.common.exception.ValidationException;
+import com.recrutech.recrutechplatform.bulk.CsvApplicationExportWriter;
+import com.recrutech.recrutechplatform.dto.application.ApplicationExportFilter;
+import com.recrutech.recrutechplatform.dto.application.ApplicationExportRow;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationExportServiceTest {
+
+    private static final String JOB_ID = "123e4567-e89b-12d3-a456-426614174000";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 9, 30);
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    private ApplicationExportService applicationExportService;
+
+    @BeforeEach
+    void setUp() {
+        applicationExportService = new ApplicationExportService(applicationRepository);
+    }
+
+    @Test
+    void exportApplications_ShouldWriteAllRowsAndCloseTheCursor() throws Exception {
+        // Arrange
+        ApplicationExportFilter filter = new ApplicationExportFilter(JOB_ID, ApplicationStatus.RECEIVED, null, null);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(applicationRepository.streamForExport(filter)).thenReturn(Stream.of(
+                new ApplicationExportRow("app-1", JOB_ID, "cv-1", ApplicationStatus.RECEIVED, false, CREATED_AT),
+                new ApplicationExportRow("app-2", JOB_ID, null, ApplicationStatus.RECEIVED, true, CREATED_AT))
+                .onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long count = applicationExportService.exportApplications(filter, new CsvApplicationExportWriter(output));
+
+        // Assert
+        assertEquals(2, count);
+        assertTrue(closed.get());
+        assertEquals("id,jobId,cvFileId,status,viewedByHr,createdAt\r\n"
+                        + "app-1," + JOB_ID + ",cv-1,RECEIVED,false,2025-03-01T09:30\r\n"
+                        + "app-2," + JOB_ID + ",,RECEIVED,true,2025-03-01T09:30\r\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportFilter_WithEmptyDateRange_ShouldThrowValidationException() {
+        // Act & Assert
+        assertThrows(ValidationException.class,
+                () -> new ApplicationExportFilter(null, null, CREATED_AT, CREATED_AT));
+        verifyNoInteractions(applicationRepository);
+    }
+}
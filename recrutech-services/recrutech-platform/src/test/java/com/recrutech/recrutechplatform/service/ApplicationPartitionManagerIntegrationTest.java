@@ -0,0 +1,52 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.recrutechplatform.config.AbstractIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the ApplicationPartitionManager class using a MySQL container, on the
+ * application table as partitioned by the changelog. No test transaction is held, since the
+ * partition changes wait for the metadata locks of open transactions.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationPartitionManagerIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String PARTITIONS_QUERY = "SELECT partition_name FROM information_schema.partitions "
+            + "WHERE table_schema = DATABASE() AND table_name = 'application' ORDER BY partition_ordinal_position";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void maintain_ShouldSplitMonthsAheadOffCatchAllPartition() {
+        // Arrange
+        ApplicationPartitionManager manager = new ApplicationPartitionManager(dataSource, true, 3, Duration.ofDays(1));
+        String lastMonth = YearMonth.now().plusMonths(3).format(DateTimeFormatter.ofPattern("'p'yyyyMM"));
+
+        // Act
+        manager.maintain();
+
+        // Assert
+        List<String> partitions = jdbcTemplate.queryForList(PARTITIONS_QUERY, String.class);
+        assertEquals("p_history", partitions.getFirst());
+        assertEquals(ApplicationPartitionManager.CATCH_ALL_PARTITION, partitions.getLast());
+        assertEquals(lastMonth, partitions.get(partitions.size() - 2));
+        manager.maintain();
+        assertEquals(partitions, jdbcTemplate.queryForList(PARTITIONS_QUERY, String.class));
+    }
+}
@@ -0,0 +1,52 @@
+package com.recrutech.recrutechplatform.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationPartitionManagerTest {
+
+    @Test
+    void parseBoundary_ForDatetimeDescription_ShouldReturnDate() {
+        // Act
+        LocalDate boundary = ApplicationPartitionManager.parseBoundary("'2026-11-01 00:00:00'");
+
+        // Assert
+        assertEquals(LocalDate.of(2026, 11, 1), boundary);
+    }
+
+    @Test
+    void missingMonths_ShouldCoverFromHighestBoundaryThroughMonthsAhead() {
+        // Act
+        List<YearMonth> months = ApplicationPartitionManager.missingMonths(
+                LocalDate.of(2026, 11, 1), LocalDate.of(2026, 10, 19), 3);
+
+        // Assert
+        assertEquals(List.of(YearMonth.of(2026, 11), YearMonth.of(2026, 12), YearMonth.of(2027, 1)), months);
+    }
+
+    @Test
+    void missingMonths_WhenPartitionsAreAhead_ShouldReturnNothing() {
+        // Act
+        List<YearMonth> months = ApplicationPartitionManager.missingMonths(
+                LocalDate.of(2027, 2, 1), LocalDate.of(2026, 10, 19), 3);
+
+        // Assert
+        assertTrue(months.isEmpty());
+    }
+
+    @Test
+    void reorganizeStatement_ShouldSplitMonthOffCatchAllPartition() {
+        // Act
+        String statement = ApplicationPartitionManager.reorganizeStatement(YearMonth.of(2026, 12));
+
+        // Assert
+        assertEquals("ALTER TABLE application REORGANIZE PARTITION p_max INTO ("
+                + "PARTITION p202612 VALUES LESS THAN ('2027-01-01'), "
+                + "PARTITION p_max VALUES LESS THAN (MAXVALUE))", statement);
+    }
+}
@@ -1,12 +1,20 @@
 package com.recrutech.recrutechplatform.service;
 
+import com.recrutech.common.exception.ConflictException;
 import com.recrutech.common.exception.NotFoundException;
 import com.recrutech.recrutechplatform.dto.application.ApplicationRequest;
 import com.recrutech.recrutechplatform.dto.application.ApplicationResponse;
 import com.recrutech.recrutechplatform.enums.ApplicationStatus;
 import com.recrutech.recrutechplatform.model.Application;
+import com.recrutech.recrutechplatform.model.ApplicationArchive;
+import com.recrutech.recrutechplatform.model.ApplicationSubmission;
 import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.outbox.ApplicationEventPayload;
+import com.recrutech.recrutechplatform.outbox.OutboxEventType;
+import com.recrutech.recrutechplatform.outbox.OutboxWriter;
+import com.recrutech.recrutechplatform.repository.ApplicationArchiveRepository;
 import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationSubmissionRepository;
 import com.recrutech.recrutechplatform.repository.JobRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,13 +22,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +44,15 @@ public class ApplicationServiceTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private ApplicationSubmissionRepository submissionRepository;
+
+    @Mock
+    private ApplicationArchiveRepository archiveRepository;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @InjectMocks
     private ApplicationService applicationService;
 
@@ -68,7 +89,8 @@ public class ApplicationServiceTest {
         savedApplication.setCreatedAt(LocalDateTime.now());
 
         when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
-        when(applicationRepository.save(any(Application.class))).thenReturn(savedApplication);
+        when(applicationRepository.saveAndFlush(any(Application.class))).thenReturn(savedApplication);
+        when(jobRepository.addApplicationCounts(jobId, 1, Map.of(ApplicationStatus.RECEIVED, 1L))).thenReturn(true);
 
         // Act
         ApplicationResponse response = applicationService.createApplication(jobId, applicationRequest);
@@ -83,7 +105,11 @@ public class ApplicationServiceTest {
         assertNotNull(response.getCreatedAt());
 
         verify(jobRepository).findById(jobId);
-        verify(applicationRepository).save(any(Application.class));
+        verify(applicationRepository).saveAndFlush(any(Application.class));
+        verify(submissionRepository).save(any(ApplicationSubmission.class));
+        verify(jobRepository).addApplicationCounts(jobId, 1, Map.of(ApplicationStatus.RECEIVED, 1L));
+        verify(outboxWriter).append(OutboxEventType.APPLICATION_SUBMITTED, savedApplication.getId(),
+                ApplicationEventPayload.submitted(savedApplication.getId(), jobId, cvFileId, ApplicationStatus.RECEIVED));
     }
 
     @Test
@@ -98,7 +124,23 @@ public class ApplicationServiceTest {
 
         assertEquals("Job not found with id: " + jobId, exception.getMessage());
         verify(jobRepository).findById(jobId);
-        verify(applicationRepository, never()).save(any(Application.class));
+        verify(applicationRepository, never()).saveAndFlush(any(Application.class));
+    }
+
+    @Test
+    void createApplication_WhenCachedJobWasDeleted_ShouldThrowNotFoundException() {
+        // Arrange
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        when(applicationRepository.saveAndFlush(any(Application.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jobRepository.addApplicationCounts(jobId, 1, Map.of(ApplicationStatus.RECEIVED, 1L))).thenReturn(false);
+
+        // Act & Assert
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> {
+            applicationService.createApplication(jobId, applicationRequest);
+        });
+
+        assertEquals("Job not found with id: " + jobId, exception.getMessage());
+        verifyNoInteractions(outboxWriter);
     }
 
     @Test
@@ -114,6 +156,52 @@ public class ApplicationServiceTest {
 
         assertTrue(exception.getMessage().contains("CV File ID"));
         verify(jobRepository).findById(jobId);
-        verify(applicationRepository, never()).save(any(Application.class));
+        verify(applicationRepository, never()).saveAndFlush(any(Application.class));
+    }
+
+    @Test
+    void createApplication_Duplicate_ShouldThrowConflictException() {
+        // Arrange
+        when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
+        when(applicationRepository.saveAndFlush(any(Application.class)))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry for key 'PRIMARY'"));
+
+        // Act & Assert
+        assertThrows(ConflictException.class, () -> applicationService.createApplication(jobId, applicationRequest));
+        verify(jobRepository, never()).addApplicationCounts(any(), anyLong(), any());
+        verifyNoInteractions(outboxWriter);
+    }
+
+    @Test
+    void getApplicationById_ForArchivedApplication_ShouldReturnItFromArchive() {
+        // Arrange
+        String applicationId = UUID.randomUUID().toString();
+        ApplicationArchive archived = new ApplicationArchive();
+        archived.setId(applicationId);
+        archived.setCreatedAt(LocalDateTime.now().minusYears(1));
+        ReflectionTestUtils.setField(archived, "jobId", jobId);
+        ReflectionTestUtils.setField(archived, "cvFileId", cvFileId);
+        ReflectionTestUtils.setField(archived, "status", ApplicationStatus.REJECTED);
+        when(applicationRepository.findById(applicationId)).thenReturn(Optional.empty());
+        when(archiveRepository.findById(applicationId)).thenReturn(Optional.of(archived));
+
+        // Act
+        ApplicationResponse response = applicationService.getApplicationById(applicationId);
+
+        // Assert
+        assertEquals(applicationId, response.getId());
+        assertEquals(jobId, response.getJobId());
+        assertEquals(ApplicationStatus.REJECTED, response.getStatus());
+    }
+
+    @Test
+    void getApplicationById_WhenNeitherLiveNorArchived_ShouldThrowNotFoundException() {
+        // Arrange
+        String applicationId = UUID.randomUUID().toString();
+        when(applicationRepository.findById(applicationId)).thenReturn(Optional.empty());
+        when(archiveRepository.findById(applicationId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(NotFoundException.class, () -> applicationService.getApplicationById(applicationId));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,273 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.common.exception.NotFoundException;
+import com.recrutech.common.exception.ValidationException;
+import com.recrutech.recrutechplatform.dto.application.ApplicationMarkViewedResponse;
+import com.recrutech.recrutechplatform.dto.application.ApplicationStatusSnapshot;
+import com.recrutech.recrutechplatform.dto.application.ApplicationStatusUpdateRequest;
+import com.recrutech.recrutechplatform.dto.application.ApplicationStatusUpdateResponse;
+import com.recrutech.recrutechplatform.dto.application.ApplicationTransitionRequest;
+import com.recrutech.recrutechplatform.dto.application.ApplicationTransitionResponse;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.model.Application;
+import com.recrutech.recrutechplatform.model.ApplicationStatusTransition;
+import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.outbox.ApplicationEventPayload;
+import com.recrutech.recrutechplatform.outbox.OutboxEventType;
+import com.recrutech.recrutechplatform.outbox.OutboxWriter;
+import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationStatusTransitionRepository;
+import com.recrutech.recrutechplatform.repository.BatchWriter;
+import com.recrutech.recrutechplatform.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationStatusServiceTest {
+
+    private static final String APPLICATION_ID_1 = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String APPLICATION_ID_2 = "123e4567-e89b-12d3-a456-426614174001";
+    private static final String APPLICATION_ID_3 = "123e4567-e89b-12d3-a456-426614174002";
+    private static final String HR_USER = "hr-user";
+    private static final String JOB_ID_1 = "223e4567-e89b-12d3-a456-426614174000";
+    private static final String JOB_ID_2 = "223e4567-e89b-12d3-a456-426614174001";
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ApplicationStatusTransitionRepository transitionRepository;
+
+    @Mock
+    private BatchWriter batchWriter;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    private ApplicationStatusService applicationStatusService;
+
+    @BeforeEach
+    void setUp() {
+        applicationStatusService = new ApplicationStatusService(
+                applicationRepository, jobRepository, transitionRepository, batchWriter, outboxWriter, 100);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateStatuses_ShouldUpdateApplicationsChunkByChunk() {
+        // Arrange
+        when(batchWriter.getBatchSize()).thenReturn(2);
+        when(applicationRepository.lockAllWithJobByIdIn(any(Collection.class))).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.stream().map(ApplicationStatusServiceTest::application).toList();
+        });
+        List<ApplicationStatusUpdateRequest> updates = List.of(
+                new ApplicationStatusUpdateRequest(APPLICATION_ID_1, ApplicationStatus.UNDER_REVIEW),
+                new ApplicationStatusUpdateRequest(APPLICATION_ID_2, ApplicationStatus.REJECTED),
+                new ApplicationStatusUpdateRequest(APPLICATION_ID_3.toUpperCase(), ApplicationStatus.INVITED));
+
+        // Act
+        ApplicationStatusUpdateResponse result = applicationStatusService.updateStatuses(updates, HR_USER);
+
+        // Assert
+        assertEquals(3, result.getUpdated());
+        verify(applicationRepository).lockAllWithJobByIdIn(List.of(APPLICATION_ID_1, APPLICATION_ID_2));
+        verify(applicationRepository).lockAllWithJobByIdIn(List.of(APPLICATION_ID_3));
+        verify(batchWriter, times(2)).flushAndClear();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateStatuses_ShouldAdjustApplicationCountsOncePerJob() {
+        // Arrange
+        when(batchWriter.getBatchSize()).thenReturn(50);
+        when(applicationRepository.lockAllWithJobByIdIn(any(Collection.class))).thenReturn(List.of(
+                application(APPLICATION_ID_1, JOB_ID_1, ApplicationStatus.RECEIVED),
+                application(APPLICATION_ID_2, JOB_ID_1, ApplicationStatus.RECEIVED),
+                application(APPLICATION_ID_3, JOB_ID_2, ApplicationStatus.INVITED)));
+        List<ApplicationStatusUpdateRequest> updates = List.of(
+                new ApplicationStatusUpdateRequest(APPLICATION_ID_1, ApplicationStatus.REJECTED),
+                new ApplicationStatusUpdateRequest(APPLICATION_ID_2, ApplicationStatus.REJECTED),
+                new ApplicationStatusUpdateRequest(APPLICATION_ID_3, ApplicationStatus.INVITED));
+
+        // Act
+        applicationStatusService.updateStatuses(updates, HR_USER);
+
+        // Assert
+        verify(jobRepository).addApplicationCounts(JOB_ID_1, 0,
+                Map.of(ApplicationStatus.RECEIVED, -2L, ApplicationStatus.REJECTED, 2L));
+        verifyNoMoreInteractions(jobRepository);
+        verify(outboxWriter).appendAll(eq(OutboxEventType.APPLICATION_STATUS_CHANGED), argThat(events -> events.size() == 2
+                && ((ApplicationEventPayload) events.get(1)).previousStatus() == ApplicationStatus.RECEIVED), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateStatuses_WithUnknownApplication_ShouldThrowNotFoundException() {
+        // Arrange
+        when(batchWriter.getBatchSize()).thenReturn(50);
+        when(applicationRepository.lockAllWithJobByIdIn(any(Collection.class)))
+                .thenReturn(List.of(application(APPLICATION_ID_1)));
+        List<ApplicationStatusUpdateRequest> updates = List.of(
+                new ApplicationStatusUpdateRequest(APPLICATION_ID_1, ApplicationStatus.UNDER_REVIEW),
+                new ApplicationStatusUpdateRequest(APPLICATION_ID_2, ApplicationStatus.REJECTED));
+
+        // Act & Assert
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> applicationStatusService.updateStatuses(updates, HR_USER));
+        assertTrue(exception.getMessage().contains(APPLICATION_ID_2));
+        assertFalse(exception.getMessage().contains(APPLICATION_ID_1));
+        verify(batchWriter, never()).flushAndClear();
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateStatuses_WithForbiddenTransition_ShouldThrowValidationException() {
+        // Arrange
+        when(batchWriter.getBatchSize()).thenReturn(50);
+        when(applicationRepository.lockAllWithJobByIdIn(any(Collection.class))).thenReturn(List.of(
+                application(APPLICATION_ID_1, JOB_ID_1, ApplicationStatus.REJECTED)));
+        List<ApplicationStatusUpdateRequest> updates = List.of(
+                new ApplicationStatusUpdateRequest(APPLICATION_ID_1, ApplicationStatus.INVITED));
+
+        // Act & Assert
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> applicationStatusService.updateStatuses(updates, HR_USER));
+        assertTrue(exception.getMessage().contains("REJECTED"));
+        verify(batchWriter, never()).persistAll(any(List.class));
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void transition_ShouldUpdateGuardedByStatusAndLogEveryMove() {
+        // Arrange
+        when(batchWriter.getBatchSize()).thenReturn(2);
+        when(applicationRepository.lockStatusesByIdInAndStatusIn(List.of(APPLICATION_ID_1, APPLICATION_ID_2),
+                ApplicationStatus.REJECTED.allowedSources()))
+                .thenReturn(List.of(
+                        new ApplicationStatusSnapshot(APPLICATION_ID_1, JOB_ID_1, ApplicationStatus.RECEIVED),
+                        new ApplicationStatusSnapshot(APPLICATION_ID_2, JOB_ID_2, ApplicationStatus.INVITED)));
+        when(applicationRepository.lockStatusesByIdInAndStatusIn(List.of(APPLICATION_ID_3),
+                ApplicationStatus.REJECTED.allowedSources()))
+                .thenReturn(List.of());
+        ApplicationTransitionRequest request = new ApplicationTransitionRequest(
+                List.of(APPLICATION_ID_1, APPLICATION_ID_2.toUpperCase(), APPLICATION_ID_3), ApplicationStatus.REJECTED);
+
+        // Act
+        ApplicationTransitionResponse result = applicationStatusService.transition(request, HR_USER);
+
+        // Assert
+        assertEquals(2, result.getTransitioned());
+        assertEquals(List.of(APPLICATION_ID_3), result.getSkipped());
+        verify(applicationRepository).updateStatusByIdInAndStatusIn(List.of(APPLICATION_ID_1, APPLICATION_ID_2),
+                EnumSet.of(ApplicationStatus.RECEIVED, ApplicationStatus.UNDER_REVIEW, ApplicationStatus.INVITED),
+                ApplicationStatus.REJECTED);
+        verify(applicationRepository, never()).updateStatusByIdInAndStatusIn(eq(List.of(APPLICATION_ID_3)),
+                any(Collection.class), any(ApplicationStatus.class));
+
+        ArgumentCaptor<List<ApplicationStatusTransition>> transitions = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter).persistAll(transitions.capture());
+        assertEquals(2, transitions.getValue().size());
+        assertEquals(ApplicationStatus.INVITED, transitions.getValue().get(1).getFromStatus());
+        assertEquals(ApplicationStatus.REJECTED, transitions.getValue().get(1).getToStatus());
+        assertEquals(HR_USER, transitions.getValue().get(1).getChangedBy());
+
+        verify(jobRepository).addApplicationCounts(JOB_ID_1, 0,
+                Map.of(ApplicationStatus.RECEIVED, -1L, ApplicationStatus.REJECTED, 1L));
+        verify(jobRepository).addApplicationCounts(JOB_ID_2, 0,
+                Map.of(ApplicationStatus.INVITED, -1L, ApplicationStatus.REJECTED, 1L));
+        verify(outboxWriter).appendAll(eq(OutboxEventType.APPLICATION_STATUS_CHANGED), eq(List.of(
+                ApplicationEventPayload.statusChanged(APPLICATION_ID_1, JOB_ID_1, ApplicationStatus.RECEIVED,
+                        ApplicationStatus.REJECTED, HR_USER),
+                ApplicationEventPayload.statusChanged(APPLICATION_ID_2, JOB_ID_2, ApplicationStatus.INVITED,
+                        ApplicationStatus.REJECTED, HR_USER))), any());
+    }
+
+    @Test
+    void transition_ToInitialStatus_ShouldSkipAllApplications() {
+        // Arrange
+        when(batchWriter.getBatchSize()).thenReturn(50);
+        ApplicationTransitionRequest request =
+                new ApplicationTransitionRequest(List.of(APPLICATION_ID_1), ApplicationStatus.RECEIVED);
+
+        // Act
+        ApplicationTransitionResponse result = applicationStatusService.transition(request, HR_USER);
+
+        // Assert
+        assertEquals(0, result.getTransitioned());
+        assertEquals(List.of(APPLICATION_ID_1), result.getSkipped());
+        verifyNoInteractions(applicationRepository, jobRepository);
+    }
+
+    @Test
+    void markViewed_ShouldUpdateInChunksAndCountNewlyViewed() {
+        // Arrange
+        when(batchWriter.getBatchSize()).thenReturn(2);
+        when(applicationRepository.markViewedByIdIn(List.of(APPLICATION_ID_1, APPLICATION_ID_2))).thenReturn(1);
+        when(applicationRepository.markViewedByIdIn(List.of(APPLICATION_ID_3))).thenReturn(1);
+
+        // Act
+        ApplicationMarkViewedResponse result = applicationStatusService.markViewed(
+                List.of(APPLICATION_ID_1, APPLICATION_ID_2, APPLICATION_ID_3, APPLICATION_ID_1));
+
+        // Assert
+        assertEquals(2, result.getUpdated());
+    }
+
+    @Test
+    void updateStatuses_WithMissingStatus_ShouldThrowValidationException() {
+        // Arrange
+        List<ApplicationStatusUpdateRequest> updates = List.of(
+                new ApplicationStatusUpdateRequest(APPLICATION_ID_1, null));
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> applicationStatusService.updateStatuses(updates, HR_USER));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void updateStatuses_WithInvalidId_ShouldThrowValidationException() {
+        // Arrange
+        List<ApplicationStatusUpdateRequest> updates = List.of(
+                new ApplicationStatusUpdateRequest("not-a-uuid", ApplicationStatus.REJECTED));
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> applicationStatusService.updateStatuses(updates, HR_USER));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    private static Application application(String id) {
+        Application application = new Application();
+        application.setId(id);
+        application.setStatus(ApplicationStatus.RECEIVED);
+        return application;
+    }
+
+    private static Application application(String id, String jobId, ApplicationStatus status) {
+        Job job = new Job();
+        job.setId(jobId);
+        Application application = application(id);
+        application.setJob(job);
+        application.setStatus(status);
+        return application;
+    }
+}
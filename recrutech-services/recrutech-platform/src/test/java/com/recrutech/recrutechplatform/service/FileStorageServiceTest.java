@@ -5,8 +5,11 @@ import com.recrutech.common.exception.ValidationException;
 import com.recrutech.recrutechplatform.config.MinioConfig;
 import com.recrutech.recrutechplatform.model.FileMetadata;
 import com.recrutech.recrutechplatform.repository.FileMetadataRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.minio.*;
 import io.minio.http.Method;
+import okhttp3.Headers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +41,7 @@ public class FileStorageServiceTest {
     @Mock
     private FileMetadataRepository fileMetadataRepository;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     private FileStorageService fileStorageService;
 
     private String bucketName;
@@ -58,7 +62,7 @@ public class FileStorageServiceTest {
         when(minioClient.bucketExists(any(BucketExistsArgs.class))).thenReturn(true);
 
         // Create FileStorageService instance after mocks are set up
-        fileStorageService = new FileStorageService(minioClient, minioConfig, fileMetadataRepository);
+        fileStorageService = new FileStorageService(minioClient, minioConfig, fileMetadataRepository, meterRegistry);
 
         // Setup file metadata
         fileMetadata = new FileMetadata();
@@ -145,6 +149,27 @@ public class FileStorageServiceTest {
         verify(minioClient).getObject(any(GetObjectArgs.class));
     }
 
+    @Test
+    void loadFileAsResource_ShouldRecordBytesReadWhenStreamIsClosed() throws Exception {
+        // Arrange
+        byte[] content = "partial download".getBytes();
+        GetObjectResponse getObjectResponse = new GetObjectResponse(Headers.of(), "bucket", null, "object",
+                new ByteArrayInputStream(content));
+        fileMetadata.setSize(1_000_000L);
+        when(fileMetadataRepository.findById(fileId)).thenReturn(Optional.of(fileMetadata));
+        when(minioClient.getObject(any(GetObjectArgs.class))).thenReturn(getObjectResponse);
+
+        // Act
+        try (InputStream stream = fileStorageService.loadFileAsResource(fileId).getInputStream()) {
+            stream.readNBytes(7);
+        }
+
+        // Assert
+        DistributionSummary downloadBytes = meterRegistry.get("recrutech.storage.download.bytes").summary();
+        assertEquals(1, downloadBytes.count());
+        assertEquals(7.0, downloadBytes.totalAmount());
+    }
+
     @Test
     void loadFileAsResource_FileNotFound() throws Exception {
         // Arrange
@@ -0,0 +1,135 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.common.exception.NotFoundException;
+import com.recrutech.common.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyStoreTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    private Instant now;
+    private IdempotencyStore store;
+    private AtomicInteger runs;
+
+    @BeforeEach
+    void setUp() {
+        now = START;
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+        store = new IdempotencyStore(Duration.ofMinutes(10), 2, clock);
+        runs = new AtomicInteger();
+    }
+
+    @Test
+    void execute_WithSameKey_ShouldReplayStoredResponse() {
+        // Act
+        IdempotencyStore.Result<String> first = store.execute("user", "key-1", "request", this::run);
+        IdempotencyStore.Result<String> retry = store.execute("user", "key-1", "request", this::run);
+
+        // Assert
+        assertEquals(new IdempotencyStore.Result<>("response-1", false), first);
+        assertEquals(new IdempotencyStore.Result<>("response-1", true), retry);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void execute_WithSameKeyOfAnotherUser_ShouldRunAgain() {
+        // Act
+        store.execute("user", "key-1", "request", this::run);
+        IdempotencyStore.Result<String> other = store.execute("other-user", "key-1", "request", this::run);
+
+        // Assert
+        assertFalse(other.replayed());
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void execute_WithSameKeyForDifferentRequest_ShouldThrowValidationException() {
+        // Arrange
+        store.execute("user", "key-1", "request", this::run);
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> store.execute("user", "key-1", "other-request", this::run));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void execute_WhenRequestFails_ShouldNotStoreTheFailure() {
+        // Arrange
+        assertThrows(NotFoundException.class, () -> store.execute("user", "key-1", "request", () -> {
+            throw NotFoundException.stackless("Job not found");
+        }));
+
+        // Act
+        IdempotencyStore.Result<String> retry = store.execute("user", "key-1", "request", this::run);
+
+        // Assert
+        assertFalse(retry.replayed());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void execute_AfterTtl_ShouldRunAgain() {
+        // Arrange
+        store.execute("user", "key-1", "request", this::run);
+        now = START.plus(Duration.ofMinutes(11));
+
+        // Act
+        IdempotencyStore.Result<String> retry = store.execute("user", "key-1", "request", this::run);
+
+        // Assert
+        assertFalse(retry.replayed());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void execute_WhenFull_ShouldEvictOldestEntry() {
+        // Arrange
+        store.execute("user", "key-1", "request", this::run);
+        store.execute("user", "key-2", "request", this::run);
+
+        // Act
+        store.execute("user", "key-3", "request", this::run);
+        IdempotencyStore.Result<String> retry = store.execute("user", "key-2", "request", this::run);
+
+        // Assert
+        assertTrue(retry.replayed());
+        assertEquals(2, store.size());
+        assertFalse(store.execute("user", "key-1", "request", this::run).replayed());
+    }
+
+    @Test
+    void execute_WithBlankKey_ShouldThrowValidationException() {
+        assertThrows(ValidationException.class, () -> store.execute("user", " ", "request", this::run));
+        assertThrows(ValidationException.class, () -> store.execute("user", "k".repeat(256), "request", this::run));
+    }
+
+    private String run() {
+        return "response-" + runs.incrementAndGet();
+    }
+}
@@ -0,0 +1,186 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recrutech.common.exception.ValidationException;
+import com.recrutech.recrutechplatform.bulk.JobImportResultWriter;
+import com.recrutech.recrutechplatform.bulk.NdjsonJobRowReader;
+import com.recrutech.recrutechplatform.dto.job.JobImportResponse;
+import com.recrutech.recrutechplatform.dto.job.JobImportRowResult;
+import com.recrutech.recrutechplatform.dto.job.JobRequest;
+import com.recrutech.recrutechplatform.enums.JobImportStatus;
+import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.outbox.JobEventPayload;
+import com.recrutech.recrutechplatform.outbox.OutboxEventType;
+import com.recrutech.recrutechplatform.outbox.OutboxWriter;
+import com.recrutech.recrutechplatform.repository.BatchWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobImportServiceTest {
+
+    @Mock
+    private BatchWriter batchWriter;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    @Mock
+    private JobSuggestionIndex jobSuggestionIndex;
+
+    private JobImportService jobImportService;
+
+    @BeforeEach
+    void setUp() {
+        jobImportService = new JobImportService(batchWriter, outboxWriter, jobSuggestionIndex,
+                TransactionOperations.withoutTransaction(), 3);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importJobs_ShouldPersistAllJobsInRequestOrder() {
+        // Arrange
+        List<JobRequest> requests = List.of(
+                new JobRequest("Software Engineer", "Java developer position", "Berlin", null),
+                new JobRequest("Data Engineer", "Pipelines", "Hamburg", false));
+        doAnswer(invocation -> {
+            List<Job> jobs = invocation.getArgument(0);
+            for (int i = 0; i < jobs.size(); i++) {
+                jobs.get(i).setId("id-" + i); // Simulate ID generation on persist
+            }
+            return null;
+        }).when(batchWriter).persistAll(any(List.class));
+
+        // Act
+        JobImportResponse result = jobImportService.importJobs(requests);
+
+        // Assert
+        assertEquals(2, result.imported());
+        assertEquals(List.of("id-0", "id-1"), result.ids());
+        verify(batchWriter).persistAll(argThat(jobs -> jobs.size() == 2
+                && ((Job) jobs.get(0)).isActive()
+                && !((Job) jobs.get(1)).isActive()
+                && "Data Engineer".equals(((Job) jobs.get(1)).getTitle())));
+        verify(outboxWriter).appendAll(eq(OutboxEventType.JOB_CREATED), argThat(payloads -> payloads.size() == 2
+                && "id-1".equals(((JobEventPayload) payloads.get(1)).id())), any());
+    }
+
+    @Test
+    void importJobs_WithInvalidJob_ShouldRejectWholeImport() {
+        // Arrange
+        List<JobRequest> requests = List.of(
+                new JobRequest("Software Engineer", "Java developer position", "Berlin", true),
+                new JobRequest("", "Missing title", "Berlin", true));
+
+        // Act & Assert
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> jobImportService.importJobs(requests));
+        assertTrue(exception.getMessage().startsWith("Invalid job at index 1"));
+        verifyNoInteractions(batchWriter);
+    }
+
+    @Test
+    void importJobs_WithNullJob_ShouldRejectWholeImport() {
+        // Act & Assert
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> jobImportService.importJobs(Arrays.asList(
+                        new JobRequest("Software Engineer", "Java developer position", "Berlin", true), null)));
+        assertTrue(exception.getMessage().startsWith("Invalid job at index 1"));
+        verifyNoInteractions(batchWriter);
+    }
+
+    @Test
+    void importJobs_WithTooManyOrNoJobs_ShouldThrowValidationException() {
+        // Arrange
+        JobRequest request = new JobRequest("Software Engineer", "Java developer position", "Berlin", true);
+
+        // Act & Assert
+        assertThrows(ValidationException.class,
+                () -> jobImportService.importJobs(Collections.nCopies(4, request)));
+        assertThrows(ValidationException.class, () -> jobImportService.importJobs(List.of()));
+        assertThrows(ValidationException.class, () -> jobImportService.importJobs(null));
+        verifyNoInteractions(batchWriter);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importJobs_FromStream_ShouldReportEveryRowInInputOrder() throws Exception {
+        // Arrange
+        when(batchWriter.getBatchSize()).thenReturn(2);
+        doAnswer(invocation -> {
+            List<Job> jobs = invocation.getArgument(0);
+            jobs.forEach(job -> job.setId("id-" + job.getTitle()));
+            return null;
+        }).when(batchWriter).persistAll(any(List.class));
+        String ndjson = """
+                {"title":"A","location":"Berlin"}
+                {"title":""}
+
+                not json
+                {"title":"B"}
+                """;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // Act
+        long created = jobImportService.importJobs(
+                new NdjsonJobRowReader(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), objectMapper),
+                new JobImportResultWriter(output, objectMapper));
+
+        // Assert
+        assertEquals(2, created);
+        List<JobImportRowResult> results = objectMapper.readerFor(JobImportRowResult.class)
+                .<JobImportRowResult>readValues(output.toByteArray())
+                .readAll();
+        assertEquals(4, results.size());
+        assertEquals(JobImportRowResult.created(1, "id-A"), results.get(0));
+        assertEquals(JobImportStatus.INVALID, results.get(1).status());
+        assertEquals(2, results.get(1).row());
+        assertEquals(JobImportStatus.INVALID, results.get(2).status());
+        assertEquals(4, results.get(2).row());
+        assertEquals(JobImportRowResult.created(5, "id-B"), results.get(3));
+        verify(batchWriter, times(2)).persistAll(any(List.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importJobs_FromStream_WhenChunkCannotBeStored_ShouldReportFailedRowsAndContinue() throws Exception {
+        // Arrange
+        when(batchWriter.getBatchSize()).thenReturn(1);
+        doThrow(new IllegalStateException("Database unavailable"))
+                .doNothing()
+                .when(batchWriter).persistAll(any(List.class));
+        String ndjson = "{\"title\":\"A\"}\n{\"title\":\"B\"}\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // Act
+        long created = jobImportService.importJobs(
+                new NdjsonJobRowReader(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), objectMapper),
+                new JobImportResultWriter(output, objectMapper));
+
+        // Assert
+        assertEquals(1, created);
+        List<JobImportRowResult> results = objectMapper.readerFor(JobImportRowResult.class)
+                .<JobImportRowResult>readValues(output.toByteArray())
+                .readAll();
+        assertEquals(JobImportStatus.FAILED, results.get(0).status());
+        assertEquals(JobImportStatus.CREATED, results.get(1).status());
+    }
+}
@@ -0,0 +1,177 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.recrutechplatform.dto.application.ApplicationKey;
+import com.recrutech.recrutechplatform.model.FileMetadata;
+import com.recrutech.recrutechplatform.repository.ApplicationArchiveRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationScoreRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationStatusTransitionRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationSubmissionRepository;
+import com.recrutech.recrutechplatform.repository.CvTermVectorRepository;
+import com.recrutech.recrutechplatform.repository.FileMetadataRepository;
+import com.recrutech.recrutechplatform.repository.JobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobReaperTest {
+
+    private static final String JOB_ID = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String APPLICATION_ID_1 = "223e4567-e89b-12d3-a456-426614174000";
+    private static final String APPLICATION_ID_2 = "323e4567-e89b-12d3-a456-426614174000";
+    private static final String CV_FILE_ID = "423e4567-e89b-12d3-a456-426614174000";
+    private static final String SHARED_CV_FILE_ID = "523e4567-e89b-12d3-a456-426614174000";
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private ApplicationArchiveRepository archiveRepository;
+
+    @Mock
+    private ApplicationSubmissionRepository submissionRepository;
+
+    @Mock
+    private ApplicationStatusTransitionRepository transitionRepository;
+
+    @Mock
+    private ApplicationScoreRepository scoreRepository;
+
+    @Mock
+    private CvTermVectorRepository termVectorRepository;
+
+    @Mock
+    private FileMetadataRepository fileMetadataRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JobReaper jobReaper;
+
+    @BeforeEach
+    void setUp() {
+        jobReaper = new JobReaper(jobRepository, applicationRepository, archiveRepository, submissionRepository,
+                transitionRepository, scoreRepository, termVectorRepository, fileMetadataRepository, fileStorageService,
+                TransactionOperations.withoutTransaction(), true, 2, 1_000_000,
+                Duration.ofSeconds(10), meterRegistry);
+    }
+
+    @Test
+    void reapBatch_WithApplications_ShouldRemoveThemAndTheirExclusiveFiles() {
+        // Arrange
+        List<String> ids = List.of(APPLICATION_ID_1, APPLICATION_ID_2);
+        FileMetadata file = new FileMetadata();
+        file.setFilePath("cv.pdf");
+        when(applicationRepository.findKeysByJobId(JOB_ID, Limit.of(2))).thenReturn(List.of(
+                new ApplicationKey(APPLICATION_ID_1, CV_FILE_ID), new ApplicationKey(APPLICATION_ID_2, SHARED_CV_FILE_ID)));
+        when(submissionRepository.findCvFileIdsUsedByOtherJobs(Set.of(CV_FILE_ID, SHARED_CV_FILE_ID), JOB_ID))
+                .thenReturn(List.of(SHARED_CV_FILE_ID));
+        when(fileMetadataRepository.findAllById(Set.of(CV_FILE_ID))).thenReturn(List.of(file));
+        when(applicationRepository.deleteByIdIn(ids)).thenReturn(2);
+        when(fileMetadataRepository.deleteByIdIn(Set.of(CV_FILE_ID))).thenReturn(1);
+
+        // Act
+        int removed = jobReaper.reapBatch(JOB_ID);
+
+        // Assert
+        assertEquals(2, removed);
+        verify(submissionRepository).deleteByJobIdAndCvFileIdIn(JOB_ID, Set.of(CV_FILE_ID, SHARED_CV_FILE_ID));
+        InOrder inOrder = inOrder(transitionRepository, applicationRepository, fileMetadataRepository,
+                fileStorageService);
+        inOrder.verify(transitionRepository).deleteByApplicationIdIn(ids);
+        inOrder.verify(applicationRepository).deleteByIdIn(ids);
+        inOrder.verify(fileMetadataRepository).deleteByIdIn(Set.of(CV_FILE_ID));
+        inOrder.verify(fileStorageService).deleteObjects(List.of("cv.pdf"));
+        verify(scoreRepository).deleteByApplicationIdIn(ids);
+        verify(termVectorRepository).deleteByFileIdIn(Set.of(CV_FILE_ID));
+        verify(jobRepository, never()).purgeDeleted(JOB_ID);
+        verifyNoInteractions(archiveRepository);
+        assertEquals(2.0, meterRegistry.get("recrutech.reaper.deleted").tag("entity", "application").counter().count());
+        assertEquals(1.0, meterRegistry.get("recrutech.reaper.deleted").tag("entity", "file").counter().count());
+    }
+
+    @Test
+    void reapBatch_WithoutApplications_ShouldRemoveJob() {
+        // Arrange
+        when(applicationRepository.findKeysByJobId(JOB_ID, Limit.of(2))).thenReturn(List.of());
+        when(archiveRepository.findKeysByJobId(JOB_ID, Limit.of(2))).thenReturn(List.of());
+        when(jobRepository.purgeDeleted(JOB_ID)).thenReturn(true);
+
+        // Act
+        int removed = jobReaper.reapBatch(JOB_ID);
+
+        // Assert
+        assertEquals(0, removed);
+        verify(applicationRepository, never()).deleteByIdIn(anyCollection());
+        InOrder inOrder = inOrder(submissionRepository, jobRepository);
+        inOrder.verify(submissionRepository).deleteByJobId(JOB_ID);
+        inOrder.verify(jobRepository).purgeDeleted(JOB_ID);
+        assertEquals(1.0, meterRegistry.get("recrutech.reaper.deleted").tag("entity", "job").counter().count());
+    }
+
+    @Test
+    void reapBatch_WhenObjectDeletionFails_ShouldKeepRemovedRowsAndCountFailure() {
+        // Arrange
+        List<String> ids = List.of(APPLICATION_ID_1);
+        FileMetadata file = new FileMetadata();
+        file.setFilePath("cv.pdf");
+        when(applicationRepository.findKeysByJobId(JOB_ID, Limit.of(2)))
+                .thenReturn(List.of(new ApplicationKey(APPLICATION_ID_1, CV_FILE_ID)));
+        when(fileMetadataRepository.findAllById(Set.of(CV_FILE_ID))).thenReturn(List.of(file));
+        when(applicationRepository.deleteByIdIn(ids)).thenReturn(1);
+        doThrow(new RuntimeException("MinIO unavailable")).when(fileStorageService).deleteObjects(List.of("cv.pdf"));
+
+        // Act
+        int removed = jobReaper.reapBatch(JOB_ID);
+
+        // Assert
+        assertEquals(1, removed);
+        assertEquals(1.0, meterRegistry.get("recrutech.reaper.failures").counter().count());
+    }
+
+    @Test
+    void reap_ShouldRemoveLiveThenArchivedApplicationsBatchByBatch() {
+        // Arrange
+        List<String> liveIds = List.of(APPLICATION_ID_1);
+        List<String> archivedIds = List.of(APPLICATION_ID_2);
+        when(jobRepository.findDeletedJobIds(10)).thenReturn(List.of(JOB_ID));
+        when(applicationRepository.findKeysByJobId(JOB_ID, Limit.of(2)))
+                .thenReturn(List.of(new ApplicationKey(APPLICATION_ID_1, null)))
+                .thenReturn(List.of());
+        when(archiveRepository.findKeysByJobId(JOB_ID, Limit.of(2)))
+                .thenReturn(List.of(new ApplicationKey(APPLICATION_ID_2, null)))
+                .thenReturn(List.of());
+        when(applicationRepository.deleteByIdIn(liveIds)).thenReturn(1);
+        when(archiveRepository.deleteByIdIn(archivedIds)).thenReturn(1);
+        when(jobRepository.purgeDeleted(JOB_ID)).thenReturn(true);
+
+        // Act
+        jobReaper.reap();
+
+        // Assert
+        verify(applicationRepository, times(1)).deleteByIdIn(liveIds);
+        verify(archiveRepository, times(1)).deleteByIdIn(archivedIds);
+        verify(submissionRepository, never()).deleteByJobIdAndCvFileIdIn(anyString(), anyCollection());
+        verify(fileMetadataRepository, never()).deleteByIdIn(anyCollection());
+        verify(termVectorRepository, never()).deleteByFileIdIn(anyCollection());
+        verify(jobRepository, times(1)).purgeDeleted(JOB_ID);
+    }
+}
@@ -0,0 +1,90 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.recrutechplatform.dto.job.JobResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobResponseCacheTest {
+
+    private static final String JOB_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JobResponseCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new JobResponseCache(Duration.ofMinutes(1), 100, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_WithCachedJob_ShouldNotLoadAgainAndCountHit() {
+        // Act
+        cache.get(JOB_ID, this::load);
+        Optional<JobResponse> result = cache.get(JOB_ID, this::load);
+
+        // Assert
+        assertEquals(JOB_ID, result.orElseThrow().id());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache", "jobs", "result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache", "jobs", "result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void get_WithMissingJob_ShouldNotCacheIt() {
+        // Act
+        Optional<JobResponse> first = cache.get(JOB_ID, id -> { loads.incrementAndGet(); return Optional.empty(); });
+        Optional<JobResponse> second = cache.get(JOB_ID, this::load);
+
+        // Assert
+        assertTrue(first.isEmpty());
+        assertTrue(second.isPresent());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidate_ShouldLoadJobAgain() {
+        // Arrange
+        cache.get(JOB_ID, this::load);
+
+        // Act
+        cache.invalidate(JOB_ID);
+        cache.get(JOB_ID, this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void invalidate_WithIdInOtherCase_ShouldLoadJobAgain() {
+        // Arrange
+        cache.get(JOB_ID.toUpperCase(), this::load);
+
+        // Act
+        Optional<JobResponse> cached = cache.get(JOB_ID, this::load);
+        cache.invalidate(JOB_ID.toUpperCase());
+        cache.get(JOB_ID, this::load);
+
+        // Assert
+        assertEquals(JOB_ID, cached.orElseThrow().id());
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    private Optional<JobResponse> load(String id) {
+        loads.incrementAndGet();
+        return Optional.of(new JobResponse(id, "Software Engineer", "Java developer position", "Berlin", true, 0));
+    }
+}
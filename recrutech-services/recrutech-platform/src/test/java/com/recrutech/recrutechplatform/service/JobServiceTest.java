@@ -1,24 +1,34 @@
 package com.recrutech.recrutechplatform.service;
 
+import com.recrutech.recrutechplatform.dto.job.JobApplicationCounts;
 import com.recrutech.recrutechplatform.dto.job.JobRequest;
 import com.recrutech.recrutechplatform.dto.job.JobResponse;
 import com.recrutech.recrutechplatform.dto.job.JobSummaryResponse;
 import com.recrutech.common.exception.NotFoundException;
+import com.recrutech.common.exception.PreconditionFailedException;
 import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.outbox.JobEventPayload;
+import com.recrutech.recrutechplatform.outbox.OutboxEventType;
+import com.recrutech.recrutechplatform.outbox.OutboxWriter;
 import com.recrutech.recrutechplatform.repository.JobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +42,16 @@ class JobServiceTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Spy
+    private JobResponseCache jobResponseCache =
+            new JobResponseCache(Duration.ofMinutes(1), 100, new SimpleMeterRegistry());
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    @Mock
+    private JobSuggestionIndex jobSuggestionIndex;
+
     @InjectMocks
     private JobService jobService;
 
@@ -83,6 +103,9 @@ class JobServiceTest {
         assertEquals(jobRequest.active(), result.active());
 
         verify(jobRepository, times(1)).save(any(Job.class));
+        verify(outboxWriter).append(OutboxEventType.JOB_CREATED, TEST_UUID_1,
+                new JobEventPayload(TEST_UUID_1, "Software Engineer", "Java developer position", "Berlin", true, 0));
+        verify(jobSuggestionIndex).update(any(Job.class));
     }
 
     @Test
@@ -97,6 +120,9 @@ class JobServiceTest {
                 .createdBy("HR Director")
                 .active(true)
                 .build();
+        job.setApplicationCount(3);
+        job.setReceivedCount(2);
+        job.setRejectedCount(1);
 
         when(jobRepository.findAll()).thenReturn(Arrays.asList(job, job2));
 
@@ -111,11 +137,13 @@ class JobServiceTest {
         assertEquals(TEST_UUID_1, result.get(0).id());
         assertEquals("Software Engineer", result.get(0).title());
         assertEquals("Berlin", result.get(0).location());
+        assertEquals(new JobApplicationCounts(3, 2, 0, 0, 1, 0), result.get(0).applications());
 
         // Verify second job
         assertEquals(TEST_UUID_2, result.get(1).id());
         assertEquals("Product Manager", result.get(1).title());
         assertEquals("Munich", result.get(1).location());
+        assertEquals(new JobApplicationCounts(0, 0, 0, 0, 0, 0), result.get(1).applications());
 
         verify(jobRepository, times(1)).findAll();
     }
@@ -138,7 +166,7 @@ class JobServiceTest {
     void findJobById_WhenJobExists_ShouldReturnJobResponse() {
         // Arrange
         String jobId = TEST_UUID_1;
-        when(jobRepository.findById(jobId)).thenReturn(java.util.Optional.of(job));
+        when(jobRepository.findCurrentById(jobId)).thenReturn(java.util.Optional.of(job));
 
         // Act
         JobResponse result = jobService.findJobById(jobId);
@@ -150,14 +178,14 @@ class JobServiceTest {
         assertEquals("Java developer position", result.description());
         assertEquals("Berlin", result.location());
         assertEquals(true, result.active());
-        verify(jobRepository, times(1)).findById(jobId);
+        verify(jobRepository, times(1)).findCurrentById(jobId);
     }
 
     @Test
     void findJobById_WhenJobDoesNotExist_ShouldThrowNotFoundException() {
         // Arrange
         String jobId = NON_EXISTENT_UUID;
-        when(jobRepository.findById(jobId)).thenReturn(java.util.Optional.empty());
+        when(jobRepository.findCurrentById(jobId)).thenReturn(java.util.Optional.empty());
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -165,28 +193,82 @@ class JobServiceTest {
         });
 
         assertEquals("Job not found with id: " + jobId, exception.getMessage());
-        verify(jobRepository, times(1)).findById(jobId);
+        verify(jobRepository, times(1)).findCurrentById(jobId);
+    }
+
+    @Test
+    void findJobById_WhenCalledTwice_ShouldReadRepositoryOnce() {
+        // Arrange
+        String jobId = TEST_UUID_1;
+        when(jobRepository.findCurrentById(jobId)).thenReturn(java.util.Optional.of(job));
+
+        // Act
+        JobResponse first = jobService.findJobById(jobId);
+        JobResponse second = jobService.findJobById(jobId);
+
+        // Assert
+        assertEquals(first, second);
+        verify(jobRepository, times(1)).findCurrentById(jobId);
+    }
+
+    @Test
+    void findJobById_AfterUpdate_ShouldReturnUpdatedJob() {
+        // Arrange
+        String jobId = TEST_UUID_1;
+        JobRequest updateRequest = new JobRequest("Senior Software Engineer", "Java developer position", "Berlin", true);
+        when(jobRepository.findCurrentById(jobId)).thenReturn(java.util.Optional.of(job));
+        when(jobRepository.saveAndFlush(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        jobService.findJobById(jobId);
+
+        // Act
+        jobService.updateJob(jobId, updateRequest);
+        JobResponse result = jobService.findJobById(jobId);
+
+        // Assert
+        assertEquals("Senior Software Engineer", result.title());
+        verify(jobResponseCache, times(1)).invalidate(jobId);
+        verify(jobRepository, times(3)).findCurrentById(jobId);
+    }
+
+    @Test
+    void findJobById_AfterDelete_ShouldThrowNotFoundException() {
+        // Arrange
+        String jobId = TEST_UUID_1;
+        when(jobRepository.findCurrentById(jobId))
+                .thenReturn(java.util.Optional.of(job))
+                .thenReturn(java.util.Optional.empty());
+        when(jobRepository.softDelete(eq(jobId), any(LocalDateTime.class))).thenReturn(true);
+        jobService.findJobById(jobId);
+
+        // Act
+        jobService.deleteJobById(jobId);
+
+        // Assert
+        assertThrows(NotFoundException.class, () -> jobService.findJobById(jobId));
+        verify(jobResponseCache, times(1)).invalidate(jobId);
     }
 
     @Test
-    void deleteJobById_WhenJobExists_ShouldDeleteJob() {
+    void deleteJobById_WhenJobExists_ShouldSoftDeleteJob() {
         // Arrange
         String jobId = TEST_UUID_1;
-        when(jobRepository.findById(jobId)).thenReturn(java.util.Optional.of(job));
+        when(jobRepository.softDelete(eq(jobId), any(LocalDateTime.class))).thenReturn(true);
 
         // Act
         jobService.deleteJobById(jobId);
 
         // Assert
-        verify(jobRepository, times(1)).findById(jobId);
-        verify(jobRepository, times(1)).deleteById(jobId);
+        verify(jobRepository, times(1)).softDelete(eq(jobId), any(LocalDateTime.class));
+        verify(jobRepository, never()).deleteById(jobId);
+        verify(outboxWriter).append(OutboxEventType.JOB_DELETED, jobId, Map.of("id", jobId));
+        verify(jobSuggestionIndex).remove(jobId);
     }
 
     @Test
     void deleteJobById_WhenJobDoesNotExist_ShouldThrowNotFoundException() {
         // Arrange
         String jobId = NON_EXISTENT_UUID;
-        when(jobRepository.findById(jobId)).thenReturn(java.util.Optional.empty());
+        when(jobRepository.softDelete(eq(jobId), any(LocalDateTime.class))).thenReturn(false);
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -194,8 +276,8 @@ class JobServiceTest {
         });
 
         assertEquals("Job not found with id: " + jobId, exception.getMessage());
-        verify(jobRepository, times(1)).findById(jobId);
         verify(jobRepository, never()).deleteById(jobId);
+        verifyNoInteractions(outboxWriter);
     }
 
     @Test
@@ -229,8 +311,8 @@ class JobServiceTest {
                 .active(true)
                 .build();
 
-        when(jobRepository.findById(jobId)).thenReturn(java.util.Optional.of(existingJob));
-        when(jobRepository.save(any(Job.class))).thenReturn(updatedJob);
+        when(jobRepository.findCurrentById(jobId)).thenReturn(java.util.Optional.of(existingJob));
+        when(jobRepository.saveAndFlush(any(Job.class))).thenReturn(updatedJob);
 
         // Act
         JobResponse result = jobService.updateJob(jobId, updateRequest);
@@ -242,8 +324,47 @@ class JobServiceTest {
         assertEquals(updateRequest.description(), result.description());
         assertEquals(updateRequest.location(), result.location());
         assertEquals(updateRequest.active(), result.active());
-        verify(jobRepository, times(1)).findById(jobId);
-        verify(jobRepository, times(1)).save(any(Job.class));
+        verify(jobRepository, times(1)).findCurrentById(jobId);
+        verify(jobRepository, times(1)).saveAndFlush(any(Job.class));
+    }
+
+    @Test
+    void updateJob_WithCurrentVersion_ShouldUpdateJob() {
+        // Arrange
+        String jobId = TEST_UUID_1;
+        job.setVersion(4);
+        when(jobRepository.findCurrentById(jobId)).thenReturn(java.util.Optional.of(job));
+        when(jobRepository.saveAndFlush(any(Job.class))).thenAnswer(invocation -> {
+            Job savedJob = invocation.getArgument(0);
+            savedJob.setVersion(5); // Simulate the version increment on flush
+            return savedJob;
+        });
+
+        // Act
+        JobResponse result = jobService.updateJob(jobId, jobRequest, 4);
+
+        // Assert
+        assertEquals(5, result.version());
+        verify(jobRepository, times(1)).saveAndFlush(job);
+        verify(outboxWriter).append(OutboxEventType.JOB_UPDATED, jobId, JobEventPayload.of(job));
+    }
+
+    @Test
+    void updateJob_WithOutdatedVersion_ShouldThrowPreconditionFailedException() {
+        // Arrange
+        String jobId = TEST_UUID_1;
+        job.setVersion(4);
+        when(jobRepository.findCurrentById(jobId)).thenReturn(java.util.Optional.of(job));
+
+        // Act & Assert
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class, () -> {
+            jobService.updateJob(jobId, jobRequest, 3);
+        });
+
+        assertEquals("Job was modified since it was read: " + jobId, exception.getMessage());
+        verify(jobRepository, never()).saveAndFlush(any(Job.class));
+        verify(jobResponseCache, never()).invalidate(jobId);
+        verifyNoInteractions(outboxWriter);
     }
 
     @Test
@@ -257,7 +378,7 @@ class JobServiceTest {
                 true
         );
 
-        when(jobRepository.findById(jobId)).thenReturn(java.util.Optional.empty());
+        when(jobRepository.findCurrentById(jobId)).thenReturn(java.util.Optional.empty());
 
         // Act & Assert
         NotFoundException exception = assertThrows(NotFoundException.class, () -> {
@@ -265,8 +386,8 @@ class JobServiceTest {
         });
 
         assertEquals("Job not found with id: " + jobId, exception.getMessage());
-        verify(jobRepository, times(1)).findById(jobId);
-        verify(jobRepository, never()).save(any(Job.class));
+        verify(jobRepository, times(1)).findCurrentById(jobId);
+        verify(jobRepository, never()).saveAndFlush(any(Job.class));
     }
 
     @Test
@@ -300,8 +421,8 @@ class JobServiceTest {
                 .active(false)
                 .build();
 
-        when(jobRepository.findById(jobId)).thenReturn(java.util.Optional.of(existingJob));
-        when(jobRepository.save(any(Job.class))).thenReturn(updatedJob);
+        when(jobRepository.findCurrentById(jobId)).thenReturn(java.util.Optional.of(existingJob));
+        when(jobRepository.saveAndFlush(any(Job.class))).thenReturn(updatedJob);
 
         // Act
         JobResponse result = jobService.updateJob(jobId, updateRequest);
@@ -313,7 +434,8 @@ class JobServiceTest {
         assertEquals(updateRequest.description(), result.description());
         assertEquals(updateRequest.location(), result.location());
         assertEquals(false, result.active());
-        verify(jobRepository, times(1)).findById(jobId);
-        verify(jobRepository, times(1)).save(any(Job.class));
+        assertNotNull(existingJob.getClosedAt());
+        verify(jobRepository, times(1)).findCurrentById(jobId);
+        verify(jobRepository, times(1)).saveAndFlush(any(Job.class));
     }
 }
@@ -0,0 +1,120 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.common.exception.ValidationException;
+import com.recrutech.recrutechplatform.dto.job.JobListing;
+import com.recrutech.recrutechplatform.dto.job.JobSuggestion;
+import com.recrutech.recrutechplatform.dto.job.JobSuggestionResponse;
+import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.repository.JobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobSuggestionIndexTest {
+
+    private static final String JOB_ID_1 = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String JOB_ID_2 = "223e4567-e89b-12d3-a456-426614174000";
+
+    @Mock
+    private JobRepository jobRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JobSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSuggestionIndex(jobRepository, TransactionOperations.withoutTransaction(), 5,
+                Duration.ofMinutes(5), meterRegistry);
+    }
+
+    @Test
+    void rebuild_ShouldIndexActiveJobsWeightedByCount() {
+        // Arrange
+        when(jobRepository.streamActiveListings()).thenReturn(Stream.of(
+                new JobListing(JOB_ID_1, "Java Developer", "Berlin"),
+                new JobListing(JOB_ID_2, "Java Developer", "Bern")));
+
+        // Act
+        index.rebuild();
+        JobSuggestionResponse result = index.suggest("java");
+
+        // Assert
+        assertEquals(List.of(new JobSuggestion("Java Developer", 2)), result.titles());
+        assertEquals(List.of(), result.locations());
+        assertEquals(2, index.suggest("ber").locations().size());
+        assertEquals(2.0, meterRegistry.get("recrutech.suggest.values").tag("field", "location").gauge().value());
+    }
+
+    @Test
+    void update_ShouldMoveJobToNewTitleAndLocation() {
+        // Arrange
+        index.update(job(JOB_ID_1, "Java Developer", "Berlin", true));
+        index.update(job(JOB_ID_2, "Java Developer", "Berlin", true));
+
+        // Act
+        index.update(job(JOB_ID_1, "Kotlin Developer", "Hamburg", true));
+
+        // Assert
+        assertEquals(List.of(new JobSuggestion("Java Developer", 1)), index.suggest("java").titles());
+        assertEquals(List.of(new JobSuggestion("Kotlin Developer", 1)), index.suggest("kot").titles());
+        assertEquals(List.of(new JobSuggestion("Berlin", 1)), index.suggest("ber").locations());
+    }
+
+    @Test
+    void update_WithInactiveOrDeletedJob_ShouldRemoveIt() {
+        // Arrange
+        index.update(job(JOB_ID_1, "Java Developer", "Berlin", true));
+        index.update(job(JOB_ID_2, "Data Engineer", "Munich", true));
+
+        // Act
+        index.update(job(JOB_ID_1, "Java Developer", "Berlin", false));
+        index.remove(JOB_ID_2);
+
+        // Assert
+        assertEquals(new JobSuggestionResponse(List.of(), List.of()), index.suggest(""));
+    }
+
+    @Test
+    void rebuild_ShouldKeepChangesAppliedWhileLoading() {
+        // Arrange
+        when(jobRepository.streamActiveListings()).thenAnswer(invocation -> {
+            index.update(job(JOB_ID_2, "Data Engineer", "Munich", true));
+            return Stream.of(new JobListing(JOB_ID_1, "Java Developer", "Berlin"));
+        });
+
+        // Act
+        index.rebuild();
+
+        // Assert
+        assertEquals(2, index.suggest("").titles().size());
+    }
+
+    @Test
+    void suggest_WithTooLongPrefix_ShouldThrowValidationException() {
+        // Act & Assert
+        assertThrows(ValidationException.class,
+                () -> index.suggest("x".repeat(JobSuggestionIndex.MAX_PREFIX_LENGTH + 1)));
+    }
+
+    private static Job job(String id, String title, String location, boolean active) {
+        return Job.builder()
+                .id(id)
+                .title(title)
+                .location(location)
+                .description("Description")
+                .active(active)
+                .build();
+    }
+}
@@ -0,0 +1,223 @@
+package com.recrutech.recrutechplatform.service;
+
+import com.recrutech.recrutechplatform.dto.application.ApplicationKey;
+import com.recrutech.recrutechplatform.dto.application.RankedApplicationResponse;
+import com.recrutech.recrutechplatform.dto.job.JobResponse;
+import com.recrutech.recrutechplatform.enums.ApplicationStatus;
+import com.recrutech.recrutechplatform.model.ApplicationScore;
+import com.recrutech.recrutechplatform.model.CvTermVector;
+import com.recrutech.recrutechplatform.model.FileMetadata;
+import com.recrutech.recrutechplatform.model.Job;
+import com.recrutech.recrutechplatform.outbox.ApplicationEventPayload;
+import com.recrutech.recrutechplatform.relevance.JobProfile;
+import com.recrutech.recrutechplatform.relevance.TermVector;
+import com.recrutech.recrutechplatform.repository.ApplicationArchiveRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationRepository;
+import com.recrutech.recrutechplatform.repository.ApplicationScoreRepository;
+import com.recrutech.recrutechplatform.repository.BatchWriter;
+import com.recrutech.recrutechplatform.repository.CvTermVectorRepository;
+import com.recrutech.recrutechplatform.repository.JobRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RelevanceServiceTest {
+
+    private static final String JOB_ID = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String APPLICATION_ID_1 = "223e4567-e89b-12d3-a456-426614174000";
+    private static final String APPLICATION_ID_2 = "323e4567-e89b-12d3-a456-426614174000";
+    private static final String CV_FILE_ID_1 = "423e4567-e89b-12d3-a456-426614174000";
+    private static final String CV_FILE_ID_2 = "523e4567-e89b-12d3-a456-426614174000";
+    private static final String DESCRIPTION = "Backend developer for Java and Spring Boot";
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private ApplicationArchiveRepository archiveRepository;
+
+    @Mock
+    private ApplicationScoreRepository scoreRepository;
+
+    @Mock
+    private CvTermVectorRepository termVectorRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private BatchWriter batchWriter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RelevanceService relevanceService;
+
+    @BeforeEach
+    void setUp() {
+        relevanceService = new RelevanceService(jobService, jobRepository, applicationRepository, archiveRepository,
+                scoreRepository, termVectorRepository, fileStorageService, batchWriter,
+                TransactionOperations.withoutTransaction(), 2, 2, DataSize.ofMegabytes(1), Duration.ofMinutes(1),
+                100, Duration.ofHours(1), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        relevanceService.destroy();
+    }
+
+    @Test
+    void getRanking_ShouldLoadStoredRankingOnce() {
+        // Arrange
+        List<RankedApplicationResponse> ranking = List.of(new RankedApplicationResponse(APPLICATION_ID_1, CV_FILE_ID_1, 0.7));
+        when(jobService.findJobById(JOB_ID)).thenReturn(jobResponse());
+        when(scoreRepository.findRankingByJobId(JOB_ID, Limit.of(2))).thenReturn(ranking);
+
+        // Act
+        relevanceService.getRanking(JOB_ID);
+        List<RankedApplicationResponse> result = relevanceService.getRanking(JOB_ID);
+
+        // Assert
+        assertEquals(ranking, result);
+        verify(scoreRepository, times(1)).findRankingByJobId(JOB_ID, Limit.of(2));
+    }
+
+    @Test
+    void scoreSubmitted_WithStoredAndNewCv_ShouldStoreScoresAndUpdateRanking() {
+        // Arrange
+        stubStatistics();
+        when(jobService.findJobById(JOB_ID)).thenReturn(jobResponse());
+        when(scoreRepository.findRankingByJobId(JOB_ID, Limit.of(2))).thenReturn(List.of());
+        relevanceService.getRanking(JOB_ID);
+
+        when(jobRepository.findAllById(any())).thenReturn(List.of(job()));
+        when(termVectorRepository.findAllById(any())).thenReturn(List.of(
+                new CvTermVector(CV_FILE_ID_1, TermVector.of("Java Spring Boot backend"), LocalDateTime.now())));
+        FileMetadata metadata = new FileMetadata();
+        metadata.setContentType("text/plain");
+        when(fileStorageService.getFileMetadata(CV_FILE_ID_2)).thenReturn(metadata);
+        when(fileStorageService.loadFileAsResource(CV_FILE_ID_2))
+                .thenReturn(new ByteArrayResource("React frontend".getBytes(StandardCharsets.UTF_8)));
+
+        // Act
+        relevanceService.scoreSubmitted(List.of(
+                ApplicationEventPayload.submitted(APPLICATION_ID_1, JOB_ID, CV_FILE_ID_1, ApplicationStatus.RECEIVED),
+                ApplicationEventPayload.submitted(APPLICATION_ID_2, JOB_ID, CV_FILE_ID_2, ApplicationStatus.RECEIVED)));
+
+        // Assert
+        verify(batchWriter).persistAll(argThat(vectors -> vectors.size() == 1
+                && ((CvTermVector) vectors.get(0)).getFileId().equals(CV_FILE_ID_2)));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ApplicationScore>> scores = ArgumentCaptor.forClass(List.class);
+        verify(scoreRepository).saveAll(scores.capture());
+        assertEquals(2, scores.getValue().size());
+        assertEquals(JobProfile.hash(DESCRIPTION), scores.getValue().get(0).getDescriptionHash());
+        List<RankedApplicationResponse> ranking = relevanceService.getRanking(JOB_ID);
+        assertEquals(List.of(APPLICATION_ID_1, APPLICATION_ID_2),
+                ranking.stream().map(RankedApplicationResponse::id).toList());
+        assertTrue(ranking.get(0).score() > ranking.get(1).score());
+        assertEquals(2.0, meterRegistry.get("recrutech.relevance.scored").counter().count());
+    }
+
+    @Test
+    void scoreSubmitted_WhenCvCannotBeRead_ShouldSkipApplicationAndCountFailure() {
+        // Arrange
+        stubStatistics();
+        when(jobRepository.findAllById(any())).thenReturn(List.of(job()));
+        when(termVectorRepository.findAllById(any())).thenReturn(List.of());
+        when(fileStorageService.getFileMetadata(CV_FILE_ID_1)).thenThrow(new RuntimeException("MinIO unavailable"));
+
+        // Act
+        relevanceService.scoreSubmitted(List.of(
+                ApplicationEventPayload.submitted(APPLICATION_ID_1, JOB_ID, CV_FILE_ID_1, ApplicationStatus.RECEIVED)));
+
+        // Assert
+        verify(scoreRepository, never()).saveAll(anyList());
+        assertEquals(1.0, meterRegistry.get("recrutech.relevance.failures").counter().count());
+    }
+
+    @Test
+    void onDescriptionChanged_WithUpToDateScores_ShouldNotRescore() {
+        // Arrange
+        when(scoreRepository.existsByJobIdAndDescriptionHashNot(JOB_ID, JobProfile.hash(DESCRIPTION))).thenReturn(false);
+
+        // Act
+        int scored = relevanceService.onDescriptionChanged(JOB_ID, DESCRIPTION);
+
+        // Assert
+        assertEquals(0, scored);
+        verifyNoInteractions(applicationRepository, archiveRepository, batchWriter);
+    }
+
+    @Test
+    void onDescriptionChanged_WithOutdatedScores_ShouldReplaceScoresOfLiveAndArchivedApplications() {
+        // Arrange
+        stubStatistics();
+        when(scoreRepository.existsByJobIdAndDescriptionHashNot(JOB_ID, JobProfile.hash(DESCRIPTION))).thenReturn(true);
+        when(applicationRepository.findKeysByJobId(JOB_ID, Limit.unlimited()))
+                .thenReturn(List.of(new ApplicationKey(APPLICATION_ID_1, CV_FILE_ID_1)));
+        when(archiveRepository.findKeysByJobId(JOB_ID, Limit.unlimited()))
+                .thenReturn(List.of(new ApplicationKey(APPLICATION_ID_2, CV_FILE_ID_2)));
+        when(termVectorRepository.findAllById(any())).thenReturn(List.of(
+                new CvTermVector(CV_FILE_ID_1, TermVector.of("Python data pipelines"), LocalDateTime.now()),
+                new CvTermVector(CV_FILE_ID_2, TermVector.of("Java Spring Boot backend"), LocalDateTime.now())));
+
+        // Act
+        int scored = relevanceService.onDescriptionChanged(JOB_ID, DESCRIPTION);
+
+        // Assert
+        assertEquals(2, scored);
+        InOrder inOrder = inOrder(scoreRepository, batchWriter);
+        inOrder.verify(scoreRepository).deleteByJobId(JOB_ID);
+        inOrder.verify(batchWriter).persistAll(argThat(scores -> scores.size() == 2));
+        when(jobService.findJobById(JOB_ID)).thenReturn(jobResponse());
+        assertEquals(APPLICATION_ID_2, relevanceService.getRanking(JOB_ID).get(0).id());
+        verify(scoreRepository, never()).findRankingByJobId(anyString(), any());
+    }
+
+    private void stubStatistics() {
+        when(jobRepository.streamDescriptions()).thenReturn(Stream.of(DESCRIPTION, "Frontend developer for React"));
+        when(termVectorRepository.findAverageTermCount()).thenReturn(4.0);
+    }
+
+    private static Job job() {
+        return Job.builder()
+                .id(JOB_ID)
+                .title("Backend Developer")
+                .description(DESCRIPTION)
+                .location("Berlin")
+                .active(true)
+                .build();
+    }
+
+    private static JobResponse jobResponse() {
+        return new JobResponse(JOB_ID, "Backend Developer", DESCRIPTION, "Berlin", true, 0);
+    }
+}
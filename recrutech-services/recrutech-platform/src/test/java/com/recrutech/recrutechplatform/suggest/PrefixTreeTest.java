@@ -0,0 +1,78 @@
+package com.recrutech.recrutechplatform.suggest;
+
+import com.recrutech.recrutechplatform.dto.job.JobSuggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixTreeTest {
+
+    private PrefixTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new PrefixTree(2);
+    }
+
+    @Test
+    void complete_ShouldReturnMostFrequentMatchesIgnoringCase() {
+        // Arrange
+        tree.adjust("Berlin", 3);
+        tree.adjust("Bern", 1);
+        tree.adjust("Bergen", 2);
+        tree.adjust("Hamburg", 5);
+
+        // Act
+        List<JobSuggestion> result = tree.complete("BER");
+
+        // Assert
+        assertEquals(List.of(new JobSuggestion("Berlin", 3), new JobSuggestion("Bergen", 2)), result);
+        assertEquals(List.of(new JobSuggestion("Bern", 1)), tree.complete("bern"));
+        assertEquals(List.of(new JobSuggestion("Hamburg", 5), new JobSuggestion("Berlin", 3)), tree.complete(""));
+        assertEquals(List.of(), tree.complete("berlins"));
+    }
+
+    @Test
+    void complete_WithPrefixEndingInsideEdge_ShouldMatchValuesBelow() {
+        // Arrange
+        tree.adjust("Senior Java Developer", 1);
+        tree.adjust("Senior Java Architect", 1);
+
+        // Act
+        List<JobSuggestion> result = tree.complete("senior   java d");
+
+        // Assert
+        assertEquals(List.of(new JobSuggestion("Senior Java Developer", 1)), result);
+        assertEquals(2, tree.complete("sen").size());
+    }
+
+    @Test
+    void adjust_WithSameValueInOtherCase_ShouldCountOneValueAsFirstAdded() {
+        // Act
+        tree.adjust("München", 1);
+        tree.adjust("  münchen ", 2);
+
+        // Assert
+        assertEquals(1, tree.size());
+        assertEquals(List.of(new JobSuggestion("München", 3)), tree.complete("mü"));
+    }
+
+    @Test
+    void adjust_WhenWeightDropsToZero_ShouldRemoveValue() {
+        // Arrange
+        tree.adjust("Java", 1);
+        tree.adjust("JavaScript", 1);
+
+        // Act
+        tree.adjust("Java", -1);
+        tree.adjust("Kotlin", -1);
+
+        // Assert
+        assertEquals(1, tree.size());
+        assertEquals(List.of(new JobSuggestion("JavaScript", 1)), tree.complete("jav"));
+        assertEquals(List.of(), tree.complete("kotlin"));
+    }
+}